@@ -0,0 +1,162 @@
+package com.records.hs.transfer;
+
+import java.util.List;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.io.InputStreamReader;
+import java.io.IOException;
+import com.records.hs.model.Model;
+import com.records.hs.model.Entry;
+
+/**
+ * A benchmark of the JSON Lines and CSV import and export of the HS Records application. It generates entries, and
+ * then times exporting them to each format, parsing the JSON Lines file without committing its entries, and fully
+ * importing each file into an empty model. Each operation is run several times, of which the fastest is reported.
+ *
+ * <p>The first argument is the number of entries, which is {@code 1000000} by default. The README shows how to
+ * compile and run it.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class JsonLinesBenchmark {
+    /**
+     * An operation that is timed by the benchmark.
+     */
+    @FunctionalInterface
+    private interface Operation {
+        /**
+         * Runs this operation.
+         *
+         * @return the number of entries that were processed
+         * @throws IOException if an I/O error occurs
+         */
+        long run() throws IOException;
+    } //Operation
+
+    /**
+     * The default number of entries.
+     */
+    private static final int DEFAULT_ENTRY_COUNT;
+
+    /**
+     * The number of runs of each operation.
+     */
+    private static final int RUN_COUNT;
+
+    static {
+        DEFAULT_ENTRY_COUNT = 1_000_000;
+
+        RUN_COUNT = 3;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code JsonLinesBenchmark} object.
+     *
+     * @throws AssertionError if an object of type {@code JsonLinesBenchmark} attempts to be instantiated
+     */
+    private JsonLinesBenchmark() {
+        throw new AssertionError("an object of type JsonLinesBenchmark cannot be instantiated");
+    } //JsonLinesBenchmark
+
+    /**
+     * Runs the specified operation several times, and prints the fastest time with the specified name.
+     *
+     * @param name the name to be used in the operation
+     * @param expectedCount the expected number of entries to be used in the operation
+     * @param operation the operation to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void time(String name, long expectedCount, Operation operation) throws IOException {
+        long bestTime = Long.MAX_VALUE;
+        long start;
+        long count;
+        long time;
+
+        for (int i = 0; i < RUN_COUNT; i++) {
+            start = System.nanoTime();
+
+            count = operation.run();
+
+            time = System.nanoTime() - start;
+
+            if (count != expectedCount) {
+                throw new IllegalStateException(String.format("%s processed %d entries, but %d were expected", name,
+                                                              count, expectedCount));
+            } //end if
+
+            bestTime = Math.min(bestTime, time);
+        } //end for
+
+        System.out.printf("%-14s %7.3f s%n", name, bestTime / 1e9);
+    } //time
+
+    /**
+     * Parses the JSON Lines file at the specified path without committing its entries, and returns the number of
+     * entries that were parsed.
+     *
+     * @param path the path to be used in the operation
+     * @return the number of entries that were parsed
+     * @throws IOException if an I/O error occurs
+     */
+    private static long parseJsonLines(Path path) throws IOException {
+        InputStreamReader reader;
+        long count = 0;
+
+        reader = new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8);
+
+        try (JsonLinesReader jsonLinesReader = JsonLinesReader.newJsonLinesReader(reader)) {
+            while (jsonLinesReader.nextEntry() != null) {
+                count++;
+            } //end while
+        } //end try
+
+        return count;
+    } //parseJsonLines
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the command line arguments, which are the number of entries
+     * @throws IOException if an I/O error occurs
+     */
+    public static void main(String[] args) throws IOException {
+        int entryCount;
+        List<Entry> entries;
+        Path directory;
+        Path jsonLinesPath;
+        Path csvPath;
+
+        entryCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_ENTRY_COUNT;
+
+        entries = ParallelCsvParserBenchmark.generateEntries(entryCount);
+
+        directory = Files.createTempDirectory("hs-records-bench");
+
+        try {
+            jsonLinesPath = directory.resolve("entries.jsonl");
+
+            csvPath = directory.resolve("entries.csv");
+
+            JsonLinesBenchmark.time("JSONL export", entryCount, () -> EntryExporter.export(entries, jsonLinesPath,
+                JsonLinesFormat::writeEntry, progress -> {}, () -> false));
+
+            JsonLinesBenchmark.time("CSV export", entryCount, () -> EntryExporter.export(entries, csvPath,
+                CsvFormat::writeEntry, progress -> {}, () -> false));
+
+            System.out.printf("%,d entries: JSONL %,d bytes, CSV %,d bytes%n", entryCount, Files.size(jsonLinesPath),
+                              Files.size(csvPath));
+
+            JsonLinesBenchmark.time("JSONL parse", entryCount, () -> JsonLinesBenchmark.parseJsonLines(jsonLinesPath));
+
+            JsonLinesBenchmark.time("JSONL import", entryCount, () -> EntryImporter.newEntryImporter(new Model())
+                .importJsonLines(jsonLinesPath, progress -> {}, () -> false));
+
+            JsonLinesBenchmark.time("CSV import", entryCount, () -> EntryImporter.newEntryImporter(new Model())
+                .importCsv(csvPath, progress -> {}, () -> false));
+        } finally {
+            ParallelCsvParserBenchmark.deleteDirectory(directory);
+        } //end try finally
+    } //main
+}
@@ -0,0 +1,203 @@
+package com.records.hs.transfer;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.io.IOException;
+import com.records.hs.model.Entry;
+import com.records.hs.model.Type;
+
+/**
+ * A benchmark of the parallel CSV parser of the HS Records application. It writes a CSV file of generated entries to
+ * a temporary directory, and then parses it once for each parallelism from one through the maximum, passing the
+ * entries to a consumer that only counts them. Each parallelism is run once to warm up, and then timed over several
+ * runs, of which the fastest is reported in lines per second.
+ *
+ * <p>The first argument is the number of lines, which is {@code 5000000} by default. The second is the maximum
+ * parallelism, which is the number of available processors by default. The README shows how to compile and run
+ * it.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ParallelCsvParserBenchmark {
+    /**
+     * The default number of lines of the generated file.
+     */
+    private static final int DEFAULT_LINE_COUNT;
+
+    /**
+     * The number of timed runs of each parallelism.
+     */
+    private static final int RUN_COUNT;
+
+    /**
+     * The size of a chunk, in bytes.
+     */
+    private static final int CHUNK_SIZE;
+
+    static {
+        DEFAULT_LINE_COUNT = 5_000_000;
+
+        RUN_COUNT = 3;
+
+        CHUNK_SIZE = 4_194_304;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ParallelCsvParserBenchmark} object.
+     *
+     * @throws AssertionError if an object of type {@code ParallelCsvParserBenchmark} attempts to be instantiated
+     */
+    private ParallelCsvParserBenchmark() {
+        throw new AssertionError("an object of type ParallelCsvParserBenchmark cannot be instantiated");
+    } //ParallelCsvParserBenchmark
+
+    /**
+     * Returns the specified number of generated entries, spread over a few categories and subcategories.
+     *
+     * @param count the count to be used in the operation
+     * @return the specified number of generated entries
+     */
+    static List<Entry> generateEntries(int count) {
+        Type[] types;
+        List<Entry> entries;
+        String id;
+        Type type;
+        String category;
+        String subcategory;
+        Set<String> tags;
+
+        types = Type.values();
+
+        entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            id = String.format("%07d_2026", i);
+
+            type = types[i % types.length];
+
+            category = "Category " + (i % 16);
+
+            subcategory = "Subcategory " + (i % 64);
+
+            tags = Set.of("tag " + (i % 1_000), "label, \"" + (i % 10) + "\"");
+
+            entries.add(new Entry(id, type, category, subcategory, tags));
+        } //end for
+
+        return entries;
+    } //generateEntries
+
+    /**
+     * Deletes the specified directory and everything in it.
+     *
+     * @param directory the directory to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    static void deleteDirectory(Path directory) throws IOException {
+        List<Path> paths;
+
+        try (Stream<Path> stream = Files.walk(directory)) {
+            paths = stream.sorted(Comparator.reverseOrder())
+                          .toList();
+        } //end try
+
+        for (Path path : paths) {
+            Files.delete(path);
+        } //end for
+    } //deleteDirectory
+
+    /**
+     * Parses the file at the specified path with the specified parser, and returns the number of entries that were
+     * parsed.
+     *
+     * @param parser the parser to be used in the operation
+     * @param path the path to be used in the operation
+     * @return the number of entries that were parsed
+     * @throws IOException if an I/O error occurs
+     */
+    private static long parse(ParallelCsvParser parser, Path path) throws IOException {
+        long[] count = new long[1];
+
+        parser.parse(path, (entries, lineNumbers) -> count[0] += entries.size());
+
+        return count[0];
+    } //parse
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the command line arguments, which are the number of lines and the maximum parallelism
+     * @throws IOException if an I/O error occurs
+     */
+    public static void main(String[] args) throws IOException {
+        int lineCount;
+        int maxParallelism;
+        Path directory;
+        Path path;
+        ParallelCsvParser parser;
+        long count;
+        long bestTime;
+        long start;
+        long time;
+        double linesPerSecond;
+        double baseline = 0.0;
+
+        lineCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_LINE_COUNT;
+
+        maxParallelism = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime()
+                                                                                .availableProcessors();
+
+        directory = Files.createTempDirectory("hs-records-bench");
+
+        try {
+            path = directory.resolve("entries.csv");
+
+            EntryExporter.export(ParallelCsvParserBenchmark.generateEntries(lineCount), path, CsvFormat::writeEntry,
+                                 progress -> {}, () -> false);
+
+            System.out.printf("%,d lines, %,d bytes, %d available processors%n", lineCount, Files.size(path),
+                              Runtime.getRuntime()
+                                     .availableProcessors());
+
+            for (int parallelism = 1; parallelism <= maxParallelism; parallelism++) {
+                parser = ParallelCsvParser.newParallelCsvParser(parallelism, CHUNK_SIZE);
+
+                count = ParallelCsvParserBenchmark.parse(parser, path);
+
+                if (count != lineCount) {
+                    throw new IllegalStateException(String.format("%d lines were parsed, but %d were written", count,
+                                                                  lineCount));
+                } //end if
+
+                bestTime = Long.MAX_VALUE;
+
+                for (int i = 0; i < RUN_COUNT; i++) {
+                    start = System.nanoTime();
+
+                    ParallelCsvParserBenchmark.parse(parser, path);
+
+                    time = System.nanoTime() - start;
+
+                    bestTime = Math.min(bestTime, time);
+                } //end for
+
+                linesPerSecond = lineCount / (bestTime / 1e9);
+
+                if (parallelism == 1) {
+                    baseline = linesPerSecond;
+                } //end if
+
+                System.out.printf("parallelism %2d: %,12.0f lines/s (%.2fx)%n", parallelism, linesPerSecond,
+                                  linesPerSecond / baseline);
+            } //end for
+        } finally {
+            ParallelCsvParserBenchmark.deleteDirectory(directory);
+        } //end try finally
+    } //main
+}
@@ -10,16 +10,19 @@ import java.util.logging.FileHandler;
 import java.io.IOException;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Level;
-import com.records.hs.util.Utilities;
+import com.records.hs.persistence.PersistenceService;
 import java.util.Objects;
 import com.records.hs.controller.Controller;
 import javax.swing.SwingUtilities;
+import java.util.concurrent.CompletionException;
+import java.io.UncheckedIOException;
+import javax.swing.JOptionPane;
 
 /**
  * An application instance of the HS Records application.
  *
  * @author Logan Kulinski, lbkulinski@icloud.com
- * @version June 9, 2020
+ * @version October 19, 2026
  */
 public class Application {
     /**
@@ -31,7 +34,7 @@ public class Application {
         String title = "HS Records";
         Dimension size;
 
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
 
         frame.setTitle(title);
 
@@ -55,6 +58,7 @@ public class Application {
         Logger logger;
         Handler handler;
         String fileName = "log.log";
+        PersistenceService persistenceService;
         Model model;
         View view;
         JFrame frame;
@@ -75,13 +79,40 @@ public class Application {
 
         logger.addHandler(handler);
 
-        model = Utilities.readModelFromFile();
+        persistenceService = PersistenceService.newPersistenceService();
+
+        try {
+            model = persistenceService.load(byteCount -> {})
+                                      .join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            String message;
+            String format = "Error: The saved records could not be loaded! Please contact support!%n%n%s";
+            String title = "HS Records";
+            int failure = 1;
+
+            if (cause instanceof UncheckedIOException) {
+                cause = cause.getCause();
+            } //end if
+
+            message = cause.getMessage();
+
+            logger.log(Level.SEVERE, message, cause);
+
+            message = String.format(format, message);
+
+            JOptionPane.showMessageDialog(null, message, title, JOptionPane.ERROR_MESSAGE);
+
+            System.exit(failure);
+
+            return;
+        } //end try catch
 
         model = Objects.requireNonNullElseGet(model, Model::new);
 
         view = View.newView();
 
-        Controller.setUpController(model, view);
+        Controller.setUpController(model, view, persistenceService);
 
         frame = view.getFrame();
 
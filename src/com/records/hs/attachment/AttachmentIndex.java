@@ -0,0 +1,650 @@
+package com.records.hs.attachment;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.Map;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.logging.Logger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import com.records.hs.util.Settings;
+import com.records.hs.model.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.Files;
+import java.nio.file.DirectoryStream;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.WatchEvent;
+import com.records.hs.model.Model;
+
+/**
+ * An index of the attachments of records in the HS Records application. The attachment of a record is the file
+ * {@code CATEGORY/SUBCATEGORY/ID.tif}, relative to the root directory of the index. The index is built by a parallel
+ * walk of the category tree, and is then kept current by a {@link WatchService} that watches the root directory and
+ * every category and subcategory directory below it. Hidden directories are not part of the category tree. Whether a
+ * record has an attachment is answered from memory, so no path has to be probed on what may be a network share.
+ *
+ * <p>The index is empty until its initial walk has completed. If the watch service reports that events were lost,
+ * the category tree is walked again. Events are delivered asynchronously, so a file that was created or deleted a
+ * moment ago may not be reflected yet. A watch service is also not told about files that are created on a network share
+ * by other machines, so a negative answer may be wrong. Where it matters, {@link #checkAttachment(Entry)} confirms a
+ * negative answer on the file system, and adds the attachment to the index if it does exist.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class AttachmentIndex implements Closeable {
+    /**
+     * The key of the setting that determines the number of threads that walk the category tree.
+     */
+    static final String PARALLELISM_KEY;
+
+    /**
+     * The default number of threads that walk the category tree.
+     */
+    static final int DEFAULT_PARALLELISM;
+
+    /**
+     * The file extension of attachments.
+     */
+    static final String EXTENSION;
+
+    /**
+     * The depth of category directories below the root directory.
+     */
+    private static final int CATEGORY_DEPTH;
+
+    /**
+     * The depth of subcategory directories below the root directory.
+     */
+    private static final int SUBCATEGORY_DEPTH;
+
+    /**
+     * The depth of attachments below the root directory.
+     */
+    private static final int ATTACHMENT_DEPTH;
+
+    /**
+     * The root directory of this attachment index.
+     */
+    private final Path root;
+
+    /**
+     * The parallelism of this attachment index.
+     */
+    private final int parallelism;
+
+    /**
+     * The attachments of this attachment index, relative to its root directory.
+     */
+    private final Set<Path> attachments;
+
+    /**
+     * The mapping from watch keys to watched directories of this attachment index.
+     */
+    private final Map<WatchKey, Path> keysToDirectories;
+
+    /**
+     * The logger of this attachment index.
+     */
+    private final Logger logger;
+
+    /**
+     * The watch service of this attachment index, or {@code null} if it has not been started.
+     */
+    private volatile WatchService watchService;
+
+    /**
+     * Whether the attachments of this attachment index reflect a complete walk of the category tree.
+     */
+    private volatile boolean ready;
+
+    static {
+        PARALLELISM_KEY = "attachments.parallelism";
+
+        DEFAULT_PARALLELISM = 8;
+
+        EXTENSION = ".tif";
+
+        CATEGORY_DEPTH = 1;
+
+        SUBCATEGORY_DEPTH = 2;
+
+        ATTACHMENT_DEPTH = 3;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code AttachmentIndex} object with the specified root directory and parallelism.
+     *
+     * @param root the root directory to be used in construction
+     * @param parallelism the parallelism to be used in construction
+     */
+    private AttachmentIndex(Path root, int parallelism) {
+        this.root = root;
+        this.parallelism = parallelism;
+        this.attachments = ConcurrentHashMap.newKeySet();
+        this.keysToDirectories = new ConcurrentHashMap<>();
+        this.logger = Logger.getGlobal();
+    } //AttachmentIndex
+
+    /**
+     * Returns a new {@code AttachmentIndex} object with the specified root directory and parallelism. The index is
+     * empty until it is started.
+     *
+     * @param root the root directory to be used in the operation
+     * @param parallelism the parallelism to be used in the operation
+     * @return a new {@code AttachmentIndex} object with the specified root directory and parallelism
+     * @throws NullPointerException if the specified root directory is {@code null}
+     * @throws IllegalArgumentException if the specified parallelism is not positive
+     */
+    public static AttachmentIndex newAttachmentIndex(Path root, int parallelism) {
+        Objects.requireNonNull(root, "the specified root directory is null");
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("the specified parallelism is not positive");
+        } //end if
+
+        return new AttachmentIndex(root.toAbsolutePath(), parallelism);
+    } //newAttachmentIndex
+
+    /**
+     * Returns a new {@code AttachmentIndex} object whose root directory is the working directory, and whose
+     * parallelism is taken from the {@code attachments.parallelism} setting. The index is empty until it is started.
+     *
+     * @return a new {@code AttachmentIndex} object whose root directory is the working directory
+     */
+    public static AttachmentIndex newAttachmentIndex() {
+        Path root;
+        int parallelism;
+
+        root = Path.of("");
+
+        parallelism = Settings.getPositiveInt(PARALLELISM_KEY, DEFAULT_PARALLELISM);
+
+        return AttachmentIndex.newAttachmentIndex(root, parallelism);
+    } //newAttachmentIndex
+
+    /**
+     * Returns the path of the attachment of the specified entry, relative to the root directory of an index.
+     *
+     * @param entry the entry to be used in the operation
+     * @return the path of the attachment of the specified entry
+     * @throws NullPointerException if the specified entry is {@code null}
+     */
+    public static Path getAttachmentPath(Entry entry) {
+        String fileName;
+
+        Objects.requireNonNull(entry, "the specified entry is null");
+
+        fileName = entry.id() + EXTENSION;
+
+        return Path.of(entry.category(), entry.subcategory(), fileName);
+    } //getAttachmentPath
+
+    /**
+     * Starts this attachment index. The category tree is walked, and then watched for changes, on a daemon thread.
+     * The returned future completes once the initial walk has completed, or exceptionally with an
+     * {@link UncheckedIOException} if the tree could not be walked or watched. This method should only be called
+     * once.
+     *
+     * @return a future that completes once the initial walk of the category tree has completed
+     */
+    public CompletableFuture<Void> start() {
+        CompletableFuture<Void> future;
+        String name = "hs-records-attachment-watcher";
+        Thread thread;
+
+        future = new CompletableFuture<>();
+
+        thread = new Thread(() -> {
+            try {
+                this.watchService = this.root.getFileSystem()
+                                             .newWatchService();
+
+                this.walk();
+            } catch (IOException e) {
+                future.completeExceptionally(new UncheckedIOException(e));
+
+                return;
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+
+                return;
+            } //end try catch
+
+            future.complete(null);
+
+            this.processEvents();
+        }, name);
+
+        thread.setDaemon(true);
+
+        thread.start();
+
+        return future;
+    } //start
+
+    /**
+     * Returns whether or not this attachment index reflects a complete walk of the category tree. Until it does,
+     * attachments that exist may not be reported.
+     *
+     * @return {@code true}, if this attachment index reflects a complete walk of the category tree, and
+     * {@code false} otherwise
+     */
+    public boolean isReady() {
+        return this.ready;
+    } //isReady
+
+    /**
+     * Returns whether or not the specified entry has an attachment in this attachment index.
+     *
+     * @param entry the entry to be used in the operation
+     * @return {@code true}, if the specified entry has an attachment in this attachment index, and {@code false}
+     * otherwise
+     * @throws NullPointerException if the specified entry is {@code null}
+     */
+    public boolean hasAttachment(Entry entry) {
+        Path path;
+
+        path = AttachmentIndex.getAttachmentPath(entry);
+
+        return this.attachments.contains(path);
+    } //hasAttachment
+
+    /**
+     * Returns whether or not the specified entry has an attachment. A positive answer is taken from this attachment
+     * index, and a negative one is confirmed by probing the file system, in which case an attachment that does exist
+     * is added to this attachment index. This method may therefore block on what may be a network share, and should not
+     * be called on the event dispatch thread.
+     *
+     * @param entry the entry to be used in the operation
+     * @return {@code true}, if the specified entry has an attachment, and {@code false} otherwise
+     * @throws NullPointerException if the specified entry is {@code null}
+     */
+    public boolean checkAttachment(Entry entry) {
+        Path path;
+
+        path = AttachmentIndex.getAttachmentPath(entry);
+
+        if (this.attachments.contains(path)) {
+            return true;
+        } else if (!Files.exists(this.root.resolve(path))) {
+            return false;
+        } //end if
+
+        this.attachments.add(path);
+
+        return true;
+    } //checkAttachment
+
+    /**
+     * Returns the number of attachments in this attachment index.
+     *
+     * @return the number of attachments in this attachment index
+     */
+    public int getAttachmentCount() {
+        return this.attachments.size();
+    } //getAttachmentCount
+
+    /**
+     * Returns the entries of the specified model that do not have an attachment in this attachment index, in the
+     * order of the model. The entries are found from memory, so some of them may have attachments that this attachment
+     * index has missed, which {@link #checkAttachment(Entry)} can confirm. This method should be called from the thread
+     * that modifies the specified model.
+     *
+     * @param model the model to be used in the operation
+     * @return the entries of the specified model that do not have an attachment in this attachment index
+     * @throws NullPointerException if the specified model is {@code null}
+     */
+    public List<Entry> findEntriesWithoutAttachments(Model model) {
+        List<Entry> entries;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        entries = new ArrayList<>();
+
+        model.forEachEntry(entry -> {
+            if (!this.hasAttachment(entry)) {
+                entries.add(entry);
+            } //end if
+        });
+
+        return entries;
+    } //findEntriesWithoutAttachments
+
+    /**
+     * Returns the depth of the specified path below the root directory of this attachment index.
+     *
+     * @param path the path to be used in the operation
+     * @return the depth of the specified path below the root directory of this attachment index
+     */
+    private int getDepth(Path path) {
+        return path.getNameCount() - this.root.getNameCount();
+    } //getDepth
+
+    /**
+     * Returns whether or not the specified path has the file name of an attachment.
+     *
+     * @param path the path to be used in the operation
+     * @return {@code true}, if the specified path has the file name of an attachment, and {@code false} otherwise
+     */
+    static boolean isAttachment(Path path) {
+        String fileName;
+
+        fileName = path.getFileName()
+                       .toString();
+
+        return fileName.endsWith(EXTENSION);
+    } //isAttachment
+
+    /**
+     * Returns whether or not the specified path is a directory of the category tree. Hidden directories, whose names
+     * start with a period, are not part of the tree, so caches may be kept below the root directory.
+     *
+     * @param path the path to be used in the operation
+     * @return {@code true}, if the specified path is a directory of the category tree, and {@code false} otherwise
+     */
+    static boolean isTreeDirectory(Path path) {
+        String fileName;
+
+        fileName = path.getFileName()
+                       .toString();
+
+        return !fileName.startsWith(".") && Files.isDirectory(path);
+    } //isTreeDirectory
+
+    /**
+     * Returns the subdirectories of the specified directory that are part of the category tree.
+     *
+     * @param directory the directory to be used in the operation
+     * @return the subdirectories of the specified directory that are part of the category tree
+     * @throws IOException if an I/O error occurs
+     */
+    static List<Path> listDirectories(Path directory) throws IOException {
+        List<Path> subdirectories;
+
+        subdirectories = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, AttachmentIndex::isTreeDirectory)) {
+            stream.forEach(subdirectories::add);
+        } //end try
+
+        return subdirectories;
+    } //listDirectories
+
+    /**
+     * Returns the attachments in the specified subcategory directory.
+     *
+     * @param directory the subcategory directory to be used in the operation
+     * @return the attachments in the specified subcategory directory
+     * @throws IOException if an I/O error occurs
+     */
+    static List<Path> listAttachments(Path directory) throws IOException {
+        List<Path> attachments;
+
+        attachments = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            stream.forEach(attachments::add);
+        } //end try
+
+        return attachments;
+    } //listAttachments
+
+    /**
+     * Watches the specified directory for the creation and deletion of its children.
+     *
+     * @param directory the directory to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void register(Path directory) throws IOException {
+        WatchKey key;
+
+        key = directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                 StandardWatchEventKinds.ENTRY_DELETE);
+
+        this.keysToDirectories.put(key, directory);
+    } //register
+
+    /**
+     * Watches the specified directory, and returns its subdirectories.
+     *
+     * @param directory the directory to be used in the operation
+     * @return the subdirectories of the specified directory
+     * @throws IOException if an I/O error occurs
+     */
+    private List<Path> registerDirectory(Path directory) throws IOException {
+        this.register(directory);
+
+        return AttachmentIndex.listDirectories(directory);
+    } //registerDirectory
+
+    /**
+     * Watches the specified subcategory directory, and adds the attachments in it to this attachment index.
+     *
+     * @param directory the subcategory directory to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void indexSubcategory(Path directory) throws IOException {
+        this.register(directory);
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path path : stream) {
+                Path attachment = this.root.relativize(path);
+
+                this.attachments.add(attachment);
+            } //end for
+        } //end try
+    } //indexSubcategory
+
+    /**
+     * Watches the specified category directory and its subcategory directories, and adds the attachments in them to
+     * this attachment index.
+     *
+     * @param directory the category directory to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void indexCategory(Path directory) throws IOException {
+        List<Path> subdirectories;
+
+        subdirectories = this.registerDirectory(directory);
+
+        for (Path subdirectory : subdirectories) {
+            this.indexSubcategory(subdirectory);
+        } //end for
+    } //indexCategory
+
+    /**
+     * Walks the category tree of this attachment index with a {@link CategoryTreeWalker}, replacing its attachments.
+     * The category directories, and then the subcategory directories, are listed in parallel.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void walk() throws IOException {
+        AtomicInteger threadCount;
+        ExecutorService executor;
+
+        this.ready = false;
+
+        this.keysToDirectories.keySet()
+                              .forEach(WatchKey::cancel);
+
+        this.keysToDirectories.clear();
+
+        this.attachments.clear();
+
+        threadCount = new AtomicInteger();
+
+        executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            String name = "hs-records-attachment-walker-" + threadCount.incrementAndGet();
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        try {
+            CategoryTreeWalker.walk(this.root, executor, this.parallelism, this::registerDirectory, directory -> {
+                this.indexSubcategory(directory);
+
+                return null;
+            }, result -> {});
+        } finally {
+            executor.shutdownNow();
+        } //end try finally
+
+        this.ready = true;
+    } //walk
+
+    /**
+     * Waits for the specified future, and returns its result.
+     *
+     * @param future the future to be used in the operation
+     * @param <T> the type of the result of the specified future
+     * @return the result of the specified future
+     * @throws IOException if the future completed with an I/O error
+     * @throws RuntimeException if the future completed with an unchecked exception
+     */
+    static <T> T join(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } //end if
+
+            throw e;
+        } //end try catch
+    } //join
+
+    /**
+     * Updates this attachment index with the events of its watch service, until the watch service is closed.
+     */
+    private void processEvents() {
+        WatchKey key;
+        Path directory;
+        boolean overflowed;
+
+        while (true) {
+            try {
+                key = this.watchService.take();
+            } catch (ClosedWatchServiceException | InterruptedException e) {
+                return;
+            } //end try catch
+
+            directory = this.keysToDirectories.get(key);
+
+            overflowed = false;
+
+            for (WatchEvent<?> event : key.pollEvents()) {
+                WatchEvent.Kind<?> kind = event.kind();
+
+                if (kind == StandardWatchEventKinds.OVERFLOW) {
+                    overflowed = true;
+                } else if (directory != null) {
+                    Path child = directory.resolve((Path) event.context());
+
+                    if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+                        this.handleCreation(child);
+                    } else {
+                        this.handleDeletion(child);
+                    } //end if
+                } //end if
+            } //end for
+
+            if (!key.reset()) {
+                this.keysToDirectories.remove(key);
+            } //end if
+
+            if (overflowed) {
+                try {
+                    this.walk();
+                } catch (ClosedWatchServiceException e) {
+                    return;
+                } catch (IOException e) {
+                    String exceptionMessage = e.getMessage();
+
+                    this.logger.log(Level.WARNING, exceptionMessage, e);
+                } //end try catch
+            } //end if
+        } //end while
+    } //processEvents
+
+    /**
+     * Updates this attachment index after the specified path has been created.
+     *
+     * @param path the path to be used in the operation
+     */
+    private void handleCreation(Path path) {
+        int depth;
+
+        depth = this.getDepth(path);
+
+        try {
+            if ((depth == CATEGORY_DEPTH) && AttachmentIndex.isTreeDirectory(path)) {
+                this.indexCategory(path);
+            } else if ((depth == SUBCATEGORY_DEPTH) && AttachmentIndex.isTreeDirectory(path)) {
+                this.indexSubcategory(path);
+            } else if ((depth == ATTACHMENT_DEPTH) && AttachmentIndex.isAttachment(path)) {
+                this.attachments.add(this.root.relativize(path));
+            } //end if
+        } catch (IOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+        } //end try catch
+    } //handleCreation
+
+    /**
+     * Updates this attachment index after the specified path has been deleted. If a directory was deleted, the
+     * attachments below it are removed.
+     *
+     * @param path the path to be used in the operation
+     */
+    private void handleDeletion(Path path) {
+        int depth;
+        Path relativePath;
+
+        depth = this.getDepth(path);
+
+        relativePath = this.root.relativize(path);
+
+        if (depth == ATTACHMENT_DEPTH) {
+            this.attachments.remove(relativePath);
+        } else if ((depth == CATEGORY_DEPTH) || (depth == SUBCATEGORY_DEPTH)) {
+            this.attachments.removeIf(attachment -> attachment.startsWith(relativePath));
+        } //end if
+    } //handleDeletion
+
+    /**
+     * Closes this attachment index. Its attachments are no longer kept current.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        WatchService service = this.watchService;
+
+        if (service != null) {
+            service.close();
+        } //end if
+    } //close
+}
\ No newline at end of file
@@ -0,0 +1,480 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import com.records.hs.model.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.Collection;
+import java.util.Objects;
+import com.records.hs.util.Settings;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.io.Writer;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import com.records.hs.util.Utilities;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executors;
+import java.nio.file.DirectoryStream;
+import com.records.hs.transfer.CsvFormat;
+
+/**
+ * A reconciler of the attachments and entries of the HS Records application. A reconciler finds the attachment files
+ * that have no matching entry, and the entries whose attachment file does not exist, and writes them to a CSV report.
+ *
+ * <p>The IDs of the entries are first put into an open addressing hash table of indices, which takes a few bytes per
+ * entry. The category and subcategory directories are then listed in parallel, and each file is looked up in the table
+ * as it is listed, so the listing of the attachment tree is never held in memory. Files without a matching entry are
+ * written to the report as they are found, and the entries that were not matched by any file are written once the
+ * walk has completed. The report is first written next to the target with a {@code .part} suffix, which then replaces
+ * the target, so a failed or cancelled reconciliation never leaves a partial report behind.</p>
+ *
+ * <p>A reconciler can only be used once.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class AttachmentReconciler {
+    /**
+     * The result of a reconciliation.
+     *
+     * @param fileCount the number of attachment files that were checked
+     * @param orphanedCount the number of attachment files whose ID has no entry
+     * @param misplacedCount the number of attachment files whose ID has an entry in another category or subcategory
+     * @param missingCount the number of entries whose attachment file does not exist
+     */
+    public record Result(long fileCount, long orphanedCount, long misplacedCount, long missingCount) {
+    } //Result
+
+    /**
+     * The header of a report.
+     */
+    private static final String HEADER;
+
+    /**
+     * The status of an attachment file whose ID has no entry.
+     */
+    private static final String ORPHANED;
+
+    /**
+     * The status of an attachment file whose ID has an entry in another category or subcategory.
+     */
+    private static final String MISPLACED;
+
+    /**
+     * The status of an entry whose attachment file does not exist.
+     */
+    private static final String MISSING;
+
+    /**
+     * The line separator of a report.
+     */
+    private static final String LINE_SEPARATOR;
+
+    /**
+     * The buffer size used when writing a report, in characters.
+     */
+    private static final int BUFFER_SIZE;
+
+    /**
+     * The suffix of the report that is written before it replaces the target.
+     */
+    private static final String PART_SUFFIX;
+
+    /**
+     * The root directory of this attachment reconciler.
+     */
+    private final Path root;
+
+    /**
+     * The parallelism of this attachment reconciler.
+     */
+    private final int parallelism;
+
+    /**
+     * The entries of this attachment reconciler.
+     */
+    private final Entry[] entries;
+
+    /**
+     * The hash table of this attachment reconciler. Each slot holds the index of an entry plus one, or {@code 0} if
+     * the slot is empty.
+     */
+    private final int[] table;
+
+    /**
+     * Whether each entry of this attachment reconciler has been matched by its attachment file. Each flag is only
+     * set by the thread that lists the directory of the attachment file.
+     */
+    private final boolean[] matched;
+
+    /**
+     * The number of attachment files checked by this attachment reconciler.
+     */
+    private final AtomicLong fileCount;
+
+    /**
+     * The number of orphaned attachment files found by this attachment reconciler.
+     */
+    private final AtomicLong orphanedCount;
+
+    /**
+     * The number of misplaced attachment files found by this attachment reconciler.
+     */
+    private final AtomicLong misplacedCount;
+
+    /**
+     * Whether the walk of this attachment reconciler has been stopped, because part of it failed.
+     */
+    private volatile boolean stopped;
+
+    static {
+        HEADER = "status,id,category,subcategory";
+
+        ORPHANED = "orphaned";
+
+        MISPLACED = "misplaced";
+
+        MISSING = "missing";
+
+        LINE_SEPARATOR = "\r\n";
+
+        BUFFER_SIZE = 1_048_576;
+
+        PART_SUFFIX = ".part";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code AttachmentReconciler} object with the specified root directory,
+     * parallelism, and entries.
+     *
+     * @param root the root directory to be used in construction
+     * @param parallelism the parallelism to be used in construction
+     * @param entries the entries to be used in construction
+     */
+    private AttachmentReconciler(Path root, int parallelism, Entry[] entries) {
+        this.root = root;
+        this.parallelism = parallelism;
+        this.entries = entries;
+        this.table = AttachmentReconciler.buildTable(entries);
+        this.matched = new boolean[entries.length];
+        this.fileCount = new AtomicLong();
+        this.orphanedCount = new AtomicLong();
+        this.misplacedCount = new AtomicLong();
+    } //AttachmentReconciler
+
+    /**
+     * Returns a new {@code AttachmentReconciler} object with the specified entries, root directory, and parallelism.
+     * The specified entries are copied, and are expected to have distinct IDs.
+     *
+     * @param entries the entries to be used in the operation
+     * @param root the root directory to be used in the operation
+     * @param parallelism the parallelism to be used in the operation
+     * @return a new {@code AttachmentReconciler} object with the specified entries, root directory, and parallelism
+     * @throws NullPointerException if the specified collection of entries or root directory is {@code null}
+     * @throws IllegalArgumentException if the specified parallelism is not positive
+     */
+    public static AttachmentReconciler newAttachmentReconciler(Collection<Entry> entries, Path root,
+                                                               int parallelism) {
+        Entry[] entryArray;
+
+        Objects.requireNonNull(entries, "the specified collection of entries is null");
+
+        Objects.requireNonNull(root, "the specified root directory is null");
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("the specified parallelism is not positive");
+        } //end if
+
+        entryArray = entries.toArray(new Entry[0]);
+
+        return new AttachmentReconciler(root, parallelism, entryArray);
+    } //newAttachmentReconciler
+
+    /**
+     * Returns a new {@code AttachmentReconciler} object with the specified entries, whose root directory is the
+     * working directory, and whose parallelism is taken from the {@code attachments.parallelism} setting.
+     *
+     * @param entries the entries to be used in the operation
+     * @return a new {@code AttachmentReconciler} object with the specified entries
+     * @throws NullPointerException if the specified collection of entries is {@code null}
+     */
+    public static AttachmentReconciler newAttachmentReconciler(Collection<Entry> entries) {
+        Path root;
+        int parallelism;
+
+        root = Path.of("");
+
+        parallelism = Settings.getPositiveInt(AttachmentIndex.PARALLELISM_KEY, AttachmentIndex.DEFAULT_PARALLELISM);
+
+        return AttachmentReconciler.newAttachmentReconciler(entries, root, parallelism);
+    } //newAttachmentReconciler
+
+    /**
+     * Returns the slot of the specified hash code in a hash table with the specified mask.
+     *
+     * @param hashCode the hash code to be used in the operation
+     * @param mask the mask to be used in the operation
+     * @return the slot of the specified hash code in a hash table with the specified mask
+     */
+    private static int getSlot(int hashCode, int mask) {
+        return (hashCode ^ (hashCode >>> 16)) & mask;
+    } //getSlot
+
+    /**
+     * Builds a hash table of the indices of the specified entries, keyed by their IDs. The table has at least twice as
+     * many slots as there are entries, and collisions are resolved by linear probing.
+     *
+     * @param entries the entries to be used in the operation
+     * @return a hash table of the indices of the specified entries
+     */
+    private static int[] buildTable(Entry[] entries) {
+        int capacity;
+        int[] table;
+        int mask;
+        String id;
+        int slot;
+
+        capacity = Integer.highestOneBit(Math.max(entries.length, 1)) << 2;
+
+        table = new int[capacity];
+
+        mask = capacity - 1;
+
+        for (int i = 0; i < entries.length; i++) {
+            id = entries[i].id();
+
+            slot = AttachmentReconciler.getSlot(id.hashCode(), mask);
+
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            } //end while
+
+            table[slot] = i + 1;
+        } //end for
+
+        return table;
+    } //buildTable
+
+    /**
+     * Returns the index of the entry with the specified ID in this attachment reconciler.
+     *
+     * @param id the ID to be used in the operation
+     * @return the index of the entry with the specified ID, or {@code -1} if there is no such entry
+     */
+    private int indexOf(String id) {
+        int mask;
+        int slot;
+        int index;
+
+        mask = this.table.length - 1;
+
+        slot = AttachmentReconciler.getSlot(id.hashCode(), mask);
+
+        while (this.table[slot] != 0) {
+            index = this.table[slot] - 1;
+
+            if (id.equals(this.entries[index].id())) {
+                return index;
+            } //end if
+
+            slot = (slot + 1) & mask;
+        } //end while
+
+        return -1;
+    } //indexOf
+
+    /**
+     * Reconciles the attachments and entries of this attachment reconciler, and writes the report to the file at the
+     * specified path. The number of attachment files checked so far is passed to the specified progress consumer. The
+     * specified cancellation flag is checked before each attachment file is checked.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the result of the reconciliation
+     * @throws NullPointerException if the specified path, progress consumer, or cancellation flag is {@code null}
+     * @throws CancellationException if the reconciliation was cancelled
+     * @throws IOException if an I/O error occurs
+     */
+    public Result reconcile(Path path, LongConsumer progressConsumer, BooleanSupplier cancelled) throws IOException {
+        Path partPath;
+        long missingCount = 0;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        partPath = path.resolveSibling(path.getFileName() + PART_SUFFIX);
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(partPath),
+                                                                       StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            writer.write(HEADER);
+
+            writer.write(LINE_SEPARATOR);
+
+            this.walk(writer, progressConsumer, cancelled);
+
+            for (int i = 0; i < this.entries.length; i++) {
+                if (!this.matched[i]) {
+                    Entry entry = this.entries[i];
+
+                    AttachmentReconciler.writeLine(writer, MISSING, entry.id(), entry.category(),
+                                                   entry.subcategory());
+
+                    missingCount++;
+                } //end if
+            } //end for
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partPath);
+
+            throw e;
+        } //end try catch
+
+        Utilities.replaceFile(partPath, path);
+
+        return new Result(this.fileCount.get(), this.orphanedCount.get(), this.misplacedCount.get(), missingCount);
+    } //reconcile
+
+    /**
+     * Walks the category tree of this attachment reconciler with a {@link CategoryTreeWalker}, checking each
+     * attachment file against the entries. The category directories, and then the subcategory directories, are listed
+     * in parallel.
+     *
+     * @param writer the writer to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @throws CancellationException if the reconciliation was cancelled
+     * @throws IOException if an I/O error occurs
+     */
+    private void walk(Writer writer, LongConsumer progressConsumer, BooleanSupplier cancelled) throws IOException {
+        AtomicInteger threadCount;
+        ExecutorService executor;
+
+        threadCount = new AtomicInteger();
+
+        executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            String name = "hs-records-attachment-reconciler-" + threadCount.incrementAndGet();
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        try {
+            CategoryTreeWalker.walk(this.root, executor, this.parallelism, directory -> {
+                this.checkSubcategory(directory, writer, progressConsumer, cancelled);
+
+                return null;
+            }, result -> {});
+        } finally {
+            this.stopped = true;
+
+            executor.shutdownNow();
+        } //end try finally
+    } //walk
+
+    /**
+     * Checks the attachment files in the specified subcategory directory against the entries of this attachment
+     * reconciler. A file matches an entry if the entry has the same ID, category, and subcategory. Files without a
+     * matching entry are written to the specified writer.
+     *
+     * @param directory the subcategory directory to be used in the operation
+     * @param writer the writer to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @throws CancellationException if the reconciliation was cancelled, or the walk was stopped
+     * @throws IOException if an I/O error occurs
+     */
+    private void checkSubcategory(Path directory, Writer writer, LongConsumer progressConsumer,
+                                  BooleanSupplier cancelled) throws IOException {
+        String subcategory;
+        String category;
+        String fileName;
+        String id;
+        int index;
+        Entry entry;
+        boolean sameCategory;
+        boolean sameSubcategory;
+        long count;
+
+        subcategory = directory.getFileName()
+                               .toString();
+
+        category = directory.getParent()
+                            .getFileName()
+                            .toString();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + AttachmentIndex.EXTENSION)) {
+            for (Path path : stream) {
+                if (cancelled.getAsBoolean() || this.stopped) {
+                    throw new CancellationException("the reconciliation was cancelled");
+                } //end if
+
+                fileName = path.getFileName()
+                               .toString();
+
+                id = fileName.substring(0, fileName.length() - AttachmentIndex.EXTENSION.length());
+
+                index = this.indexOf(id);
+
+                if (index == -1) {
+                    AttachmentReconciler.writeLine(writer, ORPHANED, id, category, subcategory);
+
+                    this.orphanedCount.incrementAndGet();
+                } else {
+                    entry = this.entries[index];
+
+                    sameCategory = category.equals(entry.category());
+
+                    sameSubcategory = subcategory.equals(entry.subcategory());
+
+                    if (sameCategory && sameSubcategory) {
+                        this.matched[index] = true;
+                    } else {
+                        AttachmentReconciler.writeLine(writer, MISPLACED, id, category, subcategory);
+
+                        this.misplacedCount.incrementAndGet();
+                    } //end if
+                } //end if
+
+                count = this.fileCount.incrementAndGet();
+
+                progressConsumer.accept(count);
+            } //end for
+        } //end try
+    } //checkSubcategory
+
+    /**
+     * Writes a line of a report with the specified status, ID, category, and subcategory to the specified writer. The
+     * writer is locked while the line is written, so lines written by different threads are never interleaved.
+     *
+     * @param writer the writer to be used in the operation
+     * @param status the status to be used in the operation
+     * @param id the ID to be used in the operation
+     * @param category the category to be used in the operation
+     * @param subcategory the subcategory to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeLine(Writer writer, String status, String id, String category, String subcategory)
+            throws IOException {
+        String line;
+
+        line = String.join(",", status, CsvFormat.quote(id), CsvFormat.quote(category), CsvFormat.quote(subcategory));
+
+        synchronized (writer) {
+            writer.write(line);
+
+            writer.write(LINE_SEPARATOR);
+        } //end synchronized
+    } //writeLine
+}
\ No newline at end of file
@@ -0,0 +1,499 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.Objects;
+import com.records.hs.util.Settings;
+import java.util.function.LongConsumer;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Level;
+import java.nio.file.DirectoryStream;
+import java.nio.file.LinkOption;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A relocator of the attachments of the HS Records application. A relocator moves the attachments under one directory
+ * of the category tree to another directory, such as when a category or subcategory is renamed, so that the
+ * attachments stay where their records expect them.
+ *
+ * <p>A directory whose target does not exist is moved with a single atomic rename, so renaming a category or
+ * subcategory takes time proportional to the number of directories rather than the number of attachments. If the
+ * target already exists, such as when two categories are merged, or the rename fails, such as when the target is on
+ * another file store, the subdirectories are relocated in turn, and the attachments are moved one at a time, in
+ * parallel, over a bounded pool of threads. An attachment whose name already exists in the target is never replaced.
+ * Both files are left in place, and the attachment is counted as a conflict, which is reported so that it can be
+ * resolved by hand. The source directories that are left empty are then deleted. An attachment that cannot be moved,
+ * or conflicts, is counted as failed and logged, and the remaining attachments are still moved.</p>
+ *
+ * <p>Each relocation is recorded in a journal in the root directory before the records that reflect it are saved, and
+ * is only started once they have been. A relocation is removed from the journal once every attachment has been moved.
+ * A relocation that was interrupted, or had attachments that could not be moved, is resumed, in the order it was
+ * requested, the next time the pending relocations are resumed. Resuming a relocation that has already partly
+ * completed moves only what is left. When the pending relocations are resumed, the category and subcategory
+ * directories of the saved records are given, and a relocation whose source is still one of them, or whose target is
+ * not, is removed from the journal without being started, since the records that reflect it were never saved. That
+ * way, the attachments are never moved away from where the saved records expect them.</p>
+ *
+ * <p>A relocator can only be used once.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class AttachmentRelocator {
+    /**
+     * A relocation of the attachments under one directory of the category tree to another.
+     *
+     * @param source the source directory, relative to the root directory
+     * @param target the target directory, relative to the root directory
+     */
+    public record Relocation(Path source, Path target) {
+        /**
+         * Constructs a newly allocated {@code Relocation} object with the specified source and target directories.
+         *
+         * @param source the source directory, relative to the root directory, to be used in construction
+         * @param target the target directory, relative to the root directory, to be used in construction
+         * @throws NullPointerException if the specified source or target directory is {@code null}
+         * @throws IllegalArgumentException if the specified source or target directory is absolute or empty, or one
+         * of them contains the other
+         */
+        public Relocation {
+            Objects.requireNonNull(source, "the specified source directory is null");
+
+            Objects.requireNonNull(target, "the specified target directory is null");
+
+            if (source.isAbsolute() || target.isAbsolute()) {
+                throw new IllegalArgumentException("the specified source or target directory is absolute");
+            } else if (source.toString().isEmpty() || target.toString().isEmpty()) {
+                throw new IllegalArgumentException("the specified source or target directory is empty");
+            } else if (source.startsWith(target) || target.startsWith(source)) {
+                throw new IllegalArgumentException("the specified source or target directory contains the other");
+            } //end if
+        } //Relocation
+    } //Relocation
+
+    /**
+     * The result of relocating attachments.
+     *
+     * @param directoryCount the number of directories that were moved with a single rename
+     * @param fileCount the number of attachments that were moved one at a time
+     * @param failedCount the number of attachments that could not be moved, including the conflicts
+     * @param conflicts the attachments, relative to the root directory, that were not moved because a file with the
+     * same name already exists in the target
+     */
+    public record Result(long directoryCount, long fileCount, long failedCount, List<Path> conflicts) {
+        /**
+         * Constructs a newly allocated {@code Result} object with the specified directory count, file count, failed
+         * count, and conflicts.
+         *
+         * @param directoryCount the directory count to be used in construction
+         * @param fileCount the file count to be used in construction
+         * @param failedCount the failed count to be used in construction
+         * @param conflicts the conflicts to be used in construction
+         * @throws NullPointerException if the specified list of conflicts is {@code null}
+         */
+        public Result {
+            conflicts = List.copyOf(conflicts);
+        } //Result
+    } //Result
+
+    /**
+     * The root directory of this attachment relocator.
+     */
+    private final Path root;
+
+    /**
+     * The parallelism of this attachment relocator.
+     */
+    private final int parallelism;
+
+    /**
+     * The number of directories that were moved with a single rename by this attachment relocator.
+     */
+    private final AtomicLong directoryCount;
+
+    /**
+     * The number of attachments that were moved one at a time by this attachment relocator.
+     */
+    private final AtomicLong fileCount;
+
+    /**
+     * The number of attachments that could not be moved by this attachment relocator.
+     */
+    private final AtomicLong failedCount;
+
+    /**
+     * The attachments, relative to the root directory, that were not moved by this attachment relocator because a file
+     * with the same name already exists in the target.
+     */
+    private final Queue<Path> conflicts;
+
+    /**
+     * The logger of this attachment relocator.
+     */
+    private final Logger logger;
+
+    /**
+     * Constructs a newly allocated {@code AttachmentRelocator} object with the specified root directory and
+     * parallelism.
+     *
+     * @param root the root directory to be used in construction
+     * @param parallelism the parallelism to be used in construction
+     */
+    private AttachmentRelocator(Path root, int parallelism) {
+        this.root = root;
+        this.parallelism = parallelism;
+        this.directoryCount = new AtomicLong();
+        this.fileCount = new AtomicLong();
+        this.failedCount = new AtomicLong();
+        this.conflicts = new ConcurrentLinkedQueue<>();
+        this.logger = Logger.getGlobal();
+    } //AttachmentRelocator
+
+    /**
+     * Returns a new {@code AttachmentRelocator} object with the specified root directory and parallelism.
+     *
+     * @param root the root directory to be used in the operation
+     * @param parallelism the parallelism to be used in the operation
+     * @return a new {@code AttachmentRelocator} object with the specified root directory and parallelism
+     * @throws NullPointerException if the specified root directory is {@code null}
+     * @throws IllegalArgumentException if the specified parallelism is not positive
+     */
+    public static AttachmentRelocator newAttachmentRelocator(Path root, int parallelism) {
+        Objects.requireNonNull(root, "the specified root directory is null");
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("the specified parallelism is not positive");
+        } //end if
+
+        return new AttachmentRelocator(root, parallelism);
+    } //newAttachmentRelocator
+
+    /**
+     * Returns a new {@code AttachmentRelocator} object whose root directory is the working directory, and whose
+     * parallelism is taken from the {@code attachments.parallelism} setting.
+     *
+     * @return a new {@code AttachmentRelocator} object
+     */
+    public static AttachmentRelocator newAttachmentRelocator() {
+        Path root;
+        int parallelism;
+
+        root = Path.of("");
+
+        parallelism = Settings.getPositiveInt(AttachmentIndex.PARALLELISM_KEY, AttachmentIndex.DEFAULT_PARALLELISM);
+
+        return AttachmentRelocator.newAttachmentRelocator(root, parallelism);
+    } //newAttachmentRelocator
+
+    /**
+     * Records the relocation of the attachments under the specified source directory to the specified target
+     * directory in the journal of this attachment relocator, without starting it. This should be done before the
+     * records that reflect the relocation are saved, and the relocation should then be started by
+     * {@link #resume(Set, LongConsumer)} once they have been.
+     *
+     * @param source the source directory, relative to the root directory, to be used in the operation
+     * @param target the target directory, relative to the root directory, to be used in the operation
+     * @throws NullPointerException if the specified source or target directory is {@code null}
+     * @throws IllegalArgumentException if the specified source or target directory is absolute or empty, or one of
+     * them contains the other
+     * @throws IOException if the journal cannot be read or written
+     */
+    public synchronized void record(Path source, Path target) throws IOException {
+        Relocation relocation;
+        Path journalPath;
+        List<Relocation> relocations;
+
+        relocation = new Relocation(source, target);
+
+        journalPath = this.root.resolve(RelocationJournal.FILE_NAME);
+
+        relocations = RelocationJournal.read(journalPath);
+
+        relocations.add(relocation);
+
+        RelocationJournal.write(relocations, journalPath);
+    } //record
+
+    /**
+     * Resumes the pending relocations in the journal of this attachment relocator, in the order they were requested.
+     * The specified directories are the category and subcategory directories of the saved records, relative to the
+     * root directory. A relocation whose source is one of them, or whose target is not, is not reflected by the saved
+     * records, so it is removed from the journal without being started. Each other relocation is removed from the
+     * journal once every attachment has been moved. If an attachment of a relocation cannot be moved, that relocation
+     * and the ones after it are left in the journal, so a later relocation does not overtake an earlier one. The number
+     * of directories and attachments that have been moved so far is passed to the specified progress consumer.
+     *
+     * @param directories the category and subcategory directories of the saved records to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the result of the relocations
+     * @throws NullPointerException if the specified set of directories or progress consumer is {@code null}
+     * @throws IOException if the journal cannot be read or written, or a directory cannot be listed or created
+     */
+    public synchronized Result resume(Set<Path> directories, LongConsumer progressConsumer) throws IOException {
+        Path journalPath;
+        List<Relocation> relocations;
+        AtomicLong progress;
+        AtomicInteger threadCount;
+        ExecutorService executor;
+        Relocation relocation;
+        long previousFailedCount;
+
+        Objects.requireNonNull(directories, "the specified set of directories is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        journalPath = this.root.resolve(RelocationJournal.FILE_NAME);
+
+        relocations = RelocationJournal.read(journalPath);
+
+        if (relocations.removeIf(pending -> !AttachmentRelocator.isSaved(pending, directories))) {
+            RelocationJournal.write(relocations, journalPath);
+        } //end if
+
+        if (relocations.isEmpty()) {
+            return this.getResult();
+        } //end if
+
+        progress = new AtomicLong();
+
+        threadCount = new AtomicInteger();
+
+        executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            String name = "hs-records-attachment-relocator-" + threadCount.incrementAndGet();
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        try {
+            while (!relocations.isEmpty()) {
+                relocation = relocations.get(0);
+
+                previousFailedCount = this.failedCount.get();
+
+                this.relocate(relocation, executor, progressConsumer, progress);
+
+                if (this.failedCount.get() > previousFailedCount) {
+                    break;
+                } //end if
+
+                relocations.remove(0);
+
+                RelocationJournal.write(relocations, journalPath);
+            } //end while
+        } finally {
+            executor.shutdownNow();
+        } //end try finally
+
+        return this.getResult();
+    } //resume
+
+    /**
+     * Returns whether or not the specified relocation is reflected by saved records with the specified category and
+     * subcategory directories. If it is not, the failure is logged.
+     *
+     * @param relocation the relocation to be used in the operation
+     * @param directories the directories to be used in the operation
+     * @return {@code true}, if the specified relocation is reflected by the saved records, and {@code false} otherwise
+     */
+    private static boolean isSaved(Relocation relocation, Set<Path> directories) {
+        Path source;
+        Path target;
+        Logger logger;
+
+        source = relocation.source();
+
+        target = relocation.target();
+
+        if (!directories.contains(source) && directories.contains(target)) {
+            return true;
+        } //end if
+
+        logger = Logger.getGlobal();
+
+        logger.log(Level.WARNING, "the relocation of {0} to {1} was discarded as the saved records do not reflect it",
+                   new Object[] {source, target});
+
+        return false;
+    } //isSaved
+
+    /**
+     * Returns the result of the relocations of this attachment relocator so far.
+     *
+     * @return the result of the relocations of this attachment relocator so far
+     */
+    private Result getResult() {
+        List<Path> conflictList;
+
+        conflictList = new ArrayList<>(this.conflicts);
+
+        return new Result(this.directoryCount.get(), this.fileCount.get(), this.failedCount.get(), conflictList);
+    } //getResult
+
+    /**
+     * Relocates the attachments of the specified relocation, and then deletes the source directories that were left
+     * empty.
+     *
+     * @param relocation the relocation to be used in the operation
+     * @param executor the executor to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param progress the progress to be used in the operation
+     * @throws IOException if a directory cannot be listed or created
+     */
+    private void relocate(Relocation relocation, ExecutorService executor, LongConsumer progressConsumer,
+                          AtomicLong progress) throws IOException {
+        Path source;
+        Path target;
+        List<Path> sourceDirectories;
+        List<CompletableFuture<Void>> futures;
+        Path sourceDirectory;
+
+        source = this.root.resolve(relocation.source());
+
+        target = this.root.resolve(relocation.target());
+
+        sourceDirectories = new ArrayList<>();
+
+        futures = new ArrayList<>();
+
+        try {
+            this.relocateDirectory(source, target, executor, sourceDirectories, futures, progressConsumer, progress);
+        } finally {
+            for (CompletableFuture<Void> future : futures) {
+                AttachmentIndex.join(future);
+            } //end for
+        } //end try finally
+
+        for (int i = sourceDirectories.size() - 1; i >= 0; i--) {
+            sourceDirectory = sourceDirectories.get(i);
+
+            try {
+                Files.deleteIfExists(sourceDirectory);
+            } catch (DirectoryNotEmptyException e) {
+                this.logger.log(Level.INFO, "the directory {0} was left in place as it is not empty", sourceDirectory);
+            } //end try catch
+        } //end for
+    } //relocate
+
+    /**
+     * Relocates the specified source directory to the specified target directory. If the target directory does not
+     * exist, the source directory is renamed to it. Otherwise, or if the rename fails, the subdirectories of the
+     * source directory are relocated in turn, and its files are moved by the specified executor.
+     *
+     * @param source the source directory to be used in the operation
+     * @param target the target directory to be used in the operation
+     * @param executor the executor to be used in the operation
+     * @param sourceDirectories the source directories that are to be deleted once they are empty
+     * @param futures the futures of the files that are being moved
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param progress the progress to be used in the operation
+     * @throws IOException if a directory cannot be listed or created
+     */
+    private void relocateDirectory(Path source, Path target, ExecutorService executor, List<Path> sourceDirectories,
+                                   List<CompletableFuture<Void>> futures, LongConsumer progressConsumer,
+                                   AtomicLong progress) throws IOException {
+        Path parent;
+
+        if (!Files.isDirectory(source, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        } //end if
+
+        if (Files.notExists(target, LinkOption.NOFOLLOW_LINKS)) {
+            parent = target.getParent();
+
+            if (parent != null) {
+                Files.createDirectories(parent);
+            } //end if
+
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+
+                this.directoryCount.incrementAndGet();
+
+                progressConsumer.accept(progress.incrementAndGet());
+
+                return;
+            } catch (IOException e) {
+                String exceptionMessage = e.getMessage();
+
+                this.logger.log(Level.INFO, exceptionMessage, e);
+            } //end try catch
+
+            Files.createDirectories(target);
+        } //end if
+
+        sourceDirectories.add(source);
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(source)) {
+            for (Path child : stream) {
+                Path childTarget = target.resolve(child.getFileName()
+                                                       .toString());
+
+                if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                    this.relocateDirectory(child, childTarget, executor, sourceDirectories, futures, progressConsumer,
+                                           progress);
+                } else {
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        this.moveFile(child, childTarget);
+
+                        progressConsumer.accept(progress.incrementAndGet());
+                    }, executor));
+                } //end if
+            } //end for
+        } //end try
+    } //relocateDirectory
+
+    /**
+     * Moves the specified source file to the specified target file, and counts it as moved or failed. If the target
+     * file already exists, neither file is touched, and the source file is counted as a conflict.
+     *
+     * @param source the source file to be used in the operation
+     * @param target the target file to be used in the operation
+     */
+    private void moveFile(Path source, Path target) {
+        try {
+            if (Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+                throw new FileAlreadyExistsException(source.toString(), target.toString(), "the target exists");
+            } //end if
+
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, target);
+            } //end try catch
+
+            this.fileCount.incrementAndGet();
+        } catch (FileAlreadyExistsException e) {
+            this.logger.log(Level.WARNING, "the attachment {0} was not moved as {1} already exists",
+                            new Object[] {source, target});
+
+            this.conflicts.add(this.root.relativize(source));
+
+            this.failedCount.incrementAndGet();
+        } catch (IOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+
+            this.failedCount.incrementAndGet();
+        } //end try catch
+    } //moveFile
+}
\ No newline at end of file
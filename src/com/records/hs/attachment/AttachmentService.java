@@ -0,0 +1,340 @@
+package com.records.hs.attachment;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import com.records.hs.model.Model;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.List;
+import com.records.hs.model.Entry;
+import java.util.Objects;
+import java.util.ArrayList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.Map;
+import java.util.LinkedHashMap;
+import java.util.HashSet;
+import java.util.Optional;
+
+/**
+ * An attachment service in the HS Records application. Jobs that read or write the attachments of records run on a
+ * dedicated worker thread, so the event dispatch thread is never blocked by the attachment tree, which may be on a
+ * network share. Jobs are performed in the order they are requested. Attachments are found and opened for viewing on
+ * a worker thread of their own, so opening one never waits behind a long job. The content store that attachments are
+ * resolved against lives as long as this service, so its manifest is only read again once it has changed.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class AttachmentService {
+    /**
+     * The executor of this attachment service.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The executor of this attachment service that opens attachments for viewing.
+     */
+    private final ExecutorService viewerExecutor;
+
+    /**
+     * The content store of this attachment service that attachments are resolved against.
+     */
+    private final ContentStore contentStore;
+
+    /**
+     * Constructs a newly allocated {@code AttachmentService} object.
+     */
+    private AttachmentService() {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            String name = "hs-records-attachments";
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.viewerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            String name = "hs-records-attachment-viewer";
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.contentStore = ContentStore.newContentStore();
+    } //AttachmentService
+
+    /**
+     * Returns a new {@code AttachmentService} object.
+     *
+     * @return a new {@code AttachmentService} object
+     */
+    public static AttachmentService newAttachmentService() {
+        return new AttachmentService();
+    } //newAttachmentService
+
+    /**
+     * Asynchronously reconciles the attachments in the working directory with the entries of the specified model, and
+     * writes the report to the file at the specified path, as by
+     * {@link AttachmentReconciler#reconcile(Path, LongConsumer, BooleanSupplier)}. The entries are copied on the
+     * calling thread before this method returns, so the specified model may be modified while the reconciliation is in
+     * progress. This method should therefore be called from the thread that modifies the specified model. If the
+     * reconciliation was cancelled, the returned future completes exceptionally with a
+     * {@link java.util.concurrent.CancellationException}, and if it failed, with an {@link UncheckedIOException}.
+     *
+     * @param model the model to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the result of the reconciliation
+     * @throws NullPointerException if the specified model, path, progress consumer, or cancellation flag is
+     * {@code null}
+     */
+    public CompletableFuture<AttachmentReconciler.Result> reconcile(Model model, Path path,
+                                                                    LongConsumer progressConsumer,
+                                                                    BooleanSupplier cancelled) {
+        List<Entry> entries;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        entries = new ArrayList<>(model.getEntryCount());
+
+        model.forEachEntry(entries::add);
+
+        return CompletableFuture.supplyAsync(() -> {
+            AttachmentReconciler reconciler;
+
+            reconciler = AttachmentReconciler.newAttachmentReconciler(entries);
+
+            try {
+                return reconciler.reconcile(path, progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //reconcile
+
+    /**
+     * Asynchronously provisions the category tree in the working directory with the categories and subcategories of
+     * the specified model, as by {@link DirectoryProvisioner#provision(LongConsumer, BooleanSupplier)}. The categories
+     * and subcategories are taken on the calling thread before this method returns, so the specified model may be
+     * modified while the provisioning is in progress. This method should therefore be called from the thread that
+     * modifies the specified model. If the provisioning was cancelled, the returned future completes exceptionally
+     * with a {@link java.util.concurrent.CancellationException}, and if the root directory could not be listed, with
+     * an {@link UncheckedIOException}.
+     *
+     * @param model the model to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the result of the provisioning
+     * @throws NullPointerException if the specified model, progress consumer, or cancellation flag is {@code null}
+     */
+    public CompletableFuture<DirectoryProvisioner.Result> provisionDirectories(Model model,
+                                                                               LongConsumer progressConsumer,
+                                                                               BooleanSupplier cancelled) {
+        Set<String> categories;
+        Map<String, Set<String>> catsToSubcats;
+        Set<String> subcategories;
+        DirectoryProvisioner provisioner;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        categories = model.getCategories();
+
+        catsToSubcats = new LinkedHashMap<>();
+
+        for (String category : categories) {
+            subcategories = model.getSubcategories(category);
+
+            catsToSubcats.put(category, subcategories);
+        } //end for
+
+        provisioner = DirectoryProvisioner.newDirectoryProvisioner(catsToSubcats);
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return provisioner.provision(progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //provisionDirectories
+
+    /**
+     * Asynchronously records the relocation of the attachments under the specified source directory to the specified
+     * target directory, as by {@link AttachmentRelocator#record(Path, Path)}, without starting it. The relocation
+     * should be recorded before the model that reflects it is saved, and should be started by
+     * {@link #resumeRelocations(Model, LongConsumer)} once it has been. If the relocation could not be recorded, the
+     * returned future completes exceptionally with an {@link UncheckedIOException}.
+     *
+     * @param source the source directory, relative to the working directory, to be used in the operation
+     * @param target the target directory, relative to the working directory, to be used in the operation
+     * @return a future that completes once the relocation has been recorded
+     * @throws NullPointerException if the specified source or target directory is {@code null}
+     * @throws IllegalArgumentException if the specified source or target directory is absolute or empty, or one of
+     * them contains the other
+     */
+    public CompletableFuture<Void> recordRelocation(Path source, Path target) {
+        AttachmentRelocator.Relocation relocation;
+
+        relocation = new AttachmentRelocator.Relocation(source, target);
+
+        return CompletableFuture.runAsync(() -> {
+            AttachmentRelocator relocator;
+
+            relocator = AttachmentRelocator.newAttachmentRelocator();
+
+            try {
+                relocator.record(relocation.source(), relocation.target());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //recordRelocation
+
+    /**
+     * Asynchronously resumes the pending relocations of attachments, as by
+     * {@link AttachmentRelocator#resume(Set, LongConsumer)}, against the category and subcategory directories of the
+     * specified model, which should be the model that was last saved. The directories are taken on the calling thread
+     * before this method returns, so this method should be called from the thread that modifies the specified model.
+     * If the relocations failed, the returned future completes exceptionally with an {@link UncheckedIOException}.
+     *
+     * @param model the model to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return a future that completes with the result of the relocations
+     * @throws NullPointerException if the specified model or progress consumer is {@code null}
+     */
+    public CompletableFuture<AttachmentRelocator.Result> resumeRelocations(Model model,
+                                                                           LongConsumer progressConsumer) {
+        Set<Path> directories;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        directories = new HashSet<>();
+
+        for (String category : model.getCategories()) {
+            directories.add(Path.of(category));
+
+            for (String subcategory : model.getSubcategories(category)) {
+                directories.add(Path.of(category, subcategory));
+            } //end for
+        } //end for
+
+        return CompletableFuture.supplyAsync(() -> {
+            AttachmentRelocator relocator;
+
+            relocator = AttachmentRelocator.newAttachmentRelocator();
+
+            try {
+                return relocator.resume(directories, progressConsumer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //resumeRelocations
+
+    /**
+     * Asynchronously migrates the attachments in the working directory to the content store, as by
+     * {@link ContentStore#migrate(LongConsumer, BooleanSupplier)}. If the migration was cancelled, the returned future
+     * completes exceptionally with a {@link java.util.concurrent.CancellationException}, and if it failed, with an
+     * {@link UncheckedIOException}.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the result of the migration
+     * @throws NullPointerException if the specified progress consumer or cancellation flag is {@code null}
+     */
+    public CompletableFuture<ContentStore.Result> migrateToStore(LongConsumer progressConsumer,
+                                                                 BooleanSupplier cancelled) {
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        return CompletableFuture.supplyAsync(() -> {
+            ContentStore contentStore;
+
+            contentStore = ContentStore.newContentStore();
+
+            try {
+                return contentStore.migrate(progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //migrateToStore
+
+    /**
+     * Asynchronously finds the attachment of the specified entry. The attachment is checked against the specified
+     * index, as by {@link AttachmentIndex#checkAttachment(Entry)}, and, if it is not in the working directory, is
+     * resolved against the content store, as by {@link ContentStore#resolve(Path)}. If the manifest of the content
+     * store cannot be read, the returned future completes exceptionally with an {@link UncheckedIOException}.
+     *
+     * @param index the index to be used in the operation
+     * @param entry the entry to be used in the operation
+     * @return a future that completes with an {@code Optional} containing the path of the attachment of the specified
+     * entry, or an empty {@code Optional} if it could not be found
+     * @throws NullPointerException if the specified index or entry is {@code null}
+     */
+    public CompletableFuture<Optional<Path>> findAttachment(AttachmentIndex index, Entry entry) {
+        Objects.requireNonNull(index, "the specified index is null");
+
+        Objects.requireNonNull(entry, "the specified entry is null");
+
+        return CompletableFuture.supplyAsync(() -> {
+            Path path;
+
+            path = AttachmentIndex.getAttachmentPath(entry);
+
+            if (index.checkAttachment(entry)) {
+                return Optional.of(path);
+            } //end if
+
+            try {
+                return this.contentStore.resolve(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.viewerExecutor);
+    } //findAttachment
+
+    /**
+     * Asynchronously opens the attachment at the specified path as a tiled image, as by
+     * {@link TiledImage#newTiledImage(Path)}, which reads its header and opens its image readers. If the attachment
+     * cannot be decoded, the returned future completes exceptionally with an {@link UncheckedIOException}.
+     *
+     * @param path the path to be used in the operation
+     * @return a future that completes with the tiled image of the attachment at the specified path
+     * @throws NullPointerException if the specified path is {@code null}
+     */
+    public CompletableFuture<TiledImage> openTiledImage(Path path) {
+        Objects.requireNonNull(path, "the specified path is null");
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return TiledImage.newTiledImage(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.viewerExecutor);
+    } //openTiledImage
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A parallel walker of the category tree in the HS Records application. The category directories below a root
+ * directory are listed in parallel, and then each subcategory directory is visited in parallel, over an executor that
+ * is given to the walker. The result of each visit is passed to a consumer on the calling thread, in the order the
+ * subcategory directories were found, while the later ones are still being visited. At most four subcategory
+ * directories per thread are being visited, or waiting to be consumed, at any time, so the walk does not run ahead of
+ * the consumer.
+ *
+ * <p>If a directory cannot be listed, a visit fails, or the consumer throws an exception, the walk is stopped and
+ * the exception is rethrown. Visits that were already started are not waited for, so the executor should be shut down
+ * by the caller.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class CategoryTreeWalker {
+    /**
+     * A lister of the subdirectories of a directory of the category tree.
+     */
+    @FunctionalInterface
+    interface DirectoryLister {
+        /**
+         * Returns the subdirectories of the specified directory that are part of the category tree.
+         *
+         * @param directory the directory to be used in the operation
+         * @return the subdirectories of the specified directory that are part of the category tree
+         * @throws IOException if an I/O error occurs
+         */
+        List<Path> list(Path directory) throws IOException;
+    } //DirectoryLister
+
+    /**
+     * A visitor of the subcategory directories of the category tree, which is called on the threads of the executor.
+     *
+     * @param <T> the type of the result of a visit
+     */
+    @FunctionalInterface
+    interface SubcategoryVisitor<T> {
+        /**
+         * Visits the specified subcategory directory.
+         *
+         * @param directory the subcategory directory to be used in the operation
+         * @return the result of the visit
+         * @throws IOException if an I/O error occurs
+         */
+        T visit(Path directory) throws IOException;
+    } //SubcategoryVisitor
+
+    /**
+     * A consumer of the results of the visits of the subcategory directories, which is called on the calling thread.
+     *
+     * @param <T> the type of the result of a visit
+     */
+    @FunctionalInterface
+    interface ResultConsumer<T> {
+        /**
+         * Accepts the specified result of a visit.
+         *
+         * @param result the result to be used in the operation
+         * @throws IOException if the result cannot be accepted
+         */
+        void accept(T result) throws IOException;
+    } //ResultConsumer
+
+    /**
+     * The number of subcategory directories per thread that may be pending at any time.
+     */
+    private static final int PENDING_PER_THREAD;
+
+    static {
+        PENDING_PER_THREAD = 4;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code CategoryTreeWalker} object.
+     *
+     * @throws AssertionError if an object of type {@code CategoryTreeWalker} attempts to be instantiated
+     */
+    private CategoryTreeWalker() {
+        throw new AssertionError("an object of type CategoryTreeWalker cannot be instantiated");
+    } //CategoryTreeWalker
+
+    /**
+     * Walks the category tree below the specified root directory, as by
+     * {@link #walk(Path, ExecutorService, int, DirectoryLister, SubcategoryVisitor, ResultConsumer)}, listing each
+     * directory with {@link AttachmentIndex#listDirectories(Path)}.
+     *
+     * @param root the root directory to be used in the operation
+     * @param executor the executor to be used in the operation
+     * @param parallelism the number of threads of the specified executor
+     * @param visitor the visitor to be used in the operation
+     * @param consumer the consumer to be used in the operation
+     * @param <T> the type of the result of a visit
+     * @throws NullPointerException if the specified root directory, executor, visitor, or consumer is {@code null}
+     * @throws IOException if a directory cannot be listed, a visit fails, or the consumer cannot accept a result
+     */
+    static <T> void walk(Path root, ExecutorService executor, int parallelism, SubcategoryVisitor<T> visitor,
+                         ResultConsumer<T> consumer) throws IOException {
+        CategoryTreeWalker.walk(root, executor, parallelism, AttachmentIndex::listDirectories, visitor, consumer);
+    } //walk
+
+    /**
+     * Walks the category tree below the specified root directory. The root directory and the category directories are
+     * listed with the specified lister, the subcategory directories are visited with the specified visitor, and the
+     * result of each visit is passed to the specified consumer, on the calling thread, in the order the subcategory
+     * directories were found.
+     *
+     * @param root the root directory to be used in the operation
+     * @param executor the executor to be used in the operation
+     * @param parallelism the number of threads of the specified executor
+     * @param lister the lister to be used in the operation
+     * @param visitor the visitor to be used in the operation
+     * @param consumer the consumer to be used in the operation
+     * @param <T> the type of the result of a visit
+     * @throws NullPointerException if the specified root directory, executor, lister, visitor, or consumer is
+     * {@code null}
+     * @throws IOException if a directory cannot be listed, a visit fails, or the consumer cannot accept a result
+     */
+    static <T> void walk(Path root, ExecutorService executor, int parallelism, DirectoryLister lister,
+                         SubcategoryVisitor<T> visitor, ResultConsumer<T> consumer) throws IOException {
+        List<Path> categories;
+        List<CompletableFuture<List<Path>>> categoryFutures;
+        Deque<CompletableFuture<T>> pendingFutures;
+        int maxPending;
+
+        Objects.requireNonNull(root, "the specified root directory is null");
+
+        Objects.requireNonNull(executor, "the specified executor is null");
+
+        Objects.requireNonNull(lister, "the specified lister is null");
+
+        Objects.requireNonNull(visitor, "the specified visitor is null");
+
+        Objects.requireNonNull(consumer, "the specified consumer is null");
+
+        categories = lister.list(root);
+
+        categoryFutures = new ArrayList<>(categories.size());
+
+        for (Path category : categories) {
+            categoryFutures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return lister.list(category);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } //end try catch
+            }, executor));
+        } //end for
+
+        pendingFutures = new ArrayDeque<>();
+
+        maxPending = PENDING_PER_THREAD * Math.max(parallelism, 1);
+
+        for (CompletableFuture<List<Path>> categoryFuture : categoryFutures) {
+            for (Path subcategory : AttachmentIndex.join(categoryFuture)) {
+                while (pendingFutures.size() >= maxPending) {
+                    consumer.accept(AttachmentIndex.join(pendingFutures.removeFirst()));
+                } //end while
+
+                pendingFutures.addLast(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return visitor.visit(subcategory);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } //end try catch
+                }, executor));
+            } //end for
+        } //end for
+
+        while (!pendingFutures.isEmpty()) {
+            consumer.accept(AttachmentIndex.join(pendingFutures.removeFirst()));
+        } //end while
+    } //walk
+}
\ No newline at end of file
@@ -0,0 +1,250 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.io.IOException;
+import java.util.Objects;
+import java.nio.file.Files;
+import java.util.zip.Checksum;
+import java.util.zip.CRC32C;
+import java.io.DataInputStream;
+import java.util.zip.CheckedInputStream;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.DataOutputStream;
+import java.util.zip.CheckedOutputStream;
+import java.io.BufferedOutputStream;
+import com.records.hs.util.Utilities;
+
+/**
+ * A set of methods for reading and writing the checksum database of the integrity verifier of the HS Records
+ * application. The database maps the path of each attachment, relative to the root directory, to the checksum of its
+ * contents, along with the state of the pass that is in progress, so that a pass can be resumed after a restart.
+ *
+ * <p>The file starts with a magic number and a version, followed by the header and the number of attachments. Each
+ * attachment is its path, written like a path of the relocation journal, followed by its size, time of last
+ * modification, checksum, and time of last verification. The file ends with a CRC32C checksum of everything before
+ * it.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class ChecksumDatabase {
+    /**
+     * The header of a checksum database.
+     *
+     * @param passStartedAt the time at which the pass that is in progress was started, in milliseconds since the
+     * epoch, or {@code 0} if no pass is in progress
+     * @param passCompletedAt the time at which the last pass was completed, in milliseconds since the epoch, or
+     * {@code 0} if no pass has been completed
+     */
+    record Header(long passStartedAt, long passCompletedAt) {
+    } //Header
+
+    /**
+     * The checksum of an attachment.
+     *
+     * @param size the size of the attachment when its checksum was recorded, in bytes
+     * @param lastModified the time of last modification of the attachment when its checksum was recorded, in
+     * milliseconds since the epoch
+     * @param checksum the CRC32C checksum of the contents of the attachment
+     * @param verifiedAt the time at which the attachment was last verified, in milliseconds since the epoch
+     */
+    record Record(long size, long lastModified, int checksum, long verifiedAt) {
+    } //Record
+
+    /**
+     * The magic number of the database file.
+     */
+    private static final int MAGIC;
+
+    /**
+     * The version of the database file.
+     */
+    private static final short VERSION;
+
+    /**
+     * The buffer size of the database file.
+     */
+    private static final int BUFFER_SIZE;
+
+    static {
+        MAGIC = 0x48534956;
+
+        VERSION = 1;
+
+        BUFFER_SIZE = 65536;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ChecksumDatabase} object.
+     *
+     * @throws AssertionError if an object of type {@code ChecksumDatabase} attempts to be instantiated
+     */
+    private ChecksumDatabase() {
+        throw new AssertionError("an object of type ChecksumDatabase cannot be instantiated");
+    } //ChecksumDatabase
+
+    /**
+     * Reads the header of the database file at the specified path, without reading its records. If the file does not
+     * exist, an empty header is returned.
+     *
+     * @param path the path to be used in the operation
+     * @return the header of the database file at the specified path
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IOException if the file exists but could not be read, or is not supported
+     */
+    static Header readHeader(Path path) throws IOException {
+        long passStartedAt;
+        long passCompletedAt;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        if (Files.notExists(path)) {
+            return new Header(0, 0);
+        } //end if
+
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if ((inputStream.readInt() != MAGIC) || (inputStream.readShort() != VERSION)) {
+                throw new IOException("the checksum database is not supported");
+            } //end if
+
+            passStartedAt = inputStream.readLong();
+
+            passCompletedAt = inputStream.readLong();
+        } catch (EOFException e) {
+            throw new IOException("the checksum database is truncated", e);
+        } //end try catch
+
+        return new Header(passStartedAt, passCompletedAt);
+    } //readHeader
+
+    /**
+     * Reads the database file at the specified path, putting its records into the specified map, keyed by the paths
+     * of their attachments. If the file does not exist, an empty header is returned and the map is left unchanged.
+     *
+     * @param path the path to be used in the operation
+     * @param pathsToRecords the map of records to be used in the operation
+     * @return the header of the database file at the specified path
+     * @throws NullPointerException if the specified path or map of records is {@code null}
+     * @throws IOException if the file exists but could not be read, or is corrupt
+     */
+    static Header read(Path path, Map<Path, Record> pathsToRecords) throws IOException {
+        Checksum checksum;
+        long passStartedAt;
+        long passCompletedAt;
+        int attachmentCount;
+        Path attachment;
+        Record record;
+        int expectedChecksum;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(pathsToRecords, "the specified map of records is null");
+
+        if (Files.notExists(path)) {
+            return new Header(0, 0);
+        } //end if
+
+        checksum = new CRC32C();
+
+        try (DataInputStream inputStream = new DataInputStream(new CheckedInputStream(new BufferedInputStream(
+                Files.newInputStream(path), BUFFER_SIZE), checksum))) {
+            if ((inputStream.readInt() != MAGIC) || (inputStream.readShort() != VERSION)) {
+                throw new IOException("the checksum database is not supported");
+            } //end if
+
+            passStartedAt = inputStream.readLong();
+
+            passCompletedAt = inputStream.readLong();
+
+            attachmentCount = inputStream.readInt();
+
+            for (int i = 0; i < attachmentCount; i++) {
+                attachment = RelocationJournal.readPath(inputStream);
+
+                record = new Record(inputStream.readLong(), inputStream.readLong(), inputStream.readInt(),
+                                    inputStream.readLong());
+
+                pathsToRecords.put(attachment, record);
+            } //end for
+
+            expectedChecksum = (int) checksum.getValue();
+
+            if (inputStream.readInt() != expectedChecksum) {
+                throw new IOException("the checksum of the checksum database does not match");
+            } //end if
+        } catch (EOFException e) {
+            throw new IOException("the checksum database is truncated", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("the checksum database is corrupt", e);
+        } //end try catch
+
+        return new Header(passStartedAt, passCompletedAt);
+    } //read
+
+    /**
+     * Writes the specified header and records, mapped from the paths of their attachments, to the database file at the
+     * specified path, by way of a temporary file. A copy of the map is written, so the map may be modified by other
+     * threads while it is written.
+     *
+     * @param header the header to be used in the operation
+     * @param pathsToRecords the records, mapped from the paths of their attachments, to be used in the operation
+     * @param path the path to be used in the operation
+     * @throws NullPointerException if the specified header, map of records, or path is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    static void write(Header header, Map<Path, Record> pathsToRecords, Path path) throws IOException {
+        Path temporaryPath;
+        Checksum checksum;
+        Map<Path, Record> snapshot;
+        Record record;
+
+        Objects.requireNonNull(header, "the specified header is null");
+
+        Objects.requireNonNull(pathsToRecords, "the specified map of records is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        checksum = new CRC32C();
+
+        snapshot = Map.copyOf(pathsToRecords);
+
+        try (DataOutputStream outputStream = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryPath), BUFFER_SIZE), checksum))) {
+            outputStream.writeInt(MAGIC);
+
+            outputStream.writeShort(VERSION);
+
+            outputStream.writeLong(header.passStartedAt());
+
+            outputStream.writeLong(header.passCompletedAt());
+
+            outputStream.writeInt(snapshot.size());
+
+            for (Map.Entry<Path, Record> mapping : snapshot.entrySet()) {
+                RelocationJournal.writePath(outputStream, mapping.getKey());
+
+                record = mapping.getValue();
+
+                outputStream.writeLong(record.size());
+
+                outputStream.writeLong(record.lastModified());
+
+                outputStream.writeInt(record.checksum());
+
+                outputStream.writeLong(record.verifiedAt());
+            } //end for
+
+            outputStream.writeInt((int) checksum.getValue());
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryPath);
+
+            throw e;
+        } //end try catch
+
+        Utilities.replaceFile(temporaryPath, path);
+    } //write
+}
\ No newline at end of file
@@ -0,0 +1,709 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.Objects;
+import com.records.hs.util.Settings;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.nio.file.Files;
+import java.util.TreeMap;
+import java.util.HashSet;
+import java.util.Deque;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.nio.file.DirectoryStream;
+import java.util.logging.Level;
+import java.util.Set;
+import java.nio.file.FileAlreadyExistsException;
+import com.records.hs.util.Utilities;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.Optional;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.NoSuchFileException;
+import java.io.File;
+
+/**
+ * A content-addressed store of the attachments of the HS Records application. The store keeps one copy of each
+ * distinct attachment in the hidden {@code .store} directory of the root directory, named after the SHA-256 digest of
+ * its contents, and a manifest that maps the path of each attachment to its digest.
+ *
+ * <p>Attachments are migrated to the store by a walk of the category tree. Each attachment is hashed with a streaming
+ * digest that reads the file into a large direct buffer, over a bounded pool of threads that each take a buffer from a
+ * shared pool. The first attachment with a digest becomes the stored copy by way of a hard link, and every later
+ * attachment with the same digest is replaced by a hard link to the stored copy, so the duplicate is stored once.
+ * Because the attachments stay at {@code CATEGORY/SUBCATEGORY/ID.tif}, everything that opens them by path keeps
+ * working. If an attachment has gone missing from the category tree, it can still be resolved through the manifest.
+ * Attachments that are already linked to the store are not hashed again, and stored copies that no attachment refers
+ * to anymore are deleted once a migration has completed without failures. The manifest is read once, and is only read
+ * again once it has been rewritten, so resolving attachments does not read the whole manifest each time.</p>
+ *
+ * <p>Since duplicates share their contents, an attachment must be replaced, rather than modified in place, once it has
+ * been migrated. Every stored copy is therefore made read-only, which, since the links share their attributes, makes
+ * every attachment linked to it read-only too, so an edit in place cannot silently change each of its duplicates. A
+ * file system that does not support hard links cannot hold a store.</p>
+ *
+ * <p>A content store can only be migrated once.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ContentStore {
+    /**
+     * The result of a migration.
+     *
+     * @param fileCount the number of attachments that were migrated
+     * @param linkedCount the number of duplicates that were replaced by links to the store
+     * @param savedByteCount the size of the duplicates that were replaced by links to the store, in bytes
+     * @param failedCount the number of attachments that could not be migrated
+     */
+    public record Result(long fileCount, long linkedCount, long savedByteCount, long failedCount) {
+    } //Result
+
+    /**
+     * The key of the setting that determines the size of the buffer of each thread that hashes attachments, in bytes.
+     */
+    private static final String BUFFER_SIZE_KEY;
+
+    /**
+     * The default size of the buffer of each thread that hashes attachments, in bytes.
+     */
+    private static final int DEFAULT_BUFFER_SIZE;
+
+    /**
+     * The name of the directory of the store.
+     */
+    private static final String STORE_DIRECTORY_NAME;
+
+    /**
+     * The name of the directory of the stored copies.
+     */
+    private static final String OBJECT_DIRECTORY_NAME;
+
+    /**
+     * The name of the manifest file.
+     */
+    private static final String MANIFEST_NAME;
+
+    /**
+     * The name of the digest algorithm.
+     */
+    private static final String ALGORITHM;
+
+    /**
+     * A manifest that has been read, along with the attributes its file had when it was read.
+     *
+     * @param modifiedTime the last modified time of the manifest file, or {@code null} if it does not exist
+     * @param size the size of the manifest file, in bytes
+     * @param pathsToDigests the digests of the manifest, mapped from the paths of their attachments
+     */
+    private record CachedManifest(FileTime modifiedTime, long size, Map<Path, String> pathsToDigests) {
+    } //CachedManifest
+
+    /**
+     * The root directory of this content store.
+     */
+    private final Path root;
+
+    /**
+     * The directory of the stored copies of this content store.
+     */
+    private final Path objectDirectory;
+
+    /**
+     * The manifest file of this content store.
+     */
+    private final Path manifestPath;
+
+    /**
+     * The parallelism of this content store.
+     */
+    private final int parallelism;
+
+    /**
+     * The buffer size of this content store.
+     */
+    private final int bufferSize;
+
+    /**
+     * The number of attachments that were migrated by this content store.
+     */
+    private final AtomicLong fileCount;
+
+    /**
+     * The number of duplicates that were replaced by links by this content store.
+     */
+    private final AtomicLong linkedCount;
+
+    /**
+     * The size of the duplicates that were replaced by links by this content store, in bytes.
+     */
+    private final AtomicLong savedByteCount;
+
+    /**
+     * The number of attachments that could not be migrated by this content store.
+     */
+    private final AtomicLong failedCount;
+
+    /**
+     * The logger of this content store.
+     */
+    private final Logger logger;
+
+    /**
+     * The manifest of this content store as it was last read, or {@code null} if it has not been read.
+     */
+    private volatile CachedManifest cachedManifest;
+
+    static {
+        BUFFER_SIZE_KEY = "store.bufferSize";
+
+        DEFAULT_BUFFER_SIZE = 1_048_576;
+
+        STORE_DIRECTORY_NAME = ".store";
+
+        OBJECT_DIRECTORY_NAME = "objects";
+
+        MANIFEST_NAME = "manifest.bin";
+
+        ALGORITHM = "SHA-256";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ContentStore} object with the specified root directory, parallelism, and
+     * buffer size.
+     *
+     * @param root the root directory to be used in construction
+     * @param parallelism the parallelism to be used in construction
+     * @param bufferSize the buffer size to be used in construction
+     */
+    private ContentStore(Path root, int parallelism, int bufferSize) {
+        Path storeDirectory = root.resolve(STORE_DIRECTORY_NAME);
+
+        this.root = root;
+        this.objectDirectory = storeDirectory.resolve(OBJECT_DIRECTORY_NAME);
+        this.manifestPath = storeDirectory.resolve(MANIFEST_NAME);
+        this.parallelism = parallelism;
+        this.bufferSize = bufferSize;
+        this.fileCount = new AtomicLong();
+        this.linkedCount = new AtomicLong();
+        this.savedByteCount = new AtomicLong();
+        this.failedCount = new AtomicLong();
+        this.logger = Logger.getGlobal();
+        this.cachedManifest = null;
+    } //ContentStore
+
+    /**
+     * Returns a new {@code ContentStore} object with the specified root directory, parallelism, and buffer size.
+     *
+     * @param root the root directory to be used in the operation
+     * @param parallelism the parallelism to be used in the operation
+     * @param bufferSize the buffer size, in bytes, to be used in the operation
+     * @return a new {@code ContentStore} object with the specified root directory, parallelism, and buffer size
+     * @throws NullPointerException if the specified root directory is {@code null}
+     * @throws IllegalArgumentException if the specified parallelism or buffer size is not positive
+     */
+    public static ContentStore newContentStore(Path root, int parallelism, int bufferSize) {
+        Objects.requireNonNull(root, "the specified root directory is null");
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("the specified parallelism is not positive");
+        } else if (bufferSize <= 0) {
+            throw new IllegalArgumentException("the specified buffer size is not positive");
+        } //end if
+
+        return new ContentStore(root, parallelism, bufferSize);
+    } //newContentStore
+
+    /**
+     * Returns a new {@code ContentStore} object whose root directory is the working directory, whose parallelism is
+     * taken from the {@code attachments.parallelism} setting, and whose buffer size is taken from the
+     * {@code store.bufferSize} setting.
+     *
+     * @return a new {@code ContentStore} object
+     */
+    public static ContentStore newContentStore() {
+        Path root;
+        int parallelism;
+        int bufferSize;
+
+        root = Path.of("");
+
+        parallelism = Settings.getPositiveInt(AttachmentIndex.PARALLELISM_KEY, AttachmentIndex.DEFAULT_PARALLELISM);
+
+        bufferSize = Settings.getPositiveInt(BUFFER_SIZE_KEY, DEFAULT_BUFFER_SIZE);
+
+        return ContentStore.newContentStore(root, parallelism, bufferSize);
+    } //newContentStore
+
+    /**
+     * Returns the stored copy of the attachment at the specified path, relative to the root directory of this content
+     * store, if the attachment was migrated to this content store and its stored copy still exists. The manifest is
+     * only read if it has changed since this content store last read it, so this method should be called on a
+     * long-lived content store, and not on the event dispatch thread.
+     *
+     * @param attachment the path of the attachment to be used in the operation
+     * @return an {@code Optional} containing the stored copy of the attachment at the specified path, or an empty
+     * {@code Optional} if there is none
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IOException if the manifest cannot be read
+     */
+    public Optional<Path> resolve(Path attachment) throws IOException {
+        Map<Path, String> pathsToDigests;
+        String digest;
+        Path object;
+
+        Objects.requireNonNull(attachment, "the specified path is null");
+
+        pathsToDigests = this.readManifest();
+
+        digest = pathsToDigests.get(attachment);
+
+        if (digest == null) {
+            return Optional.empty();
+        } //end if
+
+        object = this.getObjectPath(digest);
+
+        if (Files.notExists(object)) {
+            return Optional.empty();
+        } //end if
+
+        return Optional.of(object);
+    } //resolve
+
+    /**
+     * Returns the digests of the manifest of this content store, mapped from the paths of their attachments. The
+     * manifest that was last read is returned if the last modified time and size of its file have not changed since.
+     *
+     * @return the digests of the manifest of this content store, mapped from the paths of their attachments
+     * @throws IOException if the manifest cannot be read
+     */
+    private synchronized Map<Path, String> readManifest() throws IOException {
+        BasicFileAttributes attributes;
+        FileTime modifiedTime = null;
+        long size = 0;
+        CachedManifest manifest;
+        Map<Path, String> pathsToDigests;
+
+        try {
+            attributes = Files.readAttributes(this.manifestPath, BasicFileAttributes.class);
+
+            modifiedTime = attributes.lastModifiedTime();
+
+            size = attributes.size();
+        } catch (NoSuchFileException e) {
+            this.logger.log(Level.FINE, "the manifest {0} does not exist", this.manifestPath);
+        } //end try catch
+
+        manifest = this.cachedManifest;
+
+        if ((manifest != null) && Objects.equals(manifest.modifiedTime(), modifiedTime)
+            && (manifest.size() == size)) {
+            return manifest.pathsToDigests();
+        } //end if
+
+        pathsToDigests = Map.copyOf(StoreManifest.read(this.manifestPath));
+
+        this.cachedManifest = new CachedManifest(modifiedTime, size, pathsToDigests);
+
+        return pathsToDigests;
+    } //readManifest
+
+    /**
+     * Migrates the attachments of the category tree of this content store to this content store. The number of
+     * attachments that have been migrated or have failed so far is passed to the specified progress consumer. The
+     * specified cancellation flag is checked before each attachment, and the manifest keeps the attachments that were
+     * migrated before the migration was cancelled or failed.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the result of the migration
+     * @throws NullPointerException if the specified progress consumer or cancellation flag is {@code null}
+     * @throws CancellationException if the migration was cancelled
+     * @throws UnsupportedOperationException if the file system does not support hard links
+     * @throws IOException if the category tree cannot be listed, or the manifest cannot be read or written
+     */
+    public Result migrate(LongConsumer progressConsumer, BooleanSupplier cancelled) throws IOException {
+        Map<Path, String> previousDigests;
+        Map<Path, String> digests;
+        BlockingQueue<ByteBuffer> buffers;
+        AtomicInteger threadCount;
+        ExecutorService executor;
+        Map<Path, String> sortedDigests;
+        Set<String> storedDigests;
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        previousDigests = StoreManifest.read(this.manifestPath);
+
+        digests = new ConcurrentHashMap<>();
+
+        buffers = new ArrayBlockingQueue<>(this.parallelism);
+
+        for (int i = 0; i < this.parallelism; i++) {
+            buffers.add(ByteBuffer.allocateDirect(this.bufferSize));
+        } //end for
+
+        Files.createDirectories(this.objectDirectory);
+
+        threadCount = new AtomicInteger();
+
+        executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            String name = "hs-records-content-store-" + threadCount.incrementAndGet();
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        try {
+            this.migrateTree(previousDigests, digests, buffers, executor, progressConsumer, cancelled);
+        } catch (IOException | RuntimeException e) {
+            ContentStore.shutdown(executor);
+
+            previousDigests.putAll(digests);
+
+            try {
+                StoreManifest.write(previousDigests, this.manifestPath);
+            } catch (IOException writeException) {
+                e.addSuppressed(writeException);
+            } //end try catch
+
+            throw e;
+        } //end try catch
+
+        ContentStore.shutdown(executor);
+
+        sortedDigests = new TreeMap<>(digests);
+
+        StoreManifest.write(sortedDigests, this.manifestPath);
+
+        if (this.failedCount.get() == 0) {
+            storedDigests = new HashSet<>(digests.values());
+
+            this.deleteOrphans(storedDigests);
+        } //end if
+
+        return new Result(this.fileCount.get(), this.linkedCount.get(), this.savedByteCount.get(),
+                          this.failedCount.get());
+    } //migrate
+
+    /**
+     * Walks the category tree of this content store with a {@link CategoryTreeWalker}, and migrates each attachment
+     * with the specified executor. The subcategory directories are listed on the same executor. At most four
+     * attachments per thread are waiting to be migrated at any time, so the walk does not run ahead of the hashing.
+     *
+     * @param previousDigests the digests of the previous migration to be used in the operation
+     * @param digests the digests of this migration to be used in the operation
+     * @param buffers the buffers to be used in the operation
+     * @param executor the executor to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @throws CancellationException if the migration was cancelled
+     * @throws IOException if the category tree cannot be listed
+     */
+    private void migrateTree(Map<Path, String> previousDigests, Map<Path, String> digests,
+                             BlockingQueue<ByteBuffer> buffers, ExecutorService executor,
+                             LongConsumer progressConsumer, BooleanSupplier cancelled) throws IOException {
+        Deque<CompletableFuture<Void>> pendingFutures;
+        int maxPending;
+        AtomicLong progress;
+
+        pendingFutures = new ArrayDeque<>();
+
+        maxPending = 4 * this.parallelism;
+
+        progress = new AtomicLong();
+
+        CategoryTreeWalker.walk(this.root, executor, this.parallelism, AttachmentIndex::listAttachments, files -> {
+            for (Path file : files) {
+                if (cancelled.getAsBoolean()) {
+                    throw new CancellationException("the migration was cancelled");
+                } //end if
+
+                while (pendingFutures.size() >= maxPending) {
+                    AttachmentIndex.join(pendingFutures.removeFirst());
+                } //end while
+
+                pendingFutures.addLast(CompletableFuture.runAsync(() -> {
+                    this.migrateFile(file, previousDigests, digests, buffers);
+
+                    progressConsumer.accept(progress.incrementAndGet());
+                }, executor));
+            } //end for
+        });
+
+        while (!pendingFutures.isEmpty()) {
+            AttachmentIndex.join(pendingFutures.removeFirst());
+        } //end while
+    } //migrateTree
+
+    /**
+     * Migrates the specified attachment, and counts it as migrated or failed. An attachment that the previous
+     * migration left linked to its stored copy is not hashed again.
+     *
+     * @param file the attachment to be used in the operation
+     * @param previousDigests the digests of the previous migration to be used in the operation
+     * @param digests the digests of this migration to be used in the operation
+     * @param buffers the buffers to be used in the operation
+     */
+    private void migrateFile(Path file, Map<Path, String> previousDigests, Map<Path, String> digests,
+                             BlockingQueue<ByteBuffer> buffers) {
+        Path attachment;
+        String digest;
+
+        attachment = this.root.relativize(file);
+
+        digest = previousDigests.get(attachment);
+
+        try {
+            if ((digest == null) || !this.isStored(file, digest)) {
+                digest = this.store(file, buffers);
+            } //end if
+
+            this.protect(this.getObjectPath(digest));
+
+            digests.put(attachment, digest);
+
+            this.fileCount.incrementAndGet();
+        } catch (IOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+
+            this.failedCount.incrementAndGet();
+        } //end try catch
+    } //migrateFile
+
+    /**
+     * Returns whether or not the specified attachment is linked to the stored copy with the specified digest.
+     *
+     * @param file the attachment to be used in the operation
+     * @param digest the digest to be used in the operation
+     * @return {@code true}, if the specified attachment is linked to the stored copy with the specified digest, and
+     * {@code false} otherwise
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean isStored(Path file, String digest) throws IOException {
+        Path object;
+
+        object = this.getObjectPath(digest);
+
+        return Files.exists(object) && Files.isSameFile(object, file);
+    } //isStored
+
+    /**
+     * Stores the specified attachment in this content store. If this content store has no copy with the digest of
+     * the attachment yet, the attachment becomes the stored copy. Otherwise, the attachment is replaced by a link to
+     * the stored copy.
+     *
+     * @param file the attachment to be used in the operation
+     * @param buffers the buffers to be used in the operation
+     * @return the digest of the specified attachment
+     * @throws IOException if an I/O error occurs, or the stored copy does not have the size of the attachment
+     */
+    private String store(Path file, BlockingQueue<ByteBuffer> buffers) throws IOException {
+        String digest;
+        Path object;
+        long size;
+        Path temporaryPath;
+
+        digest = this.digest(file, buffers);
+
+        object = this.getObjectPath(digest);
+
+        Files.createDirectories(object.getParent());
+
+        try {
+            Files.createLink(object, file);
+
+            return digest;
+        } catch (FileAlreadyExistsException e) {
+            if (Files.isSameFile(object, file)) {
+                return digest;
+            } //end if
+        } //end try catch
+
+        size = Files.size(file);
+
+        if (Files.size(object) != size) {
+            throw new IOException(String.format("the stored copy %s does not match %s", object, file));
+        } //end if
+
+        temporaryPath = file.resolveSibling(file.getFileName() + ".tmp");
+
+        Files.deleteIfExists(temporaryPath);
+
+        Files.createLink(temporaryPath, object);
+
+        try {
+            Utilities.replaceFile(temporaryPath, file);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryPath);
+
+            throw e;
+        } //end try catch
+
+        this.linkedCount.incrementAndGet();
+
+        this.savedByteCount.addAndGet(size);
+
+        return digest;
+    } //store
+
+    /**
+     * Makes the specified stored copy read-only, and with it every attachment that is linked to it, so that none of
+     * them can be modified in place. If it cannot be made read-only, the failure is logged.
+     *
+     * @param object the stored copy to be used in the operation
+     */
+    private void protect(Path object) {
+        File file;
+
+        file = object.toFile();
+
+        if (file.canWrite() && !file.setWritable(false, false)) {
+            this.logger.log(Level.WARNING, "the stored copy {0} could not be made read-only", object);
+        } //end if
+    } //protect
+
+    /**
+     * Returns the digest of the contents of the specified file, in hexadecimal. The file is read into a buffer that
+     * is taken from the specified buffers, and given back once the file has been read.
+     *
+     * @param file the file to be used in the operation
+     * @param buffers the buffers to be used in the operation
+     * @return the digest of the contents of the specified file, in hexadecimal
+     * @throws IOException if an I/O error occurs
+     */
+    private String digest(Path file, BlockingQueue<ByteBuffer> buffers) throws IOException {
+        MessageDigest messageDigest;
+        ByteBuffer buffer;
+        byte[] digest;
+
+        try {
+            messageDigest = MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } //end try catch
+
+        try {
+            buffer = buffers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+
+            throw new InterruptedIOException("the migration was interrupted");
+        } //end try catch
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer.clear();
+
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+
+                messageDigest.update(buffer);
+
+                buffer.clear();
+            } //end while
+        } finally {
+            buffers.add(buffer);
+        } //end try finally
+
+        digest = messageDigest.digest();
+
+        return HexFormat.of()
+                        .formatHex(digest);
+    } //digest
+
+    /**
+     * Returns the path of the stored copy with the specified digest.
+     *
+     * @param digest the digest to be used in the operation
+     * @return the path of the stored copy with the specified digest
+     */
+    private Path getObjectPath(String digest) {
+        String shard;
+        String fileName;
+
+        shard = digest.substring(0, 2);
+
+        fileName = digest + AttachmentIndex.EXTENSION;
+
+        return this.objectDirectory.resolve(shard)
+                                   .resolve(fileName);
+    } //getObjectPath
+
+    /**
+     * Deletes the stored copies of this content store whose digests are not in the specified set of digests.
+     *
+     * @param storedDigests the digests of the stored copies that are to be kept
+     * @throws IOException if an I/O error occurs
+     */
+    private void deleteOrphans(Set<String> storedDigests) throws IOException {
+        String fileName;
+        String digest;
+
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(this.objectDirectory, Files::isDirectory)) {
+            for (Path shard : shards) {
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(shard, "*" + AttachmentIndex.EXTENSION)) {
+                    for (Path object : stream) {
+                        fileName = object.getFileName()
+                                         .toString();
+
+                        digest = fileName.substring(0, fileName.length() - AttachmentIndex.EXTENSION.length());
+
+                        if (!storedDigests.contains(digest)) {
+                            object.toFile()
+                                  .setWritable(true);
+
+                            Files.deleteIfExists(object);
+
+                            this.logger.log(Level.INFO, "the stored copy {0} was deleted as it is not used", object);
+                        } //end if
+                    } //end for
+                } //end try
+            } //end for
+        } //end try
+    } //deleteOrphans
+
+    /**
+     * Shuts down the specified executor, and waits for the attachments that are being migrated to finish.
+     *
+     * @param executor the executor to be used in the operation
+     */
+    private static void shutdown(ExecutorService executor) {
+        executor.shutdownNow();
+
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } //end try catch
+    } //shutdown
+}
\ No newline at end of file
@@ -0,0 +1,399 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.Objects;
+import java.util.LinkedHashMap;
+import com.records.hs.util.Settings;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.nio.file.Files;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.DirectoryStream;
+import java.util.logging.Level;
+
+/**
+ * A provisioner of the category tree of the HS Records application. A provisioner creates the category and
+ * subcategory directories that are missing from the category tree, given the full set of categories and
+ * subcategories.
+ *
+ * <p>The existing tree is first diffed against the given set. The root directory is listed once, and then each
+ * existing category directory is listed, while each missing category directory is created, in parallel. The missing
+ * subcategory directories are then created in parallel. Each directory costs at most one round trip to the file
+ * system, and the round trips are spread over a bounded pool of threads, which matters most on network shares, where
+ * latency rather than bandwidth dominates. A directory that cannot be created is counted as failed and logged, along
+ * with the subcategory directories of a category directory that cannot be created or listed, and the remaining
+ * directories are still provisioned.</p>
+ *
+ * <p>A provisioner can only be used once.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class DirectoryProvisioner {
+    /**
+     * The result of a provisioning.
+     *
+     * @param createdCount the number of directories that were created
+     * @param existingCount the number of directories that already existed
+     * @param failedCount the number of directories that could not be created
+     */
+    public record Result(long createdCount, long existingCount, long failedCount) {
+    } //Result
+
+    /**
+     * The root directory of this directory provisioner.
+     */
+    private final Path root;
+
+    /**
+     * The parallelism of this directory provisioner.
+     */
+    private final int parallelism;
+
+    /**
+     * The subcategories of this directory provisioner, mapped from their categories.
+     */
+    private final Map<String, Set<String>> catsToSubcats;
+
+    /**
+     * The number of directories that were created by this directory provisioner.
+     */
+    private final AtomicLong createdCount;
+
+    /**
+     * The number of directories that already existed for this directory provisioner.
+     */
+    private final AtomicLong existingCount;
+
+    /**
+     * The number of directories that could not be created by this directory provisioner.
+     */
+    private final AtomicLong failedCount;
+
+    /**
+     * The logger of this directory provisioner.
+     */
+    private final Logger logger;
+
+    /**
+     * Constructs a newly allocated {@code DirectoryProvisioner} object with the specified root directory,
+     * parallelism, and subcategories.
+     *
+     * @param root the root directory to be used in construction
+     * @param parallelism the parallelism to be used in construction
+     * @param catsToSubcats the subcategories, mapped from their categories, to be used in construction
+     */
+    private DirectoryProvisioner(Path root, int parallelism, Map<String, Set<String>> catsToSubcats) {
+        this.root = root;
+        this.parallelism = parallelism;
+        this.catsToSubcats = catsToSubcats;
+        this.createdCount = new AtomicLong();
+        this.existingCount = new AtomicLong();
+        this.failedCount = new AtomicLong();
+        this.logger = Logger.getGlobal();
+    } //DirectoryProvisioner
+
+    /**
+     * Returns a new {@code DirectoryProvisioner} object with the specified subcategories, root directory, and
+     * parallelism. The specified map is copied, but the sets of subcategories are not, so they should not be modified
+     * while the provisioning is in progress.
+     *
+     * @param catsToSubcats the subcategories, mapped from their categories, to be used in the operation
+     * @param root the root directory to be used in the operation
+     * @param parallelism the parallelism to be used in the operation
+     * @return a new {@code DirectoryProvisioner} object with the specified subcategories, root directory, and
+     * parallelism
+     * @throws NullPointerException if the specified map of subcategories or root directory is {@code null}
+     * @throws IllegalArgumentException if the specified parallelism is not positive
+     */
+    public static DirectoryProvisioner newDirectoryProvisioner(Map<String, Set<String>> catsToSubcats, Path root,
+                                                               int parallelism) {
+        Map<String, Set<String>> catsToSubcatsCopy;
+
+        Objects.requireNonNull(catsToSubcats, "the specified map of subcategories is null");
+
+        Objects.requireNonNull(root, "the specified root directory is null");
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("the specified parallelism is not positive");
+        } //end if
+
+        catsToSubcatsCopy = new LinkedHashMap<>(catsToSubcats);
+
+        return new DirectoryProvisioner(root, parallelism, catsToSubcatsCopy);
+    } //newDirectoryProvisioner
+
+    /**
+     * Returns a new {@code DirectoryProvisioner} object with the specified subcategories, whose root directory is the
+     * working directory, and whose parallelism is taken from the {@code attachments.parallelism} setting.
+     *
+     * @param catsToSubcats the subcategories, mapped from their categories, to be used in the operation
+     * @return a new {@code DirectoryProvisioner} object with the specified subcategories
+     * @throws NullPointerException if the specified map of subcategories is {@code null}
+     */
+    public static DirectoryProvisioner newDirectoryProvisioner(Map<String, Set<String>> catsToSubcats) {
+        Path root;
+        int parallelism;
+
+        root = Path.of("");
+
+        parallelism = Settings.getPositiveInt(AttachmentIndex.PARALLELISM_KEY, AttachmentIndex.DEFAULT_PARALLELISM);
+
+        return DirectoryProvisioner.newDirectoryProvisioner(catsToSubcats, root, parallelism);
+    } //newDirectoryProvisioner
+
+    /**
+     * Returns the number of directories that are provisioned by this directory provisioner, which is the number of
+     * categories plus the number of subcategories.
+     *
+     * @return the number of directories that are provisioned by this directory provisioner
+     */
+    public long getDirectoryCount() {
+        long directoryCount = 0;
+
+        for (Set<String> subcategories : this.catsToSubcats.values()) {
+            directoryCount += subcategories.size() + 1;
+        } //end for
+
+        return directoryCount;
+    } //getDirectoryCount
+
+    /**
+     * Provisions the category tree of this directory provisioner. The number of directories that have been checked
+     * or created so far is passed to the specified progress consumer. The specified cancellation flag is checked
+     * before each directory, and the directories that were created before the provisioning was cancelled are kept.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the result of the provisioning
+     * @throws NullPointerException if the specified progress consumer or cancellation flag is {@code null}
+     * @throws CancellationException if the provisioning was cancelled
+     * @throws IOException if the root directory cannot be listed
+     */
+    public Result provision(LongConsumer progressConsumer, BooleanSupplier cancelled) throws IOException {
+        AtomicLong progress;
+        AtomicInteger threadCount;
+        ExecutorService executor;
+        Set<String> existingCategories;
+        Map<String, CompletableFuture<Set<String>>> categoryFutures;
+        List<CompletableFuture<Void>> subcategoryFutures;
+        Set<String> existingSubcategories;
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        progress = new AtomicLong();
+
+        threadCount = new AtomicInteger();
+
+        executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            String name = "hs-records-directory-provisioner-" + threadCount.incrementAndGet();
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        try {
+            existingCategories = DirectoryProvisioner.listDirectoryNames(this.root);
+
+            categoryFutures = new LinkedHashMap<>();
+
+            for (String category : this.catsToSubcats.keySet()) {
+                boolean exists = existingCategories.contains(category);
+
+                categoryFutures.put(category, CompletableFuture.supplyAsync(() -> {
+                    DirectoryProvisioner.checkCancelled(cancelled);
+
+                    return this.provisionCategory(category, exists, progressConsumer, progress);
+                }, executor));
+            } //end for
+
+            subcategoryFutures = new ArrayList<>();
+
+            for (Map.Entry<String, CompletableFuture<Set<String>>> entry : categoryFutures.entrySet()) {
+                String category = entry.getKey();
+                Set<String> subcategories = this.catsToSubcats.get(category);
+
+                existingSubcategories = AttachmentIndex.join(entry.getValue());
+
+                for (String subcategory : subcategories) {
+                    if (existingSubcategories == null) {
+                        this.failedCount.incrementAndGet();
+
+                        progressConsumer.accept(progress.incrementAndGet());
+                    } else if (existingSubcategories.contains(subcategory)) {
+                        this.existingCount.incrementAndGet();
+
+                        progressConsumer.accept(progress.incrementAndGet());
+                    } else {
+                        subcategoryFutures.add(CompletableFuture.runAsync(() -> {
+                            Path parent = this.root.resolve(category);
+
+                            DirectoryProvisioner.checkCancelled(cancelled);
+
+                            this.createDirectory(parent, subcategory);
+
+                            progressConsumer.accept(progress.incrementAndGet());
+                        }, executor));
+                    } //end if
+                } //end for
+            } //end for
+
+            for (CompletableFuture<Void> subcategoryFuture : subcategoryFutures) {
+                AttachmentIndex.join(subcategoryFuture);
+            } //end for
+        } finally {
+            executor.shutdownNow();
+        } //end try finally
+
+        return new Result(this.createdCount.get(), this.existingCount.get(), this.failedCount.get());
+    } //provision
+
+    /**
+     * Provisions the directory of the specified category. If the directory exists, it is listed, and otherwise it is
+     * created.
+     *
+     * @param category the category to be used in the operation
+     * @param exists whether the directory of the specified category exists
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param progress the progress to be used in the operation
+     * @return the names of the existing subcategory directories of the specified category, or {@code null} if the
+     * directory of the specified category could not be provisioned
+     */
+    private Set<String> provisionCategory(String category, boolean exists, LongConsumer progressConsumer,
+                                          AtomicLong progress) {
+        Path directory;
+        Set<String> existingSubcategories = Set.of();
+
+        if (exists) {
+            directory = this.root.resolve(category);
+
+            this.existingCount.incrementAndGet();
+
+            try {
+                existingSubcategories = DirectoryProvisioner.listDirectoryNames(directory);
+            } catch (IOException e) {
+                String exceptionMessage = e.getMessage();
+
+                this.logger.log(Level.WARNING, exceptionMessage, e);
+
+                existingSubcategories = null;
+            } //end try catch
+        } else if (!this.createDirectory(this.root, category)) {
+            existingSubcategories = null;
+        } //end if
+
+        progressConsumer.accept(progress.incrementAndGet());
+
+        return existingSubcategories;
+    } //provisionCategory
+
+    /**
+     * Creates the directory with the specified name in the specified parent directory, and counts it as created,
+     * existing, or failed. A directory that was created by someone else since the tree was listed is counted as
+     * existing, and a name that is not a valid file name is counted as failed.
+     *
+     * @param parent the parent directory to be used in the operation
+     * @param name the name to be used in the operation
+     * @return {@code true}, if the directory exists, and {@code false} otherwise
+     */
+    private boolean createDirectory(Path parent, String name) {
+        Path directory;
+
+        try {
+            directory = parent.resolve(name);
+        } catch (InvalidPathException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+
+            this.failedCount.incrementAndGet();
+
+            return false;
+        } //end try catch
+
+        try {
+            Files.createDirectory(directory);
+
+            this.createdCount.incrementAndGet();
+        } catch (FileAlreadyExistsException e) {
+            if (!Files.isDirectory(directory)) {
+                String exceptionMessage = e.getMessage();
+
+                this.logger.log(Level.WARNING, exceptionMessage, e);
+
+                this.failedCount.incrementAndGet();
+
+                return false;
+            } //end if
+
+            this.existingCount.incrementAndGet();
+        } catch (IOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+
+            this.failedCount.incrementAndGet();
+
+            return false;
+        } //end try catch
+
+        return true;
+    } //createDirectory
+
+    /**
+     * Throws a {@link CancellationException} if the specified cancellation flag is set.
+     *
+     * @param cancelled the cancellation flag to be used in the operation
+     * @throws CancellationException if the specified cancellation flag is set
+     */
+    private static void checkCancelled(BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("the provisioning was cancelled");
+        } //end if
+    } //checkCancelled
+
+    /**
+     * Returns the names of the subdirectories of the specified directory that are part of the category tree.
+     *
+     * @param directory the directory to be used in the operation
+     * @return the names of the subdirectories of the specified directory that are part of the category tree
+     * @throws IOException if an I/O error occurs
+     */
+    private static Set<String> listDirectoryNames(Path directory) throws IOException {
+        Set<String> names;
+        String name;
+
+        names = new HashSet<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, AttachmentIndex::isTreeDirectory)) {
+            for (Path path : stream) {
+                name = path.getFileName()
+                           .toString();
+
+                names.add(name);
+            } //end for
+        } //end try
+
+        return names;
+    } //listDirectoryNames
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.records.hs.attachment;
+
+import java.util.LinkedHashMap;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import java.util.Iterator;
+
+/**
+ * An image cache in the HS Records application. Image caches are least recently used caches whose capacity is a
+ * number of bytes rather than a number of images, so the memory used by decoded images stays bounded no matter how
+ * large the images they were decoded from are. Each pixel is counted as four bytes.
+ *
+ * @param <K> the type of the keys of this image cache
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class ImageCache<K> {
+    /**
+     * The images of this image cache, in access order.
+     */
+    private final LinkedHashMap<K, BufferedImage> images;
+
+    /**
+     * The capacity of this image cache, in bytes.
+     */
+    private final long capacity;
+
+    /**
+     * The size of the images in this image cache, in bytes.
+     */
+    private long size;
+
+    /**
+     * Constructs a newly allocated {@code ImageCache} object with the specified capacity.
+     *
+     * @param capacity the capacity, in bytes, to be used in construction
+     * @throws IllegalArgumentException if the specified capacity is not positive
+     */
+    ImageCache(long capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("the specified capacity is not positive");
+        } //end if
+
+        this.images = new LinkedHashMap<>(16, 0.75f, true);
+        this.capacity = capacity;
+        this.size = 0;
+    } //ImageCache
+
+    /**
+     * Returns the image with the specified key in this image cache, and marks it as the most recently used.
+     *
+     * @param key the key to be used in the operation
+     * @return the image with the specified key in this image cache, or {@code null} if it is not cached
+     */
+    synchronized BufferedImage get(K key) {
+        return this.images.get(key);
+    } //get
+
+    /**
+     * Puts the specified image with the specified key into this image cache. The least recently used images are
+     * evicted until this image cache fits in its capacity again. The specified image itself is never evicted.
+     *
+     * @param key the key to be used in the operation
+     * @param image the image to be used in the operation
+     * @throws NullPointerException if the specified key or image is {@code null}
+     */
+    synchronized void put(K key, BufferedImage image) {
+        BufferedImage previousImage;
+        Iterator<BufferedImage> iterator;
+        BufferedImage evictedImage;
+
+        Objects.requireNonNull(key, "the specified key is null");
+
+        Objects.requireNonNull(image, "the specified image is null");
+
+        previousImage = this.images.put(key, image);
+
+        if (previousImage != null) {
+            this.size -= ImageCache.getByteCount(previousImage);
+        } //end if
+
+        this.size += ImageCache.getByteCount(image);
+
+        iterator = this.images.values()
+                              .iterator();
+
+        while ((this.size > this.capacity) && (this.images.size() > 1)) {
+            evictedImage = iterator.next();
+
+            iterator.remove();
+
+            this.size -= ImageCache.getByteCount(evictedImage);
+        } //end while
+    } //put
+
+    /**
+     * Removes all of the images from this image cache.
+     */
+    synchronized void clear() {
+        this.images.clear();
+
+        this.size = 0;
+    } //clear
+
+    /**
+     * Returns the number of bytes counted for the pixels of the specified image.
+     *
+     * @param image the image to be used in the operation
+     * @return the number of bytes counted for the pixels of the specified image
+     */
+    private static long getByteCount(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * Integer.BYTES;
+    } //getByteCount
+}
\ No newline at end of file
@@ -0,0 +1,197 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.io.IOException;
+import java.util.Objects;
+import java.nio.file.Files;
+import java.util.zip.Checksum;
+import java.util.zip.CRC32C;
+import java.util.List;
+import java.util.ArrayList;
+import java.io.DataInputStream;
+import java.util.zip.CheckedInputStream;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.DataOutputStream;
+import java.util.zip.CheckedOutputStream;
+import java.io.BufferedOutputStream;
+import com.records.hs.util.Utilities;
+
+/**
+ * A set of methods for reading and writing the reports of the integrity verifier of the HS Records application. A
+ * report holds the times at which a pass was started and completed, its counts, and the paths of the attachments that
+ * it found to be corrupt, relative to the root directory.
+ *
+ * <p>The file starts with a magic number and a version, followed by the times at which the pass was started and
+ * completed, the number of attachments that were verified, recorded, found to be corrupt, and could not be read, and
+ * the number of corrupt attachments that are listed. Each corrupt attachment is its path, written like a path of the
+ * relocation journal. The file ends with a CRC32C checksum of everything before it.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class IntegrityReport {
+    /**
+     * The magic number of the report file.
+     */
+    private static final int MAGIC;
+
+    /**
+     * The version of the report file.
+     */
+    private static final short VERSION;
+
+    /**
+     * The buffer size of the report file.
+     */
+    private static final int BUFFER_SIZE;
+
+    static {
+        MAGIC = 0x48534952;
+
+        VERSION = 1;
+
+        BUFFER_SIZE = 65536;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code IntegrityReport} object.
+     *
+     * @throws AssertionError if an object of type {@code IntegrityReport} attempts to be instantiated
+     */
+    private IntegrityReport() {
+        throw new AssertionError("an object of type IntegrityReport cannot be instantiated");
+    } //IntegrityReport
+
+    /**
+     * Reads the report saved in the report file at the specified path.
+     *
+     * @param path the path to be used in the operation
+     * @return an {@code Optional} containing the report saved in the report file at the specified path, or an empty
+     * {@code Optional} if the file does not exist
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IOException if the file exists but could not be read, or is corrupt
+     */
+    static Optional<IntegrityVerifier.Report> read(Path path) throws IOException {
+        Checksum checksum;
+        long passStartedAt;
+        long passCompletedAt;
+        long verifiedCount;
+        long recordedCount;
+        long corruptCount;
+        long failedCount;
+        int attachmentCount;
+        List<Path> corruptAttachments;
+        int expectedChecksum;
+        IntegrityVerifier.Result result;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        if (Files.notExists(path)) {
+            return Optional.empty();
+        } //end if
+
+        checksum = new CRC32C();
+
+        try (DataInputStream inputStream = new DataInputStream(new CheckedInputStream(new BufferedInputStream(
+                Files.newInputStream(path), BUFFER_SIZE), checksum))) {
+            if ((inputStream.readInt() != MAGIC) || (inputStream.readShort() != VERSION)) {
+                throw new IOException("the report file is not supported");
+            } //end if
+
+            passStartedAt = inputStream.readLong();
+
+            passCompletedAt = inputStream.readLong();
+
+            verifiedCount = inputStream.readLong();
+
+            recordedCount = inputStream.readLong();
+
+            corruptCount = inputStream.readLong();
+
+            failedCount = inputStream.readLong();
+
+            attachmentCount = inputStream.readInt();
+
+            corruptAttachments = new ArrayList<>();
+
+            for (int i = 0; i < attachmentCount; i++) {
+                corruptAttachments.add(RelocationJournal.readPath(inputStream));
+            } //end for
+
+            expectedChecksum = (int) checksum.getValue();
+
+            if (inputStream.readInt() != expectedChecksum) {
+                throw new IOException("the checksum of the report file does not match");
+            } //end if
+        } catch (EOFException e) {
+            throw new IOException("the report file is truncated", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("the report file is corrupt", e);
+        } //end try catch
+
+        result = new IntegrityVerifier.Result(verifiedCount, recordedCount, corruptCount, failedCount,
+                                              corruptAttachments);
+
+        return Optional.of(new IntegrityVerifier.Report(passStartedAt, passCompletedAt, result));
+    } //read
+
+    /**
+     * Writes the specified report to the report file at the specified path, by way of a temporary file.
+     *
+     * @param report the report to be used in the operation
+     * @param path the path to be used in the operation
+     * @throws NullPointerException if the specified report or path is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    static void write(IntegrityVerifier.Report report, Path path) throws IOException {
+        IntegrityVerifier.Result result;
+        Path temporaryPath;
+        Checksum checksum;
+
+        Objects.requireNonNull(report, "the specified report is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        result = report.result();
+
+        temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        checksum = new CRC32C();
+
+        try (DataOutputStream outputStream = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryPath), BUFFER_SIZE), checksum))) {
+            outputStream.writeInt(MAGIC);
+
+            outputStream.writeShort(VERSION);
+
+            outputStream.writeLong(report.passStartedAt());
+
+            outputStream.writeLong(report.passCompletedAt());
+
+            outputStream.writeLong(result.verifiedCount());
+
+            outputStream.writeLong(result.recordedCount());
+
+            outputStream.writeLong(result.corruptCount());
+
+            outputStream.writeLong(result.failedCount());
+
+            outputStream.writeInt(result.corruptAttachments()
+                                        .size());
+
+            for (Path attachment : result.corruptAttachments()) {
+                RelocationJournal.writePath(outputStream, attachment);
+            } //end for
+
+            outputStream.writeInt((int) checksum.getValue());
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryPath);
+
+            throw e;
+        } //end try catch
+
+        Utilities.replaceFile(temporaryPath, path);
+    } //write
+}
\ No newline at end of file
@@ -0,0 +1,1002 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import com.records.hs.util.Settings;
+import java.util.concurrent.TimeUnit;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CancellationException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.Deque;
+import java.util.ArrayDeque;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.zip.CRC32C;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.ArrayList;
+import java.io.Closeable;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A verifier of the integrity of the attachments of the HS Records application. The verifier records a CRC32C
+ * checksum of each attachment in the hidden {@code .integrity} directory of the root directory, and checks every
+ * attachment against its checksum on a schedule, so an attachment that was damaged on disk is found before someone
+ * opens it.
+ *
+ * <p>A pass walks the category tree, and reads each attachment into a large direct buffer with a file channel, over a
+ * bounded pool of threads that each take a buffer from a shared pool. The reads of all of the threads are held to an
+ * I/O budget, so a pass does not starve the rest of the application of disk bandwidth. An attachment whose size and
+ * time of last modification are unchanged, but whose checksum is not, is reported as corrupt and logged, and keeps its
+ * recorded checksum. An attachment that was modified is recorded again. Once a pass has completed, the records of
+ * attachments that no longer exist are removed.</p>
+ *
+ * <p>The checksums are saved every minute while a pass is in progress, along with the time at which the pass was
+ * started and the report of the pass so far. If the application exits or the pass is cancelled, the next pass resumes
+ * the one in progress, skips the attachments that it has already verified, and carries on its report. The report of
+ * the last pass that was completed, with the paths of the corrupt attachments it found, is saved in the
+ * {@code .integrity} directory as well.</p>
+ *
+ * <p>Scheduled passes run on a thread of their own, and a pass that is requested runs on another. A requested pass
+ * stops a scheduled pass that is running at its next attachment, and then resumes it, so it never waits behind a long
+ * pass, and its cancellation flag stops all of the work that is left.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class IntegrityVerifier implements Closeable {
+    /**
+     * The result of a pass.
+     *
+     * @param verifiedCount the number of attachments whose checksums matched
+     * @param recordedCount the number of attachments that were new or modified, whose checksums were recorded
+     * @param corruptCount the number of attachments whose checksums did not match, although they were not modified
+     * @param failedCount the number of attachments that could not be read
+     * @param corruptAttachments the paths of the corrupt attachments, relative to the root directory
+     */
+    public record Result(long verifiedCount, long recordedCount, long corruptCount, long failedCount,
+                         List<Path> corruptAttachments) {
+        /**
+         * Constructs a newly allocated {@code Result} object, copying the specified list of corrupt attachments.
+         */
+        public Result {
+            corruptAttachments = List.copyOf(corruptAttachments);
+        } //Result
+    } //Result
+
+    /**
+     * The report of a pass.
+     *
+     * @param passStartedAt the time at which the pass was started, in milliseconds since the epoch
+     * @param passCompletedAt the time at which the pass was completed, in milliseconds since the epoch, or {@code 0} if
+     * it is still in progress
+     * @param result the result of the pass
+     */
+    public record Report(long passStartedAt, long passCompletedAt, Result result) {
+    } //Report
+
+    /**
+     * The key of the setting that determines the parallelism of a verifier.
+     */
+    private static final String PARALLELISM_KEY;
+
+    /**
+     * The default parallelism of a verifier.
+     */
+    private static final int DEFAULT_PARALLELISM;
+
+    /**
+     * The key of the setting that determines the size of the buffer of each thread that reads attachments, in bytes.
+     */
+    private static final String BUFFER_SIZE_KEY;
+
+    /**
+     * The default size of the buffer of each thread that reads attachments, in bytes.
+     */
+    private static final int DEFAULT_BUFFER_SIZE;
+
+    /**
+     * The key of the setting that determines the I/O budget of a verifier, in bytes per second.
+     */
+    private static final String BYTES_PER_SECOND_KEY;
+
+    /**
+     * The default I/O budget of a verifier, in bytes per second.
+     */
+    private static final int DEFAULT_BYTES_PER_SECOND;
+
+    /**
+     * The key of the setting that determines the interval between passes, in hours.
+     */
+    private static final String INTERVAL_KEY;
+
+    /**
+     * The default interval between passes, in hours.
+     */
+    private static final int DEFAULT_INTERVAL;
+
+    /**
+     * The name of the directory of a verifier.
+     */
+    private static final String DIRECTORY_NAME;
+
+    /**
+     * The name of the checksum database file.
+     */
+    private static final String DATABASE_NAME;
+
+    /**
+     * The name of the file of the report of the last pass that was completed.
+     */
+    private static final String REPORT_NAME;
+
+    /**
+     * The name of the file of the report of the pass in progress.
+     */
+    private static final String PASS_REPORT_NAME;
+
+    /**
+     * The delay before a verifier first checks whether a pass is due, in minutes.
+     */
+    private static final long INITIAL_DELAY;
+
+    /**
+     * The delay between the checks of whether a pass is due, in minutes.
+     */
+    private static final long CHECK_DELAY;
+
+    /**
+     * The interval between the checkpoints of a pass, in milliseconds.
+     */
+    private static final long CHECKPOINT_INTERVAL;
+
+    /**
+     * The interval at which a requested pass checks its cancellation flag while it waits for a scheduled pass to stop,
+     * in milliseconds.
+     */
+    private static final long LOCK_INTERVAL;
+
+    /**
+     * The root directory of this integrity verifier.
+     */
+    private final Path root;
+
+    /**
+     * The checksum database file of this integrity verifier.
+     */
+    private final Path databasePath;
+
+    /**
+     * The file of the report of the last pass of this integrity verifier that was completed.
+     */
+    private final Path reportPath;
+
+    /**
+     * The file of the report of the pass of this integrity verifier that is in progress.
+     */
+    private final Path passReportPath;
+
+    /**
+     * The parallelism of this integrity verifier.
+     */
+    private final int parallelism;
+
+    /**
+     * The buffer size of this integrity verifier.
+     */
+    private final int bufferSize;
+
+    /**
+     * The I/O budget of this integrity verifier.
+     */
+    private final IoBudget budget;
+
+    /**
+     * The interval between the passes of this integrity verifier, in milliseconds.
+     */
+    private final long interval;
+
+    /**
+     * The scheduler of this integrity verifier, which runs the scheduled passes.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The executor of this integrity verifier, which runs the requested passes.
+     */
+    private final ExecutorService requestExecutor;
+
+    /**
+     * The lock of this integrity verifier, which is held by the pass that is running.
+     */
+    private final ReentrantLock passLock;
+
+    /**
+     * The flag of this integrity verifier that stops a scheduled pass, because a pass was requested.
+     */
+    private final AtomicBoolean preempted;
+
+    /**
+     * The number of attachments whose checksums matched in the current pass of this integrity verifier.
+     */
+    private final AtomicLong verifiedCount;
+
+    /**
+     * The number of attachments whose checksums were recorded in the current pass of this integrity verifier.
+     */
+    private final AtomicLong recordedCount;
+
+    /**
+     * The number of corrupt attachments in the current pass of this integrity verifier.
+     */
+    private final AtomicLong corruptCount;
+
+    /**
+     * The number of attachments that could not be read in the current pass of this integrity verifier.
+     */
+    private final AtomicLong failedCount;
+
+    /**
+     * The paths of the corrupt attachments in the current pass of this integrity verifier.
+     */
+    private final Queue<Path> corruptAttachments;
+
+    /**
+     * The logger of this integrity verifier.
+     */
+    private final Logger logger;
+
+    /**
+     * The report of the last pass of this integrity verifier that was completed, or {@code null} if there is none.
+     */
+    private volatile Report lastReport;
+
+    static {
+        PARALLELISM_KEY = "integrity.parallelism";
+
+        DEFAULT_PARALLELISM = 2;
+
+        BUFFER_SIZE_KEY = "integrity.bufferSize";
+
+        DEFAULT_BUFFER_SIZE = 1_048_576;
+
+        BYTES_PER_SECOND_KEY = "integrity.bytesPerSecond";
+
+        DEFAULT_BYTES_PER_SECOND = 52_428_800;
+
+        INTERVAL_KEY = "integrity.intervalHours";
+
+        DEFAULT_INTERVAL = 168;
+
+        DIRECTORY_NAME = ".integrity";
+
+        DATABASE_NAME = "checksums.bin";
+
+        REPORT_NAME = "report.bin";
+
+        PASS_REPORT_NAME = "pass.bin";
+
+        INITIAL_DELAY = 1;
+
+        CHECK_DELAY = 60;
+
+        CHECKPOINT_INTERVAL = 60_000;
+
+        LOCK_INTERVAL = 100;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code IntegrityVerifier} object with the specified root directory, parallelism,
+     * buffer size, I/O budget, and interval.
+     *
+     * @param root the root directory to be used in construction
+     * @param parallelism the parallelism to be used in construction
+     * @param bufferSize the buffer size to be used in construction
+     * @param budget the I/O budget to be used in construction
+     * @param interval the interval to be used in construction
+     */
+    private IntegrityVerifier(Path root, int parallelism, int bufferSize, IoBudget budget, long interval) {
+        String name = "hs-records-integrity-verifier";
+        String requestName = "hs-records-integrity-verifier-requests";
+
+        this.root = root;
+        this.databasePath = root.resolve(DIRECTORY_NAME)
+                                .resolve(DATABASE_NAME);
+        this.reportPath = root.resolve(DIRECTORY_NAME)
+                              .resolve(REPORT_NAME);
+        this.passReportPath = root.resolve(DIRECTORY_NAME)
+                                  .resolve(PASS_REPORT_NAME);
+        this.parallelism = parallelism;
+        this.bufferSize = bufferSize;
+        this.budget = budget;
+        this.interval = interval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.requestExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread;
+
+            thread = new Thread(runnable, requestName);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.passLock = new ReentrantLock();
+        this.preempted = new AtomicBoolean();
+        this.verifiedCount = new AtomicLong();
+        this.recordedCount = new AtomicLong();
+        this.corruptCount = new AtomicLong();
+        this.failedCount = new AtomicLong();
+        this.corruptAttachments = new ConcurrentLinkedQueue<>();
+        this.logger = Logger.getGlobal();
+        this.lastReport = null;
+    } //IntegrityVerifier
+
+    /**
+     * Returns a new {@code IntegrityVerifier} object with the specified root directory, parallelism, buffer size, I/O
+     * budget, and interval.
+     *
+     * @param root the root directory to be used in the operation
+     * @param parallelism the parallelism to be used in the operation
+     * @param bufferSize the buffer size, in bytes, to be used in the operation
+     * @param bytesPerSecond the I/O budget, in bytes per second, to be used in the operation
+     * @param interval the interval between passes, in hours, to be used in the operation
+     * @return a new {@code IntegrityVerifier} object with the specified root directory, parallelism, buffer size, I/O
+     * budget, and interval
+     * @throws NullPointerException if the specified root directory is {@code null}
+     * @throws IllegalArgumentException if the specified parallelism, buffer size, I/O budget, or interval is not
+     * positive
+     */
+    public static IntegrityVerifier newIntegrityVerifier(Path root, int parallelism, int bufferSize,
+                                                         long bytesPerSecond, long interval) {
+        IoBudget budget;
+
+        Objects.requireNonNull(root, "the specified root directory is null");
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("the specified parallelism is not positive");
+        } else if (bufferSize <= 0) {
+            throw new IllegalArgumentException("the specified buffer size is not positive");
+        } else if (interval <= 0) {
+            throw new IllegalArgumentException("the specified interval is not positive");
+        } //end if
+
+        budget = IoBudget.newIoBudget(bytesPerSecond);
+
+        return new IntegrityVerifier(root, parallelism, bufferSize, budget, TimeUnit.HOURS.toMillis(interval));
+    } //newIntegrityVerifier
+
+    /**
+     * Returns a new {@code IntegrityVerifier} object whose root directory is the working directory, and whose
+     * parallelism, buffer size, I/O budget, and interval are taken from the {@code integrity.parallelism},
+     * {@code integrity.bufferSize}, {@code integrity.bytesPerSecond}, and {@code integrity.intervalHours} settings.
+     *
+     * @return a new {@code IntegrityVerifier} object
+     */
+    public static IntegrityVerifier newIntegrityVerifier() {
+        Path root;
+        int parallelism;
+        int bufferSize;
+        int bytesPerSecond;
+        int interval;
+
+        root = Path.of("");
+
+        parallelism = Settings.getPositiveInt(PARALLELISM_KEY, DEFAULT_PARALLELISM);
+
+        bufferSize = Settings.getPositiveInt(BUFFER_SIZE_KEY, DEFAULT_BUFFER_SIZE);
+
+        bytesPerSecond = Settings.getPositiveInt(BYTES_PER_SECOND_KEY, DEFAULT_BYTES_PER_SECOND);
+
+        interval = Settings.getPositiveInt(INTERVAL_KEY, DEFAULT_INTERVAL);
+
+        return IntegrityVerifier.newIntegrityVerifier(root, parallelism, bufferSize, bytesPerSecond, interval);
+    } //newIntegrityVerifier
+
+    /**
+     * Starts the schedule of this integrity verifier. The report of the last pass that was completed is read first.
+     * Then, every hour, starting a minute from now, a pass is run in the background if one is in progress, or if the
+     * interval has passed since the last pass was completed. The report of each scheduled pass that is completed is
+     * passed to the specified report consumer, on the thread of the schedule.
+     *
+     * @param reportConsumer the report consumer to be used in the operation
+     * @throws NullPointerException if the specified report consumer is {@code null}
+     */
+    public void start(Consumer<Report> reportConsumer) {
+        Objects.requireNonNull(reportConsumer, "the specified report consumer is null");
+
+        this.scheduler.execute(this::loadReport);
+
+        this.scheduler.scheduleWithFixedDelay(() -> this.runScheduledPass(reportConsumer), INITIAL_DELAY, CHECK_DELAY,
+                                              TimeUnit.MINUTES);
+    } //start
+
+    /**
+     * Returns the report of the last pass of this integrity verifier that was completed, if there is one. The report
+     * saved by an earlier run of the application is available once the schedule has been started.
+     *
+     * @return an {@code Optional} containing the report of the last pass that was completed, or an empty
+     * {@code Optional} if there is none
+     */
+    public Optional<Report> getLastReport() {
+        return Optional.ofNullable(this.lastReport);
+    } //getLastReport
+
+    /**
+     * Reads the report of the last pass of this integrity verifier that was completed. If it cannot be read, the
+     * failure is logged.
+     */
+    private void loadReport() {
+        Optional<Report> report;
+
+        try {
+            report = IntegrityReport.read(this.reportPath);
+
+            report.ifPresent(value -> this.lastReport = value);
+        } catch (IOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+        } //end try catch
+    } //loadReport
+
+    /**
+     * Runs a pass of this integrity verifier if one is due and no requested pass is running, logs the result, as a
+     * warning if any attachment is corrupt, and passes the report to the specified report consumer. The pass is
+     * stopped if a pass is requested while it is running. Any exception is logged, rather than thrown, so later passes
+     * stay scheduled.
+     *
+     * @param reportConsumer the report consumer to be used in the operation
+     */
+    private void runScheduledPass(Consumer<Report> reportConsumer) {
+        ChecksumDatabase.Header header;
+        long now;
+        boolean due;
+        Report report;
+        Result result;
+        Level level;
+
+        if (!this.passLock.tryLock()) {
+            return;
+        } //end if
+
+        try {
+            header = ChecksumDatabase.readHeader(this.databasePath);
+
+            now = System.currentTimeMillis();
+
+            due = (header.passStartedAt() != 0) || ((now - header.passCompletedAt()) >= this.interval);
+
+            if (!due) {
+                return;
+            } //end if
+
+            report = this.verify(progress -> {}, this.preempted::get);
+
+            result = report.result();
+
+            level = (result.corruptCount() == 0) ? Level.INFO : Level.WARNING;
+
+            this.logger.log(level, "the attachments were verified: {0}", result);
+
+            reportConsumer.accept(report);
+        } catch (CancellationException e) {
+            this.logger.log(Level.INFO, "the scheduled pass was stopped, as a pass was requested that resumes it");
+        } catch (IOException | RuntimeException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+        } finally {
+            this.passLock.unlock();
+        } //end try catch finally
+    } //runScheduledPass
+
+    /**
+     * Runs a pass of this integrity verifier now. A scheduled pass that is running is stopped at its next attachment,
+     * and resumed by this pass. The number of attachments that have been checked so far is passed to the specified
+     * progress consumer, and the specified cancellation flag is checked while the scheduled pass is stopping, and
+     * before each attachment. If a pass is in progress, it is resumed rather than started over.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a {@code CompletableFuture} that is completed with the report of the pass
+     * @throws NullPointerException if the specified progress consumer or cancellation flag is {@code null}
+     */
+    public CompletableFuture<Report> verifyNow(LongConsumer progressConsumer, BooleanSupplier cancelled) {
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        return CompletableFuture.supplyAsync(() -> {
+            this.acquirePassLock(cancelled);
+
+            try {
+                return this.verify(progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                this.passLock.unlock();
+            } //end try catch finally
+        }, this.requestExecutor);
+    } //verifyNow
+
+    /**
+     * Acquires the pass lock of this integrity verifier for a requested pass, stopping any scheduled pass that holds
+     * it. The specified cancellation flag is checked while the scheduled pass is stopping.
+     *
+     * @param cancelled the cancellation flag to be used in the operation
+     * @throws CancellationException if the requested pass was cancelled, or interrupted, before the lock was acquired
+     */
+    private void acquirePassLock(BooleanSupplier cancelled) {
+        boolean acquired = false;
+
+        this.preempted.set(true);
+
+        try {
+            while (!acquired) {
+                if (cancelled.getAsBoolean()) {
+                    throw new CancellationException("the verification was cancelled");
+                } //end if
+
+                acquired = this.passLock.tryLock(LOCK_INTERVAL, TimeUnit.MILLISECONDS);
+            } //end while
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+
+            throw new CancellationException("the verification was interrupted");
+        } finally {
+            this.preempted.set(false);
+        } //end try catch finally
+    } //acquirePassLock
+
+    /**
+     * Runs a pass of this integrity verifier on the calling thread, while holding the pass lock. The checksum database
+     * and the report of the pass so far are saved when the pass is cancelled or fails, so it can be resumed. Once the
+     * pass has been completed, its report is saved as the report of the last pass.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the report of the pass
+     * @throws CancellationException if the pass was cancelled
+     * @throws IOException if the category tree cannot be listed, or the checksum database or a report cannot be read
+     * or written
+     */
+    private Report verify(LongConsumer progressConsumer, BooleanSupplier cancelled) throws IOException {
+        Map<Path, ChecksumDatabase.Record> records;
+        ChecksumDatabase.Header header;
+        long passStartedAt;
+        ChecksumDatabase.Header passHeader;
+        BlockingQueue<ByteBuffer> buffers;
+        AtomicInteger threadCount;
+        ExecutorService executor;
+        Report report;
+
+        records = new ConcurrentHashMap<>();
+
+        header = ChecksumDatabase.read(this.databasePath, records);
+
+        passStartedAt = header.passStartedAt();
+
+        if (passStartedAt == 0) {
+            passStartedAt = System.currentTimeMillis();
+        } //end if
+
+        passHeader = new ChecksumDatabase.Header(passStartedAt, header.passCompletedAt());
+
+        this.verifiedCount.set(0);
+
+        this.recordedCount.set(0);
+
+        this.corruptCount.set(0);
+
+        this.failedCount.set(0);
+
+        this.corruptAttachments.clear();
+
+        if (header.passStartedAt() != 0) {
+            this.resumeReport(passStartedAt);
+        } //end if
+
+        buffers = new ArrayBlockingQueue<>(this.parallelism);
+
+        for (int i = 0; i < this.parallelism; i++) {
+            buffers.add(ByteBuffer.allocateDirect(this.bufferSize));
+        } //end for
+
+        Files.createDirectories(this.databasePath.getParent());
+
+        threadCount = new AtomicInteger();
+
+        executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            String name = "hs-records-integrity-verifier-" + threadCount.incrementAndGet();
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        try {
+            this.verifyTree(passHeader, records, buffers, executor, progressConsumer, cancelled);
+        } catch (IOException | RuntimeException e) {
+            IntegrityVerifier.shutdown(executor);
+
+            try {
+                this.checkpoint(passHeader, records);
+            } catch (IOException writeException) {
+                e.addSuppressed(writeException);
+            } //end try catch
+
+            throw e;
+        } //end try catch
+
+        IntegrityVerifier.shutdown(executor);
+
+        this.removeMissing(records, passStartedAt);
+
+        passHeader = new ChecksumDatabase.Header(0, System.currentTimeMillis());
+
+        ChecksumDatabase.write(passHeader, records, this.databasePath);
+
+        report = this.newReport(passStartedAt, passHeader.passCompletedAt());
+
+        IntegrityReport.write(report, this.reportPath);
+
+        Files.deleteIfExists(this.passReportPath);
+
+        this.lastReport = report;
+
+        return report;
+    } //verify
+
+    /**
+     * Carries on the report of the pass that was started at the specified time, if it was saved, so the counts and
+     * the corrupt attachments of a pass that is resumed include those that were found before it was stopped. If the
+     * report cannot be read, the failure is logged, and the report starts over.
+     *
+     * @param passStartedAt the time at which the pass was started to be used in the operation
+     */
+    private void resumeReport(long passStartedAt) {
+        Optional<Report> optional;
+        Result result;
+
+        try {
+            optional = IntegrityReport.read(this.passReportPath);
+        } catch (IOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.INFO, exceptionMessage, e);
+
+            return;
+        } //end try catch
+
+        if (optional.isEmpty() || (optional.get()
+                                           .passStartedAt() != passStartedAt)) {
+            return;
+        } //end if
+
+        result = optional.get()
+                         .result();
+
+        this.verifiedCount.set(result.verifiedCount());
+
+        this.recordedCount.set(result.recordedCount());
+
+        this.corruptCount.set(result.corruptCount());
+
+        this.failedCount.set(result.failedCount());
+
+        this.corruptAttachments.addAll(result.corruptAttachments());
+    } //resumeReport
+
+    /**
+     * Saves the checksum database of the pass with the specified header, and the report of the pass so far.
+     *
+     * @param passHeader the header of the pass to be used in the operation
+     * @param records the records to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void checkpoint(ChecksumDatabase.Header passHeader,
+                            Map<Path, ChecksumDatabase.Record> records) throws IOException {
+        Report report;
+
+        ChecksumDatabase.write(passHeader, records, this.databasePath);
+
+        report = this.newReport(passHeader.passStartedAt(), 0);
+
+        IntegrityReport.write(report, this.passReportPath);
+    } //checkpoint
+
+    /**
+     * Returns a new report of the pass that was started and completed at the specified times, with the counts and the
+     * corrupt attachments of the current pass of this integrity verifier.
+     *
+     * @param passStartedAt the time at which the pass was started to be used in the operation
+     * @param passCompletedAt the time at which the pass was completed, or {@code 0}, to be used in the operation
+     * @return a new report of the pass that was started and completed at the specified times
+     */
+    private Report newReport(long passStartedAt, long passCompletedAt) {
+        List<Path> attachments;
+        Result result;
+
+        attachments = new ArrayList<>(this.corruptAttachments);
+
+        attachments.sort(null);
+
+        result = new Result(this.verifiedCount.get(), this.recordedCount.get(), this.corruptCount.get(),
+                            this.failedCount.get(), attachments);
+
+        return new Report(passStartedAt, passCompletedAt, result);
+    } //newReport
+
+    /**
+     * Walks the category tree of this integrity verifier with a {@link CategoryTreeWalker}, and verifies each
+     * attachment with the specified executor, on which the subcategory directories are also listed. At most four
+     * attachments per thread are waiting to be verified at any time, so the walk does not run ahead of the reads, and
+     * the checksum database is saved after each checkpoint interval.
+     *
+     * @param passHeader the header of the pass to be used in the operation
+     * @param records the records to be used in the operation
+     * @param buffers the buffers to be used in the operation
+     * @param executor the executor to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @throws CancellationException if the pass was cancelled
+     * @throws IOException if the category tree cannot be listed, or the checksum database cannot be written
+     */
+    private void verifyTree(ChecksumDatabase.Header passHeader, Map<Path, ChecksumDatabase.Record> records,
+                            BlockingQueue<ByteBuffer> buffers, ExecutorService executor,
+                            LongConsumer progressConsumer, BooleanSupplier cancelled) throws IOException {
+        Deque<CompletableFuture<Void>> pendingFutures;
+        int maxPending;
+        AtomicLong progress;
+        long[] checkpointAt = new long[1];
+
+        pendingFutures = new ArrayDeque<>();
+
+        maxPending = 4 * this.parallelism;
+
+        progress = new AtomicLong();
+
+        checkpointAt[0] = System.currentTimeMillis() + CHECKPOINT_INTERVAL;
+
+        CategoryTreeWalker.walk(this.root, executor, this.parallelism, AttachmentIndex::listAttachments, files -> {
+            for (Path file : files) {
+                if (cancelled.getAsBoolean()) {
+                    throw new CancellationException("the verification was cancelled");
+                } //end if
+
+                while (pendingFutures.size() >= maxPending) {
+                    AttachmentIndex.join(pendingFutures.removeFirst());
+                } //end while
+
+                if (System.currentTimeMillis() >= checkpointAt[0]) {
+                    this.checkpoint(passHeader, records);
+
+                    checkpointAt[0] = System.currentTimeMillis() + CHECKPOINT_INTERVAL;
+                } //end if
+
+                pendingFutures.addLast(CompletableFuture.runAsync(() -> {
+                    this.verifyFile(file, passHeader.passStartedAt(), records, buffers);
+
+                    progressConsumer.accept(progress.incrementAndGet());
+                }, executor));
+            } //end for
+        });
+
+        while (!pendingFutures.isEmpty()) {
+            AttachmentIndex.join(pendingFutures.removeFirst());
+        } //end while
+    } //verifyTree
+
+    /**
+     * Verifies the specified attachment against its record, unless it was already verified in the pass that was
+     * started at the specified time. The attributes of the attachment are read again after its contents, so one that is
+     * modified while it is read is left for the next pass rather than reported as corrupt. An attachment whose read is
+     * interrupted, because the pass is being stopped, is left unverified without being counted.
+     *
+     * @param file the attachment to be used in the operation
+     * @param passStartedAt the time at which the pass was started to be used in the operation
+     * @param records the records to be used in the operation
+     * @param buffers the buffers to be used in the operation
+     */
+    private void verifyFile(Path file, long passStartedAt, Map<Path, ChecksumDatabase.Record> records,
+                            BlockingQueue<ByteBuffer> buffers) {
+        Path attachment;
+        ChecksumDatabase.Record record;
+        BasicFileAttributes attributes;
+        int checksum;
+        long size;
+        long lastModified;
+        long now;
+        ChecksumDatabase.Record newRecord;
+
+        attachment = this.root.relativize(file);
+
+        record = records.get(attachment);
+
+        if ((record != null) && (record.verifiedAt() >= passStartedAt)) {
+            return;
+        } //end if
+
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+            size = attributes.size();
+
+            lastModified = attributes.lastModifiedTime()
+                                     .toMillis();
+
+            checksum = this.checksum(file, buffers);
+
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+            now = System.currentTimeMillis();
+
+            if ((attributes.size() != size) || (attributes.lastModifiedTime()
+                                                          .toMillis() != lastModified)) {
+                this.logger.log(Level.INFO, "the attachment {0} was modified while it was verified", file);
+
+                return;
+            } else if ((record == null) || (record.size() != size) || (record.lastModified() != lastModified)) {
+                newRecord = new ChecksumDatabase.Record(size, lastModified, checksum, now);
+
+                this.recordedCount.incrementAndGet();
+            } else if (record.checksum() == checksum) {
+                newRecord = new ChecksumDatabase.Record(size, lastModified, checksum, now);
+
+                this.verifiedCount.incrementAndGet();
+            } else {
+                newRecord = new ChecksumDatabase.Record(size, lastModified, record.checksum(), now);
+
+                this.logger.log(Level.WARNING, "the attachment {0} is corrupt as its checksum does not match", file);
+
+                this.corruptCount.incrementAndGet();
+
+                this.corruptAttachments.add(attachment);
+            } //end if
+
+            records.put(attachment, newRecord);
+        } catch (InterruptedIOException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } catch (IOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+
+            this.failedCount.incrementAndGet();
+        } //end try catch
+    } //verifyFile
+
+    /**
+     * Returns the CRC32C checksum of the contents of the specified file. The file is read into a buffer that is taken
+     * from the specified buffers, and given back once the file has been read, and each read is spent from the I/O
+     * budget of this integrity verifier.
+     *
+     * @param file the file to be used in the operation
+     * @param buffers the buffers to be used in the operation
+     * @return the CRC32C checksum of the contents of the specified file
+     * @throws IOException if an I/O error occurs
+     */
+    private int checksum(Path file, BlockingQueue<ByteBuffer> buffers) throws IOException {
+        CRC32C crc;
+        ByteBuffer buffer;
+        int byteCount;
+
+        crc = new CRC32C();
+
+        try {
+            buffer = buffers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+
+            throw new InterruptedIOException("the verification was interrupted");
+        } //end try catch
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer.clear();
+
+            while ((byteCount = channel.read(buffer)) != -1) {
+                this.budget.spend(byteCount);
+
+                buffer.flip();
+
+                crc.update(buffer);
+
+                buffer.clear();
+            } //end while
+        } finally {
+            buffers.add(buffer);
+        } //end try finally
+
+        return (int) crc.getValue();
+    } //checksum
+
+    /**
+     * Removes the records of the attachments that were not verified in the pass that was started at the specified
+     * time, and no longer exist.
+     *
+     * @param records the records to be used in the operation
+     * @param passStartedAt the time at which the pass was started to be used in the operation
+     */
+    private void removeMissing(Map<Path, ChecksumDatabase.Record> records, long passStartedAt) {
+        Path file;
+
+        for (Map.Entry<Path, ChecksumDatabase.Record> mapping : records.entrySet()) {
+            if (mapping.getValue()
+                       .verifiedAt() >= passStartedAt) {
+                continue;
+            } //end if
+
+            file = this.root.resolve(mapping.getKey());
+
+            if (Files.notExists(file)) {
+                records.remove(mapping.getKey());
+
+                this.logger.log(Level.INFO, "the checksum of {0} was removed as it no longer exists", file);
+            } //end if
+        } //end for
+    } //removeMissing
+
+    /**
+     * Shuts down the specified executor, and waits for the attachments that are being verified to finish.
+     *
+     * @param executor the executor to be used in the operation
+     */
+    private static void shutdown(ExecutorService executor) {
+        executor.shutdownNow();
+
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } //end try catch
+    } //shutdown
+
+    /**
+     * Stops the schedule of this integrity verifier, and any requested pass. If a pass that is running does not
+     * complete before the application exits, it is resumed from its last checkpoint by the next verifier that is
+     * started.
+     */
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+
+        this.requestExecutor.shutdownNow();
+    } //close
+}
\ No newline at end of file
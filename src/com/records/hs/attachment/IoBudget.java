@@ -0,0 +1,95 @@
+package com.records.hs.attachment;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A budget of the bytes that may be read per second in the HS Records application, shared by the threads that read
+ * under it. The bytes of each read are spent in turn, and a thread whose bytes go over the budget waits until they
+ * fit, so the threads together never read faster than the budget, however many of them there are. Time that is not
+ * used is not saved up, so the reads do not burst after an idle period.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class IoBudget {
+    /**
+     * The number of nanoseconds in a second.
+     */
+    private static final double NANOS_PER_SECOND;
+
+    /**
+     * The number of nanoseconds that each byte of this I/O budget takes.
+     */
+    private final double nanosPerByte;
+
+    /**
+     * The time at which the bytes spent so far from this I/O budget fit within it, in the nanoseconds of
+     * {@link System#nanoTime()}.
+     */
+    private long nextNanos;
+
+    static {
+        NANOS_PER_SECOND = 1_000_000_000.0;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code IoBudget} object with the specified number of bytes per second.
+     *
+     * @param bytesPerSecond the number of bytes per second to be used in construction
+     */
+    private IoBudget(long bytesPerSecond) {
+        this.nanosPerByte = NANOS_PER_SECOND / bytesPerSecond;
+        this.nextNanos = System.nanoTime();
+    } //IoBudget
+
+    /**
+     * Returns a new {@code IoBudget} object with the specified number of bytes per second.
+     *
+     * @param bytesPerSecond the number of bytes per second to be used in the operation
+     * @return a new {@code IoBudget} object with the specified number of bytes per second
+     * @throws IllegalArgumentException if the specified number of bytes per second is not positive
+     */
+    static IoBudget newIoBudget(long bytesPerSecond) {
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("the specified number of bytes per second is not positive");
+        } //end if
+
+        return new IoBudget(bytesPerSecond);
+    } //newIoBudget
+
+    /**
+     * Spends the specified number of bytes of this I/O budget, waiting until the budget allows them to be read.
+     *
+     * @param byteCount the number of bytes to be used in the operation
+     * @throws InterruptedIOException if the calling thread is interrupted while it waits
+     */
+    void spend(long byteCount) throws InterruptedIOException {
+        long now;
+        long start;
+        long waitNanos;
+
+        synchronized (this) {
+            now = System.nanoTime();
+
+            start = Math.max(now, this.nextNanos);
+
+            this.nextNanos = start + (long) (byteCount * this.nanosPerByte);
+
+            waitNanos = start - now;
+        } //end synchronized
+
+        if (waitNanos <= 0) {
+            return;
+        } //end if
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+
+            throw new InterruptedIOException("the read was interrupted");
+        } //end try catch
+    } //spend
+}
\ No newline at end of file
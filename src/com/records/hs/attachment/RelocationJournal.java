@@ -0,0 +1,233 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.io.IOException;
+import java.util.Objects;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.zip.Checksum;
+import java.util.zip.CRC32C;
+import java.io.DataInputStream;
+import java.util.zip.CheckedInputStream;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.DataOutputStream;
+import java.util.zip.CheckedOutputStream;
+import java.io.BufferedOutputStream;
+import com.records.hs.util.Utilities;
+
+/**
+ * A set of methods for reading and writing the relocation journal of the HS Records application. The journal holds the
+ * relocations of attachment directories that have been requested but have not completed, in the order they were
+ * requested, so that a relocation that was interrupted can be resumed. The journal is kept in a hidden file in the
+ * root directory of the category tree, and the file is deleted once every relocation has completed.
+ *
+ * <p>The file starts with a magic number and a version, followed by the number of relocations. Each relocation is its
+ * source and target directories, each of which is the number of its names followed by the names, relative to the root
+ * directory. The file ends with a CRC32C checksum of everything before it.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class RelocationJournal {
+    /**
+     * The name of the relocation journal file.
+     */
+    static final String FILE_NAME;
+
+    /**
+     * The magic number of the relocation journal file.
+     */
+    private static final int MAGIC;
+
+    /**
+     * The version of the relocation journal file.
+     */
+    private static final short VERSION;
+
+    /**
+     * The buffer size of the relocation journal file.
+     */
+    private static final int BUFFER_SIZE;
+
+    static {
+        FILE_NAME = ".relocations.bin";
+
+        MAGIC = 0x4853524A;
+
+        VERSION = 1;
+
+        BUFFER_SIZE = 8192;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code RelocationJournal} object.
+     *
+     * @throws AssertionError if an object of type {@code RelocationJournal} attempts to be instantiated
+     */
+    private RelocationJournal() {
+        throw new AssertionError("an object of type RelocationJournal cannot be instantiated");
+    } //RelocationJournal
+
+    /**
+     * Reads the relocations saved in the journal file at the specified path. If the file does not exist, a new, empty
+     * list is returned. The returned list is modifiable.
+     *
+     * @param path the path to be used in the operation
+     * @return the relocations saved in the journal file at the specified path
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IOException if the file exists but could not be read, or is corrupt
+     */
+    static List<AttachmentRelocator.Relocation> read(Path path) throws IOException {
+        Checksum checksum;
+        int relocationCount;
+        List<AttachmentRelocator.Relocation> relocations;
+        Path source;
+        Path target;
+        int expectedChecksum;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        relocations = new ArrayList<>();
+
+        if (Files.notExists(path)) {
+            return relocations;
+        } //end if
+
+        checksum = new CRC32C();
+
+        try (DataInputStream inputStream = new DataInputStream(new CheckedInputStream(new BufferedInputStream(
+                Files.newInputStream(path), BUFFER_SIZE), checksum))) {
+            if ((inputStream.readInt() != MAGIC) || (inputStream.readShort() != VERSION)) {
+                throw new IOException("the relocation journal file is not supported");
+            } //end if
+
+            relocationCount = inputStream.readInt();
+
+            for (int i = 0; i < relocationCount; i++) {
+                source = RelocationJournal.readPath(inputStream);
+
+                target = RelocationJournal.readPath(inputStream);
+
+                relocations.add(new AttachmentRelocator.Relocation(source, target));
+            } //end for
+
+            expectedChecksum = (int) checksum.getValue();
+
+            if (inputStream.readInt() != expectedChecksum) {
+                throw new IOException("the checksum of the relocation journal file does not match");
+            } //end if
+        } catch (EOFException e) {
+            throw new IOException("the relocation journal file is truncated", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("the relocation journal file is corrupt", e);
+        } //end try catch
+
+        return relocations;
+    } //read
+
+    /**
+     * Reads a relative path from the specified input stream.
+     *
+     * @param inputStream the input stream to be used in the operation
+     * @return the relative path that was read from the specified input stream
+     * @throws IOException if an I/O error occurs, or the path has no names
+     */
+    static Path readPath(DataInputStream inputStream) throws IOException {
+        int nameCount;
+        String first;
+        String[] more;
+
+        nameCount = inputStream.readUnsignedShort();
+
+        if (nameCount == 0) {
+            throw new IOException("the relocation journal file is corrupt");
+        } //end if
+
+        first = inputStream.readUTF();
+
+        more = new String[nameCount - 1];
+
+        for (int i = 0; i < more.length; i++) {
+            more[i] = inputStream.readUTF();
+        } //end for
+
+        return Path.of(first, more);
+    } //readPath
+
+    /**
+     * Writes the specified relocations to the journal file at the specified path, by way of a temporary file. If the
+     * specified list of relocations is empty, the journal file is deleted instead.
+     *
+     * @param relocations the relocations to be used in the operation
+     * @param path the path to be used in the operation
+     * @throws NullPointerException if the specified list of relocations or path is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    static void write(List<AttachmentRelocator.Relocation> relocations, Path path) throws IOException {
+        Path temporaryPath;
+        Checksum checksum;
+
+        Objects.requireNonNull(relocations, "the specified list of relocations is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        if (relocations.isEmpty()) {
+            Files.deleteIfExists(path);
+
+            return;
+        } //end if
+
+        temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        checksum = new CRC32C();
+
+        try (DataOutputStream outputStream = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryPath), BUFFER_SIZE), checksum))) {
+            outputStream.writeInt(MAGIC);
+
+            outputStream.writeShort(VERSION);
+
+            outputStream.writeInt(relocations.size());
+
+            for (AttachmentRelocator.Relocation relocation : relocations) {
+                RelocationJournal.writePath(outputStream, relocation.source());
+
+                RelocationJournal.writePath(outputStream, relocation.target());
+            } //end for
+
+            outputStream.writeInt((int) checksum.getValue());
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryPath);
+
+            throw e;
+        } //end try catch
+
+        Utilities.replaceFile(temporaryPath, path);
+    } //write
+
+    /**
+     * Writes the specified relative path to the specified output stream, one name at a time, so the journal file does
+     * not depend on the name separator of the file system.
+     *
+     * @param outputStream the output stream to be used in the operation
+     * @param path the path to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    static void writePath(DataOutputStream outputStream, Path path) throws IOException {
+        int nameCount;
+        String name;
+
+        nameCount = path.getNameCount();
+
+        outputStream.writeShort(nameCount);
+
+        for (int i = 0; i < nameCount; i++) {
+            name = path.getName(i)
+                       .toString();
+
+            outputStream.writeUTF(name);
+        } //end for
+    } //writePath
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+package com.records.hs.attachment;
+
+import java.util.List;
+import com.records.hs.model.Entry;
+import java.io.IOException;
+import com.records.hs.model.Type;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.Objects;
+import com.records.hs.util.Settings;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.ArrayList;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.logging.Level;
+
+/**
+ * A reader of the entries of a scan tree in the HS Records application. A scan tree is a category tree of attachments
+ * that have no records yet. The entry of each attachment {@code CATEGORY/SUBCATEGORY/ID.tif} is inferred from its
+ * path, and has the type given to the reader and no tags.
+ *
+ * <p>The tree is walked by a {@link CategoryTreeWalker}, like the category tree of an {@link AttachmentIndex}, over a
+ * bounded pool of threads. The entries of each subcategory directory are passed on as one batch, in the order the
+ * subcategory directories were found, while the later ones are still being listed. An attachment whose path is not the one its entry would have, such as one
+ * whose name is not in upper case, is skipped and logged, so every entry that is read has an attachment.</p>
+ *
+ * <p>A reader can only be used once.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ScanTreeReader {
+    /**
+     * A consumer of the batches of entries read by a scan tree reader.
+     */
+    @FunctionalInterface
+    public interface BatchConsumer {
+        /**
+         * Accepts the specified batch of entries.
+         *
+         * @param entries the entries to be used in the operation
+         * @throws IOException if the entries cannot be accepted
+         */
+        void accept(List<Entry> entries) throws IOException;
+    } //BatchConsumer
+
+    /**
+     * The type of the entries of this scan tree reader.
+     */
+    private final Type type;
+
+    /**
+     * The root directory of this scan tree reader.
+     */
+    private final Path root;
+
+    /**
+     * The parallelism of this scan tree reader.
+     */
+    private final int parallelism;
+
+    /**
+     * The number of attachments that were skipped by this scan tree reader.
+     */
+    private final AtomicLong skippedCount;
+
+    /**
+     * The logger of this scan tree reader.
+     */
+    private final Logger logger;
+
+    /**
+     * Constructs a newly allocated {@code ScanTreeReader} object with the specified type, root directory, and
+     * parallelism.
+     *
+     * @param type the type to be used in construction
+     * @param root the root directory to be used in construction
+     * @param parallelism the parallelism to be used in construction
+     */
+    private ScanTreeReader(Type type, Path root, int parallelism) {
+        this.type = type;
+        this.root = root;
+        this.parallelism = parallelism;
+        this.skippedCount = new AtomicLong();
+        this.logger = Logger.getGlobal();
+    } //ScanTreeReader
+
+    /**
+     * Returns a new {@code ScanTreeReader} object with the specified type, root directory, and parallelism.
+     *
+     * @param type the type to be used in the operation
+     * @param root the root directory to be used in the operation
+     * @param parallelism the parallelism to be used in the operation
+     * @return a new {@code ScanTreeReader} object with the specified type, root directory, and parallelism
+     * @throws NullPointerException if the specified type or root directory is {@code null}
+     * @throws IllegalArgumentException if the specified parallelism is not positive
+     */
+    public static ScanTreeReader newScanTreeReader(Type type, Path root, int parallelism) {
+        Objects.requireNonNull(type, "the specified type is null");
+
+        Objects.requireNonNull(root, "the specified root directory is null");
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("the specified parallelism is not positive");
+        } //end if
+
+        return new ScanTreeReader(type, root, parallelism);
+    } //newScanTreeReader
+
+    /**
+     * Returns a new {@code ScanTreeReader} object with the specified type, whose root directory is the working
+     * directory, and whose parallelism is taken from the {@code attachments.parallelism} setting.
+     *
+     * @param type the type to be used in the operation
+     * @return a new {@code ScanTreeReader} object with the specified type
+     * @throws NullPointerException if the specified type is {@code null}
+     */
+    public static ScanTreeReader newScanTreeReader(Type type) {
+        Path root;
+        int parallelism;
+
+        root = Path.of("");
+
+        parallelism = Settings.getPositiveInt(AttachmentIndex.PARALLELISM_KEY, AttachmentIndex.DEFAULT_PARALLELISM);
+
+        return ScanTreeReader.newScanTreeReader(type, root, parallelism);
+    } //newScanTreeReader
+
+    /**
+     * Returns the number of attachments that were skipped by this scan tree reader, because their paths are not the
+     * ones their entries would have.
+     *
+     * @return the number of attachments that were skipped by this scan tree reader
+     */
+    public long getSkippedCount() {
+        return this.skippedCount.get();
+    } //getSkippedCount
+
+    /**
+     * Reads the entries of the scan tree of this scan tree reader, passing the entries of each subcategory directory
+     * that has any to the specified consumer, on the calling thread. If the consumer throws an exception, the walk is
+     * stopped and the exception is rethrown.
+     *
+     * @param consumer the consumer to be used in the operation
+     * @throws NullPointerException if the specified consumer is {@code null}
+     * @throws IOException if a directory cannot be listed, or the consumer cannot accept a batch
+     */
+    public void read(BatchConsumer consumer) throws IOException {
+        AtomicInteger threadCount;
+        ExecutorService executor;
+
+        Objects.requireNonNull(consumer, "the specified consumer is null");
+
+        threadCount = new AtomicInteger();
+
+        executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            String name = "hs-records-scan-tree-reader-" + threadCount.incrementAndGet();
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        try {
+            CategoryTreeWalker.walk(this.root, executor, this.parallelism, this::readSubcategory, entries -> {
+                if (!entries.isEmpty()) {
+                    consumer.accept(entries);
+                } //end if
+            });
+        } finally {
+            executor.shutdownNow();
+        } //end try finally
+    } //read
+
+    /**
+     * Returns the entries of the attachments in the specified subcategory directory.
+     *
+     * @param directory the subcategory directory to be used in the operation
+     * @return the entries of the attachments in the specified subcategory directory
+     * @throws IOException if an I/O error occurs
+     */
+    private List<Entry> readSubcategory(Path directory) throws IOException {
+        String category;
+        String subcategory;
+        List<Entry> entries;
+        String fileName;
+        String id;
+        Entry entry;
+        Path expectedPath;
+
+        category = directory.getParent()
+                            .getFileName()
+                            .toString();
+
+        subcategory = directory.getFileName()
+                               .toString();
+
+        entries = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + AttachmentIndex.EXTENSION)) {
+            for (Path path : stream) {
+                fileName = path.getFileName()
+                               .toString();
+
+                id = fileName.substring(0, fileName.length() - AttachmentIndex.EXTENSION.length());
+
+                entry = new Entry(id, this.type, category, subcategory, Set.of());
+
+                expectedPath = this.root.resolve(AttachmentIndex.getAttachmentPath(entry));
+
+                if (id.isEmpty() || !expectedPath.equals(path)) {
+                    this.logger.log(Level.INFO, "the attachment {0} was skipped as its path is not in upper case",
+                                    path);
+
+                    this.skippedCount.incrementAndGet();
+
+                    continue;
+                } //end if
+
+                entries.add(entry);
+            } //end for
+        } //end try
+
+        return entries;
+    } //readSubcategory
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.nio.file.Files;
+import java.util.zip.Checksum;
+import java.util.zip.CRC32C;
+import java.io.DataInputStream;
+import java.util.zip.CheckedInputStream;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.DataOutputStream;
+import java.util.zip.CheckedOutputStream;
+import java.io.BufferedOutputStream;
+import com.records.hs.util.Utilities;
+
+/**
+ * A set of methods for reading and writing the manifest of the content store of the HS Records application. The
+ * manifest maps the path of each attachment that was migrated to the store, relative to the root directory, to the
+ * digest of its contents, under which the contents are stored.
+ *
+ * <p>The file starts with a magic number and a version, followed by the number of attachments. Each attachment is its
+ * path, written like a path of the relocation journal, followed by its digest in hexadecimal. The file ends with a
+ * CRC32C checksum of everything before it.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class StoreManifest {
+    /**
+     * The magic number of the manifest file.
+     */
+    private static final int MAGIC;
+
+    /**
+     * The version of the manifest file.
+     */
+    private static final short VERSION;
+
+    /**
+     * The buffer size of the manifest file.
+     */
+    private static final int BUFFER_SIZE;
+
+    static {
+        MAGIC = 0x48534D46;
+
+        VERSION = 1;
+
+        BUFFER_SIZE = 65536;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code StoreManifest} object.
+     *
+     * @throws AssertionError if an object of type {@code StoreManifest} attempts to be instantiated
+     */
+    private StoreManifest() {
+        throw new AssertionError("an object of type StoreManifest cannot be instantiated");
+    } //StoreManifest
+
+    /**
+     * Reads the digests saved in the manifest file at the specified path, mapped from the paths of their attachments.
+     * If the file does not exist, a new, empty map is returned. The returned map is modifiable.
+     *
+     * @param path the path to be used in the operation
+     * @return the digests saved in the manifest file at the specified path, mapped from the paths of their attachments
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IOException if the file exists but could not be read, or is corrupt
+     */
+    static Map<Path, String> read(Path path) throws IOException {
+        Map<Path, String> pathsToDigests;
+        Checksum checksum;
+        int attachmentCount;
+        Path attachment;
+        String digest;
+        int expectedChecksum;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        pathsToDigests = new TreeMap<>();
+
+        if (Files.notExists(path)) {
+            return pathsToDigests;
+        } //end if
+
+        checksum = new CRC32C();
+
+        try (DataInputStream inputStream = new DataInputStream(new CheckedInputStream(new BufferedInputStream(
+                Files.newInputStream(path), BUFFER_SIZE), checksum))) {
+            if ((inputStream.readInt() != MAGIC) || (inputStream.readShort() != VERSION)) {
+                throw new IOException("the manifest file is not supported");
+            } //end if
+
+            attachmentCount = inputStream.readInt();
+
+            for (int i = 0; i < attachmentCount; i++) {
+                attachment = RelocationJournal.readPath(inputStream);
+
+                digest = inputStream.readUTF();
+
+                pathsToDigests.put(attachment, digest);
+            } //end for
+
+            expectedChecksum = (int) checksum.getValue();
+
+            if (inputStream.readInt() != expectedChecksum) {
+                throw new IOException("the checksum of the manifest file does not match");
+            } //end if
+        } catch (EOFException e) {
+            throw new IOException("the manifest file is truncated", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("the manifest file is corrupt", e);
+        } //end try catch
+
+        return pathsToDigests;
+    } //read
+
+    /**
+     * Writes the specified digests, mapped from the paths of their attachments, to the manifest file at the specified
+     * path, by way of a temporary file.
+     *
+     * @param pathsToDigests the digests, mapped from the paths of their attachments, to be used in the operation
+     * @param path the path to be used in the operation
+     * @throws NullPointerException if the specified map of digests or path is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    static void write(Map<Path, String> pathsToDigests, Path path) throws IOException {
+        Path temporaryPath;
+        Checksum checksum;
+
+        Objects.requireNonNull(pathsToDigests, "the specified map of digests is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        checksum = new CRC32C();
+
+        try (DataOutputStream outputStream = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryPath), BUFFER_SIZE), checksum))) {
+            outputStream.writeInt(MAGIC);
+
+            outputStream.writeShort(VERSION);
+
+            outputStream.writeInt(pathsToDigests.size());
+
+            for (Map.Entry<Path, String> mapping : pathsToDigests.entrySet()) {
+                RelocationJournal.writePath(outputStream, mapping.getKey());
+
+                outputStream.writeUTF(mapping.getValue());
+            } //end for
+
+            outputStream.writeInt((int) checksum.getValue());
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryPath);
+
+            throw e;
+        } //end try catch
+
+        Utilities.replaceFile(temporaryPath, path);
+    } //write
+}
\ No newline at end of file
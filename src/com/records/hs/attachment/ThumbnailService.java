@@ -0,0 +1,632 @@
+package com.records.hs.attachment;
+
+import java.nio.file.Path;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Logger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executors;
+import java.util.Objects;
+import com.records.hs.util.Settings;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.Files;
+import javax.imageio.ImageIO;
+import java.util.logging.Level;
+import javax.imageio.stream.ImageInputStream;
+import java.util.Iterator;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageReadParam;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import com.records.hs.util.Utilities;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * A thumbnail service in the HS Records application. Thumbnails of attachments are decoded with {@link ImageIO} on a
+ * bounded pool of worker threads. Only every n-th row and column of an attachment is decoded, so that the decoded
+ * image is no more than twice the size of the thumbnail, which is then scaled to fit.
+ *
+ * <p>Thumbnails are cached at two tiers, both of which are keyed by the path and last modified time of the attachment,
+ * so a thumbnail is decoded again once its attachment has changed. The first tier is an in-memory least recently used
+ * cache, which is capped by the size of its thumbnails in bytes. The second tier is a persistent cache of PNG files in
+ * the hidden {@code .thumbnails} directory of the root directory, whose keys also include the size of the thumbnail.
+ * The persistent cache is capped by the size of its files in bytes. Once it grows beyond its capacity, the files that
+ * were least recently used are deleted on a worker thread, until it is down to three quarters of its capacity. The
+ * last modified time of a file is updated whenever it is read, so it records when the file was last used.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ThumbnailService {
+    /**
+     * The key of the setting that determines the size of a thumbnail, in pixels.
+     */
+    private static final String SIZE_KEY;
+
+    /**
+     * The key of the setting that determines the number of threads that decode thumbnails.
+     */
+    private static final String PARALLELISM_KEY;
+
+    /**
+     * The key of the setting that determines the size of the in-memory cache, in bytes.
+     */
+    private static final String CACHE_SIZE_KEY;
+
+    /**
+     * The key of the setting that determines the size of the persistent cache, in bytes.
+     */
+    private static final String DISK_CACHE_SIZE_KEY;
+
+    /**
+     * The default size of a thumbnail, in pixels.
+     */
+    private static final int DEFAULT_SIZE;
+
+    /**
+     * The default number of threads that decode thumbnails.
+     */
+    private static final int DEFAULT_PARALLELISM;
+
+    /**
+     * The default size of the in-memory cache, in bytes.
+     */
+    private static final int DEFAULT_CACHE_SIZE;
+
+    /**
+     * The default size of the persistent cache, in bytes.
+     */
+    private static final int DEFAULT_DISK_CACHE_SIZE;
+
+    /**
+     * The name of the directory of the persistent cache.
+     */
+    private static final String CACHE_DIRECTORY_NAME;
+
+    /**
+     * The name of the format of the files of the persistent cache.
+     */
+    private static final String FORMAT_NAME;
+
+    /**
+     * The root directory of this thumbnail service.
+     */
+    private final Path root;
+
+    /**
+     * The directory of the persistent cache of this thumbnail service.
+     */
+    private final Path cacheDirectory;
+
+    /**
+     * The size of the thumbnails of this thumbnail service, in pixels.
+     */
+    private final int size;
+
+    /**
+     * The capacity of the persistent cache of this thumbnail service, in bytes.
+     */
+    private final long diskCacheSize;
+
+    /**
+     * The in-memory cache of this thumbnail service.
+     */
+    private final ImageCache<CacheKey> cachedThumbnails;
+
+    /**
+     * The thumbnails of this thumbnail service that are being loaded.
+     */
+    private final Map<Path, CompletableFuture<BufferedImage>> pendingThumbnails;
+
+    /**
+     * The executor of this thumbnail service.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The number of bytes in the persistent cache of this thumbnail service, as of its last pruning, plus the bytes
+     * written since then.
+     */
+    private final AtomicLong diskByteCount;
+
+    /**
+     * Whether the persistent cache of this thumbnail service is being pruned.
+     */
+    private final AtomicBoolean pruning;
+
+    /**
+     * The logger of this thumbnail service.
+     */
+    private final Logger logger;
+
+    /**
+     * The key of a thumbnail in the in-memory cache of a thumbnail service.
+     *
+     * @param attachment the path of the attachment of the thumbnail
+     * @param modifiedTime the last modified time of the attachment, in milliseconds since the epoch
+     */
+    private record CacheKey(Path attachment, long modifiedTime) {
+    } //CacheKey
+
+    static {
+        SIZE_KEY = "thumbnails.size";
+
+        PARALLELISM_KEY = "thumbnails.parallelism";
+
+        CACHE_SIZE_KEY = "thumbnails.cacheSize";
+
+        DISK_CACHE_SIZE_KEY = "thumbnails.diskCacheSize";
+
+        DEFAULT_SIZE = 64;
+
+        DEFAULT_PARALLELISM = 2;
+
+        DEFAULT_CACHE_SIZE = 33_554_432;
+
+        DEFAULT_DISK_CACHE_SIZE = 268_435_456;
+
+        CACHE_DIRECTORY_NAME = ".thumbnails";
+
+        FORMAT_NAME = "png";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ThumbnailService} object with the specified root directory, size,
+     * parallelism, cache size, and disk cache size.
+     *
+     * @param root the root directory to be used in construction
+     * @param size the size to be used in construction
+     * @param parallelism the parallelism to be used in construction
+     * @param cacheSize the cache size to be used in construction
+     * @param diskCacheSize the disk cache size to be used in construction
+     */
+    private ThumbnailService(Path root, int size, int parallelism, long cacheSize, long diskCacheSize) {
+        AtomicInteger threadCount = new AtomicInteger();
+
+        this.root = root;
+        this.cacheDirectory = root.resolve(CACHE_DIRECTORY_NAME);
+        this.size = size;
+        this.diskCacheSize = diskCacheSize;
+        this.cachedThumbnails = new ImageCache<>(cacheSize);
+        this.pendingThumbnails = new ConcurrentHashMap<>();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            String name = "hs-records-thumbnails-" + threadCount.incrementAndGet();
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.diskByteCount = new AtomicLong();
+        this.pruning = new AtomicBoolean();
+        this.logger = Logger.getGlobal();
+    } //ThumbnailService
+
+    /**
+     * Returns a new {@code ThumbnailService} object with the specified root directory, size, parallelism, cache size,
+     * and disk cache size. The persistent cache is pruned to fit its capacity on a worker thread.
+     *
+     * @param root the root directory to be used in the operation
+     * @param size the size of a thumbnail, in pixels, to be used in the operation
+     * @param parallelism the parallelism to be used in the operation
+     * @param cacheSize the size of the in-memory cache, in bytes, to be used in the operation
+     * @param diskCacheSize the size of the persistent cache, in bytes, to be used in the operation
+     * @return a new {@code ThumbnailService} object with the specified root directory, size, parallelism, cache size,
+     * and disk cache size
+     * @throws NullPointerException if the specified root directory is {@code null}
+     * @throws IllegalArgumentException if the specified size, parallelism, cache size, or disk cache size is not
+     * positive
+     */
+    public static ThumbnailService newThumbnailService(Path root, int size, int parallelism, long cacheSize,
+                                                       long diskCacheSize) {
+        ThumbnailService thumbnailService;
+
+        Objects.requireNonNull(root, "the specified root directory is null");
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("the specified size is not positive");
+        } //end if
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("the specified parallelism is not positive");
+        } //end if
+
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("the specified cache size is not positive");
+        } //end if
+
+        if (diskCacheSize <= 0) {
+            throw new IllegalArgumentException("the specified disk cache size is not positive");
+        } //end if
+
+        thumbnailService = new ThumbnailService(root, size, parallelism, cacheSize, diskCacheSize);
+
+        thumbnailService.pruning.set(true);
+
+        thumbnailService.executor.execute(thumbnailService::prune);
+
+        return thumbnailService;
+    } //newThumbnailService
+
+    /**
+     * Returns a new {@code ThumbnailService} object whose root directory is the working directory, and whose size,
+     * parallelism, cache size, and disk cache size are taken from the {@code thumbnails.size},
+     * {@code thumbnails.parallelism}, {@code thumbnails.cacheSize}, and {@code thumbnails.diskCacheSize} settings.
+     *
+     * @return a new {@code ThumbnailService} object whose root directory is the working directory
+     */
+    public static ThumbnailService newThumbnailService() {
+        Path root;
+        int size;
+        int parallelism;
+        int cacheSize;
+        int diskCacheSize;
+
+        root = Path.of("");
+
+        size = Settings.getPositiveInt(SIZE_KEY, DEFAULT_SIZE);
+
+        parallelism = Settings.getPositiveInt(PARALLELISM_KEY, DEFAULT_PARALLELISM);
+
+        cacheSize = Settings.getPositiveInt(CACHE_SIZE_KEY, DEFAULT_CACHE_SIZE);
+
+        diskCacheSize = Settings.getPositiveInt(DISK_CACHE_SIZE_KEY, DEFAULT_DISK_CACHE_SIZE);
+
+        return ThumbnailService.newThumbnailService(root, size, parallelism, cacheSize, diskCacheSize);
+    } //newThumbnailService
+
+    /**
+     * Returns the size of the thumbnails of this thumbnail service, in pixels. Thumbnails fit in a square of this
+     * size.
+     *
+     * @return the size of the thumbnails of this thumbnail service
+     */
+    public int getSize() {
+        return this.size;
+    } //getSize
+
+    /**
+     * Returns the thumbnail of the attachment at the specified path, relative to the root directory of this thumbnail
+     * service. The thumbnail is loaded on a worker thread, since the last modified time of the attachment has to be
+     * read first, from the in-memory cache or the persistent cache if possible. If the attachment does not exist or
+     * cannot be decoded, the returned future completes exceptionally with an {@link UncheckedIOException}.
+     *
+     * @param attachment the path of the attachment to be used in the operation
+     * @return a future that completes with the thumbnail of the attachment at the specified path
+     * @throws NullPointerException if the specified path is {@code null}
+     */
+    public CompletableFuture<BufferedImage> getThumbnail(Path attachment) {
+        CompletableFuture<BufferedImage> future;
+
+        Objects.requireNonNull(attachment, "the specified path is null");
+
+        future = this.pendingThumbnails.computeIfAbsent(attachment, key -> CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.loadThumbnail(key);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor));
+
+        future.whenComplete((loadedThumbnail, throwable) -> this.pendingThumbnails.remove(attachment, future));
+
+        return future;
+    } //getThumbnail
+
+    /**
+     * Loads the thumbnail of the attachment at the specified path. The thumbnail is taken from the in-memory cache if
+     * it is there. Otherwise, it is read from the persistent cache if it is there, and is otherwise decoded from the
+     * attachment and written to the persistent cache, and is then put into the in-memory cache.
+     *
+     * @param attachment the path of the attachment to be used in the operation
+     * @return the thumbnail of the attachment at the specified path
+     * @throws IOException if the attachment does not exist or cannot be decoded
+     */
+    private BufferedImage loadThumbnail(Path attachment) throws IOException {
+        Path path;
+        FileTime modifiedTime;
+        CacheKey key;
+        BufferedImage thumbnail;
+        Path cachePath;
+
+        path = this.root.resolve(attachment);
+
+        modifiedTime = Files.getLastModifiedTime(path);
+
+        key = new CacheKey(attachment, modifiedTime.toMillis());
+
+        thumbnail = this.cachedThumbnails.get(key);
+
+        if (thumbnail != null) {
+            return thumbnail;
+        } //end if
+
+        cachePath = this.getCachePath(attachment, modifiedTime);
+
+        if (Files.exists(cachePath)) {
+            try {
+                thumbnail = ImageIO.read(cachePath.toFile());
+
+                Files.setLastModifiedTime(cachePath, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException e) {
+                String exceptionMessage = e.getMessage();
+
+                this.logger.log(Level.INFO, exceptionMessage, e);
+            } //end try catch
+        } //end if
+
+        if (thumbnail == null) {
+            thumbnail = this.decodeThumbnail(path);
+
+            this.writeCachedThumbnail(cachePath, thumbnail);
+        } //end if
+
+        this.cachedThumbnails.put(key, thumbnail);
+
+        return thumbnail;
+    } //loadThumbnail
+
+    /**
+     * Decodes the thumbnail of the image at the specified path. The image is subsampled while it is decoded, so that
+     * the decoded image is at most twice the size of the thumbnail, and is then scaled to fit the thumbnail.
+     *
+     * @param path the path to be used in the operation
+     * @return the thumbnail of the image at the specified path
+     * @throws IOException if the image cannot be decoded
+     */
+    private BufferedImage decodeThumbnail(Path path) throws IOException {
+        Iterator<ImageReader> readers;
+        ImageReader reader;
+        int width;
+        int height;
+        int subsampling;
+        ImageReadParam readParam;
+        BufferedImage image;
+
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(path.toFile())) {
+            if (inputStream == null) {
+                throw new IOException("the attachment could not be opened");
+            } //end if
+
+            readers = ImageIO.getImageReaders(inputStream);
+
+            if (!readers.hasNext()) {
+                throw new IOException("the attachment is not in a supported image format");
+            } //end if
+
+            reader = readers.next();
+
+            try {
+                reader.setInput(inputStream, true, true);
+
+                width = reader.getWidth(0);
+
+                height = reader.getHeight(0);
+
+                subsampling = Math.max(Math.max(width, height) / (2 * this.size), 1);
+
+                readParam = reader.getDefaultReadParam();
+
+                readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                image = reader.read(0, readParam);
+            } finally {
+                reader.dispose();
+            } //end try finally
+        } //end try
+
+        return this.scale(image);
+    } //decodeThumbnail
+
+    /**
+     * Scales the specified image to fit the thumbnails of this thumbnail service, keeping its aspect ratio. Images
+     * that already fit are not enlarged.
+     *
+     * @param image the image to be used in the operation
+     * @return the scaled image
+     */
+    private BufferedImage scale(BufferedImage image) {
+        double scale;
+        int width;
+        int height;
+        BufferedImage thumbnail;
+        Graphics2D graphics;
+
+        scale = Math.min((double) this.size / Math.max(image.getWidth(), image.getHeight()), 1.0);
+
+        width = Math.max((int) Math.round(image.getWidth() * scale), 1);
+
+        height = Math.max((int) Math.round(image.getHeight() * scale), 1);
+
+        thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        graphics = thumbnail.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        } //end try finally
+
+        return thumbnail;
+    } //scale
+
+    /**
+     * Returns the path of the file in the persistent cache of this thumbnail service for the attachment at the
+     * specified path with the specified last modified time. The name of the file is a UUID derived from the path,
+     * the last modified time, and the size of the thumbnails, and the files are spread over subdirectories named by
+     * the first two characters of their names.
+     *
+     * @param attachment the path of the attachment to be used in the operation
+     * @param modifiedTime the last modified time to be used in the operation
+     * @return the path of the file in the persistent cache for the attachment at the specified path
+     */
+    private Path getCachePath(Path attachment, FileTime modifiedTime) {
+        String key;
+        byte[] bytes;
+        String name;
+        String subdirectory;
+        String fileName;
+
+        key = String.format("%s%n%d%n%d", attachment, modifiedTime.toMillis(), this.size);
+
+        bytes = key.getBytes(StandardCharsets.UTF_8);
+
+        name = UUID.nameUUIDFromBytes(bytes)
+                   .toString();
+
+        subdirectory = name.substring(0, 2);
+
+        fileName = name + "." + FORMAT_NAME;
+
+        return this.cacheDirectory.resolve(subdirectory)
+                                  .resolve(fileName);
+    } //getCachePath
+
+    /**
+     * Writes the specified thumbnail to the file at the specified path in the persistent cache of this thumbnail
+     * service, by way of a temporary file. If it cannot be written, the failure is logged, since the thumbnail can
+     * always be decoded again.
+     *
+     * @param cachePath the path of the file in the persistent cache to be used in the operation
+     * @param thumbnail the thumbnail to be used in the operation
+     */
+    private void writeCachedThumbnail(Path cachePath, BufferedImage thumbnail) {
+        Path temporaryPath;
+
+        temporaryPath = cachePath.resolveSibling(cachePath.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(cachePath.getParent());
+
+            if (!ImageIO.write(thumbnail, FORMAT_NAME, temporaryPath.toFile())) {
+                throw new IOException("the thumbnail could not be encoded");
+            } //end if
+
+            Utilities.replaceFile(temporaryPath, cachePath);
+
+            this.addDiskBytes(Files.size(cachePath));
+        } catch (IOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+
+            try {
+                Files.deleteIfExists(temporaryPath);
+            } catch (IOException deleteException) {
+                exceptionMessage = deleteException.getMessage();
+
+                this.logger.log(Level.WARNING, exceptionMessage, deleteException);
+            } //end try catch
+        } //end try catch
+    } //writeCachedThumbnail
+
+    /**
+     * Adds the specified number of bytes to the size of the persistent cache of this thumbnail service. If the
+     * persistent cache has then grown beyond its capacity, it is pruned on a worker thread, unless it is already being
+     * pruned.
+     *
+     * @param byteCount the number of bytes to be used in the operation
+     */
+    private void addDiskBytes(long byteCount) {
+        long byteTotal;
+
+        byteTotal = this.diskByteCount.addAndGet(byteCount);
+
+        if ((byteTotal > this.diskCacheSize) && this.pruning.compareAndSet(false, true)) {
+            this.executor.execute(this::prune);
+        } //end if
+    } //addDiskBytes
+
+    /**
+     * Prunes the persistent cache of this thumbnail service. Its files are listed, and if their size exceeds the
+     * capacity of the persistent cache, the files that were least recently used are deleted until their size is down
+     * to three quarters of the capacity. Failures are logged, since a file that is left behind is pruned again later.
+     */
+    private void prune() {
+        List<Path> paths = new ArrayList<>();
+        List<BasicFileAttributes> attributes = new ArrayList<>();
+        List<Integer> order;
+        long byteTotal = 0;
+        long targetSize;
+        int index;
+
+        try {
+            if (Files.isDirectory(this.cacheDirectory)) {
+                try (Stream<Path> stream = Files.walk(this.cacheDirectory, 2)) {
+                    stream.filter(path -> path.getFileName()
+                                              .toString()
+                                              .endsWith("." + FORMAT_NAME))
+                          .forEach(path -> {
+                              try {
+                                  attributes.add(Files.readAttributes(path, BasicFileAttributes.class));
+
+                                  paths.add(path);
+                              } catch (IOException e) {
+                                  String exceptionMessage = e.getMessage();
+
+                                  this.logger.log(Level.FINE, exceptionMessage, e);
+                              } //end try catch
+                          });
+                } //end try
+            } //end if
+
+            for (BasicFileAttributes fileAttributes : attributes) {
+                byteTotal += fileAttributes.size();
+            } //end for
+
+            if (byteTotal > this.diskCacheSize) {
+                targetSize = this.diskCacheSize / 4 * 3;
+
+                order = new ArrayList<>(paths.size());
+
+                for (int i = 0; i < paths.size(); i++) {
+                    order.add(i);
+                } //end for
+
+                order.sort(Comparator.comparing(i -> attributes.get(i)
+                                                               .lastModifiedTime()));
+
+                for (int i = 0; (i < order.size()) && (byteTotal > targetSize); i++) {
+                    index = order.get(i);
+
+                    try {
+                        Files.deleteIfExists(paths.get(index));
+
+                        byteTotal -= attributes.get(index)
+                                               .size();
+                    } catch (IOException e) {
+                        String exceptionMessage = e.getMessage();
+
+                        this.logger.log(Level.WARNING, exceptionMessage, e);
+                    } //end try catch
+                } //end for
+            } //end if
+        } catch (IOException | UncheckedIOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+        } finally {
+            this.diskByteCount.set(byteTotal);
+
+            this.pruning.set(false);
+        } //end try catch finally
+    } //prune
+}
\ No newline at end of file
@@ -0,0 +1,538 @@
+package com.records.hs.attachment;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import javax.imageio.ImageReader;
+import java.util.concurrent.ExecutorService;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.Objects;
+import java.io.IOException;
+import com.records.hs.util.Settings;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.ImageIO;
+import java.util.Iterator;
+import java.io.UncheckedIOException;
+import javax.imageio.ImageReadParam;
+import java.awt.Rectangle;
+
+/**
+ * A tiled image in the HS Records application. Tiled images decode an image file one tile at a time, so that images
+ * far larger than the memory of the application can be viewed. A tile is a square of the image, at one of several
+ * levels of detail. At level {@code n}, only every {@code 2^n}-th row and column of the image is decoded, and each
+ * tile covers {@code 2^n} times as many rows and columns of the image as a tile at level {@code 0}.
+ *
+ * <p>Tiles are decoded on a bounded pool of worker threads, each of which has its own image reader, and are kept in a
+ * least recently used cache whose capacity is a number of bytes. The memory used by a tiled image is therefore bounded
+ * by the size of its cache rather than by the size of its image.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class TiledImage implements Closeable {
+    /**
+     * A tile of a tiled image.
+     *
+     * @param level the level of detail of this tile
+     * @param column the column of this tile
+     * @param row the row of this tile
+     */
+    public record Tile(int level, int column, int row) {
+    } //Tile
+
+    /**
+     * The key of the setting that determines the size of a tile, in pixels.
+     */
+    private static final String TILE_SIZE_KEY;
+
+    /**
+     * The key of the setting that determines the number of threads that decode tiles.
+     */
+    private static final String PARALLELISM_KEY;
+
+    /**
+     * The key of the setting that determines the size of the tile cache, in bytes.
+     */
+    private static final String CACHE_SIZE_KEY;
+
+    /**
+     * The default size of a tile, in pixels.
+     */
+    private static final int DEFAULT_TILE_SIZE;
+
+    /**
+     * The default number of threads that decode tiles.
+     */
+    private static final int DEFAULT_PARALLELISM;
+
+    /**
+     * The default size of the tile cache, in bytes.
+     */
+    private static final int DEFAULT_CACHE_SIZE;
+
+    /**
+     * The width of this tiled image, in pixels.
+     */
+    private final int width;
+
+    /**
+     * The height of this tiled image, in pixels.
+     */
+    private final int height;
+
+    /**
+     * The size of the tiles of this tiled image, in pixels.
+     */
+    private final int tileSize;
+
+    /**
+     * The number of levels of detail of this tiled image.
+     */
+    private final int levelCount;
+
+    /**
+     * The image readers of this tiled image that are not in use.
+     */
+    private final BlockingQueue<ImageReader> readers;
+
+    /**
+     * The tile cache of this tiled image.
+     */
+    private final ImageCache<Tile> cachedTiles;
+
+    /**
+     * The tiles of this tiled image that are being decoded.
+     */
+    private final Map<Tile, CompletableFuture<BufferedImage>> pendingTiles;
+
+    /**
+     * The executor of this tiled image.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The closed flag of this tiled image.
+     */
+    private boolean closed;
+
+    static {
+        TILE_SIZE_KEY = "viewer.tileSize";
+
+        PARALLELISM_KEY = "viewer.parallelism";
+
+        CACHE_SIZE_KEY = "viewer.cacheSize";
+
+        DEFAULT_TILE_SIZE = 256;
+
+        DEFAULT_PARALLELISM = 2;
+
+        DEFAULT_CACHE_SIZE = 67_108_864;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code TiledImage} object with the specified width, height, tile size, image
+     * readers, and cache size.
+     *
+     * @param width the width to be used in construction
+     * @param height the height to be used in construction
+     * @param tileSize the tile size to be used in construction
+     * @param readers the image readers to be used in construction
+     * @param cacheSize the cache size to be used in construction
+     */
+    private TiledImage(int width, int height, int tileSize, BlockingQueue<ImageReader> readers, long cacheSize) {
+        AtomicInteger threadCount = new AtomicInteger();
+        int level = 0;
+
+        while ((((width - 1L) >> level) >= tileSize) || (((height - 1L) >> level) >= tileSize)) {
+            level++;
+        } //end while
+
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.levelCount = level + 1;
+        this.readers = readers;
+        this.cachedTiles = new ImageCache<>(cacheSize);
+        this.pendingTiles = new ConcurrentHashMap<>();
+        this.executor = Executors.newFixedThreadPool(readers.size(), runnable -> {
+            String name = "hs-records-tiles-" + threadCount.incrementAndGet();
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.closed = false;
+    } //TiledImage
+
+    /**
+     * Returns a new {@code TiledImage} object for the image file at the specified path with the specified tile size,
+     * parallelism, and cache size. Only the header of the image file is read by this method.
+     *
+     * @param path the path to be used in the operation
+     * @param tileSize the size of a tile, in pixels, to be used in the operation
+     * @param parallelism the parallelism to be used in the operation
+     * @param cacheSize the size of the tile cache, in bytes, to be used in the operation
+     * @return a new {@code TiledImage} object for the image file at the specified path
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IllegalArgumentException if the specified tile size, parallelism, or cache size is not positive
+     * @throws IOException if the image file cannot be opened, or is not in a supported image format
+     */
+    public static TiledImage newTiledImage(Path path, int tileSize, int parallelism, long cacheSize)
+            throws IOException {
+        BlockingQueue<ImageReader> readers;
+        ImageReader reader;
+        int width;
+        int height;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("the specified tile size is not positive");
+        } //end if
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("the specified parallelism is not positive");
+        } //end if
+
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("the specified cache size is not positive");
+        } //end if
+
+        readers = new ArrayBlockingQueue<>(parallelism);
+
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                reader = TiledImage.openReader(path);
+
+                readers.add(reader);
+            } //end for
+
+            reader = readers.element();
+
+            width = reader.getWidth(0);
+
+            height = reader.getHeight(0);
+        } catch (IOException | RuntimeException e) {
+            readers.forEach(TiledImage::disposeReader);
+
+            throw e;
+        } //end try catch
+
+        return new TiledImage(width, height, tileSize, readers, cacheSize);
+    } //newTiledImage
+
+    /**
+     * Returns a new {@code TiledImage} object for the image file at the specified path whose tile size, parallelism,
+     * and cache size are taken from the {@code viewer.tileSize}, {@code viewer.parallelism}, and
+     * {@code viewer.cacheSize} settings. Only the header of the image file is read by this method.
+     *
+     * @param path the path to be used in the operation
+     * @return a new {@code TiledImage} object for the image file at the specified path
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IOException if the image file cannot be opened, or is not in a supported image format
+     */
+    public static TiledImage newTiledImage(Path path) throws IOException {
+        int tileSize;
+        int parallelism;
+        int cacheSize;
+
+        tileSize = Settings.getPositiveInt(TILE_SIZE_KEY, DEFAULT_TILE_SIZE);
+
+        parallelism = Settings.getPositiveInt(PARALLELISM_KEY, DEFAULT_PARALLELISM);
+
+        cacheSize = Settings.getPositiveInt(CACHE_SIZE_KEY, DEFAULT_CACHE_SIZE);
+
+        return TiledImage.newTiledImage(path, tileSize, parallelism, cacheSize);
+    } //newTiledImage
+
+    /**
+     * Returns an image reader whose input is the image file at the specified path.
+     *
+     * @param path the path to be used in the operation
+     * @return an image reader whose input is the image file at the specified path
+     * @throws IOException if the image file cannot be opened, or is not in a supported image format
+     */
+    private static ImageReader openReader(Path path) throws IOException {
+        ImageInputStream inputStream;
+        Iterator<ImageReader> iterator;
+        ImageReader reader;
+
+        inputStream = ImageIO.createImageInputStream(path.toFile());
+
+        if (inputStream == null) {
+            throw new IOException("the image file could not be opened");
+        } //end if
+
+        iterator = ImageIO.getImageReaders(inputStream);
+
+        if (!iterator.hasNext()) {
+            inputStream.close();
+
+            throw new IOException("the image file is not in a supported image format");
+        } //end if
+
+        reader = iterator.next();
+
+        reader.setInput(inputStream, true, true);
+
+        return reader;
+    } //openReader
+
+    /**
+     * Disposes the specified image reader, and closes its input.
+     *
+     * @param reader the image reader to be used in the operation
+     */
+    private static void disposeReader(ImageReader reader) {
+        Object input;
+
+        input = reader.getInput();
+
+        reader.dispose();
+
+        if (input instanceof ImageInputStream inputStream) {
+            try {
+                inputStream.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        } //end if
+    } //disposeReader
+
+    /**
+     * Returns the width of this tiled image, in pixels.
+     *
+     * @return the width of this tiled image
+     */
+    public int getWidth() {
+        return this.width;
+    } //getWidth
+
+    /**
+     * Returns the height of this tiled image, in pixels.
+     *
+     * @return the height of this tiled image
+     */
+    public int getHeight() {
+        return this.height;
+    } //getHeight
+
+    /**
+     * Returns the size of the tiles of this tiled image, in pixels.
+     *
+     * @return the size of the tiles of this tiled image
+     */
+    public int getTileSize() {
+        return this.tileSize;
+    } //getTileSize
+
+    /**
+     * Returns the number of levels of detail of this tiled image. The last level is the first at which the whole
+     * image fits in a single tile.
+     *
+     * @return the number of levels of detail of this tiled image
+     */
+    public int getLevelCount() {
+        return this.levelCount;
+    } //getLevelCount
+
+    /**
+     * Returns the width of this tiled image at the specified level of detail, in pixels.
+     *
+     * @param level the level of detail to be used in the operation
+     * @return the width of this tiled image at the specified level of detail
+     */
+    public int getLevelWidth(int level) {
+        return (int) ((this.width + (1L << level) - 1) >> level);
+    } //getLevelWidth
+
+    /**
+     * Returns the height of this tiled image at the specified level of detail, in pixels.
+     *
+     * @param level the level of detail to be used in the operation
+     * @return the height of this tiled image at the specified level of detail
+     */
+    public int getLevelHeight(int level) {
+        return (int) ((this.height + (1L << level) - 1) >> level);
+    } //getLevelHeight
+
+    /**
+     * Returns the specified tile of this tiled image if it is in the tile cache, and marks it as the most recently
+     * used.
+     *
+     * @param tile the tile to be used in the operation
+     * @return the specified tile of this tiled image, or {@code null} if it is not cached
+     * @throws NullPointerException if the specified tile is {@code null}
+     */
+    public BufferedImage getCachedTile(Tile tile) {
+        Objects.requireNonNull(tile, "the specified tile is null");
+
+        return this.cachedTiles.get(tile);
+    } //getCachedTile
+
+    /**
+     * Returns the specified tile of this tiled image. If the tile is in the tile cache, the returned future has
+     * already completed. Otherwise, the tile is decoded on a worker thread, in the order in which tiles are requested.
+     * Cancelling the returned future before its tile is decoded skips the decoding, so tiles that have scrolled out of
+     * view should be cancelled. If the tile cannot be decoded, the returned future completes exceptionally with an
+     * {@link UncheckedIOException}.
+     *
+     * @param tile the tile to be used in the operation
+     * @return a future that completes with the specified tile of this tiled image
+     * @throws NullPointerException if the specified tile is {@code null}
+     * @throws IllegalArgumentException if the specified tile is outside of this tiled image
+     */
+    public CompletableFuture<BufferedImage> getTile(Tile tile) {
+        int level;
+        int columnCount;
+        int rowCount;
+        boolean inside;
+        BufferedImage image;
+        CompletableFuture<BufferedImage> future;
+
+        Objects.requireNonNull(tile, "the specified tile is null");
+
+        level = tile.level();
+
+        if ((level < 0) || (level >= this.levelCount)) {
+            throw new IllegalArgumentException("the specified tile is outside of the tiled image");
+        } //end if
+
+        columnCount = (this.getLevelWidth(level) + this.tileSize - 1) / this.tileSize;
+
+        rowCount = (this.getLevelHeight(level) + this.tileSize - 1) / this.tileSize;
+
+        inside = (tile.column() >= 0) && (tile.column() < columnCount) && (tile.row() >= 0) && (tile.row() < rowCount);
+
+        if (!inside) {
+            throw new IllegalArgumentException("the specified tile is outside of the tiled image");
+        } //end if
+
+        image = this.cachedTiles.get(tile);
+
+        if (image != null) {
+            return CompletableFuture.completedFuture(image);
+        } //end if
+
+        future = this.pendingTiles.computeIfAbsent(tile, key -> CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.decodeTile(key);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor));
+
+        future.whenComplete((decodedImage, throwable) -> this.pendingTiles.remove(tile, future));
+
+        return future;
+    } //getTile
+
+    /**
+     * Decodes the specified tile of this tiled image, and puts it into the tile cache. Only the region of the image
+     * that the tile covers is decoded, subsampled according to the level of detail of the tile.
+     *
+     * @param tile the tile to be used in the operation
+     * @return the specified tile of this tiled image
+     * @throws IOException if the tile cannot be decoded
+     */
+    private BufferedImage decodeTile(Tile tile) throws IOException {
+        int subsampling;
+        long span;
+        long x;
+        long y;
+        int regionWidth;
+        int regionHeight;
+        Rectangle region;
+        ImageReader reader;
+        ImageReadParam readParam;
+        BufferedImage image;
+
+        subsampling = 1 << tile.level();
+
+        span = (long) this.tileSize * subsampling;
+
+        x = tile.column() * span;
+
+        y = tile.row() * span;
+
+        regionWidth = (int) Math.min(span, this.width - x);
+
+        regionHeight = (int) Math.min(span, this.height - y);
+
+        region = new Rectangle((int) x, (int) y, regionWidth, regionHeight);
+
+        reader = this.readers.poll();
+
+        if (reader == null) {
+            throw new IOException("the tiled image is closed");
+        } //end if
+
+        try {
+            readParam = reader.getDefaultReadParam();
+
+            readParam.setSourceRegion(region);
+
+            readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+            image = reader.read(0, readParam);
+        } finally {
+            this.releaseReader(reader);
+        } //end try finally
+
+        this.cachedTiles.put(tile, image);
+
+        return image;
+    } //decodeTile
+
+    /**
+     * Returns the specified image reader to this tiled image, or disposes it if this tiled image has been closed.
+     *
+     * @param reader the image reader to be used in the operation
+     */
+    private synchronized void releaseReader(ImageReader reader) {
+        if (this.closed) {
+            TiledImage.disposeReader(reader);
+        } else {
+            this.readers.add(reader);
+        } //end if
+    } //releaseReader
+
+    /**
+     * Closes this tiled image. Tiles that have not started decoding are never decoded, and the image readers of this
+     * tiled image are disposed once the tiles that are being decoded have been decoded.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.closed) {
+            return;
+        } //end if
+
+        this.closed = true;
+
+        this.executor.shutdownNow();
+
+        this.pendingTiles.values()
+                         .forEach(future -> future.cancel(false));
+
+        this.cachedTiles.clear();
+
+        try {
+            this.readers.forEach(TiledImage::disposeReader);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            this.readers.clear();
+        } //end try catch finally
+    } //close
+}
\ No newline at end of file
@@ -226,6 +226,18 @@ public final class AddController {
         subcategoryComboBox.setSelectedIndex(-1);
     } //fillSubcategoryComboBox
 
+    /**
+     * Refreshes the fields of this add controller that are filled from its model. This is run on the event dispatch
+     * thread whenever a bulk load of the model is closed.
+     */
+    private void refreshFields() {
+        this.fillIdTextField();
+
+        this.fillCategoryComboBox();
+
+        this.fillSubcategoryComboBox();
+    } //refreshFields
+
     /**
      * Clears the fields of this add controller's add view.
      */
@@ -536,6 +548,8 @@ public final class AddController {
 
         addController.clearFields();
 
+        model.addLoadListener(() -> SwingUtilities.invokeLater(addController::refreshFields));
+
         return addController;
     } //newAddController
 }
\ No newline at end of file
@@ -11,13 +11,14 @@ import com.records.hs.view.MenuView;
 import java.util.Objects;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import com.records.hs.util.Utilities;
+import com.records.hs.persistence.PersistenceService;
+import javax.swing.JMenuItem;
 
 /**
  * A controller in the HS Records application.
  *
  * @author Logan Kulinski, lbkulinski@icloud.com
- * @version April 29, 2021
+ * @version October 19, 2026
  */
 public final class Controller {
     /**
@@ -30,9 +31,15 @@ public final class Controller {
     } //Controller
 
     /**
-     * Sets up a controller.
+     * Sets up a controller with the specified model, view, and persistence service. Closing the frame of the
+     * specified view follows the same flow as the exit menu item, so the model is saved before the program exits.
+     *
+     * @param model the model to be used in the operation
+     * @param view the view to be used in the operation
+     * @param persistenceService the persistence service to be used in the operation
+     * @throws NullPointerException if the specified model, view, or persistence service is {@code null}
      */
-    public static void setUpController(Model model, View view) {
+    public static void setUpController(Model model, View view, PersistenceService persistenceService) {
         JFrame frame;
         AddView addView;
         EditView editView;
@@ -43,19 +50,15 @@ public final class Controller {
         EditController editController;
         DeleteController deleteController;
         FindController findController;
+        JMenuItem exitMenuItem;
 
         Objects.requireNonNull(model, "the specified model is null");
 
         Objects.requireNonNull(view, "the specified view is null");
 
-        frame = view.getFrame();
+        Objects.requireNonNull(persistenceService, "the specified persistence service is null");
 
-        frame.addWindowListener(new WindowAdapter() {
-            @Override
-            public void windowClosing(WindowEvent e) {
-                Utilities.writeModelToFile(model);
-            } //windowClosing
-        });
+        frame = view.getFrame();
 
         addView = view.getAddView();
 
@@ -76,6 +79,15 @@ public final class Controller {
         findController = FindController.newFindController(model, findView);
 
         MenuController.newMenuController(model, menuView, addController, editController, deleteController,
-                                         findController);
+                                         findController, persistenceService);
+
+        exitMenuItem = menuView.getExitMenuItem();
+
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                exitMenuItem.doClick();
+            } //windowClosing
+        });
     } //setUpController
 }
\ No newline at end of file
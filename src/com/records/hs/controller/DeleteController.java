@@ -116,6 +116,16 @@ public final class DeleteController {
         subcategoryComboBox.setSelectedIndex(-1);
     } //fillSubcategoryComboBox
 
+    /**
+     * Refreshes the fields of this delete controller that are filled from its model. This is run on the event dispatch
+     * thread whenever a bulk load of the model is closed.
+     */
+    private void refreshFields() {
+        this.fillCategoryComboBox();
+
+        this.fillSubcategoryComboBox();
+    } //refreshFields
+
     /**
      * Clears the fields of this delete controller's delete view.
      */
@@ -829,6 +839,8 @@ public final class DeleteController {
 
         deleteController.clearFields();
 
+        model.addLoadListener(() -> SwingUtilities.invokeLater(deleteController::refreshFields));
+
         return deleteController;
     } //newDeleteController
 }
\ No newline at end of file
@@ -152,6 +152,18 @@ public final class EditController {
         newSubcategoryComboBox.setSelectedIndex(-1);
     } //fillNewSubcategoryComboBox
 
+    /**
+     * Refreshes the fields of this edit controller that are filled from its model. This is run on the event dispatch
+     * thread whenever a bulk load of the model is closed.
+     */
+    private void refreshFields() {
+        this.fillNewCategoryComboBox();
+
+        this.fillNewSubcategoryComboBox();
+
+        this.fillCategoryComboBox();
+    } //refreshFields
+
     /**
      * Clears the fields of this edit controller's edit view.
      */
@@ -1138,6 +1150,8 @@ public final class EditController {
 
         editController.clearFields();
 
+        model.addLoadListener(() -> SwingUtilities.invokeLater(editController::refreshFields));
+
         return editController;
     } //newEditController
 }
\ No newline at end of file
@@ -16,18 +16,20 @@ import javax.swing.JOptionPane;
 import javax.swing.JTextField;
 import com.records.hs.model.Type;
 import com.records.hs.model.Entry;
-import javax.swing.JTextArea;
 import java.util.Optional;
 import java.awt.GridBagConstraints;
 import javax.swing.JScrollPane;
 import java.awt.Dimension;
 import com.records.hs.view.ViewUtilities;
+import com.records.hs.attachment.ThumbnailService;
+import java.util.List;
+import javax.swing.JTable;
 
 /**
  * A find controller in the HS Records application.
  *
  * @author Logan Kulinski, lbkulinski@icloud.com
- * @version May 1, 2021
+ * @version October 19, 2026
  */
 public final class FindController {
     /**
@@ -40,6 +42,11 @@ public final class FindController {
      */
     private final FindView findView;
 
+    /**
+     * The results table model of this find controller.
+     */
+    private final ResultsTableModel resultsTableModel;
+
     /**
      * Constructs a newly allocated {@code FindController} object with the specified model and find view.
      *
@@ -54,6 +61,7 @@ public final class FindController {
 
         this.model = model;
         this.findView = findView;
+        this.resultsTableModel = new ResultsTableModel(ThumbnailService.newThumbnailService());
     } //FindController
 
     /**
@@ -120,6 +128,16 @@ public final class FindController {
         subcategoryComboBox.setSelectedIndex(-1);
     } //fillSubcategoryComboBox
 
+    /**
+     * Refreshes the fields of this find controller that are filled from its model. This is run on the event dispatch
+     * thread whenever a bulk load of the model is closed.
+     */
+    private void refreshFields() {
+        this.fillCategoryComboBox();
+
+        this.fillSubcategoryComboBox();
+    } //refreshFields
+
     /**
      * Clears the fields of this find controller's find view.
      */
@@ -332,80 +350,29 @@ public final class FindController {
     } //getTagInput
 
     /**
-     * Adds the specified entries to the text area of this find controller's find view.
+     * Adds the specified entries to the results table of this find controller's find view, replacing any previous
+     * results.
      *
      * @param entries the entries to be used in the operation
      */
-    private void addEntriesToTextArea(Entry... entries) {
-        JTextArea resultsTextArea;
-        StringBuilder stringBuilder;
-        String id;
-        Type type;
-        String category;
-        String subcategory;
-        Set<String> tags;
-        StringBuilder tagsStringBuilder;
-        int length;
-        int startIndex;
-        String tagsString;
-        String entryString;
-        String format = "ID: %s%nType: %s%nCategory: %s%nSubcategory: %s%nTags: %s%n%n";
-        String resultsString;
+    private void addEntriesToTable(Entry... entries) {
+        List<Entry> entryList;
 
         Objects.requireNonNull(entries, "the specified set of entries is null");
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
-        stringBuilder = new StringBuilder();
-
-        for (Entry entry : entries) {
-            id = entry.id();
-
-            type = entry.type();
-
-            category = entry.category();
-
-            subcategory = entry.subcategory();
-
-            tags = entry.tags();
-
-            tagsStringBuilder = new StringBuilder();
-
-            for (String tag : tags) {
-                tagsStringBuilder.append(tag);
-
-                tagsStringBuilder.append(", ");
-            } //end if
-
-            if (tagsStringBuilder.length() > 0) {
-                length = tagsStringBuilder.length();
-
-                startIndex = length - 2;
-
-                tagsStringBuilder.delete(startIndex, length);
-            } //end if
-
-            tagsString = tagsStringBuilder.toString();
+        entryList = List.of(entries);
 
-            entryString = String.format(format, id, type, category, subcategory, tagsString);
+        this.resultsTableModel.setEntries(entryList);
+    } //addEntriesToTable
 
-            stringBuilder.append(entryString);
-        } //end for
-
-        length = stringBuilder.length();
-
-        if (length > 0) {
-            startIndex = length - 2;
-
-            stringBuilder.delete(startIndex, length);
-        } //end if
-
-        resultsString = stringBuilder.toString();
-
-        resultsTextArea.setText(resultsString);
+    /**
+     * Clears the results table of this find controller's find view.
+     */
+    private void clearResults() {
+        List<Entry> entryList = List.of();
 
-        resultsTextArea.setCaretPosition(0);
-    } //addEntriesToTextArea
+        this.resultsTableModel.setEntries(entryList);
+    } //clearResults
 
     /**
      * Searches for a record with the specified ID in the model of this find controller using the input of this find
@@ -415,7 +382,6 @@ public final class FindController {
         String id;
         Optional<Entry> optional;
         Entry foundEntry;
-        JTextArea resultsTextArea;
 
         id = this.getIdInput();
 
@@ -425,9 +391,7 @@ public final class FindController {
 
         optional = this.model.findEntryWithId(id);
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
-        resultsTextArea.setText(null);
+        this.clearResults();
 
         if (optional.isEmpty()) {
             JTextField idTextField;
@@ -442,7 +406,7 @@ public final class FindController {
 
         foundEntry = optional.get();
 
-        this.addEntriesToTextArea(foundEntry);
+        this.addEntriesToTable(foundEntry);
     } //findWithId
 
     /**
@@ -453,7 +417,6 @@ public final class FindController {
         Type type;
         Set<Entry> foundEntries;
         Entry[] entryArray;
-        JTextArea resultsTextArea;
 
         type = this.getTypeInput();
 
@@ -463,9 +426,7 @@ public final class FindController {
 
         foundEntries = this.model.findEntriesWithType(type);
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
-        resultsTextArea.setText(null);
+        this.clearResults();
 
         if (foundEntries.isEmpty()) {
             JComboBox<Type> typeComboBox;
@@ -482,7 +443,7 @@ public final class FindController {
 
         foundEntries.toArray(entryArray);
 
-        this.addEntriesToTextArea(entryArray);
+        this.addEntriesToTable(entryArray);
     } //findWithType
 
     /**
@@ -493,7 +454,6 @@ public final class FindController {
         String category;
         Set<Entry> foundEntries;
         Entry[] entryArray;
-        JTextArea resultsTextArea;
 
         category = this.getCategoryInput();
 
@@ -503,9 +463,7 @@ public final class FindController {
 
         foundEntries = this.model.findEntriesWithCategory(category);
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
-        resultsTextArea.setText(null);
+        this.clearResults();
 
         if (foundEntries.isEmpty()) {
             JComboBox<String> categoryComboBox;
@@ -522,7 +480,7 @@ public final class FindController {
 
         foundEntries.toArray(entryArray);
 
-        this.addEntriesToTextArea(entryArray);
+        this.addEntriesToTable(entryArray);
     } //findWithCategory
 
     /**
@@ -534,7 +492,6 @@ public final class FindController {
         String subcategory;
         Set<Entry> foundEntries;
         Entry[] entryArray;
-        JTextArea resultsTextArea;
 
         category = this.getCategoryInput();
 
@@ -550,9 +507,7 @@ public final class FindController {
 
         foundEntries = this.model.findEntriesWithSubcategory(category, subcategory);
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
-        resultsTextArea.setText(null);
+        this.clearResults();
 
         if (foundEntries.isEmpty()) {
             JComboBox<String> subcategoryComboBox;
@@ -569,7 +524,7 @@ public final class FindController {
 
         foundEntries.toArray(entryArray);
 
-        this.addEntriesToTextArea(entryArray);
+        this.addEntriesToTable(entryArray);
     } //findWithSubcategory
 
     /**
@@ -580,7 +535,6 @@ public final class FindController {
         String tag;
         Set<Entry> foundEntries;
         Entry[] entryArray;
-        JTextArea resultsTextArea;
 
         tag = this.getTagInput();
 
@@ -590,9 +544,7 @@ public final class FindController {
 
         foundEntries = this.model.findEntriesWithTag(tag);
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
-        resultsTextArea.setText(null);
+        this.clearResults();
 
         if (foundEntries.isEmpty()) {
             JTextField tagTextField;
@@ -609,7 +561,7 @@ public final class FindController {
 
         foundEntries.toArray(entryArray);
 
-        this.addEntriesToTextArea(entryArray);
+        this.addEntriesToTable(entryArray);
     } //findWithTag
 
     /**
@@ -663,7 +615,6 @@ public final class FindController {
         JPanel panel;
         JButton findButton;
         JTextField idTextField;
-        JTextArea resultsTextArea;
         JButton clearButton;
         Window window;
         int expectedCount = 1;
@@ -680,8 +631,6 @@ public final class FindController {
 
         idTextField = this.findView.getIdTextField();
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
         clearButton = this.findView.getClearButton();
 
         window = SwingUtilities.getWindowAncestor(panel);
@@ -698,7 +647,7 @@ public final class FindController {
 
         idTextField.setText(null);
 
-        resultsTextArea.setText(null);
+        this.clearResults();
 
         ViewUtilities.addComponentToPanel(panel, idTextField, idRow, column);
 
@@ -722,7 +671,6 @@ public final class FindController {
         JPanel panel;
         JButton findButton;
         JComboBox<Type> typeComboBox;
-        JTextArea resultsTextArea;
         JButton clearButton;
         Window window;
         int expectedCount = 1;
@@ -739,8 +687,6 @@ public final class FindController {
 
         typeComboBox = this.findView.getTypeComboBox();
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
         clearButton = this.findView.getClearButton();
 
         window = SwingUtilities.getWindowAncestor(panel);
@@ -757,7 +703,7 @@ public final class FindController {
 
         typeComboBox.setSelectedIndex(-1);
 
-        resultsTextArea.setText(null);
+        this.clearResults();
 
         ViewUtilities.addComponentToPanel(panel, typeComboBox, typeRow, column);
 
@@ -781,7 +727,6 @@ public final class FindController {
         JPanel panel;
         JButton findButton;
         JComboBox<String> categoryComboBox;
-        JTextArea resultsTextArea;
         JButton clearButton;
         Window window;
         int expectedCount = 1;
@@ -798,8 +743,6 @@ public final class FindController {
 
         categoryComboBox = this.findView.getCategoryComboBox();
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
         clearButton = this.findView.getClearButton();
 
         window = SwingUtilities.getWindowAncestor(panel);
@@ -816,7 +759,7 @@ public final class FindController {
 
         categoryComboBox.setSelectedIndex(-1);
 
-        resultsTextArea.setText(null);
+        this.clearResults();
 
         ViewUtilities.addComponentToPanel(panel, categoryComboBox, categoryRow, column);
 
@@ -841,7 +784,6 @@ public final class FindController {
         JButton findButton;
         JComboBox<String> categoryComboBox;
         JComboBox<String> subcategoryComboBox;
-        JTextArea resultsTextArea;
         JButton clearButton;
         Window window;
         int expectedCount = 1;
@@ -861,8 +803,6 @@ public final class FindController {
 
         subcategoryComboBox = this.findView.getSubcategoryComboBox();
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
         clearButton = this.findView.getClearButton();
 
         window = SwingUtilities.getWindowAncestor(panel);
@@ -879,7 +819,7 @@ public final class FindController {
 
         categoryComboBox.setSelectedIndex(-1);
 
-        resultsTextArea.setText(null);
+        this.clearResults();
 
         ViewUtilities.addComponentToPanel(panel, categoryComboBox, categoryRow, column);
 
@@ -905,7 +845,6 @@ public final class FindController {
         JPanel panel;
         JButton findButton;
         JTextField tagTextField;
-        JTextArea resultsTextArea;
         JButton clearButton;
         Window window;
         int expectedCount = 1;
@@ -922,8 +861,6 @@ public final class FindController {
 
         tagTextField = this.findView.getTagTextField();
 
-        resultsTextArea = this.findView.getResultsTextArea();
-
         clearButton = this.findView.getClearButton();
 
         window = SwingUtilities.getWindowAncestor(panel);
@@ -940,7 +877,7 @@ public final class FindController {
 
         tagTextField.setText(null);
 
-        resultsTextArea.setText(null);
+        this.clearResults();
 
         ViewUtilities.addComponentToPanel(panel, tagTextField, tagRow, column);
 
@@ -991,6 +928,9 @@ public final class FindController {
         JComboBox<Field> fieldComboBox;
         JComboBox<String> categoryComboBox;
         JButton clearButton;
+        JTable resultsTable;
+        int thumbnailSize;
+        int padding = 4;
 
         findController = new FindController(model, findView);
 
@@ -1000,6 +940,18 @@ public final class FindController {
 
         clearButton = findController.findView.getClearButton();
 
+        resultsTable = findController.findView.getResultsTable();
+
+        thumbnailSize = findController.resultsTableModel.getThumbnailSize();
+
+        resultsTable.setModel(findController.resultsTableModel);
+
+        resultsTable.setRowHeight(thumbnailSize + padding);
+
+        resultsTable.getColumnModel()
+                    .getColumn(ResultsTableModel.THUMBNAIL_COLUMN)
+                    .setPreferredWidth(thumbnailSize + padding);
+
         fieldComboBox.addActionListener(actionEvent -> findController.displayFindComponents());
 
         categoryComboBox.addActionListener(actionEvent -> findController.fillSubcategoryComboBox());
@@ -1008,6 +960,8 @@ public final class FindController {
 
         findController.clearFields();
 
+        model.addLoadListener(() -> SwingUtilities.invokeLater(findController::refreshFields));
+
         return findController;
     } //newFindController
 }
\ No newline at end of file
@@ -17,25 +17,87 @@ import java.awt.Desktop;
 import java.io.File;
 import java.util.Optional;
 import com.records.hs.model.Entry;
-import com.records.hs.model.Type;
-import java.util.Arrays;
-import java.util.stream.Collectors;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.JFileChooser;
-import java.util.List;
-import java.util.LinkedHashSet;
 import java.util.regex.Pattern;
 import java.util.regex.Matcher;
-import com.records.hs.util.Utilities;
 import javax.swing.JMenuItem;
+import com.records.hs.persistence.PersistenceService;
+import com.records.hs.view.ProgressView;
+import com.records.hs.transfer.EntryImporter;
+import com.records.hs.transfer.EntryFormatException;
+import com.records.hs.transfer.CsvFormat;
+import com.records.hs.transfer.JsonLinesFormat;
+import com.records.hs.transfer.EntryExporter;
+import com.records.hs.transfer.ArchiveExporter;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.concurrent.CompletableFuture;
+import javax.swing.JDialog;
+import java.awt.Dialog;
+import com.records.hs.transfer.TransferService;
+import javax.swing.JButton;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CancellationException;
+import java.util.Map;
+import java.util.HashMap;
+import com.records.hs.model.ChangeLog;
+import java.io.UncheckedIOException;
+import com.records.hs.attachment.AttachmentIndex;
+import com.records.hs.attachment.AttachmentService;
+import com.records.hs.attachment.AttachmentReconciler;
+import com.records.hs.attachment.TiledImage;
+import com.records.hs.attachment.DirectoryProvisioner;
+import com.records.hs.attachment.AttachmentRelocator;
+import com.records.hs.attachment.ScanTreeReader;
+import com.records.hs.attachment.ContentStore;
+import com.records.hs.attachment.IntegrityVerifier;
+import com.records.hs.model.Type;
+import com.records.hs.view.ViewerView;
+import java.util.List;
+import java.util.StringJoiner;
 
 /**
  * A menu controller in the HS Records application.
  *
  * @author Logan Kulinski, lbkulinski@icloud.com
- * @version May 1, 2021
+ * @version October 19, 2026
  */
 public final class MenuController {
+    /**
+     * A method that asynchronously imports a file into the model of a menu controller.
+     */
+    @FunctionalInterface
+    private interface ImportMethod {
+        /**
+         * Starts importing the file at the specified path using the specified importer.
+         *
+         * @param importer the importer to be used in the operation
+         * @param path the path to be used in the operation
+         * @param progressConsumer the progress consumer to be used in the operation
+         * @param cancelled the cancellation flag to be used in the operation
+         * @return a future that completes with the number of entries that were added
+         */
+        CompletableFuture<Integer> importFile(EntryImporter importer, Path path, LongConsumer progressConsumer,
+                                              BooleanSupplier cancelled);
+    } //ImportMethod
+
+    /**
+     * A method that asynchronously exports the model of a menu controller to a file.
+     */
+    @FunctionalInterface
+    private interface ExportMethod {
+        /**
+         * Starts exporting to the file at the specified path.
+         *
+         * @param path the path to be used in the operation
+         * @param progressConsumer the progress consumer to be used in the operation
+         * @param cancelled the cancellation flag to be used in the operation
+         * @return a future that completes with the number of entries that were exported
+         */
+        CompletableFuture<Long> exportFile(Path path, LongConsumer progressConsumer, BooleanSupplier cancelled);
+    } //ExportMethod
+
     /**
      * The model of this menu controller.
      */
@@ -66,6 +128,37 @@ public final class MenuController {
      */
     private final FindController findController;
 
+    /**
+     * The persistence service of this menu controller.
+     */
+    private final PersistenceService persistenceService;
+
+    /**
+     * The transfer service of this menu controller.
+     */
+    private final TransferService transferService;
+
+    /**
+     * The attachment index of this menu controller.
+     */
+    private final AttachmentIndex attachmentIndex;
+
+    /**
+     * The attachment service of this menu controller.
+     */
+    private final AttachmentService attachmentService;
+
+    /**
+     * The integrity verifier of this menu controller.
+     */
+    private final IntegrityVerifier integrityVerifier;
+
+    /**
+     * The cancellation flags of the exports of this menu controller that are in progress, by their futures. It is only
+     * accessed on the event dispatch thread.
+     */
+    private final Map<CompletableFuture<Long>, AtomicBoolean> exports;
+
     /**
      * The logger of this menu controller.
      */
@@ -73,7 +166,7 @@ public final class MenuController {
 
     /**
      * Constructs a newly allocated {@code MenuController} object with the specified model, menu view, add controller,
-     * edit controller, delete controller, and find controller.
+     * edit controller, delete controller, find controller, and persistence service.
      *
      * @param model the model to be used in construction
      * @param menuView the menu view to be used in construction
@@ -81,12 +174,13 @@ public final class MenuController {
      * @param editController the edit controller to be used in construction
      * @param deleteController the delete controller to be used in construction
      * @param findController the find controller to be used in construction
+     * @param persistenceService the persistence service to be used in construction
      * @throws NullPointerException if the specified model, menu view, add controller, edit controller, delete
-     * controller, or find controller is {@code null}
+     * controller, find controller, or persistence service is {@code null}
      */
     private MenuController(Model model, MenuView menuView, AddController addController,
                            EditController editController, DeleteController deleteController,
-                           FindController findController) {
+                           FindController findController, PersistenceService persistenceService) {
         Objects.requireNonNull(model, "the specified model is null");
 
         Objects.requireNonNull(menuView, "the specified menu view is null");
@@ -99,12 +193,20 @@ public final class MenuController {
 
         Objects.requireNonNull(findController, "the specified find controller is null");
 
+        Objects.requireNonNull(persistenceService, "the specified persistence service is null");
+
         this.model = model;
         this.menuView = menuView;
         this.addController = addController;
         this.editController = editController;
         this.deleteController = deleteController;
         this.findController = findController;
+        this.persistenceService = persistenceService;
+        this.transferService = TransferService.newTransferService();
+        this.attachmentIndex = AttachmentIndex.newAttachmentIndex();
+        this.attachmentService = AttachmentService.newAttachmentService();
+        this.integrityVerifier = IntegrityVerifier.newIntegrityVerifier();
+        this.exports = new HashMap<>();
         this.logger = Logger.getGlobal();
     } //MenuController
 
@@ -258,7 +360,6 @@ public final class MenuController {
         String message;
         String title = "HS Records";
         String category;
-        String comma = ",";
 
         menuBar = this.menuView.getMenuBar();
 
@@ -275,12 +376,6 @@ public final class MenuController {
 
             this.showErrorMessage(message);
 
-            return null;
-        } else if (category.contains(comma)) {
-            message = "Error: The specified category contains a comma!";
-
-            this.showErrorMessage(message);
-
             return null;
         } else if (this.model.containsCategory(category)) {
             message = "Error: The specified category already exists!";
@@ -308,7 +403,6 @@ public final class MenuController {
         String message;
         String title = "HS Records";
         String subcategory;
-        String comma = ",";
 
         Objects.requireNonNull(category, "the specified category is null");
 
@@ -327,12 +421,6 @@ public final class MenuController {
 
             this.showErrorMessage(message);
 
-            return null;
-        } else if (subcategory.contains(comma)) {
-            message = "Error: The specified subcategory contains a comma!";
-
-            this.showErrorMessage(message);
-
             return null;
         } else if (this.model.containsSubcategory(category, subcategory)) {
             message = "Error: The specified subcategory already exists!";
@@ -440,7 +528,46 @@ public final class MenuController {
     } //createDirectory
 
     /**
-     * Opens a record using the input of this menu controller's menu view.
+     * Opens the file at the specified path with the default application of the desktop. This is used for attachments
+     * that the internal viewer cannot decode.
+     *
+     * @param path the path to be used in the operation
+     */
+    private void openWithDesktop(Path path) {
+        String message;
+        Desktop desktop;
+        File file;
+
+        if (!Desktop.isDesktopSupported()) {
+            message = "Error: The file associated with the record could not be opened! Please contact support!";
+
+            this.showErrorMessage(message);
+
+            return;
+        } //end if
+
+        desktop = Desktop.getDesktop();
+
+        file = path.toFile();
+
+        try {
+            desktop.open(file);
+        } catch (IOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.INFO, exceptionMessage, e);
+
+            message = "Error: The file associated with the record could not be opened! Please contact support!";
+
+            this.showErrorMessage(message);
+        } //end try catch
+    } //openWithDesktop
+
+    /**
+     * Opens a record using the input of this menu controller's menu view. The attachment of the record is shown in an
+     * internal viewer that only decodes the visible part of the attachment, and falls back to the default application
+     * of the desktop if the attachment cannot be decoded. The attachment is found and opened off of the event
+     * dispatch thread, and the viewer is shown once it has been opened.
      */
     private void openRecord() {
         int entryCount;
@@ -448,12 +575,7 @@ public final class MenuController {
         Optional<Entry> optional;
         String message;
         Entry entry;
-        String category;
-        String subcategory;
-        String fileName;
-        Path path;
-        Desktop desktop;
-        File file;
+        CompletableFuture<Optional<Path>> findFuture;
 
         entryCount = this.model.getEntryCount();
 
@@ -479,48 +601,72 @@ public final class MenuController {
 
         entry = optional.get();
 
-        category = entry.category();
+        findFuture = this.attachmentService.findAttachment(this.attachmentIndex, entry);
 
-        subcategory = entry.subcategory();
+        findFuture.whenComplete((optionalPath, throwable) -> SwingUtilities.invokeLater(() -> {
+            String errorMessage = "Error: The file associated with the record could not be found!";
 
-        fileName = id;
+            if (throwable != null) {
+                String exceptionMessage = throwable.getMessage();
 
-        fileName += ".tif";
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
 
-        path = Path.of(category, subcategory, fileName);
+                this.showErrorMessage(errorMessage);
 
-        if (Files.notExists(path)) {
-            message = "Error: The file associated with the record could not be found!";
+                return;
+            } //end if
 
-            this.showErrorMessage(message);
+            if (optionalPath.isEmpty()) {
+                this.showErrorMessage(errorMessage);
 
-            return;
-        } //end if
+                return;
+            } //end if
 
-        if (!Desktop.isDesktopSupported()) {
-            message = "Error: The file associated with the record could not be opened! Please contact support!";
+            this.openAttachment(id, optionalPath.get());
+        }));
+    } //openRecord
 
-            this.showErrorMessage(message);
+    /**
+     * Opens the specified attachment of the record with the specified ID in a viewer, or, if it cannot be decoded,
+     * with the desktop.
+     *
+     * @param id the ID of the record to be used in the operation
+     * @param path the path of the attachment to be used in the operation
+     */
+    private void openAttachment(String id, Path path) {
+        CompletableFuture<TiledImage> openFuture;
 
-            return;
-        } //end if
+        openFuture = this.attachmentService.openTiledImage(path);
 
-        desktop = Desktop.getDesktop();
+        openFuture.whenComplete((tiledImage, throwable) -> SwingUtilities.invokeLater(() -> {
+            JMenuBar menuBar;
+            Window window;
+            String title;
+            ViewerView viewerView;
 
-        file = path.toFile();
+            if (throwable != null) {
+                String exceptionMessage = throwable.getMessage();
 
-        try {
-            desktop.open(file);
-        } catch (IOException e) {
-            String exceptionMessage = e.getMessage();
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
 
-            this.logger.log(Level.INFO, exceptionMessage, e);
+                this.openWithDesktop(path);
 
-            message = "Error: The file associated with the record could not be opened! Please contact support!";
+                return;
+            } //end if
 
-            this.showErrorMessage(message);
-        } //end try catch
-    } //openRecord
+            menuBar = this.menuView.getMenuBar();
+
+            window = SwingUtilities.getWindowAncestor(menuBar);
+
+            title = String.format("HS Records - %s", id);
+
+            viewerView = ViewerView.newViewerView(window, title);
+
+            ViewerController.newViewerController(tiledImage, viewerView);
+
+            viewerView.show();
+        }));
+    } //openAttachment
 
     /**
      * Opens a directory using the input of this menu controller's menu view.
@@ -581,90 +727,54 @@ public final class MenuController {
     } //openDirectory
 
     /**
-     * Parses the specified {@code String} as an {@code Entry} object. If the specified {@code String} is not properly
-     * formatted, {@code null} is returned.
-     *
-     * @param string the {@code String} to be used in the operation
-     * @return the specified {@code String} as an {@code Entry} object.
-     * @throws NullPointerException if the specified {@code String} is {@code null}
-     */
-    private Entry parseEntry(String string) {
-        String[] parts;
-        String delimiter = ",";
-        int limit = 5;
-        String id;
-        String typeString;
-        String category;
-        String subcategory;
-        String tagsString;
-        Optional<Entry> optional;
-        String message;
-        Type type;
-        String[] tagArray;
-        Set<String> tags;
-        Entry entry;
-
-        Objects.requireNonNull(string, "the specified String is null");
-
-        parts = string.split(delimiter, limit);
-
-        if (parts.length != limit) {
-            return null;
-        } //end if
-
-        id = parts[0];
-
-        typeString = parts[1];
-
-        category = parts[2];
-
-        subcategory = parts[3];
-
-        tagsString = parts[4];
-
-        optional = this.model.findEntryWithId(id);
-
-        if (optional.isPresent()) {
-            message = "Error: An entry in the CSV file has an ID that already exists!";
-
-            this.showErrorMessage(message);
-
-            return null;
-        } //end if
-
-        typeString = typeString.toUpperCase();
-
-        try {
-            type = Type.valueOf(typeString);
-        } catch (IllegalArgumentException e) {
-            String exceptionMessage = e.getMessage();
-
-            this.logger.log(Level.INFO, exceptionMessage, e);
-
-            message = "Error: An entry in the CSV file has a type that is invalid!";
-
-            this.showErrorMessage(message);
+     * Imports a CSV file using the input of this menu controller's menu view.
+     */
+    private void importFromCsv() {
+        String description = "CSV Files";
+        String extension = "csv";
+        String fileName = "CSV file";
 
-            return null;
-        } //end try catch
+        this.importFile(description, extension, fileName, EntryImporter.Mode.INSERT, this.transferService::importCsv);
+    } //importFromCsv
 
-        tagArray = tagsString.split(delimiter);
+    /**
+     * Merges a CSV file into the model of this menu controller using the input of this menu controller's menu view.
+     * New entries are added, changed entries are replaced, and unchanged entries are skipped.
+     */
+    private void mergeFromCsv() {
+        String description = "CSV Files";
+        String extension = "csv";
+        String fileName = "CSV file";
 
-        tags = Arrays.stream(tagArray)
-                     .map(String::trim)
-                     .collect(Collectors.toUnmodifiableSet());
+        this.importFile(description, extension, fileName, EntryImporter.Mode.MERGE, this.transferService::importCsv);
+    } //mergeFromCsv
 
-        entry = new Entry(id, type, category, subcategory, tags);
+    /**
+     * Imports a JSON Lines file using the input of this menu controller's menu view.
+     */
+    private void importFromJsonLines() {
+        String description = "JSON Lines Files";
+        String extension = "jsonl";
+        String fileName = "JSON Lines file";
 
-        return entry;
-    } //parseEntry
+        this.importFile(description, extension, fileName, EntryImporter.Mode.INSERT,
+                        this.transferService::importJsonLines);
+    } //importFromJsonLines
 
     /**
-     * Imports a CSV file using the input of this menu controller's menu view.
+     * Imports a file using the input of this menu controller's menu view, the specified mode, and the specified import
+     * method. The import is performed off of the event dispatch thread, and its progress and throughput are shown in a
+     * progress view, from which it may be cancelled. The progress view is application modal, since the model of this
+     * menu controller is modified by the import, so no other window may use it until the import has finished.
+     *
+     * @param description the description of the file filter to be used in the operation
+     * @param extension the file extension to be used in the operation
+     * @param fileName the name of the kind of file, which is used in messages, to be used in the operation
+     * @param mode the mode to be used in the operation
+     * @param importMethod the import method to be used in the operation
      */
-    private void importFromCsv() {
-        String description = "CSV Files";
-        String extension = "csv";
+    private void importFile(String description, String extension, String fileName, EntryImporter.Mode mode,
+                            ImportMethod importMethod) {
         String dialogTitle = "HS Records";
         FileNameExtensionFilter filter;
         JMenuBar menuBar;
@@ -673,13 +783,16 @@ public final class MenuController {
         int state;
         File file;
         Path path;
-        List<String> lines;
-        String message;
-        Entry parsedEntry;
-        Set<Entry> entries;
-        String category;
-        String subcategory;
-        boolean added;
+        EntryImporter importer;
+        String progressMessage = "Importing...";
+        ProgressView progressView;
+        JDialog dialog;
+        JButton cancelButton;
+        AtomicBoolean cancelled;
+        long total = 0;
+        String format = "%,d entries imported (%,d entries/s)";
+        ProgressReporter progressReporter;
+        CompletableFuture<Integer> importFuture;
 
         filter = new FileNameExtensionFilter(description, extension);
 
@@ -705,166 +818,253 @@ public final class MenuController {
 
         path = file.toPath();
 
-        try {
-            lines = Files.readAllLines(path);
-        } catch (IOException e) {
-            String exceptionMessage = e.getMessage();
+        importer = EntryImporter.newEntryImporter(this.model, mode);
 
-            this.logger.log(Level.INFO, exceptionMessage, e);
+        progressView = ProgressView.newProgressView(window, progressMessage);
 
-            message = "Error: The CSV file could not be imported! Please contact support!";
+        dialog = progressView.getDialog();
 
-            this.showErrorMessage(message);
+        dialog.setModalityType(Dialog.ModalityType.APPLICATION_MODAL);
 
-            return;
-        } //end try catch
+        cancelButton = progressView.getCancelButton();
 
-        entries = new LinkedHashSet<>();
+        cancelled = new AtomicBoolean();
 
-        for (String line : lines) {
-            parsedEntry = this.parseEntry(line);
+        cancelButton.addActionListener(actionEvent -> {
+            cancelled.set(true);
 
-            if (parsedEntry == null) {
-                return;
-            } //end if
+            cancelButton.setEnabled(false);
+        });
 
-            entries.add(parsedEntry);
-        } //end if
+        cancelButton.setVisible(true);
 
-        for (Entry entry : entries) {
-            category = entry.category();
+        progressReporter = new ProgressReporter(progressView, total, format);
 
-            subcategory = entry.subcategory();
+        importFuture = importMethod.importFile(importer, path, progressReporter, cancelled::get);
 
-            if (!this.model.containsCategory(category)) {
-                added = this.model.addCategory(category);
+        importFuture.whenComplete((addedCount, throwable) -> SwingUtilities.invokeLater(() -> {
+            Throwable cause;
+            String message;
 
-                if (!added) {
-                    message = "Error: The CSV file could not be fully imported! Please contact support!";
+            progressView.dispose();
 
-                    this.showErrorMessage(message);
+            if (throwable == null) {
+                this.showImportMessage(fileName, mode, importer, addedCount);
 
-                    return;
-                } //end if
+                return;
             } //end if
 
-            if (!this.model.containsSubcategory(category, subcategory)) {
-                added = this.model.addSubcategory(category, subcategory);
-
-                if (!added) {
-                    message = "Error: The CSV file could not be fully imported! Please contact support!";
+            cause = throwable.getCause();
 
-                    this.showErrorMessage(message);
+            if (cause instanceof CancellationException) {
+                message = "The import was cancelled!";
 
-                    return;
-                } //end if
-            } //end if
+                this.showInformationMessage(message);
+            } else if ((cause instanceof UncheckedIOException)
+                       && (cause.getCause() instanceof EntryFormatException)) {
+                String exceptionMessage = cause.getCause()
+                                               .getMessage();
 
-            added = this.model.addEntry(entry);
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
 
-            if (!added) {
-                message = "Error: The CSV file could not be fully imported! Please contact support!";
+                message = String.format("Error: The %s could not be imported, because %s!", fileName,
+                                        exceptionMessage);
 
                 this.showErrorMessage(message);
+            } else {
+                String exceptionMessage = throwable.getMessage();
 
-                return;
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
+
+                message = String.format("Error: The %s could not be imported! Please contact support!", fileName);
+
+                this.showErrorMessage(message);
             } //end if
-        } //end for
+        }));
 
-        this.addController.fillIdTextField();
+        progressView.show();
+    } //importFile
 
-        this.addController.fillCategoryComboBox();
+    /**
+     * Shows the message of an import of a file that was successful.
+     *
+     * @param fileName the name of the kind of file, which is used in messages, to be used in the operation
+     * @param mode the mode of the import to be used in the operation
+     * @param importer the importer of the import to be used in the operation
+     * @param addedCount the number of entries that were added to be used in the operation
+     */
+    private void showImportMessage(String fileName, EntryImporter.Mode mode, EntryImporter importer, int addedCount) {
+        String mergeFormat = "The %s was successfully merged! %,d added, %,d updated, %,d unchanged.";
+        String message;
 
-        this.addController.fillSubcategoryComboBox();
+        if (mode == EntryImporter.Mode.MERGE) {
+            message = String.format(mergeFormat, fileName, addedCount, importer.getUpdatedCount(),
+                                    importer.getUnchangedCount());
+        } else {
+            message = String.format("The %s was successfully imported! %,d entries were added.", fileName,
+                                    addedCount);
+        } //end if
 
-        this.editController.fillNewCategoryComboBox();
+        this.showInformationMessage(message);
+    } //showImportMessage
 
-        this.editController.fillNewSubcategoryComboBox();
+    /**
+     * Exports a CSV file using the input of this menu controller's menu view.
+     */
+    private void exportToCsv() {
+        String description = "CSV Files";
+        String extension = "csv";
+        String fileName = "CSV file";
+        int total;
 
-        this.editController.fillCategoryComboBox();
+        total = this.model.getEntryCount();
 
-        this.deleteController.fillCategoryComboBox();
+        this.exportFile(description, extension, fileName, total, (path, progressConsumer, cancelled) -> {
+            EntryExporter.Format format = CsvFormat::writeEntry;
 
-        this.deleteController.fillSubcategoryComboBox();
+            return this.transferService.export(this.model, path, format, progressConsumer, cancelled);
+        });
+    } //exportToCsv
 
-        this.findController.fillCategoryComboBox();
+    /**
+     * Exports a JSON Lines file using the input of this menu controller's menu view.
+     */
+    private void exportToJsonLines() {
+        String description = "JSON Lines Files";
+        String extension = "jsonl";
+        String fileName = "JSON Lines file";
+        int total;
 
-        this.findController.fillSubcategoryComboBox();
+        total = this.model.getEntryCount();
 
-        message = "The CSV file was successfully imported!";
+        this.exportFile(description, extension, fileName, total, (path, progressConsumer, cancelled) -> {
+            EntryExporter.Format format = JsonLinesFormat::writeEntry;
 
-        this.showInformationMessage(message);
-    } //importFromCsv
+            return this.transferService.export(this.model, path, format, progressConsumer, cancelled);
+        });
+    } //exportToJsonLines
 
     /**
-     * Returns the conversion of the specified entry to a {@code String}. The returned {@code String} will be of the
-     * form of a line in a CSV file.
-     *
-     * @param entry the entry to be used in the operation
-     * @return the conversion of the specified entry to a {@code String}
+     * Exports a columnar file using the input of this menu controller's menu view.
      */
-    private String convertToString(Entry entry) {
-        String id;
-        Type type;
-        String category;
-        String subcategory;
-        Set<String> tags;
-        StringBuilder stringBuilder;
-        String delimiter = ",";
-        int length;
-        int lastIndex;
+    private void exportToColumnar() {
+        String description = "Columnar Files";
+        String extension = "hsc";
+        String fileName = "columnar file";
+        int total;
 
-        Objects.requireNonNull(entry, "the specified entry is null");
+        total = this.model.getEntryCount();
 
-        id = entry.id();
+        this.exportFile(description, extension, fileName, total, (path, progressConsumer, cancelled) -> {
+            return this.transferService.exportColumnar(this.model, path, progressConsumer, cancelled);
+        });
+    } //exportToColumnar
 
-        type = entry.type();
+    /**
+     * Exports the changes of the model of this menu controller since its last export to a JSON Lines file using the
+     * input of this menu controller's menu view. Entries that were added or edited are written as by
+     * {@link JsonLinesFormat#writeEntry(java.io.Writer, Entry)}, and entries that were deleted as tombstones. Once the
+     * export has succeeded, the watermark of the change log of the model is advanced, so the next export of the
+     * changes starts where this one ended.
+     */
+    private void exportChanges() {
+        String description = "JSON Lines Files";
+        String extension = "jsonl";
+        String fileName = "changes file";
+        ChangeLog changeLog;
+        int total;
+        String message;
 
-        category = entry.category();
+        changeLog = this.model.getChangeLog();
 
-        subcategory = entry.subcategory();
+        total = changeLog.getChanges()
+                         .size();
 
-        tags = entry.tags();
+        if (total == 0) {
+            message = "There are no changes since the last export!";
 
-        stringBuilder = new StringBuilder();
+            this.showInformationMessage(message);
 
-        stringBuilder.append(id);
+            return;
+        } //end if
 
-        stringBuilder.append(delimiter);
+        this.exportFile(description, extension, fileName, total, (path, progressConsumer, cancelled) -> {
+            long sequence = changeLog.getSequence();
 
-        stringBuilder.append(type);
+            return this.transferService.exportChanges(this.model, path, progressConsumer, cancelled)
+                                       .thenApplyAsync(count -> {
+                                           changeLog.markExported(sequence);
 
-        stringBuilder.append(delimiter);
+                                           return count;
+                                       }, SwingUtilities::invokeLater);
+        });
+    } //exportChanges
 
-        stringBuilder.append(category);
+    /**
+     * Exports the entries with a category, and their attachments, to a ZIP archive using the input of this menu
+     * controller's menu view.
+     */
+    private void exportCategoryToZip() {
+        String description = "ZIP Archives";
+        String extension = "zip";
+        String fileName = "ZIP archive";
 
-        stringBuilder.append(delimiter);
+        this.exportCategoryArchive(description, extension, fileName, ArchiveExporter.Format.ZIP);
+    } //exportCategoryToZip
 
-        stringBuilder.append(subcategory);
+    /**
+     * Exports the entries with a category, and their attachments, to a TAR archive using the input of this menu
+     * controller's menu view.
+     */
+    private void exportCategoryToTar() {
+        String description = "TAR Archives";
+        String extension = "tar";
+        String fileName = "TAR archive";
 
-        stringBuilder.append(delimiter);
+        this.exportCategoryArchive(description, extension, fileName, ArchiveExporter.Format.TAR);
+    } //exportCategoryToTar
 
-        for (String tag : tags) {
-            stringBuilder.append(tag);
+    /**
+     * Exports the entries with the category input of this menu controller's menu view, and their attachments, to an
+     * archive in the specified format.
+     *
+     * @param description the description of the file filter to be used in the operation
+     * @param extension the file extension to be used in the operation
+     * @param fileName the name of the kind of file, which is used in messages, to be used in the operation
+     * @param format the format to be used in the operation
+     */
+    private void exportCategoryArchive(String description, String extension, String fileName,
+                                       ArchiveExporter.Format format) {
+        String category;
+        Set<Entry> entries;
+        int total;
 
-            stringBuilder.append(delimiter);
-        } //end for
+        category = this.getCategoryInput();
 
-        length = stringBuilder.length();
+        if (category == null) {
+            return;
+        } //end if
 
-        lastIndex = length - 1;
+        entries = this.model.findEntriesWithCategory(category);
 
-        stringBuilder.deleteCharAt(lastIndex);
+        total = entries.size();
 
-        return stringBuilder.toString();
-    } //convertToString
+        this.exportFile(description, extension, fileName, total, (path, progressConsumer, cancelled) -> {
+            return this.transferService.exportArchive(this.model, category, path, format, progressConsumer,
+                                                      cancelled);
+        });
+    } //exportCategoryArchive
 
     /**
-     * Exports a CSV file using the input of this menu controller's menu view.
+     * Asks for a file to be saved using the input of this menu controller's menu view. If the selected file does not
+     * have the specified file extension, an error message is shown.
+     *
+     * @param description the description of the file filter to be used in the operation
+     * @param extension the file extension to be used in the operation
+     * @param fileName the name of the kind of file, which is used in messages, to be used in the operation
+     * @return the path of the selected file, or {@code null} if no file, or a file of another kind, was selected
      */
-    private void exportToCsv() {
-        String description = "CSV Files";
-        String extension = "csv";
+    private Path chooseSaveFile(String description, String extension, String fileName) {
         String dialogTitle = "HS Records";
         FileNameExtensionFilter filter;
         JMenuBar menuBar;
@@ -873,13 +1073,10 @@ public final class MenuController {
         int state;
         File file;
         String name;
-        String patternString = "(.)*.csv";
+        String patternString = "(.)*." + extension;
         String message;
         Pattern pattern;
         Matcher matcher;
-        Path path;
-        Set<Entry> entries;
-        Set<String> strings;
 
         filter = new FileNameExtensionFilter(description, extension);
 
@@ -898,7 +1095,7 @@ public final class MenuController {
         state = fileChooser.showSaveDialog(window);
 
         if (state != JFileChooser.APPROVE_OPTION) {
-            return;
+            return null;
         } //end if
 
         file = fileChooser.getSelectedFile();
@@ -910,90 +1107,271 @@ public final class MenuController {
         matcher = pattern.matcher(name);
 
         if (!matcher.matches()) {
-            message = "Error: The selected file is not a CSV file!";
+            message = String.format("Error: The selected file is not a %s!", fileName);
 
             this.showErrorMessage(message);
 
-            return;
+            return null;
         } //end if
 
-        path = file.toPath();
+        return file.toPath();
+    } //chooseSaveFile
 
-        entries = this.model.getEntries();
+    /**
+     * Exports a file using the input of this menu controller's menu view and the specified export method. The export
+     * is performed off of the event dispatch thread, and its progress is shown in a progress view, from which it may
+     * be cancelled. The export is tracked until it completes, so an exit waits for it to be cancelled.
+     *
+     * @param description the description of the file filter to be used in the operation
+     * @param extension the file extension to be used in the operation
+     * @param fileName the name of the kind of file, which is used in messages, to be used in the operation
+     * @param total the number of entries to be exported to be used in the operation
+     * @param exportMethod the export method to be used in the operation
+     */
+    private void exportFile(String description, String extension, String fileName, long total,
+                            ExportMethod exportMethod) {
+        Path path;
+        JMenuBar menuBar;
+        Window window;
+        String progressMessage = "Exporting...";
+        ProgressView progressView;
+        JButton cancelButton;
+        AtomicBoolean cancelled;
+        String format = "%,d entries written";
+        ProgressReporter progressReporter;
+        CompletableFuture<Long> exportFuture;
 
-        strings = new LinkedHashSet<>();
+        path = this.chooseSaveFile(description, extension, fileName);
 
-        entries.stream()
-               .map(this::convertToString)
-               .forEachOrdered(strings::add);
+        if (path == null) {
+            return;
+        } //end if
 
-        try {
-            Files.write(path, strings);
-        } catch (IOException e) {
-            String exceptionMessage = e.getMessage();
+        menuBar = this.menuView.getMenuBar();
 
-            this.logger.log(Level.INFO, exceptionMessage, e);
+        window = SwingUtilities.getWindowAncestor(menuBar);
 
-            message = "Error: The CSV file could not be exported! Please contact support!";
+        progressView = ProgressView.newProgressView(window, progressMessage);
 
-            this.showErrorMessage(message);
+        cancelButton = progressView.getCancelButton();
 
-            return;
-        } //end try catch
+        cancelled = new AtomicBoolean();
 
-        message = "The CSV file was successfully exported!";
+        cancelButton.addActionListener(actionEvent -> {
+            cancelled.set(true);
 
-        this.showInformationMessage(message);
-    } //exportToCsv
+            cancelButton.setEnabled(false);
+        });
+
+        cancelButton.setVisible(true);
+
+        progressReporter = new ProgressReporter(progressView, total, format);
+
+        exportFuture = exportMethod.exportFile(path, progressReporter, cancelled::get);
+
+        this.exports.put(exportFuture, cancelled);
+
+        exportFuture.whenComplete((count, throwable) -> SwingUtilities.invokeLater(() -> {
+            String resultMessage;
+
+            this.exports.remove(exportFuture);
+
+            progressView.dispose();
+
+            if (throwable == null) {
+                resultMessage = String.format("The %s was successfully exported! %,d entries were written.", fileName,
+                                              count);
+
+                this.showInformationMessage(resultMessage);
+            } else if (throwable.getCause() instanceof CancellationException) {
+                resultMessage = "The export was cancelled!";
+
+                this.showInformationMessage(resultMessage);
+            } else {
+                String exceptionMessage = throwable.getMessage();
+
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
+
+                resultMessage = String.format("Error: The %s could not be exported! Please contact support!",
+                                              fileName);
+
+                this.showErrorMessage(resultMessage);
+            } //end if
+        }));
+
+        progressView.show();
+    } //exportFile
+
+    /**
+     * Starts saving the model of this menu controller to a file. The save is performed off of the event dispatch
+     * thread, and its progress is shown in a progress view. The progress view is application modal, and the save and
+     * exit menu items are disabled until the save has finished, so a second save or an exit cannot be started while
+     * the save is in progress.
+     *
+     * @param message the message of the progress view to be used in the operation
+     * @return a future that completes, on the event dispatch thread, with whether or not the save was successful
+     */
+    private CompletableFuture<Boolean> startSave(String message) {
+        JMenuBar menuBar;
+        Window window;
+        JMenuItem saveMenuItem;
+        JMenuItem exitMenuItem;
+        ProgressView progressView;
+        JDialog dialog;
+        long expectedSize;
+        String format = "%,d bytes written";
+        ProgressReporter progressReporter;
+        CompletableFuture<Boolean> saveFuture;
+        CompletableFuture<Boolean> future;
+
+        menuBar = this.menuView.getMenuBar();
+
+        window = SwingUtilities.getWindowAncestor(menuBar);
+
+        saveMenuItem = this.menuView.getSaveMenuItem();
+
+        exitMenuItem = this.menuView.getExitMenuItem();
+
+        saveMenuItem.setEnabled(false);
+
+        exitMenuItem.setEnabled(false);
+
+        progressView = ProgressView.newProgressView(window, message);
+
+        dialog = progressView.getDialog();
+
+        dialog.setModalityType(Dialog.ModalityType.APPLICATION_MODAL);
+
+        expectedSize = this.persistenceService.getExpectedSaveSize();
+
+        progressReporter = new ProgressReporter(progressView, expectedSize, format);
+
+        saveFuture = this.persistenceService.save(this.model, progressReporter);
+
+        future = new CompletableFuture<>();
+
+        saveFuture.thenAccept(saved -> SwingUtilities.invokeLater(() -> {
+            progressView.dispose();
+
+            saveMenuItem.setEnabled(true);
+
+            exitMenuItem.setEnabled(true);
+
+            future.complete(saved);
+        }));
+
+        progressView.show();
+
+        return future;
+    } //startSave
 
     /**
      * Saves the model of this menu controller to a file.
      */
     private void save() {
-        boolean saved;
-        String message;
+        String message = "Saving...";
+        CompletableFuture<Boolean> future;
 
-        saved = Utilities.writeModelToFile(this.model);
+        future = this.startSave(message);
 
-        if (saved) {
-            message = "The save was successful!";
+        future.thenAccept(saved -> {
+            String resultMessage;
 
-            this.showInformationMessage(message);
-        } else {
-            message = "Error: The save was unsuccessful! Please contact support!";
+            if (saved) {
+                resultMessage = "The save was successful!";
 
-            this.showErrorMessage(message);
-        } //end if
+                this.showInformationMessage(resultMessage);
+            } else {
+                resultMessage = "Error: The save was unsuccessful! Please contact support!";
+
+                this.showErrorMessage(resultMessage);
+            } //end if
+        });
     } //save
 
     /**
-     * Exits the program.
+     * Exits the program once the model of this menu controller has been saved to a file. If any exports are in
+     * progress, they are cancelled, once confirmed, and the save is started after they have completed, so none of them
+     * is killed while its file is being written. The event dispatch thread is not blocked while the exports are
+     * cancelled or the save is in progress.
      */
     private void exit() {
-        boolean saved;
         JMenuBar menuBar;
         Window window;
-        String message;
+        String message = "Some exports are still in progress. Do you want to cancel them and exit?";
+        String title = "HS Records";
+        int choice;
+        JMenuItem saveMenuItem;
+        JMenuItem exitMenuItem;
+        CompletableFuture<?>[] futures;
 
-        saved = Utilities.writeModelToFile(this.model);
+        if (this.exports.isEmpty()) {
+            this.saveAndExit();
+
+            return;
+        } //end if
 
         menuBar = this.menuView.getMenuBar();
 
         window = SwingUtilities.getWindowAncestor(menuBar);
 
-        if (saved) {
-            int success = 0;
+        choice = JOptionPane.showConfirmDialog(window, message, title, JOptionPane.YES_NO_OPTION);
 
-            window.dispose();
+        if (choice != JOptionPane.YES_OPTION) {
+            return;
+        } //end if
 
-            System.exit(success);
-        } else {
-            message = "Error: The save was unsuccessful! Please contact support!";
+        saveMenuItem = this.menuView.getSaveMenuItem();
 
-            this.showErrorMessage(message);
-        } //end if
+        exitMenuItem = this.menuView.getExitMenuItem();
+
+        saveMenuItem.setEnabled(false);
+
+        exitMenuItem.setEnabled(false);
+
+        this.exports.values()
+                    .forEach(cancelled -> cancelled.set(true));
+
+        futures = this.exports.keySet()
+                              .toArray(new CompletableFuture<?>[0]);
+
+        CompletableFuture.allOf(futures)
+                         .whenComplete((ignored, throwable) -> SwingUtilities.invokeLater(this::saveAndExit));
     } //exit
 
+    /**
+     * Exits the program once the model of this menu controller has been saved to a file. The event dispatch thread is
+     * not blocked while the save is in progress.
+     */
+    private void saveAndExit() {
+        String message = "Saving before exit...";
+        CompletableFuture<Boolean> future;
+
+        future = this.startSave(message);
+
+        future.thenAccept(saved -> {
+            JMenuBar menuBar;
+            Window window;
+            String resultMessage;
+
+            menuBar = this.menuView.getMenuBar();
+
+            window = SwingUtilities.getWindowAncestor(menuBar);
+
+            if (saved) {
+                int success = 0;
+
+                window.dispose();
+
+                System.exit(success);
+            } else {
+                resultMessage = "Error: The save was unsuccessful! Please contact support!";
+
+                this.showErrorMessage(resultMessage);
+            } //end if
+        });
+    } //saveAndExit
+
     /**
      * Shows the latest ID of the model of this menu controller.
      */
@@ -1129,9 +1507,18 @@ public final class MenuController {
                     edited = this.model.editEntriesWithCategory(category, newCategory);
 
                     if (edited) {
+                        Path source;
+                        Path target;
+
                         message = "The records were successfully edited!";
 
                         this.showInformationMessage(message);
+
+                        source = Path.of(category);
+
+                        target = Path.of(newCategory);
+
+                        this.relocateAttachments(source, target);
                     } else {
                         message = "Error: The records could not be edited! Please contact support!";
 
@@ -1332,9 +1719,18 @@ public final class MenuController {
                     edited = this.model.editEntriesWithSubcategory(category, subcategory, newSubcategory);
 
                     if (edited) {
+                        Path source;
+                        Path target;
+
                         message = "The records were successfully edited!";
 
                         this.showInformationMessage(message);
+
+                        source = Path.of(category, subcategory);
+
+                        target = Path.of(category, newSubcategory);
+
+                        this.relocateAttachments(source, target);
                     } else {
                         message = "Error: The records could not be edited! Please contact support!";
 
@@ -1426,9 +1822,632 @@ public final class MenuController {
         } //end if
     } //deleteSubcategory
 
+    /**
+     * Writes a report of the attachments that have no matching record, and the records whose attachment does not
+     * exist, using the input of this menu controller's menu view. The attachments are reconciled off of the event
+     * dispatch thread, and the progress is shown in a progress view, from which the reconciliation may be cancelled.
+     */
+    private void reconcileAttachments() {
+        String description = "CSV Files";
+        String extension = "csv";
+        String fileName = "reconciliation report";
+        Path path;
+        JMenuBar menuBar;
+        Window window;
+        String progressMessage = "Reconciling attachments...";
+        ProgressView progressView;
+        JButton cancelButton;
+        AtomicBoolean cancelled;
+        long total = 0;
+        String format = "%,d files checked (%,d files/s)";
+        ProgressReporter progressReporter;
+        CompletableFuture<AttachmentReconciler.Result> reconcileFuture;
+
+        path = this.chooseSaveFile(description, extension, fileName);
+
+        if (path == null) {
+            return;
+        } //end if
+
+        menuBar = this.menuView.getMenuBar();
+
+        window = SwingUtilities.getWindowAncestor(menuBar);
+
+        progressView = ProgressView.newProgressView(window, progressMessage);
+
+        cancelButton = progressView.getCancelButton();
+
+        cancelled = new AtomicBoolean();
+
+        cancelButton.addActionListener(actionEvent -> {
+            cancelled.set(true);
+
+            cancelButton.setEnabled(false);
+        });
+
+        cancelButton.setVisible(true);
+
+        progressReporter = new ProgressReporter(progressView, total, format);
+
+        reconcileFuture = this.attachmentService.reconcile(this.model, path, progressReporter, cancelled::get);
+
+        reconcileFuture.whenComplete((result, throwable) -> SwingUtilities.invokeLater(() -> {
+            String resultFormat = "The %s was successfully written! %,d orphaned, %,d misplaced, %,d missing.";
+            String resultMessage;
+
+            progressView.dispose();
+
+            if (throwable == null) {
+                resultMessage = String.format(resultFormat, fileName, result.orphanedCount(), result.misplacedCount(),
+                                              result.missingCount());
+
+                this.showInformationMessage(resultMessage);
+            } else if (throwable.getCause() instanceof CancellationException) {
+                resultMessage = "The reconciliation was cancelled!";
+
+                this.showInformationMessage(resultMessage);
+            } else {
+                String exceptionMessage = throwable.getMessage();
+
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
+
+                resultMessage = String.format("Error: The %s could not be written! Please contact support!",
+                                              fileName);
+
+                this.showErrorMessage(resultMessage);
+            } //end if
+        }));
+
+        progressView.show();
+    } //reconcileAttachments
+
+    /**
+     * Exports the records whose attachment does not exist to a CSV file using the input of this menu controller's menu
+     * view. The records are found in the attachment index of this menu controller, and each of them is confirmed on
+     * the file system before it is written, so a file that the index has missed is not reported.
+     */
+    private void exportRecordsWithoutFiles() {
+        String description = "CSV Files";
+        String extension = "csv";
+        String fileName = "CSV file";
+        String message;
+        long total = 0;
+
+        if (!this.attachmentIndex.isReady()) {
+            message = "Error: The attachments are still being indexed! Please try again later.";
+
+            this.showErrorMessage(message);
+
+            return;
+        } //end if
+
+        this.exportFile(description, extension, fileName, total, (path, progressConsumer, cancelled) -> {
+            return this.transferService.exportWithoutAttachments(this.model, this.attachmentIndex, path,
+                                                                 progressConsumer, cancelled);
+        });
+    } //exportRecordsWithoutFiles
+
+    /**
+     * Creates the category and subcategory directories of every category and subcategory of the model of this menu
+     * controller that are missing from the file system, and shows the number of directories that were created, that
+     * already existed, and that could not be created.
+     */
+    private void provisionDirectories() {
+        Set<String> categories;
+        String message;
+        long total;
+        JMenuBar menuBar;
+        Window window;
+        String progressMessage = "Provisioning directories...";
+        ProgressView progressView;
+        JButton cancelButton;
+        AtomicBoolean cancelled;
+        String format = "%,d directories checked (%,d directories/s)";
+        ProgressReporter progressReporter;
+        CompletableFuture<DirectoryProvisioner.Result> provisionFuture;
+
+        categories = this.model.getCategories();
+
+        if (categories.isEmpty()) {
+            message = "Error: No categories have been previously added!";
+
+            this.showErrorMessage(message);
+
+            return;
+        } //end if
+
+        total = categories.size();
+
+        for (String category : categories) {
+            total += this.model.getSubcategories(category)
+                               .size();
+        } //end for
+
+        menuBar = this.menuView.getMenuBar();
+
+        window = SwingUtilities.getWindowAncestor(menuBar);
+
+        progressView = ProgressView.newProgressView(window, progressMessage);
+
+        cancelButton = progressView.getCancelButton();
+
+        cancelled = new AtomicBoolean();
+
+        cancelButton.addActionListener(actionEvent -> {
+            cancelled.set(true);
+
+            cancelButton.setEnabled(false);
+        });
+
+        cancelButton.setVisible(true);
+
+        progressReporter = new ProgressReporter(progressView, total, format);
+
+        provisionFuture = this.attachmentService.provisionDirectories(this.model, progressReporter, cancelled::get);
+
+        provisionFuture.whenComplete((result, throwable) -> SwingUtilities.invokeLater(() -> {
+            String resultFormat = "The directories were successfully provisioned! %,d new, %,d existing, %,d failed.";
+            String resultMessage;
+
+            progressView.dispose();
+
+            if (throwable == null) {
+                resultMessage = String.format(resultFormat, result.createdCount(), result.existingCount(),
+                                              result.failedCount());
+
+                this.showInformationMessage(resultMessage);
+            } else if (throwable.getCause() instanceof CancellationException) {
+                resultMessage = "The provisioning was cancelled!";
+
+                this.showInformationMessage(resultMessage);
+            } else {
+                String exceptionMessage = throwable.getMessage();
+
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
+
+                resultMessage = "Error: The directories could not be provisioned! Please contact support!";
+
+                this.showErrorMessage(resultMessage);
+            } //end if
+        }));
+
+        progressView.show();
+    } //provisionDirectories
+
+    /**
+     * Migrates the attachments in the working directory to the content store, so that duplicate attachments are stored
+     * once, and shows the number of attachments that were migrated, the number of duplicates that were replaced by
+     * links, and the space that was saved.
+     */
+    private void deduplicateAttachments() {
+        JMenuBar menuBar;
+        Window window;
+        String progressMessage = "Deduplicating attachments...";
+        ProgressView progressView;
+        JButton cancelButton;
+        AtomicBoolean cancelled;
+        long total = 0;
+        String format = "%,d attachments hashed (%,d attachments/s)";
+        ProgressReporter progressReporter;
+        CompletableFuture<ContentStore.Result> migrateFuture;
+
+        menuBar = this.menuView.getMenuBar();
+
+        window = SwingUtilities.getWindowAncestor(menuBar);
+
+        progressView = ProgressView.newProgressView(window, progressMessage);
+
+        cancelButton = progressView.getCancelButton();
+
+        cancelled = new AtomicBoolean();
+
+        cancelButton.addActionListener(actionEvent -> {
+            cancelled.set(true);
+
+            cancelButton.setEnabled(false);
+        });
+
+        cancelButton.setVisible(true);
+
+        if (this.attachmentIndex.isReady()) {
+            total = this.attachmentIndex.getAttachmentCount();
+        } //end if
+
+        progressReporter = new ProgressReporter(progressView, total, format);
+
+        migrateFuture = this.attachmentService.migrateToStore(progressReporter, cancelled::get);
+
+        migrateFuture.whenComplete((result, throwable) -> SwingUtilities.invokeLater(() -> {
+            String resultFormat = "The attachments were successfully deduplicated! %,d hashed, %,d linked, %,d MB"
+                                  + " saved, %,d failed.";
+            long megabyteCount;
+            String resultMessage;
+
+            progressView.dispose();
+
+            if (throwable == null) {
+                megabyteCount = result.savedByteCount() / 1_048_576;
+
+                resultMessage = String.format(resultFormat, result.fileCount(), result.linkedCount(), megabyteCount,
+                                              result.failedCount());
+
+                this.showInformationMessage(resultMessage);
+            } else if (throwable.getCause() instanceof CancellationException) {
+                resultMessage = "The deduplication was cancelled!";
+
+                this.showInformationMessage(resultMessage);
+            } else {
+                String exceptionMessage = throwable.getMessage();
+
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
+
+                resultMessage = "Error: The attachments could not be deduplicated! Please contact support!";
+
+                this.showErrorMessage(resultMessage);
+            } //end if
+        }));
+
+        progressView.show();
+    } //deduplicateAttachments
+
+    /**
+     * Verifies the attachments in the working directory against their recorded checksums now, rather than waiting for
+     * the next scheduled pass, and shows its report. A scheduled pass that is running is stopped and resumed by this
+     * one.
+     */
+    private void verifyAttachments() {
+        JMenuBar menuBar;
+        Window window;
+        String progressMessage = "Verifying attachments...";
+        ProgressView progressView;
+        JButton cancelButton;
+        AtomicBoolean cancelled;
+        long total = 0;
+        String format = "%,d attachments verified (%,d attachments/s)";
+        ProgressReporter progressReporter;
+        CompletableFuture<IntegrityVerifier.Report> verifyFuture;
+
+        menuBar = this.menuView.getMenuBar();
+
+        window = SwingUtilities.getWindowAncestor(menuBar);
+
+        progressView = ProgressView.newProgressView(window, progressMessage);
+
+        cancelButton = progressView.getCancelButton();
+
+        cancelled = new AtomicBoolean();
+
+        cancelButton.addActionListener(actionEvent -> {
+            cancelled.set(true);
+
+            cancelButton.setEnabled(false);
+        });
+
+        cancelButton.setVisible(true);
+
+        if (this.attachmentIndex.isReady()) {
+            total = this.attachmentIndex.getAttachmentCount();
+        } //end if
+
+        progressReporter = new ProgressReporter(progressView, total, format);
+
+        verifyFuture = this.integrityVerifier.verifyNow(progressReporter, cancelled::get);
+
+        verifyFuture.whenComplete((report, throwable) -> SwingUtilities.invokeLater(() -> {
+            String resultMessage;
+
+            progressView.dispose();
+
+            if (throwable == null) {
+                this.showVerificationReport(report);
+            } else if (throwable.getCause() instanceof CancellationException) {
+                resultMessage = "The verification was cancelled! It will be resumed by the next pass.";
+
+                this.showInformationMessage(resultMessage);
+            } else {
+                String exceptionMessage = throwable.getMessage();
+
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
+
+                resultMessage = "Error: The attachments could not be verified! Please contact support!";
+
+                this.showErrorMessage(resultMessage);
+            } //end if
+        }));
+
+        progressView.show();
+    } //verifyAttachments
+
+    /**
+     * Shows the report of the last pass that verified the attachments in the working directory, or a message that
+     * there is none yet.
+     */
+    private void showLastVerificationReport() {
+        Optional<IntegrityVerifier.Report> optional;
+        String message;
+
+        optional = this.integrityVerifier.getLastReport();
+
+        if (optional.isEmpty()) {
+            message = "The attachments have not been verified yet!";
+
+            this.showInformationMessage(message);
+
+            return;
+        } //end if
+
+        this.showVerificationReport(optional.get());
+    } //showLastVerificationReport
+
+    /**
+     * Shows the specified report of a pass that verified the attachments, with the number of attachments that matched,
+     * were recorded, are corrupt, or could not be read, and the paths of the first corrupt attachments.
+     *
+     * @param report the report to be used in the operation
+     */
+    private void showVerificationReport(IntegrityVerifier.Report report) {
+        String resultFormat = "The pass completed at %tF %<tT found %,d matched, %,d recorded, %,d corrupt, %,d failed.";
+        String corruptFormat = "%n%nThese attachments are corrupt. Restore them from a backup:%n%s";
+        int corruptLimit = 10;
+        IntegrityVerifier.Result result;
+        String resultMessage;
+        List<Path> corruptAttachments;
+        StringJoiner joiner;
+
+        result = report.result();
+
+        resultMessage = String.format(resultFormat, report.passCompletedAt(), result.verifiedCount(),
+                                      result.recordedCount(), result.corruptCount(), result.failedCount());
+
+        if (result.corruptCount() == 0) {
+            resultMessage = "The attachments were successfully verified! " + resultMessage;
+
+            this.showInformationMessage(resultMessage);
+
+            return;
+        } //end if
+
+        resultMessage = "Error: Some attachments are corrupt! Please contact support! " + resultMessage;
+
+        corruptAttachments = result.corruptAttachments();
+
+        if (!corruptAttachments.isEmpty()) {
+            joiner = new StringJoiner(System.lineSeparator());
+
+            corruptAttachments.stream()
+                              .limit(corruptLimit)
+                              .map(Path::toString)
+                              .forEach(joiner::add);
+
+            if (corruptAttachments.size() > corruptLimit) {
+                joiner.add(String.format("and %,d more (see the log)", corruptAttachments.size() - corruptLimit));
+            } //end if
+
+            resultMessage += String.format(corruptFormat, joiner);
+        } //end if
+
+        this.showErrorMessage(resultMessage);
+    } //showVerificationReport
+
+    /**
+     * Ingests the scan tree in the working directory, adding a record for every attachment whose ID does not have one
+     * yet, with the type input of this menu controller's menu view, and adding the categories and subcategories of the
+     * scan tree that the model does not contain yet. The model of this menu controller is modified by the ingest, so
+     * no other window may use it until the ingest has finished.
+     */
+    private void ingestScanTree() {
+        JMenuBar menuBar;
+        Window window;
+        String message = "Enter the type of the scanned records:";
+        String title = "HS Records";
+        Type[] types;
+        Type type;
+        ScanTreeReader reader;
+        EntryImporter importer;
+        String progressMessage = "Ingesting...";
+        ProgressView progressView;
+        JDialog dialog;
+        JButton cancelButton;
+        AtomicBoolean cancelled;
+        long total = 0;
+        String format = "%,d attachments ingested (%,d attachments/s)";
+        ProgressReporter progressReporter;
+        CompletableFuture<Integer> importFuture;
+
+        menuBar = this.menuView.getMenuBar();
+
+        window = SwingUtilities.getWindowAncestor(menuBar);
+
+        types = Type.values();
+
+        type = (Type) JOptionPane.showInputDialog(window, message, title, JOptionPane.QUESTION_MESSAGE, null, types,
+                                                  null);
+
+        if (type == null) {
+            return;
+        } //end if
+
+        reader = ScanTreeReader.newScanTreeReader(type);
+
+        importer = EntryImporter.newEntryImporter(this.model, EntryImporter.Mode.KEEP);
+
+        progressView = ProgressView.newProgressView(window, progressMessage);
+
+        dialog = progressView.getDialog();
+
+        dialog.setModalityType(Dialog.ModalityType.APPLICATION_MODAL);
+
+        cancelButton = progressView.getCancelButton();
+
+        cancelled = new AtomicBoolean();
+
+        cancelButton.addActionListener(actionEvent -> {
+            cancelled.set(true);
+
+            cancelButton.setEnabled(false);
+        });
+
+        cancelButton.setVisible(true);
+
+        progressReporter = new ProgressReporter(progressView, total, format);
+
+        importFuture = this.transferService.importTree(importer, reader, progressReporter, cancelled::get);
+
+        importFuture.whenComplete((addedCount, throwable) -> SwingUtilities.invokeLater(() -> {
+            String resultFormat = "The scan tree was successfully ingested! %,d added, %,d existing, %,d skipped.";
+            String resultMessage;
+
+            progressView.dispose();
+
+            if (throwable == null) {
+                resultMessage = String.format(resultFormat, addedCount, importer.getUnchangedCount(),
+                                              reader.getSkippedCount());
+
+                this.showInformationMessage(resultMessage);
+            } else if (throwable.getCause() instanceof CancellationException) {
+                resultMessage = "The ingest was cancelled!";
+
+                this.showInformationMessage(resultMessage);
+            } else {
+                String exceptionMessage = throwable.getMessage();
+
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
+
+                resultMessage = "Error: The scan tree could not be ingested! Please contact support!";
+
+                this.showErrorMessage(resultMessage);
+            } //end if
+        }));
+
+        progressView.show();
+    } //ingestScanTree
+
+    /**
+     * Relocates the attachments under the specified source directory to the specified target directory, so that they
+     * follow records whose category or subcategory was edited. The relocation is recorded, and the model of this menu
+     * controller is then saved, before any attachment is moved, so the attachments are never moved away from where
+     * the saved records expect them. The number of attachments that were moved, and that could not be moved, is then
+     * shown, along with the attachments that were not moved because a file with the same name already exists. A
+     * relocation that does not complete is resumed the next time the application is started.
+     *
+     * @param source the source directory to be used in the operation
+     * @param target the target directory to be used in the operation
+     */
+    private void relocateAttachments(Path source, Path target) {
+        CompletableFuture<Void> recordFuture;
+
+        recordFuture = this.attachmentService.recordRelocation(source, target);
+
+        recordFuture.whenComplete((ignored, throwable) -> SwingUtilities.invokeLater(() -> {
+            String message = "Saving before moving attachments...";
+            String resultMessage;
+
+            if (throwable != null) {
+                String exceptionMessage = throwable.getMessage();
+
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
+
+                resultMessage = "Error: The attachments could not be moved! Please contact support!";
+
+                this.showErrorMessage(resultMessage);
+
+                return;
+            } //end if
+
+            this.startSave(message)
+                .thenAccept(saved -> {
+                    String failedMessage = "Error: The save was unsuccessful, so the attachments were not moved! They"
+                                           + " will be moved the next time HS Records is started after a successful"
+                                           + " save.";
+
+                    if (saved) {
+                        this.resumeRelocations();
+                    } else {
+                        this.showErrorMessage(failedMessage);
+                    } //end if
+                });
+        }));
+    } //relocateAttachments
+
+    /**
+     * Resumes the pending relocations of attachments against the model of this menu controller, which must have just
+     * been saved, and shows the number of attachments that were moved, and that could not be moved, along with the
+     * attachments that were not moved because a file with the same name already exists.
+     */
+    private void resumeRelocations() {
+        JMenuBar menuBar;
+        Window window;
+        String progressMessage = "Moving attachments...";
+        ProgressView progressView;
+        String format = "%,d attachments and directories moved (%,d/s)";
+        ProgressReporter progressReporter;
+        CompletableFuture<AttachmentRelocator.Result> relocateFuture;
+
+        menuBar = this.menuView.getMenuBar();
+
+        window = SwingUtilities.getWindowAncestor(menuBar);
+
+        progressView = ProgressView.newProgressView(window, progressMessage);
+
+        progressReporter = new ProgressReporter(progressView, 0, format);
+
+        relocateFuture = this.attachmentService.resumeRelocations(this.model, progressReporter);
+
+        relocateFuture.whenComplete((result, throwable) -> SwingUtilities.invokeLater(() -> {
+            String resultFormat = "The attachments were successfully moved! %,d directories, %,d files moved.";
+            String failedFormat = "Error: %,d attachments could not be moved! They will be moved again the next time"
+                                  + " HS Records is started.";
+            String conflictFormat = "%n%nThese attachments were not moved, as a file with the same name already"
+                                    + " exists where they belong. Move or remove one of each pair by hand:%n%s";
+            int conflictLimit = 10;
+            List<Path> conflicts;
+            StringJoiner joiner;
+            String resultMessage;
+
+            progressView.dispose();
+
+            if (throwable != null) {
+                String exceptionMessage = throwable.getMessage();
+
+                this.logger.log(Level.INFO, exceptionMessage, throwable);
+
+                resultMessage = "Error: The attachments could not be moved! Please contact support!";
+
+                this.showErrorMessage(resultMessage);
+            } else if (result.failedCount() > 0) {
+                resultMessage = String.format(failedFormat, result.failedCount());
+
+                conflicts = result.conflicts();
+
+                if (!conflicts.isEmpty()) {
+                    joiner = new StringJoiner(System.lineSeparator());
+
+                    conflicts.stream()
+                             .limit(conflictLimit)
+                             .map(Path::toString)
+                             .forEach(joiner::add);
+
+                    if (conflicts.size() > conflictLimit) {
+                        joiner.add(String.format("and %,d more (see the log)", conflicts.size() - conflictLimit));
+                    } //end if
+
+                    resultMessage += String.format(conflictFormat, joiner);
+                } //end if
+
+                this.showErrorMessage(resultMessage);
+            } else {
+                resultMessage = String.format(resultFormat, result.directoryCount(), result.fileCount());
+
+                this.showInformationMessage(resultMessage);
+            } //end if
+        }));
+
+        progressView.show();
+    } //resumeRelocations
+
     /**
      * Returns a new {@code MenuController} with the specified model, menu view, add controller, edit controller,
-     * delete controller, and find controller.
+     * delete controller, find controller, and persistence service.
      *
      * @param model the model to be used in the operation
      * @param menuView the menu view to be used in the operation
@@ -1436,20 +2455,29 @@ public final class MenuController {
      * @param editController the edit controller to be used in the operation
      * @param deleteController the delete controller to be used in construction
      * @param findController the find controller to be used in construction
+     * @param persistenceService the persistence service to be used in construction
      * @return a new {@code MenuController} with the specified model, menu view, add controller, edit controller,
-     * delete controller, and find controller
+     * delete controller, find controller, and persistence service
      * @throws NullPointerException if the specified model, menu view, add controller, edit controller, delete
-     * controller, or find controller is {@code null}
+     * controller, find controller, or persistence service is {@code null}
      */
     public static MenuController newMenuController(Model model, MenuView menuView, AddController addController,
                                                    EditController editController, DeleteController deleteController,
-                                                   FindController findController) {
+                                                   FindController findController,
+                                                   PersistenceService persistenceService) {
         MenuController menuController;
         JMenuItem createDirectoryMenuItem;
         JMenuItem openRecordMenuItem;
         JMenuItem openDirectoryMenuItem;
         JMenuItem importMenuItem;
+        JMenuItem importJsonLinesMenuItem;
+        JMenuItem mergeMenuItem;
         JMenuItem exportMenuItem;
+        JMenuItem exportJsonLinesMenuItem;
+        JMenuItem exportColumnarMenuItem;
+        JMenuItem exportChangesMenuItem;
+        JMenuItem exportZipMenuItem;
+        JMenuItem exportTarMenuItem;
         JMenuItem saveMenuItem;
         JMenuItem exitMenuItem;
         JMenuItem latestMenuItem;
@@ -1460,9 +2488,16 @@ public final class MenuController {
         JMenuItem addSubcategoryMenuItem;
         JMenuItem editSubcategoryMenuItem;
         JMenuItem deleteSubcategoryMenuItem;
+        JMenuItem reconcileMenuItem;
+        JMenuItem exportMissingMenuItem;
+        JMenuItem provisionMenuItem;
+        JMenuItem ingestMenuItem;
+        JMenuItem deduplicateMenuItem;
+        JMenuItem verifyMenuItem;
+        JMenuItem verificationReportMenuItem;
 
         menuController = new MenuController(model, menuView, addController, editController, deleteController,
-                                            findController);
+                                            findController, persistenceService);
 
         createDirectoryMenuItem = menuController.menuView.getCreateDirectoryMenuItem();
 
@@ -1472,8 +2507,22 @@ public final class MenuController {
 
         importMenuItem = menuController.menuView.getImportMenuItem();
 
+        importJsonLinesMenuItem = menuController.menuView.getImportJsonLinesMenuItem();
+
+        mergeMenuItem = menuController.menuView.getMergeMenuItem();
+
         exportMenuItem = menuController.menuView.getExportMenuItem();
 
+        exportJsonLinesMenuItem = menuController.menuView.getExportJsonLinesMenuItem();
+
+        exportColumnarMenuItem = menuController.menuView.getExportColumnarMenuItem();
+
+        exportChangesMenuItem = menuController.menuView.getExportChangesMenuItem();
+
+        exportZipMenuItem = menuController.menuView.getExportZipMenuItem();
+
+        exportTarMenuItem = menuController.menuView.getExportTarMenuItem();
+
         saveMenuItem = menuController.menuView.getSaveMenuItem();
 
         exitMenuItem = menuController.menuView.getExitMenuItem();
@@ -1494,6 +2543,20 @@ public final class MenuController {
 
         deleteSubcategoryMenuItem = menuController.menuView.getDeleteSubcategoryMenuItem();
 
+        reconcileMenuItem = menuController.menuView.getReconcileMenuItem();
+
+        exportMissingMenuItem = menuController.menuView.getExportMissingMenuItem();
+
+        provisionMenuItem = menuController.menuView.getProvisionMenuItem();
+
+        ingestMenuItem = menuController.menuView.getIngestMenuItem();
+
+        deduplicateMenuItem = menuController.menuView.getDeduplicateMenuItem();
+
+        verifyMenuItem = menuController.menuView.getVerifyMenuItem();
+
+        verificationReportMenuItem = menuController.menuView.getVerificationReportMenuItem();
+
         createDirectoryMenuItem.addActionListener(actionEvent -> menuController.createDirectory());
 
         openRecordMenuItem.addActionListener(actionEvent -> menuController.openRecord());
@@ -1502,8 +2565,22 @@ public final class MenuController {
 
         importMenuItem.addActionListener(actionEvent -> menuController.importFromCsv());
 
+        importJsonLinesMenuItem.addActionListener(actionEvent -> menuController.importFromJsonLines());
+
+        mergeMenuItem.addActionListener(actionEvent -> menuController.mergeFromCsv());
+
         exportMenuItem.addActionListener(actionEvent -> menuController.exportToCsv());
 
+        exportJsonLinesMenuItem.addActionListener(actionEvent -> menuController.exportToJsonLines());
+
+        exportColumnarMenuItem.addActionListener(actionEvent -> menuController.exportToColumnar());
+
+        exportChangesMenuItem.addActionListener(actionEvent -> menuController.exportChanges());
+
+        exportZipMenuItem.addActionListener(actionEvent -> menuController.exportCategoryToZip());
+
+        exportTarMenuItem.addActionListener(actionEvent -> menuController.exportCategoryToTar());
+
         saveMenuItem.addActionListener(actionEvent -> menuController.save());
 
         exitMenuItem.addActionListener(actionEvent -> menuController.exit());
@@ -1524,6 +2601,45 @@ public final class MenuController {
 
         deleteSubcategoryMenuItem.addActionListener(actionEvent -> menuController.deleteSubcategory());
 
+        reconcileMenuItem.addActionListener(actionEvent -> menuController.reconcileAttachments());
+
+        exportMissingMenuItem.addActionListener(actionEvent -> menuController.exportRecordsWithoutFiles());
+
+        provisionMenuItem.addActionListener(actionEvent -> menuController.provisionDirectories());
+
+        ingestMenuItem.addActionListener(actionEvent -> menuController.ingestScanTree());
+
+        deduplicateMenuItem.addActionListener(actionEvent -> menuController.deduplicateAttachments());
+
+        verifyMenuItem.addActionListener(actionEvent -> menuController.verifyAttachments());
+
+        verificationReportMenuItem.addActionListener(actionEvent -> menuController.showLastVerificationReport());
+
+        menuController.attachmentService.resumeRelocations(model, progress -> {})
+                                        .exceptionally(throwable -> {
+                                            String exceptionMessage = throwable.getMessage();
+
+                                            menuController.logger.log(Level.WARNING, exceptionMessage, throwable);
+
+                                            return null;
+                                        });
+
+        menuController.attachmentIndex.start()
+                                      .exceptionally(throwable -> {
+                                          String exceptionMessage = throwable.getMessage();
+
+                                          menuController.logger.log(Level.WARNING, exceptionMessage, throwable);
+
+                                          return null;
+                                      });
+
+        menuController.integrityVerifier.start(report -> {
+            if (report.result()
+                      .corruptCount() > 0) {
+                SwingUtilities.invokeLater(() -> menuController.showVerificationReport(report));
+            } //end if
+        });
+
         return menuController;
     } //newMenuController
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.records.hs.controller;
+
+import java.util.function.LongConsumer;
+import com.records.hs.view.ProgressView;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Objects;
+import javax.swing.SwingUtilities;
+import javax.swing.JProgressBar;
+
+/**
+ * A progress reporter in the HS Records application. Progress reporters may be called from any thread. Updates are
+ * coalesced, so at most one update of the progress view is pending on the event dispatch thread at any time, and they
+ * are rate limited, so the progress view is updated at most once per update interval, no matter how often progress is
+ * reported.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class ProgressReporter implements LongConsumer {
+    /**
+     * The minimum time between two updates of a progress view, in nanoseconds.
+     */
+    private static final long UPDATE_INTERVAL;
+
+    /**
+     * The progress view of this progress reporter.
+     */
+    private final ProgressView progressView;
+
+    /**
+     * The expected total of this progress reporter, or {@code 0} if the total is unknown.
+     */
+    private final long total;
+
+    /**
+     * The format of this progress reporter. The format is applied to the current value and the current rate, in values
+     * per second, so a format may show either or both of them.
+     */
+    private final String format;
+
+    /**
+     * The start time of this progress reporter, in nanoseconds.
+     */
+    private final long startTime;
+
+    /**
+     * The time of the next update of this progress reporter, in nanoseconds.
+     */
+    private final AtomicLong nextUpdateTime;
+
+    /**
+     * The latest value of this progress reporter.
+     */
+    private final AtomicLong latestValue;
+
+    /**
+     * The update pending flag of this progress reporter.
+     */
+    private final AtomicBoolean updatePending;
+
+    static {
+        UPDATE_INTERVAL = 100_000_000L;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ProgressReporter} object with the specified progress view, total, and
+     * format.
+     *
+     * @param progressView the progress view to be used in construction
+     * @param total the expected total to be used in construction, or {@code 0} if the total is unknown
+     * @param format the format to be used in construction
+     * @throws NullPointerException if the specified progress view or format is {@code null}
+     * @throws IllegalArgumentException if the specified total is negative
+     */
+    ProgressReporter(ProgressView progressView, long total, String format) {
+        Objects.requireNonNull(progressView, "the specified progress view is null");
+
+        Objects.requireNonNull(format, "the specified format is null");
+
+        if (total < 0) {
+            throw new IllegalArgumentException("the specified total is negative");
+        } //end if
+
+        this.progressView = progressView;
+        this.total = total;
+        this.format = format;
+        this.startTime = System.nanoTime();
+        this.nextUpdateTime = new AtomicLong(this.startTime);
+        this.latestValue = new AtomicLong();
+        this.updatePending = new AtomicBoolean();
+    } //ProgressReporter
+
+    /**
+     * Returns the latest value of this progress reporter.
+     *
+     * @return the latest value of this progress reporter
+     */
+    long getLatestValue() {
+        return this.latestValue.get();
+    } //getLatestValue
+
+    /**
+     * Reports the specified value to this progress reporter.
+     *
+     * @param value the value to be used in the operation
+     */
+    @Override
+    public void accept(long value) {
+        long now;
+        long updateTime;
+
+        this.latestValue.set(value);
+
+        now = System.nanoTime();
+
+        updateTime = this.nextUpdateTime.get();
+
+        if ((now - updateTime) < 0) {
+            return;
+        } //end if
+
+        if (this.nextUpdateTime.compareAndSet(updateTime, now + UPDATE_INTERVAL)
+            && this.updatePending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::update);
+        } //end if
+    } //accept
+
+    /**
+     * Updates the progress bar of this progress reporter's progress view with the latest value.
+     */
+    private void update() {
+        long value;
+        long elapsedTime;
+        long rate;
+        JProgressBar progressBar;
+        String string;
+        int maximum = 100;
+
+        this.updatePending.set(false);
+
+        value = this.latestValue.get();
+
+        elapsedTime = Math.max(System.nanoTime() - this.startTime, 1);
+
+        rate = (long) (value * 1_000_000_000.0 / elapsedTime);
+
+        progressBar = this.progressView.getProgressBar();
+
+        string = String.format(this.format, value, rate);
+
+        if (this.total > 0) {
+            int percent;
+
+            percent = (int) (Math.min(value, this.total) * maximum / this.total);
+
+            progressBar.setIndeterminate(false);
+
+            progressBar.setMaximum(maximum);
+
+            progressBar.setValue(percent);
+        } //end if
+
+        progressBar.setString(string);
+    } //update
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.records.hs.controller;
+
+import javax.swing.table.AbstractTableModel;
+import com.records.hs.attachment.ThumbnailService;
+import java.util.List;
+import com.records.hs.model.Entry;
+import javax.swing.Icon;
+import java.util.Objects;
+import java.nio.file.Path;
+import com.records.hs.attachment.AttachmentIndex;
+import java.util.concurrent.CompletableFuture;
+import java.awt.image.BufferedImage;
+import javax.swing.SwingUtilities;
+import javax.swing.ImageIcon;
+import java.io.Serial;
+
+/**
+ * A results table model in the HS Records application. The first column holds the thumbnail of the attachment of
+ * each entry, which is requested from a thumbnail service the first time its row is rendered, and is filled in once
+ * it has loaded. Rows whose attachment has no thumbnail leave the cell empty.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class ResultsTableModel extends AbstractTableModel {
+    /**
+     * The serial version UID of the class.
+     */
+    @Serial
+    private static final long serialVersionUID = 0xCAFEBABEL;
+
+    /**
+     * The index of the thumbnail column of the results table model class.
+     */
+    static final int THUMBNAIL_COLUMN;
+
+    /**
+     * The column names of the results table model class.
+     */
+    private static final String[] COLUMN_NAMES;
+
+    /**
+     * The thumbnail service of this results table model.
+     */
+    private final ThumbnailService thumbnailService;
+
+    /**
+     * The entries of this results table model.
+     */
+    private List<Entry> entries;
+
+    /**
+     * The thumbnails of this results table model, indexed by row.
+     */
+    private Icon[] thumbnails;
+
+    /**
+     * The flags of this results table model indicating whether the thumbnail of a row has been requested.
+     */
+    private boolean[] requested;
+
+    /**
+     * The generation of this results table model, which is incremented whenever its entries are set, so thumbnails
+     * requested for a previous set of entries are discarded.
+     */
+    private int generation;
+
+    static {
+        THUMBNAIL_COLUMN = 0;
+
+        COLUMN_NAMES = new String[] {"Thumbnail", "ID", "Type", "Category", "Subcategory", "Tags"};
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ResultsTableModel} object with the specified thumbnail service.
+     *
+     * @param thumbnailService the thumbnail service to be used in construction
+     * @throws NullPointerException if the specified thumbnail service is {@code null}
+     */
+    ResultsTableModel(ThumbnailService thumbnailService) {
+        Objects.requireNonNull(thumbnailService, "the specified thumbnail service is null");
+
+        this.thumbnailService = thumbnailService;
+        this.entries = List.of();
+        this.thumbnails = new Icon[0];
+        this.requested = new boolean[0];
+        this.generation = 0;
+    } //ResultsTableModel
+
+    /**
+     * Returns the size of the thumbnails of this results table model, in pixels.
+     *
+     * @return the size of the thumbnails of this results table model
+     */
+    int getThumbnailSize() {
+        return this.thumbnailService.getSize();
+    } //getThumbnailSize
+
+    /**
+     * Sets the entries of this results table model to the specified entries. Thumbnails of the previous entries that
+     * are still loading are discarded once they load.
+     *
+     * @param entries the entries to be used in the operation
+     * @throws NullPointerException if the specified list of entries is {@code null}
+     */
+    void setEntries(List<Entry> entries) {
+        Objects.requireNonNull(entries, "the specified list of entries is null");
+
+        this.entries = List.copyOf(entries);
+
+        this.thumbnails = new Icon[this.entries.size()];
+
+        this.requested = new boolean[this.entries.size()];
+
+        this.generation++;
+
+        this.fireTableDataChanged();
+    } //setEntries
+
+    /**
+     * Returns the number of rows of this results table model.
+     *
+     * @return the number of rows of this results table model
+     */
+    @Override
+    public int getRowCount() {
+        return this.entries.size();
+    } //getRowCount
+
+    /**
+     * Returns the number of columns of this results table model.
+     *
+     * @return the number of columns of this results table model
+     */
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    } //getColumnCount
+
+    /**
+     * Returns the name of the specified column of this results table model.
+     *
+     * @param column the column to be used in the operation
+     * @return the name of the specified column of this results table model
+     */
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    } //getColumnName
+
+    /**
+     * Returns the class of the values of the specified column of this results table model.
+     *
+     * @param column the column to be used in the operation
+     * @return the class of the values of the specified column of this results table model
+     */
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return (column == THUMBNAIL_COLUMN) ? Icon.class : String.class;
+    } //getColumnClass
+
+    /**
+     * Returns the value of this results table model at the specified row and column. The thumbnail of a row is
+     * requested the first time it is returned, and is {@code null} until it has loaded.
+     *
+     * @param row the row to be used in the operation
+     * @param column the column to be used in the operation
+     * @return the value of this results table model at the specified row and column
+     */
+    @Override
+    public Object getValueAt(int row, int column) {
+        Entry entry;
+
+        entry = this.entries.get(row);
+
+        if (column == THUMBNAIL_COLUMN) {
+            if (!this.requested[row]) {
+                this.requested[row] = true;
+
+                this.requestThumbnail(row, entry);
+            } //end if
+
+            return this.thumbnails[row];
+        } //end if
+
+        return switch (column) {
+            case 1 -> entry.id();
+            case 2 -> String.valueOf(entry.type());
+            case 3 -> entry.category();
+            case 4 -> entry.subcategory();
+            default -> String.join(", ", entry.tags());
+        };
+    } //getValueAt
+
+    /**
+     * Requests the thumbnail of the attachment of the specified entry at the specified row. Once it has loaded, the
+     * thumbnail is stored on the event dispatch thread, unless the entries of this results table model have been set
+     * in the meantime.
+     *
+     * @param row the row to be used in the operation
+     * @param entry the entry to be used in the operation
+     */
+    private void requestThumbnail(int row, Entry entry) {
+        Path attachment;
+        CompletableFuture<BufferedImage> future;
+        int requestGeneration;
+
+        attachment = AttachmentIndex.getAttachmentPath(entry);
+
+        future = this.thumbnailService.getThumbnail(attachment);
+
+        requestGeneration = this.generation;
+
+        future.thenAccept(thumbnail -> SwingUtilities.invokeLater(() -> {
+            if (requestGeneration != this.generation) {
+                return;
+            } //end if
+
+            this.thumbnails[row] = new ImageIcon(thumbnail);
+
+            this.fireTableCellUpdated(row, THUMBNAIL_COLUMN);
+        }));
+    } //requestThumbnail
+}
\ No newline at end of file
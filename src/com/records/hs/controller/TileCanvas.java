@@ -0,0 +1,381 @@
+package com.records.hs.controller;
+
+import javax.swing.JComponent;
+import com.records.hs.attachment.TiledImage;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.awt.image.BufferedImage;
+import java.util.logging.Logger;
+import java.util.Objects;
+import java.util.LinkedHashMap;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.Color;
+import java.util.Set;
+import java.util.LinkedHashSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import javax.swing.SwingUtilities;
+import java.util.logging.Level;
+import java.util.concurrent.CancellationException;
+import java.io.Serial;
+
+/**
+ * A tile canvas in the HS Records application. Tile canvases draw a tiled image at one level of detail, and only
+ * request the tiles that intersect the visible part of the canvas, along with a margin of one tile around it that is
+ * prefetched for scrolling. Requests for tiles that leave this area before they are decoded are cancelled. A tile
+ * that has not been decoded yet is drawn from the tile of the next coarser level if that tile is cached.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class TileCanvas extends JComponent {
+    /**
+     * The serial version UID of the class.
+     */
+    @Serial
+    private static final long serialVersionUID = 0xCAFEBABEL;
+
+    /**
+     * The number of tiles around the visible tiles of the tile canvas class that are prefetched.
+     */
+    private static final int PREFETCH_MARGIN;
+
+    /**
+     * The color of the tiles of the tile canvas class that have not been decoded yet.
+     */
+    private static final Color PLACEHOLDER_COLOR;
+
+    /**
+     * The tiled image of this tile canvas.
+     */
+    private final transient TiledImage tiledImage;
+
+    /**
+     * The requested tiles of this tile canvas that have not been decoded yet, in the order they were requested.
+     */
+    private final transient Map<TiledImage.Tile, CompletableFuture<BufferedImage>> requestedTiles;
+
+    /**
+     * The tiles of this tile canvas that could not be decoded, which are not requested again.
+     */
+    private final transient Set<TiledImage.Tile> failedTiles;
+
+    /**
+     * The logger of this tile canvas.
+     */
+    private final transient Logger logger;
+
+    /**
+     * The level of detail of this tile canvas.
+     */
+    private int level;
+
+    static {
+        PREFETCH_MARGIN = 1;
+
+        PLACEHOLDER_COLOR = Color.LIGHT_GRAY;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code TileCanvas} object with the specified tiled image.
+     *
+     * @param tiledImage the tiled image to be used in construction
+     * @throws NullPointerException if the specified tiled image is {@code null}
+     */
+    TileCanvas(TiledImage tiledImage) {
+        Objects.requireNonNull(tiledImage, "the specified tiled image is null");
+
+        this.tiledImage = tiledImage;
+        this.requestedTiles = new LinkedHashMap<>();
+        this.failedTiles = new HashSet<>();
+        this.logger = Logger.getGlobal();
+        this.level = 0;
+    } //TileCanvas
+
+    /**
+     * Returns the level of detail of this tile canvas.
+     *
+     * @return the level of detail of this tile canvas
+     */
+    int getLevel() {
+        return this.level;
+    } //getLevel
+
+    /**
+     * Sets the level of detail of this tile canvas to the specified level. The requests for tiles of the previous
+     * level are cancelled.
+     *
+     * @param level the level of detail to be used in the operation
+     * @throws IllegalArgumentException if the specified level is not a level of detail of the tiled image
+     */
+    void setLevel(int level) {
+        int levelCount;
+
+        levelCount = this.tiledImage.getLevelCount();
+
+        if ((level < 0) || (level >= levelCount)) {
+            throw new IllegalArgumentException("the specified level is not a level of detail of the tiled image");
+        } //end if
+
+        this.level = level;
+
+        this.cancelRequests();
+
+        this.failedTiles.clear();
+
+        this.revalidate();
+
+        this.repaint();
+    } //setLevel
+
+    /**
+     * Cancels the requests for tiles of this tile canvas that have not been decoded yet.
+     */
+    void cancelRequests() {
+        this.requestedTiles.values()
+                           .forEach(future -> future.cancel(false));
+
+        this.requestedTiles.clear();
+    } //cancelRequests
+
+    /**
+     * Returns the preferred size of this tile canvas, which is the size of its tiled image at its level of detail.
+     *
+     * @return the preferred size of this tile canvas
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        int width;
+        int height;
+
+        width = this.tiledImage.getLevelWidth(this.level);
+
+        height = this.tiledImage.getLevelHeight(this.level);
+
+        return new Dimension(width, height);
+    } //getPreferredSize
+
+    /**
+     * Paints the tiles of this tile canvas that intersect the clip of the specified graphics context, and updates the
+     * requests for tiles of this tile canvas.
+     *
+     * @param graphics the graphics context to be used in the operation
+     */
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        Rectangle clip;
+        int tileSize;
+        Rectangle tileRange;
+        TiledImage.Tile tile;
+
+        clip = graphics.getClipBounds();
+
+        if (clip == null) {
+            clip = new Rectangle(this.getSize());
+        } //end if
+
+        tileSize = this.tiledImage.getTileSize();
+
+        tileRange = this.getTileRange(clip, 0);
+
+        for (int row = tileRange.y; row < (tileRange.y + tileRange.height); row++) {
+            for (int column = tileRange.x; column < (tileRange.x + tileRange.width); column++) {
+                tile = new TiledImage.Tile(this.level, column, row);
+
+                this.paintTile(graphics, tile, column * tileSize, row * tileSize);
+            } //end for
+        } //end for
+
+        this.updateRequests();
+    } //paintComponent
+
+    /**
+     * Paints the specified tile at the specified coordinates using the specified graphics context.
+     *
+     * @param graphics the graphics context to be used in the operation
+     * @param tile the tile to be used in the operation
+     * @param x the x coordinate to be used in the operation
+     * @param y the y coordinate to be used in the operation
+     */
+    private void paintTile(Graphics graphics, TiledImage.Tile tile, int x, int y) {
+        int tileSize;
+        BufferedImage image;
+        TiledImage.Tile coarserTile;
+        int halfSize;
+        int sourceX;
+        int sourceY;
+
+        tileSize = this.tiledImage.getTileSize();
+
+        image = this.tiledImage.getCachedTile(tile);
+
+        if (image != null) {
+            graphics.drawImage(image, x, y, null);
+
+            return;
+        } //end if
+
+        if ((tile.level() + 1) < this.tiledImage.getLevelCount()) {
+            coarserTile = new TiledImage.Tile(tile.level() + 1, tile.column() / 2, tile.row() / 2);
+
+            image = this.tiledImage.getCachedTile(coarserTile);
+        } //end if
+
+        if (image == null) {
+            graphics.setColor(PLACEHOLDER_COLOR);
+
+            graphics.fillRect(x, y, tileSize, tileSize);
+
+            return;
+        } //end if
+
+        halfSize = tileSize / 2;
+
+        sourceX = (tile.column() % 2) * halfSize;
+
+        sourceY = (tile.row() % 2) * halfSize;
+
+        graphics.drawImage(image, x, y, x + tileSize, y + tileSize, sourceX, sourceY, sourceX + halfSize,
+                           sourceY + halfSize, null);
+    } //paintTile
+
+    /**
+     * Returns the range of tiles of this tile canvas that intersect the specified area, grown by the specified
+     * number of tiles on each side. The bounds of the returned rectangle are columns and rows.
+     *
+     * @param area the area to be used in the operation
+     * @param margin the margin to be used in the operation
+     * @return the range of tiles of this tile canvas that intersect the specified area
+     */
+    private Rectangle getTileRange(Rectangle area, int margin) {
+        int tileSize;
+        int columnCount;
+        int rowCount;
+        int firstColumn;
+        int firstRow;
+        int lastColumn;
+        int lastRow;
+
+        tileSize = this.tiledImage.getTileSize();
+
+        columnCount = (this.tiledImage.getLevelWidth(this.level) + tileSize - 1) / tileSize;
+
+        rowCount = (this.tiledImage.getLevelHeight(this.level) + tileSize - 1) / tileSize;
+
+        firstColumn = Math.max((area.x / tileSize) - margin, 0);
+
+        firstRow = Math.max((area.y / tileSize) - margin, 0);
+
+        lastColumn = Math.min(((area.x + area.width - 1) / tileSize) + margin, columnCount - 1);
+
+        lastRow = Math.min(((area.y + area.height - 1) / tileSize) + margin, rowCount - 1);
+
+        if (area.isEmpty() || (lastColumn < firstColumn) || (lastRow < firstRow)) {
+            return new Rectangle();
+        } //end if
+
+        return new Rectangle(firstColumn, firstRow, lastColumn - firstColumn + 1, lastRow - firstRow + 1);
+    } //getTileRange
+
+    /**
+     * Updates the requests for tiles of this tile canvas. The visible tiles that are not cached are requested first,
+     * followed by the tiles in the prefetch margin, and requests for all other tiles are cancelled.
+     */
+    private void updateRequests() {
+        Rectangle visibleRect;
+        Rectangle visibleRange;
+        Rectangle prefetchRange;
+        Set<TiledImage.Tile> wantedTiles;
+        Iterator<Map.Entry<TiledImage.Tile, CompletableFuture<BufferedImage>>> iterator;
+        Map.Entry<TiledImage.Tile, CompletableFuture<BufferedImage>> entry;
+
+        visibleRect = this.getVisibleRect();
+
+        visibleRange = this.getTileRange(visibleRect, 0);
+
+        prefetchRange = this.getTileRange(visibleRect, PREFETCH_MARGIN);
+
+        wantedTiles = new LinkedHashSet<>();
+
+        this.addTiles(wantedTiles, visibleRange);
+
+        this.addTiles(wantedTiles, prefetchRange);
+
+        iterator = this.requestedTiles.entrySet()
+                                      .iterator();
+
+        while (iterator.hasNext()) {
+            entry = iterator.next();
+
+            if (!wantedTiles.contains(entry.getKey())) {
+                entry.getValue()
+                     .cancel(false);
+
+                iterator.remove();
+            } //end if
+        } //end while
+
+        for (TiledImage.Tile tile : wantedTiles) {
+            this.requestTile(tile);
+        } //end for
+    } //updateRequests
+
+    /**
+     * Adds the tiles of this tile canvas in the specified range to the specified set of tiles, row by row.
+     *
+     * @param tiles the set of tiles to be used in the operation
+     * @param range the range to be used in the operation
+     */
+    private void addTiles(Set<TiledImage.Tile> tiles, Rectangle range) {
+        TiledImage.Tile tile;
+
+        for (int row = range.y; row < (range.y + range.height); row++) {
+            for (int column = range.x; column < (range.x + range.width); column++) {
+                tile = new TiledImage.Tile(this.level, column, row);
+
+                tiles.add(tile);
+            } //end for
+        } //end for
+    } //addTiles
+
+    /**
+     * Requests the specified tile of this tile canvas, unless it is cached, has already been requested, or could not
+     * be decoded before. Once it has been decoded, the area of the tile is repainted on the event dispatch thread.
+     *
+     * @param tile the tile to be used in the operation
+     */
+    private void requestTile(TiledImage.Tile tile) {
+        boolean cached;
+        CompletableFuture<BufferedImage> future;
+
+        cached = this.tiledImage.getCachedTile(tile) != null;
+
+        if (cached || this.requestedTiles.containsKey(tile) || this.failedTiles.contains(tile)) {
+            return;
+        } //end if
+
+        future = this.tiledImage.getTile(tile);
+
+        this.requestedTiles.put(tile, future);
+
+        future.whenComplete((image, throwable) -> SwingUtilities.invokeLater(() -> {
+            int tileSize;
+
+            this.requestedTiles.remove(tile, future);
+
+            if (throwable == null) {
+                tileSize = this.tiledImage.getTileSize();
+
+                this.repaint(tile.column() * tileSize, tile.row() * tileSize, tileSize, tileSize);
+            } else if (!(throwable instanceof CancellationException)) {
+                String exceptionMessage = throwable.getMessage();
+
+                this.failedTiles.add(tile);
+
+                this.logger.log(Level.WARNING, exceptionMessage, throwable);
+            } //end if
+        }));
+    } //requestTile
+}
\ No newline at end of file
@@ -0,0 +1,290 @@
+package com.records.hs.controller;
+
+import com.records.hs.attachment.TiledImage;
+import com.records.hs.view.ViewerView;
+import java.util.logging.Logger;
+import java.util.Objects;
+import java.text.NumberFormat;
+import java.text.DecimalFormat;
+import javax.swing.JScrollPane;
+import javax.swing.JViewport;
+import java.awt.Rectangle;
+import java.awt.Dimension;
+import java.awt.Point;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JDialog;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.util.logging.Level;
+
+/**
+ * A viewer controller in the HS Records application. Viewer controllers display a tiled image in a viewer view, and
+ * close the tiled image once the dialog of the viewer view is closed. Zooming in or out moves between the levels of
+ * detail of the tiled image, and keeps the center of the visible area in place.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ViewerController {
+    /**
+     * The tiled image of this viewer controller.
+     */
+    private final TiledImage tiledImage;
+
+    /**
+     * The viewer view of this viewer controller.
+     */
+    private final ViewerView viewerView;
+
+    /**
+     * The tile canvas of this viewer controller.
+     */
+    private final TileCanvas tileCanvas;
+
+    /**
+     * The zoom format of this viewer controller.
+     */
+    private final NumberFormat zoomFormat;
+
+    /**
+     * The logger of this viewer controller.
+     */
+    private final Logger logger;
+
+    /**
+     * Constructs a newly allocated {@code ViewerController} object with the specified tiled image and viewer view.
+     *
+     * @param tiledImage the tiled image to be used in construction
+     * @param viewerView the viewer view to be used in construction
+     * @throws NullPointerException if the specified tiled image or viewer view is {@code null}
+     */
+    private ViewerController(TiledImage tiledImage, ViewerView viewerView) {
+        String pattern = "0.##%";
+
+        Objects.requireNonNull(tiledImage, "the specified tiled image is null");
+
+        Objects.requireNonNull(viewerView, "the specified viewer view is null");
+
+        this.tiledImage = tiledImage;
+        this.viewerView = viewerView;
+        this.tileCanvas = new TileCanvas(tiledImage);
+        this.zoomFormat = new DecimalFormat(pattern);
+        this.logger = Logger.getGlobal();
+    } //ViewerController
+
+    /**
+     * Returns the coarsest level of detail of the tiled image of this viewer controller at which the tiled image is
+     * no larger than the scroll pane of this viewer controller's viewer view, or the finest level if the tiled image
+     * fits at every level.
+     *
+     * @return the level of detail at which the tiled image fits the scroll pane
+     */
+    private int getFitLevel() {
+        JScrollPane scrollPane;
+        Dimension size;
+        int levelCount;
+        int level = 0;
+
+        scrollPane = this.viewerView.getScrollPane();
+
+        size = scrollPane.getPreferredSize();
+
+        levelCount = this.tiledImage.getLevelCount();
+
+        while ((level < (levelCount - 1)) && ((this.tiledImage.getLevelWidth(level) > size.width)
+                                              || (this.tiledImage.getLevelHeight(level) > size.height))) {
+            level++;
+        } //end while
+
+        return level;
+    } //getFitLevel
+
+    /**
+     * Sets the level of detail of this viewer controller's tile canvas to the specified level, keeping the center of
+     * the visible area in place, and updates the zoom components of this viewer controller's viewer view.
+     *
+     * @param level the level of detail to be used in the operation
+     */
+    private void setLevel(int level) {
+        JScrollPane scrollPane;
+        JViewport viewport;
+        Rectangle viewRect;
+        int previousLevel;
+        long centerX;
+        long centerY;
+        Dimension extentSize;
+        Dimension viewSize;
+        int x;
+        int y;
+        Point position;
+
+        scrollPane = this.viewerView.getScrollPane();
+
+        viewport = scrollPane.getViewport();
+
+        viewRect = viewport.getViewRect();
+
+        previousLevel = this.tileCanvas.getLevel();
+
+        centerX = (long) viewRect.x + (viewRect.width / 2);
+
+        centerY = (long) viewRect.y + (viewRect.height / 2);
+
+        if (level < previousLevel) {
+            centerX <<= previousLevel - level;
+
+            centerY <<= previousLevel - level;
+        } else {
+            centerX >>= level - previousLevel;
+
+            centerY >>= level - previousLevel;
+        } //end if
+
+        this.tileCanvas.setLevel(level);
+
+        scrollPane.validate();
+
+        extentSize = viewport.getExtentSize();
+
+        viewSize = viewport.getViewSize();
+
+        x = (int) Math.max(Math.min(centerX - (extentSize.width / 2), viewSize.width - extentSize.width), 0);
+
+        y = (int) Math.max(Math.min(centerY - (extentSize.height / 2), viewSize.height - extentSize.height), 0);
+
+        position = new Point(x, y);
+
+        viewport.setViewPosition(position);
+
+        this.updateZoomComponents();
+    } //setLevel
+
+    /**
+     * Updates the zoom components of this viewer controller's viewer view to match the level of detail of this viewer
+     * controller's tile canvas.
+     */
+    private void updateZoomComponents() {
+        int level;
+        int levelCount;
+        JButton zoomInButton;
+        JButton zoomOutButton;
+        JLabel zoomLabel;
+        double zoom;
+        String zoomText;
+
+        level = this.tileCanvas.getLevel();
+
+        levelCount = this.tiledImage.getLevelCount();
+
+        zoomInButton = this.viewerView.getZoomInButton();
+
+        zoomOutButton = this.viewerView.getZoomOutButton();
+
+        zoomLabel = this.viewerView.getZoomLabel();
+
+        zoom = 1.0 / (1L << level);
+
+        zoomText = this.zoomFormat.format(zoom);
+
+        zoomInButton.setEnabled(level > 0);
+
+        zoomOutButton.setEnabled(level < (levelCount - 1));
+
+        zoomLabel.setText(zoomText);
+    } //updateZoomComponents
+
+    /**
+     * Zooms in the tile canvas of this viewer controller by one level of detail, if it is not already at the finest
+     * level.
+     */
+    private void zoomIn() {
+        int level;
+
+        level = this.tileCanvas.getLevel();
+
+        if (level > 0) {
+            this.setLevel(level - 1);
+        } //end if
+    } //zoomIn
+
+    /**
+     * Zooms out the tile canvas of this viewer controller by one level of detail, if it is not already at the
+     * coarsest level.
+     */
+    private void zoomOut() {
+        int level;
+        int levelCount;
+
+        level = this.tileCanvas.getLevel();
+
+        levelCount = this.tiledImage.getLevelCount();
+
+        if (level < (levelCount - 1)) {
+            this.setLevel(level + 1);
+        } //end if
+    } //zoomOut
+
+    /**
+     * Closes the tiled image of this viewer controller, after cancelling the requests of its tile canvas.
+     */
+    private void close() {
+        this.tileCanvas.cancelRequests();
+
+        try {
+            this.tiledImage.close();
+        } catch (IOException e) {
+            String exceptionMessage = e.getMessage();
+
+            this.logger.log(Level.WARNING, exceptionMessage, e);
+        } //end try catch
+    } //close
+
+    /**
+     * Returns a new {@code ViewerController} object with the specified tiled image and viewer view. The tiled image is
+     * shown at the level of detail at which it fits the viewer view.
+     *
+     * @param tiledImage the tiled image to be used in the operation
+     * @param viewerView the viewer view to be used in the operation
+     * @return a new {@code ViewerController} object with the specified tiled image and viewer view
+     * @throws NullPointerException if the specified tiled image or viewer view is {@code null}
+     */
+    public static ViewerController newViewerController(TiledImage tiledImage, ViewerView viewerView) {
+        ViewerController viewerController;
+        JScrollPane scrollPane;
+        JButton zoomInButton;
+        JButton zoomOutButton;
+        JDialog dialog;
+        int fitLevel;
+
+        viewerController = new ViewerController(tiledImage, viewerView);
+
+        scrollPane = viewerView.getScrollPane();
+
+        zoomInButton = viewerView.getZoomInButton();
+
+        zoomOutButton = viewerView.getZoomOutButton();
+
+        dialog = viewerView.getDialog();
+
+        scrollPane.setViewportView(viewerController.tileCanvas);
+
+        fitLevel = viewerController.getFitLevel();
+
+        viewerController.setLevel(fitLevel);
+
+        zoomInButton.addActionListener(actionEvent -> viewerController.zoomIn());
+
+        zoomOutButton.addActionListener(actionEvent -> viewerController.zoomOut());
+
+        dialog.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent windowEvent) {
+                viewerController.close();
+            } //windowClosed
+        });
+
+        return viewerController;
+    } //newViewerController
+}
\ No newline at end of file
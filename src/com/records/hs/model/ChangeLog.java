@@ -0,0 +1,197 @@
+package com.records.hs.model;
+
+import java.util.Map;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * A change log of a model in the HS Records application. Every addition, edit, and deletion of an entry is given the
+ * next modification sequence, and the latest modification sequence of each entry that has changed since the last
+ * export is kept. Entries that have not changed since then have no modification sequence. The modification sequence
+ * up to which the changes have been exported is the watermark of the change log.
+ *
+ * <p>The changes are kept in the order of their modification sequences, so recording a change and advancing the
+ * watermark both only cost as much as the changes involved, no matter how many entries the model has.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ChangeLog {
+    /**
+     * The latest modification sequence of this change log.
+     */
+    private long sequence;
+
+    /**
+     * The watermark of this change log.
+     */
+    private long exportedSequence;
+
+    /**
+     * The mapping from IDs to modification sequences of this change log, in ascending order of modification sequence.
+     */
+    private final LinkedHashMap<String, Long> idsToSequences;
+
+    /**
+     * Constructs a newly allocated {@code ChangeLog} object with the specified latest modification sequence,
+     * watermark, and mapping from IDs to modification sequences.
+     *
+     * @param sequence the latest modification sequence to be used in construction
+     * @param exportedSequence the watermark to be used in construction
+     * @param idsToSequences the mapping from IDs to modification sequences to be used in construction
+     */
+    private ChangeLog(long sequence, long exportedSequence, LinkedHashMap<String, Long> idsToSequences) {
+        this.sequence = sequence;
+        this.exportedSequence = exportedSequence;
+        this.idsToSequences = idsToSequences;
+    } //ChangeLog
+
+    /**
+     * Returns a new, empty {@code ChangeLog} object.
+     *
+     * @return a new, empty {@code ChangeLog} object
+     */
+    public static ChangeLog newChangeLog() {
+        return new ChangeLog(0, 0, new LinkedHashMap<>());
+    } //newChangeLog
+
+    /**
+     * Returns a new {@code ChangeLog} object with the specified latest modification sequence, watermark, and mapping
+     * from IDs to modification sequences. The mapping must iterate in ascending order of modification sequence, and
+     * every modification sequence in it must be greater than the specified watermark and at most the specified latest
+     * modification sequence. The mapping is not retained by the returned change log.
+     *
+     * @param sequence the latest modification sequence to be used in the operation
+     * @param exportedSequence the watermark to be used in the operation
+     * @param idsToSequences the mapping from IDs to modification sequences to be used in the operation
+     * @return a new {@code ChangeLog} object with the specified latest modification sequence, watermark, and mapping
+     * from IDs to modification sequences
+     * @throws NullPointerException if the specified mapping from IDs to modification sequences is {@code null}
+     * @throws IllegalArgumentException if the specified watermark is negative or greater than the specified latest
+     * modification sequence, or the specified mapping from IDs to modification sequences is out of order or range
+     */
+    public static ChangeLog newChangeLog(long sequence, long exportedSequence, Map<String, Long> idsToSequences) {
+        long previousSequence;
+        long entrySequence;
+
+        Objects.requireNonNull(idsToSequences, "the specified mapping from IDs to modification sequences is null");
+
+        if ((exportedSequence < 0) || (exportedSequence > sequence)) {
+            String message = String.format("the specified watermark is out of range (%d)", exportedSequence);
+
+            throw new IllegalArgumentException(message);
+        } //end if
+
+        previousSequence = exportedSequence;
+
+        for (Map.Entry<String, Long> mapping : idsToSequences.entrySet()) {
+            entrySequence = mapping.getValue();
+
+            if ((entrySequence <= previousSequence) || (entrySequence > sequence)) {
+                String message = String.format("the modification sequence of %s is out of order or range (%d)",
+                                               mapping.getKey(), entrySequence);
+
+                throw new IllegalArgumentException(message);
+            } //end if
+
+            previousSequence = entrySequence;
+        } //end for
+
+        return new ChangeLog(sequence, exportedSequence, new LinkedHashMap<>(idsToSequences));
+    } //newChangeLog
+
+    /**
+     * Returns a copy of this change log.
+     *
+     * @return a copy of this change log
+     */
+    ChangeLog copy() {
+        return new ChangeLog(this.sequence, this.exportedSequence, new LinkedHashMap<>(this.idsToSequences));
+    } //copy
+
+    /**
+     * Returns the latest modification sequence of this change log. If no change has been recorded, {@code 0} is
+     * returned.
+     *
+     * @return the latest modification sequence of this change log
+     */
+    public long getSequence() {
+        return this.sequence;
+    } //getSequence
+
+    /**
+     * Returns the watermark of this change log, which is the modification sequence up to which the changes have been
+     * exported.
+     *
+     * @return the watermark of this change log
+     */
+    public long getExportedSequence() {
+        return this.exportedSequence;
+    } //getExportedSequence
+
+    /**
+     * Returns the mapping from IDs to modification sequences of the entries that have changed since the last export,
+     * in ascending order of modification sequence. The IDs of deleted entries are included. The returned mapping is
+     * an unmodifiable view, so it reflects later changes.
+     *
+     * @return the mapping from IDs to modification sequences of the entries that have changed since the last export
+     */
+    public Map<String, Long> getChanges() {
+        return Collections.unmodifiableMap(this.idsToSequences);
+    } //getChanges
+
+    /**
+     * Records a change of the entry with the specified ID in this change log, giving it the next modification
+     * sequence.
+     *
+     * @param id the ID to be used in the operation
+     */
+    void recordChange(String id) {
+        this.sequence++;
+
+        this.idsToSequences.remove(id);
+
+        this.idsToSequences.put(id, this.sequence);
+    } //recordChange
+
+    /**
+     * Advances the watermark of this change log to the specified modification sequence, once the changes up to it
+     * have been exported. Those changes are discarded.
+     *
+     * @param exportedSequence the watermark to be used in the operation
+     * @throws IllegalArgumentException if the specified watermark is less than the current watermark or greater than
+     * the latest modification sequence of this change log
+     */
+    public void markExported(long exportedSequence) {
+        Iterator<Long> iterator;
+
+        if ((exportedSequence < this.exportedSequence) || (exportedSequence > this.sequence)) {
+            String message = String.format("the specified watermark is out of range (%d)", exportedSequence);
+
+            throw new IllegalArgumentException(message);
+        } //end if
+
+        iterator = this.idsToSequences.values()
+                                      .iterator();
+
+        while (iterator.hasNext() && (iterator.next() <= exportedSequence)) {
+            iterator.remove();
+        } //end while
+
+        this.exportedSequence = exportedSequence;
+    } //markExported
+
+    /**
+     * Returns the {@code String} representation of this change log.
+     *
+     * @return the {@code String} representation of this change log
+     */
+    @Override
+    public String toString() {
+        String format = "ChangeLog[sequence=%d, exportedSequence=%d, changeCount=%d]";
+
+        return String.format(format, this.sequence, this.exportedSequence, this.idsToSequences.size());
+    } //toString
+}
\ No newline at end of file
@@ -10,8 +10,9 @@ import java.util.HashMap;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Collections;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.function.Consumer;
 import java.util.HashSet;
 import java.util.stream.Collectors;
 import java.util.Optional;
@@ -22,7 +23,7 @@ import java.io.InvalidObjectException;
  * A model in the HS Records application.
  *
  * @author Logan Kulinski, lbkulinski@icloud.com
- * @version May 1, 2021
+ * @version October 19, 2026
  */
 public final class Model implements Serializable {
     /**
@@ -57,6 +58,39 @@ public final class Model implements Serializable {
         } //readResolve
     } //SerializationProxy
 
+    /**
+     * A bulk load of a model. While a bulk load is open, the sorted views of the categories and subcategories of the
+     * model are not maintained, so mutations only pay for the mappings themselves. When the outermost open bulk load
+     * is closed, the sorted views are rebuilt once, and the load listeners of the model are notified once.
+     */
+    public final class BulkLoad implements AutoCloseable {
+        /**
+         * Whether or not this bulk load is closed.
+         */
+        private boolean closed;
+
+        /**
+         * Constructs a newly allocated {@code BulkLoad} object.
+         */
+        private BulkLoad() {
+            this.closed = false;
+        } //BulkLoad
+
+        /**
+         * Closes this bulk load. If this bulk load is already closed, this method has no effect.
+         */
+        @Override
+        public void close() {
+            if (this.closed) {
+                return;
+            } //end if
+
+            this.closed = true;
+
+            Model.this.endBulkLoad();
+        } //close
+    } //BulkLoad
+
     /**
      * The serial version UID of the class.
      */
@@ -78,6 +112,36 @@ public final class Model implements Serializable {
      */
     private final Map<String, Set<String>> catsToSubcats;
 
+    /**
+     * The sorted categories of this model.
+     */
+    private transient SortedArraySet sortedCategories;
+
+    /**
+     * The mapping from categories to sorted subcategories of this model.
+     */
+    private transient Map<String, Set<String>> sortedCatsToSubcats;
+
+    /**
+     * The number of open bulk loads of this model.
+     */
+    private transient int bulkLoadCount;
+
+    /**
+     * Whether or not the sorted categories and subcategories of this model are stale.
+     */
+    private transient boolean stale;
+
+    /**
+     * The load listeners of this model.
+     */
+    private final transient List<Runnable> loadListeners;
+
+    /**
+     * The change log of this model.
+     */
+    private transient ChangeLog changeLog;
+
     static {
         serialVersionUID = 0xCAFEBABEL;
     } //static
@@ -100,6 +164,12 @@ public final class Model implements Serializable {
         this.latestId = latestId;
         this.idsToEntries = new LinkedHashMap<>(idsToEntries);
         this.catsToSubcats = catsToSubcats;
+        this.bulkLoadCount = 0;
+        this.stale = false;
+        this.loadListeners = new ArrayList<>();
+        this.changeLog = ChangeLog.newChangeLog();
+
+        this.rebuildIndex();
     } //Model
 
     /**
@@ -109,6 +179,68 @@ public final class Model implements Serializable {
         this(null, new LinkedHashMap<>(), new HashMap<>());
     } //Model
 
+    /**
+     * Returns a new {@code Model} object with the specified latest ID, mapping from IDs to entries, and mapping from
+     * categories to subcategories. The iteration order of the specified mapping from IDs to entries is preserved.
+     * Neither mapping is retained by the returned model.
+     *
+     * @param latestId the latest ID to be used in the operation
+     * @param idsToEntries the mapping from IDs to entries to be used in the operation
+     * @param catsToSubcats the mapping from categories to subcategories to be used in the operation
+     * @return a new {@code Model} object with the specified latest ID, mapping from IDs to entries, and mapping from
+     * categories to subcategories
+     * @throws NullPointerException if the specified mapping from IDs to entries or mapping from categories to
+     * subcategories is {@code null}
+     */
+    public static Model newModel(String latestId, Map<String, Entry> idsToEntries,
+                                 Map<String, Set<String>> catsToSubcats) {
+        Map<String, Set<String>> catsToSubcatsCopy;
+        Set<String> subcategoriesCopy;
+
+        Objects.requireNonNull(idsToEntries, "the specified mapping from IDs to entries is null");
+
+        Objects.requireNonNull(catsToSubcats, "the specified mapping from categories to subcategories is null");
+
+        catsToSubcatsCopy = new HashMap<>();
+
+        for (Map.Entry<String, Set<String>> mapping : catsToSubcats.entrySet()) {
+            subcategoriesCopy = new HashSet<>(mapping.getValue());
+
+            catsToSubcatsCopy.put(mapping.getKey(), subcategoriesCopy);
+        } //end for
+
+        return new Model(latestId, idsToEntries, catsToSubcatsCopy);
+    } //newModel
+
+    /**
+     * Returns a snapshot of this model, including its change log. The returned model shares no mutable state with this
+     * model, so it can be read by another thread while this model continues to be modified.
+     *
+     * @return a snapshot of this model
+     */
+    public Model snapshot() {
+        Map<String, Set<String>> catsToSubcatsCopy;
+        Set<String> subcategories;
+        Set<String> subcategoriesCopy;
+        Model snapshot;
+
+        catsToSubcatsCopy = new HashMap<>();
+
+        for (Map.Entry<String, Set<String>> mapping : this.catsToSubcats.entrySet()) {
+            subcategories = mapping.getValue();
+
+            subcategoriesCopy = new HashSet<>(subcategories);
+
+            catsToSubcatsCopy.put(mapping.getKey(), subcategoriesCopy);
+        } //end for
+
+        snapshot = new Model(this.latestId, this.idsToEntries, catsToSubcatsCopy);
+
+        snapshot.changeLog = this.changeLog.copy();
+
+        return snapshot;
+    } //snapshot
+
     /**
      * Returns the latest ID of this model. If an entry has not been previously added to this model, {@code null} is
      * returned.
@@ -119,6 +251,16 @@ public final class Model implements Serializable {
         return this.latestId;
     } //getLatestId
 
+    /**
+     * Sets the latest ID of this model to the specified latest ID. This is used to restore the latest ID after added
+     * entries are removed again, for example when an import is rolled back.
+     *
+     * @param latestId the latest ID to be used in the operation
+     */
+    public void setLatestId(String latestId) {
+        this.latestId = latestId;
+    } //setLatestId
+
     /**
      * Returns the entries of this model.
      *
@@ -136,23 +278,57 @@ public final class Model implements Serializable {
     } //getEntries
 
     /**
-     * Returns the categories of this model.
+     * Performs the specified action for each entry of this model, in order. Unlike {@link #getEntries()}, the entries
+     * are not copied, so this model must not be modified by the specified action.
      *
-     * @return the categories of this model
+     * @param action the action to be used in the operation
+     * @throws NullPointerException if the specified action is {@code null}
      */
-    public Set<String> getCategories() {
-        Set<String> categories;
-        SortedSet<String> sortedCategories;
+    public void forEachEntry(Consumer<? super Entry> action) {
+        Objects.requireNonNull(action, "the specified action is null");
 
-        categories = this.catsToSubcats.keySet();
+        this.idsToEntries.values()
+                         .forEach(action);
+    } //forEachEntry
 
-        sortedCategories = new TreeSet<>(categories);
+    /**
+     * Returns the change log of this model. Every addition, edit, and deletion of an entry of this model is recorded
+     * in it.
+     *
+     * @return the change log of this model
+     */
+    public ChangeLog getChangeLog() {
+        return this.changeLog;
+    } //getChangeLog
+
+    /**
+     * Sets the change log of this model to the specified change log. This is used to restore the change log of a model
+     * that was read from a store.
+     *
+     * @param changeLog the change log to be used in the operation
+     * @throws NullPointerException if the specified change log is {@code null}
+     */
+    public void setChangeLog(ChangeLog changeLog) {
+        Objects.requireNonNull(changeLog, "the specified change log is null");
 
-        return Collections.unmodifiableSortedSet(sortedCategories);
+        this.changeLog = changeLog;
+    } //setChangeLog
+
+    /**
+     * Returns the categories of this model, in ascending order. The returned set is unmodifiable, and it is not
+     * affected by later changes to this model. While a bulk load is open, the categories from before it was opened
+     * are returned.
+     *
+     * @return the categories of this model
+     */
+    public Set<String> getCategories() {
+        return this.sortedCategories;
     } //getCategories
 
     /**
-     * Returns the subcategories of this model that are mapped from the specified category.
+     * Returns the subcategories of this model that are mapped from the specified category, in ascending order. The
+     * returned set is unmodifiable, and it is not affected by later changes to this model. While a bulk load is open,
+     * the subcategories from before it was opened are returned.
      *
      * @param category the category to be used in the operation
      * @return the subcategories of this model that are mapped from the specified category
@@ -163,18 +339,132 @@ public final class Model implements Serializable {
 
         Objects.requireNonNull(category, "the specified category is null");
 
-        subcategories = this.catsToSubcats.get(category);
+        subcategories = this.sortedCatsToSubcats.get(category);
 
         if (subcategories == null) {
             return Set.of();
-        } else {
-            SortedSet<String> sortedSubcategories;
+        } //end if
+
+        return subcategories;
+    } //getSubcategories
+
+    /**
+     * Adds the specified load listener to this model. Load listeners are run once, on the closing thread, whenever
+     * the outermost open bulk load of this model is closed.
+     *
+     * @param listener the listener to be used in the operation
+     * @throws NullPointerException if the specified listener is {@code null}
+     */
+    public void addLoadListener(Runnable listener) {
+        Objects.requireNonNull(listener, "the specified listener is null");
 
-            sortedSubcategories = new TreeSet<>(subcategories);
+        this.loadListeners.add(listener);
+    } //addLoadListener
 
-            return Collections.unmodifiableSortedSet(sortedSubcategories);
+    /**
+     * Opens a bulk load of this model. Bulk loads may be nested. The returned bulk load should be closed in a
+     * try-with-resources statement once the load has finished, whether or not it was successful.
+     *
+     * @return the bulk load that was opened
+     */
+    public BulkLoad beginBulkLoad() {
+        this.bulkLoadCount++;
+
+        return new BulkLoad();
+    } //beginBulkLoad
+
+    /**
+     * Ends a bulk load of this model. If it was the outermost open bulk load, the sorted categories and subcategories
+     * of this model are rebuilt if they are stale, and the load listeners of this model are run.
+     */
+    private void endBulkLoad() {
+        this.bulkLoadCount--;
+
+        if (this.bulkLoadCount > 0) {
+            return;
         } //end if
-    } //getSubcategories
+
+        if (this.stale) {
+            this.rebuildIndex();
+
+            this.stale = false;
+        } //end if
+
+        for (Runnable listener : this.loadListeners) {
+            listener.run();
+        } //end for
+    } //endBulkLoad
+
+    /**
+     * Rebuilds the sorted categories and subcategories of this model from its mapping from categories to
+     * subcategories.
+     */
+    private void rebuildIndex() {
+        Map<String, Set<String>> newSortedCatsToSubcats;
+
+        newSortedCatsToSubcats = new HashMap<>();
+
+        for (Map.Entry<String, Set<String>> mapping : this.catsToSubcats.entrySet()) {
+            newSortedCatsToSubcats.put(mapping.getKey(), SortedArraySet.of(mapping.getValue()));
+        } //end for
+
+        this.sortedCategories = SortedArraySet.of(this.catsToSubcats.keySet());
+
+        this.sortedCatsToSubcats = newSortedCatsToSubcats;
+    } //rebuildIndex
+
+    /**
+     * Updates the sorted categories and subcategories of this model after the specified category has been removed
+     * from it, and the specified new category has been added to it. Either may be {@code null}. Only the sorted
+     * subcategories of those categories are touched, and the new category is inserted into the sorted categories
+     * without sorting them again. While a bulk load is open, they are only marked as stale.
+     *
+     * @param removedCategory the removed category to be used in the operation
+     * @param addedCategory the added category to be used in the operation
+     */
+    private void updateIndex(String removedCategory, String addedCategory) {
+        Set<String> subcategories;
+
+        if (this.bulkLoadCount > 0) {
+            this.stale = true;
+
+            return;
+        } //end if
+
+        if (removedCategory != null) {
+            this.sortedCategories = this.sortedCategories.without(removedCategory);
+
+            this.sortedCatsToSubcats.remove(removedCategory);
+        } //end if
+
+        if (addedCategory != null) {
+            subcategories = this.catsToSubcats.get(addedCategory);
+
+            this.sortedCategories = this.sortedCategories.with(addedCategory);
+
+            this.sortedCatsToSubcats.put(addedCategory, SortedArraySet.of(subcategories));
+        } //end if
+    } //updateIndex
+
+    /**
+     * Updates the sorted subcategories of this model that are mapped from the specified category after they have
+     * changed. While a bulk load is open, they are only marked as stale.
+     *
+     * @param category the category to be used in the operation
+     */
+    private void updateIndex(String category) {
+        Set<String> subcategories;
+
+        if (this.bulkLoadCount > 0) {
+            this.stale = true;
+
+            return;
+        } //end if
+
+        subcategories = this.catsToSubcats.get(category);
+
+        this.sortedCatsToSubcats.put(category, SortedArraySet.of(subcategories));
+    } //updateIndex
 
     /**
      * Returns the entry count of this model.
@@ -205,7 +495,13 @@ public final class Model implements Serializable {
 
         currentEntry = this.idsToEntries.putIfAbsent(id, entry);
 
-        return currentEntry == null;
+        if (currentEntry != null) {
+            return false;
+        } //end if
+
+        this.changeLog.recordChange(id);
+
+        return true;
     } //addEntry
 
     /**
@@ -230,6 +526,8 @@ public final class Model implements Serializable {
         if (subcategories == null) {
             this.catsToSubcats.put(category, new HashSet<>());
 
+            this.updateIndex(null, category);
+
             added = true;
         } else {
             added = false;
@@ -269,9 +567,15 @@ public final class Model implements Serializable {
 
             this.catsToSubcats.put(category, newSubcategories);
 
+            this.updateIndex(null, category);
+
             added = true;
         } else {
             added = subcategories.add(subcategory);
+
+            if (added) {
+                this.updateIndex(category);
+            } //end if
         } //end if
 
         return added;
@@ -304,6 +608,8 @@ public final class Model implements Serializable {
             } else {
                 this.idsToEntries.put(id, newEntry);
 
+                this.changeLog.recordChange(id);
+
                 edited = true;
             } //endif
         } else {
@@ -458,6 +764,8 @@ public final class Model implements Serializable {
 
             this.catsToSubcats.put(newCategory, subcategories);
 
+            this.updateIndex(category, newCategory);
+
             edited = true;
         } //end if
 
@@ -501,6 +809,8 @@ public final class Model implements Serializable {
             if (deleted) {
                 subcategories.add(newSubcategory);
 
+                this.updateIndex(category);
+
                 edited = true;
             } else {
                 edited = false;
@@ -519,17 +829,34 @@ public final class Model implements Serializable {
      * @throws NullPointerException if the specified ID is {@code null}
      */
     public boolean deleteEntry(String id) {
-        Entry deletedEntry;
-
         Objects.requireNonNull(id, "the specified ID is null");
 
         id = id.toUpperCase();
 
-        deletedEntry = this.idsToEntries.remove(id);
-
-        return deletedEntry != null;
+        return this.removeEntry(id);
     } //deleteEntry
 
+    /**
+     * Removes the entry with the specified ID from this model, and records the deletion in its change log. The
+     * specified ID is used as is.
+     *
+     * @param id the ID to be used in the operation
+     * @return {@code true}, if an entry with the specified ID was removed from this model and {@code false} otherwise
+     */
+    private boolean removeEntry(String id) {
+        Entry removedEntry;
+
+        removedEntry = this.idsToEntries.remove(id);
+
+        if (removedEntry == null) {
+            return false;
+        } //end if
+
+        this.changeLog.recordChange(id);
+
+        return true;
+    } //removeEntry
+
     /**
      * Attempts to delete all of the entries with the specified type from this model. If an entry with the specified
      * type has not been previously added to this model, no deletions will not occur.
@@ -558,7 +885,7 @@ public final class Model implements Serializable {
                                .map(Entry::id)
                                .collect(Collectors.toUnmodifiableSet());
 
-        ids.forEach(this.idsToEntries::remove);
+        ids.forEach(this::removeEntry);
 
         currentSize = this.idsToEntries.size();
 
@@ -596,7 +923,7 @@ public final class Model implements Serializable {
                                .map(Entry::id)
                                .collect(Collectors.toUnmodifiableSet());
 
-        ids.forEach(this.idsToEntries::remove);
+        ids.forEach(this::removeEntry);
 
         currentSize = this.idsToEntries.size();
 
@@ -646,7 +973,7 @@ public final class Model implements Serializable {
                                .map(Entry::id)
                                .collect(Collectors.toUnmodifiableSet());
 
-        ids.forEach(this.idsToEntries::remove);
+        ids.forEach(this::removeEntry);
 
         currentSize = this.idsToEntries.size();
 
@@ -684,7 +1011,7 @@ public final class Model implements Serializable {
                                .map(Entry::id)
                                .collect(Collectors.toUnmodifiableSet());
 
-        ids.forEach(this.idsToEntries::remove);
+        ids.forEach(this::removeEntry);
 
         currentSize = this.idsToEntries.size();
 
@@ -708,7 +1035,13 @@ public final class Model implements Serializable {
 
         subcategories = this.catsToSubcats.remove(category);
 
-        return subcategories != null;
+        if (subcategories == null) {
+            return false;
+        } //end if
+
+        this.updateIndex(category, null);
+
+        return true;
     } //deleteCategory
 
     /**
@@ -739,6 +1072,10 @@ public final class Model implements Serializable {
             deleted = false;
         } else {
             deleted = subcategories.remove(subcategory);
+
+            if (deleted) {
+                this.updateIndex(category);
+            } //end if
         } //end if
 
         return deleted;
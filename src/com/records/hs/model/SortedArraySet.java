@@ -0,0 +1,173 @@
+package com.records.hs.model;
+
+import java.util.AbstractSet;
+import java.util.Objects;
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Collections;
+
+/**
+ * An unmodifiable set of {@code String}s in the HS Records application, which is backed by a sorted array. Iteration
+ * follows the natural ordering of the elements, and lookups use a binary search. Because the set cannot change, it
+ * can be handed out by a model without being copied.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class SortedArraySet extends AbstractSet<String> {
+    /**
+     * The empty sorted array set.
+     */
+    private static final SortedArraySet EMPTY;
+
+    /**
+     * The elements of this sorted array set, in ascending order.
+     */
+    private final List<String> elements;
+
+    static {
+        EMPTY = new SortedArraySet(new String[0]);
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code SortedArraySet} object with the specified sorted elements.
+     *
+     * @param elements the sorted elements to be used in construction
+     */
+    private SortedArraySet(String[] elements) {
+        this.elements = Collections.unmodifiableList(Arrays.asList(elements));
+    } //SortedArraySet
+
+    /**
+     * Returns a new {@code SortedArraySet} object with the elements of the specified collection. The elements are
+     * sorted with {@link Arrays#parallelSort(Object[])}.
+     *
+     * @param collection the collection to be used in the operation
+     * @return a new {@code SortedArraySet} object with the elements of the specified collection
+     * @throws NullPointerException if the specified collection is {@code null}
+     */
+    static SortedArraySet of(Collection<String> collection) {
+        String[] elements;
+
+        Objects.requireNonNull(collection, "the specified collection is null");
+
+        if (collection.isEmpty()) {
+            return EMPTY;
+        } //end if
+
+        elements = collection.toArray(new String[0]);
+
+        Arrays.parallelSort(elements);
+
+        return new SortedArraySet(elements);
+    } //of
+
+    /**
+     * Returns a {@code SortedArraySet} object with the elements of this sorted array set and the specified element. If
+     * this sorted array set already contains the specified element, it is returned itself. The new element is inserted
+     * at its position, so the elements are not sorted again.
+     *
+     * @param element the element to be used in the operation
+     * @return a {@code SortedArraySet} object with the elements of this sorted array set and the specified element
+     * @throws NullPointerException if the specified element is {@code null}
+     */
+    SortedArraySet with(String element) {
+        int index;
+        String[] oldElements;
+        String[] newElements;
+
+        Objects.requireNonNull(element, "the specified element is null");
+
+        index = Collections.binarySearch(this.elements, element);
+
+        if (index >= 0) {
+            return this;
+        } //end if
+
+        index = -(index + 1);
+
+        oldElements = this.elements.toArray(new String[0]);
+
+        newElements = new String[oldElements.length + 1];
+
+        System.arraycopy(oldElements, 0, newElements, 0, index);
+
+        newElements[index] = element;
+
+        System.arraycopy(oldElements, index, newElements, index + 1, oldElements.length - index);
+
+        return new SortedArraySet(newElements);
+    } //with
+
+    /**
+     * Returns a {@code SortedArraySet} object with the elements of this sorted array set other than the specified
+     * element. If this sorted array set does not contain the specified element, it is returned itself.
+     *
+     * @param element the element to be used in the operation
+     * @return a {@code SortedArraySet} object with the elements of this sorted array set other than the specified
+     * element
+     * @throws NullPointerException if the specified element is {@code null}
+     */
+    SortedArraySet without(String element) {
+        int index;
+        String[] oldElements;
+        String[] newElements;
+
+        Objects.requireNonNull(element, "the specified element is null");
+
+        index = Collections.binarySearch(this.elements, element);
+
+        if (index < 0) {
+            return this;
+        } else if (this.elements.size() == 1) {
+            return EMPTY;
+        } //end if
+
+        oldElements = this.elements.toArray(new String[0]);
+
+        newElements = new String[oldElements.length - 1];
+
+        System.arraycopy(oldElements, 0, newElements, 0, index);
+
+        System.arraycopy(oldElements, index + 1, newElements, index, newElements.length - index);
+
+        return new SortedArraySet(newElements);
+    } //without
+
+    /**
+     * Determines whether or not this sorted array set contains the specified object.
+     *
+     * @param object the object to be used in the operation
+     * @return {@code true}, if this sorted array set contains the specified object and {@code false} otherwise
+     */
+    @Override
+    public boolean contains(Object object) {
+        if (object instanceof String) {
+            return Collections.binarySearch(this.elements, (String) object) >= 0;
+        } //end if
+
+        return false;
+    } //contains
+
+    /**
+     * Returns an iterator over the elements of this sorted array set, in ascending order.
+     *
+     * @return an iterator over the elements of this sorted array set
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return this.elements.iterator();
+    } //iterator
+
+    /**
+     * Returns the size of this sorted array set.
+     *
+     * @return the size of this sorted array set
+     */
+    @Override
+    public int size() {
+        return this.elements.size();
+    } //size
+}
\ No newline at end of file
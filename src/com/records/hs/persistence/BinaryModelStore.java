@@ -0,0 +1,106 @@
+package com.records.hs.persistence;
+
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import java.io.IOException;
+import com.records.hs.model.Model;
+import java.io.OutputStream;
+import java.io.BufferedOutputStream;
+import com.records.hs.util.CountingOutputStream;
+import java.nio.file.Files;
+
+/**
+ * A model store that saves models to {@code model.bin} as binary snapshots in the HS Records application. The blocks
+ * of a snapshot are verified and decoded in parallel when it is read. See {@link BinarySnapshot}.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class BinaryModelStore extends FileModelStore {
+    /**
+     * The name of this type of model store.
+     */
+    private static final String NAME;
+
+    /**
+     * The file name where models are stored.
+     */
+    static final String FILE_NAME;
+
+    static {
+        NAME = "binary";
+
+        FILE_NAME = "model.bin";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code BinaryModelStore} object.
+     */
+    private BinaryModelStore() {
+        super(FILE_NAME);
+    } //BinaryModelStore
+
+    /**
+     * Returns a new {@code BinaryModelStore} object. This method is used by {@link java.util.ServiceLoader}.
+     *
+     * @return a new {@code BinaryModelStore} object
+     */
+    public static ModelStore provider() {
+        return new BinaryModelStore();
+    } //provider
+
+    /**
+     * Returns the name of this binary model store.
+     *
+     * @return the name of this binary model store
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    } //getName
+
+    /**
+     * Reads a binary snapshot from the existing file at the specified path.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model that was read from the file
+     * @throws SnapshotCorruptException if a block of the file is corrupt
+     * @throws IOException if the file could not be read
+     */
+    @Override
+    Model readFile(Path path, LongConsumer progressConsumer) throws IOException {
+        return BinarySnapshot.read(path, progressConsumer);
+    } //readFile
+
+    /**
+     * Writes a binary snapshot of the specified model to the file at the specified path.
+     *
+     * @param model the model to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    void writeFile(Model model, Path path, LongConsumer progressConsumer) throws IOException {
+        BinaryModelStore.writeSnapshot(model, path, progressConsumer);
+    } //writeFile
+
+    /**
+     * Writes a binary snapshot of the specified model to the file at the specified path through a buffered stream.
+     *
+     * @param model the model to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    static void writeSnapshot(Model model, Path path, LongConsumer progressConsumer) throws IOException {
+        OutputStream outputStream;
+
+        outputStream = new CountingOutputStream(Files.newOutputStream(path), progressConsumer);
+
+        try (OutputStream bufferedOutputStream = new BufferedOutputStream(outputStream, BUFFER_SIZE)) {
+            BinarySnapshot.write(model, bufferedOutputStream);
+        } //end try
+    } //writeSnapshot
+}
\ No newline at end of file
@@ -0,0 +1,681 @@
+package com.records.hs.persistence;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.MappedByteBuffer;
+import java.nio.file.StandardOpenOption;
+import java.io.IOException;
+import com.records.hs.model.Model;
+import java.io.OutputStream;
+import java.io.DataOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Set;
+import com.records.hs.model.Entry;
+import com.records.hs.model.Type;
+import java.util.zip.CRC32C;
+import java.util.function.LongConsumer;
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.LinkedHashMap;
+import java.io.DataInputStream;
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.io.EOFException;
+import java.io.UTFDataFormatException;
+
+/**
+ * A set of methods for reading and writing binary snapshots of models in the HS Records application. A binary
+ * snapshot consists of a header, a sequence of blocks, an index, and a trailer. The first block holds the latest ID,
+ * the entry count, and the mapping from categories to subcategories. Each remaining block holds a run of entries in
+ * model order. The index holds the block count, followed by the offset, length, and CRC32C checksum of each block.
+ * The trailer holds the offset of the index and the magic number again.
+ *
+ * <p>Blocks are verified and decoded in parallel on the common fork join pool, then merged in block order, so the
+ * insertion order of the model is preserved. A block that fails its checksum or cannot be decoded is reported with a
+ * {@link SnapshotCorruptException} that identifies the block and its offset.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class BinarySnapshot {
+    /**
+     * The magic number of the binary snapshot format.
+     */
+    private static final int MAGIC;
+
+    /**
+     * The version of the binary snapshot format.
+     */
+    private static final short VERSION;
+
+    /**
+     * The size of the header of the binary snapshot format, in bytes.
+     */
+    private static final int HEADER_SIZE;
+
+    /**
+     * The size of an index entry of the binary snapshot format, in bytes.
+     */
+    private static final int INDEX_ENTRY_SIZE;
+
+    /**
+     * The size of the trailer of the binary snapshot format, in bytes.
+     */
+    private static final int TRAILER_SIZE;
+
+    /**
+     * The maximum number of entries in a block of the binary snapshot format.
+     */
+    private static final int ENTRIES_PER_BLOCK;
+
+    /**
+     * A source of the bytes of a binary snapshot.
+     */
+    @FunctionalInterface
+    private interface Source {
+        /**
+         * Reads bytes, starting at the specified position, into the specified buffer until the buffer is full.
+         *
+         * @param buffer the buffer to be used in the operation
+         * @param position the position to be used in the operation
+         * @throws IOException if an I/O error occurs
+         */
+        void read(ByteBuffer buffer, long position) throws IOException;
+    } //Source
+
+    static {
+        MAGIC = 0x48534253;
+
+        VERSION = 1;
+
+        HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+        INDEX_ENTRY_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+        TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+        ENTRIES_PER_BLOCK = 4_096;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code BinarySnapshot} object.
+     *
+     * @throws AssertionError if an object of type {@code BinarySnapshot} attempts to be instantiated
+     */
+    private BinarySnapshot() {
+        throw new AssertionError("an object of type BinarySnapshot cannot be instantiated");
+    } //BinarySnapshot
+
+    /**
+     * Determines whether or not the file at the specified path is a binary snapshot. Only the magic number at the
+     * start of the file is checked.
+     *
+     * @param path the path to be used in the operation
+     * @return {@code true}, if the file at the specified path is a binary snapshot and {@code false} otherwise
+     * @throws NullPointerException if the specified path is {@code null}
+     */
+    public static boolean isBinarySnapshot(Path path) {
+        ByteBuffer buffer;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        if (Files.notExists(path)) {
+            return false;
+        } //end if
+
+        buffer = ByteBuffer.allocate(Integer.BYTES);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            BlockCompression.readFully(channel, buffer, 0);
+        } catch (IOException e) {
+            return false;
+        } //end try catch
+
+        buffer.flip();
+
+        return buffer.getInt() == MAGIC;
+    } //isBinarySnapshot
+
+    /**
+     * Writes the block in the specified block buffer to the specified output stream and records it in the specified
+     * index. The block buffer is reset afterwards.
+     *
+     * @param outputStream the output stream to be used in the operation
+     * @param blockBuffer the block buffer to be used in the operation
+     * @param indexOutputStream the index output stream to be used in the operation
+     * @param offset the offset of the block to be used in the operation
+     * @return the offset that follows the written block
+     * @throws IOException if an I/O error occurs
+     */
+    private static long writeBlock(OutputStream outputStream, ByteArrayOutputStream blockBuffer,
+                                   DataOutputStream indexOutputStream, long offset) throws IOException {
+        byte[] bytes;
+        CRC32C checksum;
+
+        bytes = blockBuffer.toByteArray();
+
+        checksum = new CRC32C();
+
+        checksum.update(bytes);
+
+        outputStream.write(bytes);
+
+        indexOutputStream.writeLong(offset);
+
+        indexOutputStream.writeInt(bytes.length);
+
+        indexOutputStream.writeInt((int) checksum.getValue());
+
+        blockBuffer.reset();
+
+        return offset + bytes.length;
+    } //writeBlock
+
+    /**
+     * Writes a binary snapshot of the specified model to the specified output stream. The output stream is flushed,
+     * but not closed.
+     *
+     * @param model the model to be used in the operation
+     * @param outputStream the output stream to be used in the operation
+     * @throws NullPointerException if the specified model or output stream is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(Model model, OutputStream outputStream) throws IOException {
+        DataOutputStream dataOutputStream;
+        ByteArrayOutputStream index;
+        DataOutputStream indexOutputStream;
+        ByteArrayOutputStream blockBuffer;
+        DataOutputStream blockOutputStream;
+        String latestId;
+        Set<String> categories;
+        Set<String> subcategories;
+        Set<String> tags;
+        long offset;
+        int blockCount = 0;
+        int entryCount = 0;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(outputStream, "the specified output stream is null");
+
+        dataOutputStream = new DataOutputStream(outputStream);
+
+        index = new ByteArrayOutputStream();
+
+        indexOutputStream = new DataOutputStream(index);
+
+        blockBuffer = new ByteArrayOutputStream();
+
+        blockOutputStream = new DataOutputStream(blockBuffer);
+
+        dataOutputStream.writeInt(MAGIC);
+
+        dataOutputStream.writeShort(VERSION);
+
+        offset = HEADER_SIZE;
+
+        latestId = model.getLatestId();
+
+        blockOutputStream.writeBoolean(latestId != null);
+
+        if (latestId != null) {
+            blockOutputStream.writeUTF(latestId);
+        } //end if
+
+        blockOutputStream.writeInt(model.getEntryCount());
+
+        categories = model.getCategories();
+
+        blockOutputStream.writeInt(categories.size());
+
+        for (String category : categories) {
+            blockOutputStream.writeUTF(category);
+
+            subcategories = model.getSubcategories(category);
+
+            blockOutputStream.writeInt(subcategories.size());
+
+            for (String subcategory : subcategories) {
+                blockOutputStream.writeUTF(subcategory);
+            } //end for
+        } //end for
+
+        offset = BinarySnapshot.writeBlock(dataOutputStream, blockBuffer, indexOutputStream, offset);
+
+        blockCount++;
+
+        for (Entry entry : model.getEntries()) {
+            blockOutputStream.writeUTF(entry.id());
+
+            blockOutputStream.writeByte(entry.type()
+                                             .ordinal());
+
+            blockOutputStream.writeUTF(entry.category());
+
+            blockOutputStream.writeUTF(entry.subcategory());
+
+            tags = entry.tags();
+
+            blockOutputStream.writeInt(tags.size());
+
+            for (String tag : tags) {
+                blockOutputStream.writeUTF(tag);
+            } //end for
+
+            entryCount++;
+
+            if (entryCount == ENTRIES_PER_BLOCK) {
+                offset = BinarySnapshot.writeBlock(dataOutputStream, blockBuffer, indexOutputStream, offset);
+
+                blockCount++;
+
+                entryCount = 0;
+            } //end if
+        } //end for
+
+        if (entryCount > 0) {
+            offset = BinarySnapshot.writeBlock(dataOutputStream, blockBuffer, indexOutputStream, offset);
+
+            blockCount++;
+        } //end if
+
+        dataOutputStream.writeInt(blockCount);
+
+        index.writeTo(dataOutputStream);
+
+        dataOutputStream.writeLong(offset);
+
+        dataOutputStream.writeInt(MAGIC);
+
+        dataOutputStream.flush();
+    } //write
+
+    /**
+     * Reads the block with the specified number from the specified source and verifies its checksum.
+     *
+     * @param source the source to be used in the operation
+     * @param blockNumber the block number to be used in the operation
+     * @param offset the offset of the block to be used in the operation
+     * @param length the length of the block to be used in the operation
+     * @param expectedChecksum the expected checksum of the block to be used in the operation
+     * @return the bytes of the block
+     * @throws IOException if an I/O error occurs
+     * @throws SnapshotCorruptException if the block fails its checksum
+     */
+    private static byte[] readVerifiedBlock(Source source, int blockNumber, long offset, int length,
+                                            int expectedChecksum) throws IOException {
+        ByteBuffer buffer;
+        byte[] bytes;
+        CRC32C checksum;
+        int actualChecksum;
+
+        buffer = ByteBuffer.allocate(length);
+
+        source.read(buffer, offset);
+
+        bytes = buffer.array();
+
+        checksum = new CRC32C();
+
+        checksum.update(bytes);
+
+        actualChecksum = (int) checksum.getValue();
+
+        if (actualChecksum != expectedChecksum) {
+            String format = "expected checksum %08x but found %08x";
+            String reason = String.format(format, expectedChecksum, actualChecksum);
+
+            throw new SnapshotCorruptException(blockNumber, offset, reason);
+        } //end if
+
+        return bytes;
+    } //readVerifiedBlock
+
+    /**
+     * Decodes the entries in the specified block.
+     *
+     * @param bytes the bytes of the block to be used in the operation
+     * @param blockNumber the block number to be used in the operation
+     * @param offset the offset of the block to be used in the operation
+     * @return the entries in the specified block, in order
+     * @throws SnapshotCorruptException if the block cannot be decoded
+     */
+    private static List<Entry> decodeEntries(byte[] bytes, int blockNumber, long offset)
+            throws SnapshotCorruptException {
+        DataInputStream inputStream;
+        List<Entry> entries;
+        Type[] types;
+        String id;
+        int typeOrdinal;
+        String category;
+        String subcategory;
+        int tagCount;
+        Set<String> tags;
+
+        inputStream = new DataInputStream(new ByteArrayInputStream(bytes));
+
+        entries = new ArrayList<>(ENTRIES_PER_BLOCK);
+
+        types = Type.values();
+
+        try {
+            while (inputStream.available() > 0) {
+                id = inputStream.readUTF();
+
+                typeOrdinal = inputStream.readUnsignedByte();
+
+                if (typeOrdinal >= types.length) {
+                    String reason = String.format("entry %s has an unknown type %d", id, typeOrdinal);
+
+                    throw new SnapshotCorruptException(blockNumber, offset, reason);
+                } //end if
+
+                category = inputStream.readUTF();
+
+                subcategory = inputStream.readUTF();
+
+                tagCount = inputStream.readInt();
+
+                if (tagCount < 0) {
+                    String reason = String.format("entry %s has a negative tag count", id);
+
+                    throw new SnapshotCorruptException(blockNumber, offset, reason);
+                } //end if
+
+                tags = new HashSet<>();
+
+                for (int i = 0; i < tagCount; i++) {
+                    tags.add(inputStream.readUTF());
+                } //end for
+
+                entries.add(new Entry(id, types[typeOrdinal], category, subcategory, tags));
+            } //end while
+        } catch (EOFException | UTFDataFormatException e) {
+            String reason = "the block ends in the middle of an entry";
+
+            throw new SnapshotCorruptException(blockNumber, offset, reason, e);
+        } catch (SnapshotCorruptException e) {
+            throw e;
+        } catch (IOException e) {
+            String reason = e.getMessage();
+
+            throw new SnapshotCorruptException(blockNumber, offset, reason, e);
+        } //end try catch
+
+        return entries;
+    } //decodeEntries
+
+    /**
+     * Reads a binary snapshot of the specified size from the specified source. The number of bytes of verified blocks
+     * read so far is passed to the specified progress consumer on the calling thread, as the blocks are joined in
+     * order. If more than one block is corrupt, every corrupt block is reported, with the first as the thrown exception
+     * and the rest as suppressed exceptions.
+     *
+     * @param source the source to be used in the operation
+     * @param size the size of the snapshot to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model that was read from the specified source
+     * @throws SnapshotCorruptException if a block of the snapshot is corrupt, or the snapshot does not hold as many
+     * entries as its metadata block records
+     * @throws IOException if an I/O error occurs or the source does not hold a binary snapshot
+     */
+    private static Model read(Source source, long size, LongConsumer progressConsumer) throws IOException {
+        ByteBuffer buffer;
+        long indexOffset;
+        int blockCount;
+        long[] offsets;
+        int[] lengths;
+        int[] checksums;
+        byte[] metadataBytes;
+        DataInputStream metadataInputStream;
+        String latestId = null;
+        int entryCount;
+        int categoryCount;
+        Map<String, Set<String>> catsToSubcats;
+        long bytesRead;
+        List<CompletableFuture<List<Entry>>> futures;
+        List<List<Entry>> blocks;
+        Map<String, Entry> idsToEntries;
+        SnapshotCorruptException firstException = null;
+
+        if (size < HEADER_SIZE + Integer.BYTES + TRAILER_SIZE) {
+            throw new IOException("the snapshot is truncated");
+        } //end if
+
+        buffer = ByteBuffer.allocate(HEADER_SIZE);
+
+        source.read(buffer, 0);
+
+        buffer.flip();
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("the file is not a binary snapshot");
+        } //end if
+
+        if (buffer.getShort() != VERSION) {
+            throw new IOException("the snapshot has an unsupported version");
+        } //end if
+
+        buffer = ByteBuffer.allocate(TRAILER_SIZE);
+
+        source.read(buffer, size - TRAILER_SIZE);
+
+        buffer.flip();
+
+        indexOffset = buffer.getLong();
+
+        if ((buffer.getInt() != MAGIC) || (indexOffset < HEADER_SIZE)
+            || (indexOffset > size - TRAILER_SIZE - Integer.BYTES)) {
+            throw new IOException("the trailer of the snapshot is corrupt");
+        } //end if
+
+        buffer = ByteBuffer.allocate((int) (size - TRAILER_SIZE - indexOffset));
+
+        source.read(buffer, indexOffset);
+
+        buffer.flip();
+
+        blockCount = buffer.getInt();
+
+        if ((blockCount <= 0) || (buffer.remaining() != (long) blockCount * INDEX_ENTRY_SIZE)) {
+            throw new IOException("the index of the snapshot is corrupt");
+        } //end if
+
+        offsets = new long[blockCount];
+
+        lengths = new int[blockCount];
+
+        checksums = new int[blockCount];
+
+        for (int i = 0; i < blockCount; i++) {
+            offsets[i] = buffer.getLong();
+
+            lengths[i] = buffer.getInt();
+
+            checksums[i] = buffer.getInt();
+
+            if ((offsets[i] < HEADER_SIZE) || (lengths[i] < 0) || (offsets[i] + lengths[i] > indexOffset)) {
+                String reason = "the index entry of the block is out of range";
+
+                throw new SnapshotCorruptException(i, offsets[i], reason);
+            } //end if
+        } //end for
+
+        metadataBytes = BinarySnapshot.readVerifiedBlock(source, 0, offsets[0], lengths[0], checksums[0]);
+
+        metadataInputStream = new DataInputStream(new ByteArrayInputStream(metadataBytes));
+
+        catsToSubcats = new HashMap<>();
+
+        try {
+            if (metadataInputStream.readBoolean()) {
+                latestId = metadataInputStream.readUTF();
+            } //end if
+
+            entryCount = metadataInputStream.readInt();
+
+            categoryCount = metadataInputStream.readInt();
+
+            for (int i = 0; i < categoryCount; i++) {
+                String category = metadataInputStream.readUTF();
+                int subcategoryCount = metadataInputStream.readInt();
+                Set<String> subcategories = new HashSet<>();
+
+                for (int j = 0; j < subcategoryCount; j++) {
+                    subcategories.add(metadataInputStream.readUTF());
+                } //end for
+
+                catsToSubcats.put(category, subcategories);
+            } //end for
+        } catch (IOException e) {
+            String reason = "the metadata block cannot be decoded";
+
+            throw new SnapshotCorruptException(0, offsets[0], reason, e);
+        } //end try catch
+
+        bytesRead = lengths[0];
+
+        progressConsumer.accept(bytesRead);
+
+        futures = new ArrayList<>(blockCount - 1);
+
+        for (int i = 1; i < blockCount; i++) {
+            int blockNumber = i;
+            CompletableFuture<List<Entry>> future;
+
+            future = CompletableFuture.supplyAsync(() -> {
+                byte[] bytes;
+
+                try {
+                    bytes = BinarySnapshot.readVerifiedBlock(source, blockNumber, offsets[blockNumber],
+                                                             lengths[blockNumber], checksums[blockNumber]);
+
+                    return BinarySnapshot.decodeEntries(bytes, blockNumber, offsets[blockNumber]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } //end try catch
+            }, ForkJoinPool.commonPool());
+
+            futures.add(future);
+        } //end for
+
+        blocks = new ArrayList<>(futures.size());
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                blocks.add(futures.get(i)
+                                  .join());
+
+                bytesRead += lengths[i + 1];
+
+                progressConsumer.accept(bytesRead);
+            } catch (CompletionException e) {
+                IOException exception = BlockCompression.unwrap(e);
+
+                if (!(exception instanceof SnapshotCorruptException)) {
+                    throw exception;
+                } else if (firstException == null) {
+                    firstException = (SnapshotCorruptException) exception;
+                } else {
+                    firstException.addSuppressed(exception);
+                } //end if
+            } //end try catch
+        } //end for
+
+        if (firstException != null) {
+            throw firstException;
+        } //end if
+
+        idsToEntries = new LinkedHashMap<>(Math.max(entryCount, 0) * 4 / 3 + 1);
+
+        for (List<Entry> entries : blocks) {
+            for (Entry entry : entries) {
+                idsToEntries.put(entry.id(), entry);
+            } //end for
+        } //end for
+
+        if (idsToEntries.size() != entryCount) {
+            String format = "the snapshot holds %d distinct entries, but its metadata records %d";
+            String reason = String.format(format, idsToEntries.size(), entryCount);
+
+            throw new SnapshotCorruptException(0, offsets[0], reason);
+        } //end if
+
+        return Model.newModel(latestId, idsToEntries, catsToSubcats);
+    } //read
+
+    /**
+     * Reads a binary snapshot from the file at the specified path. The number of bytes of verified blocks read so far
+     * is passed to the specified progress consumer on the calling thread. If more than one block is corrupt, every
+     * corrupt block is reported, with the first as the thrown exception and the rest as suppressed exceptions.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model that was read from the file
+     * @throws NullPointerException if the specified path or progress consumer is {@code null}
+     * @throws SnapshotCorruptException if a block of the snapshot is corrupt
+     * @throws IOException if an I/O error occurs or the file is not a binary snapshot
+     */
+    public static Model read(Path path, LongConsumer progressConsumer) throws IOException {
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Source source = (buffer, position) -> BlockCompression.readFully(channel, buffer, position);
+            long size = channel.size();
+
+            return BinarySnapshot.read(source, size, progressConsumer);
+        } //end try
+    } //read
+
+    /**
+     * Reads a binary snapshot from the file at the specified path by mapping the file into memory. Blocks are copied
+     * straight out of the mapping, so no read system calls are made once the file is mapped. Otherwise, this method
+     * behaves like {@link #read(Path, LongConsumer)}.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model that was read from the file
+     * @throws NullPointerException if the specified path or progress consumer is {@code null}
+     * @throws SnapshotCorruptException if a block of the snapshot is corrupt
+     * @throws IOException if an I/O error occurs, the file is too large to be mapped, or the file is not a binary
+     * snapshot
+     */
+    public static Model readMapped(Path path, LongConsumer progressConsumer) throws IOException {
+        long size;
+        MappedByteBuffer mappedBuffer;
+        Source source;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            size = channel.size();
+
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("the snapshot is too large to be mapped");
+            } //end if
+
+            mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } //end try
+
+        source = (buffer, position) -> {
+            int length = buffer.remaining();
+
+            buffer.put(mappedBuffer.slice((int) position, length));
+        };
+
+        return BinarySnapshot.read(source, size, progressConsumer);
+    } //readMapped
+}
\ No newline at end of file
@@ -0,0 +1,377 @@
+package com.records.hs.persistence;
+
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.util.function.LongConsumer;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.io.IOException;
+import java.nio.file.StandardOpenOption;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * An input stream that reads a block compressed snapshot in the HS Records application. The index of the snapshot is
+ * read up front, and blocks are read and inflated on the common fork join pool ahead of the reader. A bounded number
+ * of blocks may be in flight at once, so memory use does not depend on the size of the snapshot. Blocks are always
+ * returned in order.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class BlockCompressedInputStream extends InputStream {
+    /**
+     * The channel of this block compressed input stream.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The block offsets of this block compressed input stream.
+     */
+    private final long[] offsets;
+
+    /**
+     * The compressed block lengths of this block compressed input stream.
+     */
+    private final int[] compressedLengths;
+
+    /**
+     * The uncompressed block lengths of this block compressed input stream.
+     */
+    private final int[] rawLengths;
+
+    /**
+     * The progress consumer of this block compressed input stream.
+     */
+    private final LongConsumer progressConsumer;
+
+    /**
+     * The maximum number of blocks of this block compressed input stream that may be in flight at once.
+     */
+    private final int maxPending;
+
+    /**
+     * The pending blocks of this block compressed input stream.
+     */
+    private final Deque<CompletableFuture<byte[]>> pendingBlocks;
+
+    /**
+     * The number of the next block of this block compressed input stream to be submitted.
+     */
+    private int nextBlockNumber;
+
+    /**
+     * The number of the current block of this block compressed input stream.
+     */
+    private int currentBlockNumber;
+
+    /**
+     * The current block of this block compressed input stream.
+     */
+    private byte[] block;
+
+    /**
+     * The position in the current block of this block compressed input stream.
+     */
+    private int position;
+
+    /**
+     * Constructs a newly allocated {@code BlockCompressedInputStream} object with the specified channel, block
+     * offsets, compressed block lengths, uncompressed block lengths, and progress consumer.
+     *
+     * @param channel the channel to be used in construction
+     * @param offsets the block offsets to be used in construction
+     * @param compressedLengths the compressed block lengths to be used in construction
+     * @param rawLengths the uncompressed block lengths to be used in construction
+     * @param progressConsumer the progress consumer to be used in construction
+     */
+    private BlockCompressedInputStream(FileChannel channel, long[] offsets, int[] compressedLengths,
+                                       int[] rawLengths, LongConsumer progressConsumer) {
+        int parallelism;
+
+        parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+        this.channel = channel;
+        this.offsets = offsets;
+        this.compressedLengths = compressedLengths;
+        this.rawLengths = rawLengths;
+        this.progressConsumer = progressConsumer;
+        this.maxPending = 2 * parallelism;
+        this.pendingBlocks = new ArrayDeque<>();
+        this.nextBlockNumber = 0;
+        this.currentBlockNumber = -1;
+        this.block = new byte[0];
+        this.position = 0;
+    } //BlockCompressedInputStream
+
+    /**
+     * Returns a new {@code BlockCompressedInputStream} object that reads the block compressed snapshot at the
+     * specified path. The number of compressed bytes consumed so far is passed to the specified progress consumer.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return a new {@code BlockCompressedInputStream} object that reads the snapshot at the specified path
+     * @throws NullPointerException if the specified path or progress consumer is {@code null}
+     * @throws SnapshotCorruptException if a block of the snapshot is longer than the block size in its header
+     * @throws IOException if an I/O error occurs or the file at the specified path is not a valid block compressed
+     * snapshot
+     */
+    public static BlockCompressedInputStream open(Path path, LongConsumer progressConsumer) throws IOException {
+        FileChannel channel;
+        long size;
+        ByteBuffer buffer;
+        int blockSize;
+        long indexOffset;
+        int blockCount;
+        long[] offsets;
+        int[] compressedLengths;
+        int[] rawLengths;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            size = channel.size();
+
+            if (size < BlockCompression.HEADER_SIZE + Integer.BYTES + BlockCompression.TRAILER_SIZE) {
+                throw new IOException("the snapshot is truncated");
+            } //end if
+
+            buffer = ByteBuffer.allocate(BlockCompression.HEADER_SIZE);
+
+            BlockCompression.readFully(channel, buffer, 0);
+
+            buffer.flip();
+
+            if (buffer.getInt() != BlockCompression.MAGIC) {
+                throw new IOException("the snapshot is not block compressed");
+            } //end if
+
+            if (buffer.getShort() != BlockCompression.VERSION) {
+                throw new IOException("the snapshot has an unsupported version");
+            } //end if
+
+            blockSize = buffer.getInt();
+
+            if (blockSize <= 0) {
+                throw new IOException("the header of the snapshot is corrupt");
+            } //end if
+
+            buffer = ByteBuffer.allocate(BlockCompression.TRAILER_SIZE);
+
+            BlockCompression.readFully(channel, buffer, size - BlockCompression.TRAILER_SIZE);
+
+            buffer.flip();
+
+            indexOffset = buffer.getLong();
+
+            if ((buffer.getInt() != BlockCompression.MAGIC) || (indexOffset < BlockCompression.HEADER_SIZE)
+                || (indexOffset > size - BlockCompression.TRAILER_SIZE - Integer.BYTES)) {
+                throw new IOException("the trailer of the snapshot is corrupt");
+            } //end if
+
+            buffer = ByteBuffer.allocate((int) (size - BlockCompression.TRAILER_SIZE - indexOffset));
+
+            BlockCompression.readFully(channel, buffer, indexOffset);
+
+            buffer.flip();
+
+            blockCount = buffer.getInt();
+
+            if ((blockCount < 0) || (buffer.remaining() != (long) blockCount * BlockCompression.INDEX_ENTRY_SIZE)) {
+                throw new IOException("the index of the snapshot is corrupt");
+            } //end if
+
+            offsets = new long[blockCount];
+
+            compressedLengths = new int[blockCount];
+
+            rawLengths = new int[blockCount];
+
+            for (int i = 0; i < blockCount; i++) {
+                offsets[i] = buffer.getLong();
+
+                compressedLengths[i] = buffer.getInt();
+
+                rawLengths[i] = buffer.getInt();
+
+                if ((offsets[i] < BlockCompression.HEADER_SIZE) || (compressedLengths[i] < 0) || (rawLengths[i] < 0)
+                    || (offsets[i] + compressedLengths[i] > indexOffset)) {
+                    String format = "the index entry of block %d of the snapshot is corrupt";
+                    String message = String.format(format, i);
+
+                    throw new IOException(message);
+                } //end if
+
+                if (rawLengths[i] > blockSize) {
+                    String format = "its uncompressed length (%d) is greater than the block size (%d)";
+                    String reason = String.format(format, rawLengths[i], blockSize);
+
+                    throw new SnapshotCorruptException(i, offsets[i], reason);
+                } //end if
+            } //end for
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+
+            throw e;
+        } //end try catch
+
+        return new BlockCompressedInputStream(channel, offsets, compressedLengths, rawLengths, progressConsumer);
+    } //open
+
+    /**
+     * Reads and inflates the block of this block compressed input stream with the specified number.
+     *
+     * @param blockNumber the block number to be used in the operation
+     * @return the inflated block
+     * @throws IOException if an I/O error occurs or the block is corrupt
+     */
+    private byte[] readBlock(int blockNumber) throws IOException {
+        ByteBuffer buffer;
+
+        buffer = ByteBuffer.allocate(this.compressedLengths[blockNumber]);
+
+        BlockCompression.readFully(this.channel, buffer, this.offsets[blockNumber]);
+
+        return BlockCompression.inflate(buffer.array(), this.rawLengths[blockNumber], blockNumber,
+                                        this.offsets[blockNumber]);
+    } //readBlock
+
+    /**
+     * Advances this block compressed input stream to its next non-empty block. More blocks are submitted for reading
+     * as pending blocks are consumed.
+     *
+     * @return {@code true}, if this block compressed input stream advanced to a block and {@code false} if there are
+     * no more blocks
+     * @throws IOException if an I/O error occurs or a block is corrupt
+     */
+    private boolean advance() throws IOException {
+        CompletableFuture<byte[]> future;
+        long consumed;
+
+        do {
+            while ((this.nextBlockNumber < this.offsets.length) && (this.pendingBlocks.size() < this.maxPending)) {
+                int blockNumber = this.nextBlockNumber;
+
+                future = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return this.readBlock(blockNumber);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } //end try catch
+                });
+
+                this.pendingBlocks.addLast(future);
+
+                this.nextBlockNumber++;
+            } //end while
+
+            if (this.pendingBlocks.isEmpty()) {
+                return false;
+            } //end if
+
+            future = this.pendingBlocks.removeFirst();
+
+            try {
+                this.block = future.join();
+            } catch (CompletionException e) {
+                throw BlockCompression.unwrap(e);
+            } //end try catch
+
+            this.position = 0;
+
+            this.currentBlockNumber++;
+
+            consumed = this.offsets[this.currentBlockNumber] + this.compressedLengths[this.currentBlockNumber];
+
+            this.progressConsumer.accept(consumed);
+        } while (this.block.length == 0);
+
+        return true;
+    } //advance
+
+    /**
+     * Reads the next byte from this block compressed input stream.
+     *
+     * @return the next byte, or {@code -1} if the end of the stream has been reached
+     * @throws IOException if an I/O error occurs or a block is corrupt
+     */
+    @Override
+    public int read() throws IOException {
+        if ((this.position == this.block.length) && !this.advance()) {
+            return -1;
+        } //end if
+
+        int b = this.block[this.position] & 0xFF;
+
+        this.position++;
+
+        return b;
+    } //read
+
+    /**
+     * Reads up to the specified number of bytes from this block compressed input stream into the specified array,
+     * starting at the specified offset.
+     *
+     * @param bytes the bytes to be used in the operation
+     * @param offset the offset to be used in the operation
+     * @param length the length to be used in the operation
+     * @return the number of bytes read, or {@code -1} if the end of the stream has been reached
+     * @throws IOException if an I/O error occurs or a block is corrupt
+     */
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        int count;
+
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+
+        if (length == 0) {
+            return 0;
+        } //end if
+
+        if ((this.position == this.block.length) && !this.advance()) {
+            return -1;
+        } //end if
+
+        count = Math.min(length, this.block.length - this.position);
+
+        System.arraycopy(this.block, this.position, bytes, offset, count);
+
+        this.position += count;
+
+        return count;
+    } //read
+
+    /**
+     * Returns the number of bytes that can be read from the current block of this block compressed input stream
+     * without blocking.
+     *
+     * @return the number of bytes that can be read without blocking
+     */
+    @Override
+    public int available() {
+        return this.block.length - this.position;
+    } //available
+
+    /**
+     * Closes this block compressed input stream. Blocks that are still in flight are abandoned.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        this.pendingBlocks.forEach(future -> future.cancel(false));
+
+        this.pendingBlocks.clear();
+
+        this.channel.close();
+    } //close
+}
\ No newline at end of file
@@ -0,0 +1,309 @@
+package com.records.hs.persistence;
+
+import java.io.OutputStream;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.Objects;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.CompletionException;
+
+/**
+ * An output stream that writes a block compressed snapshot in the HS Records application. Bytes are buffered into
+ * fixed size blocks, and each full block is deflated on the common fork join pool while later blocks are being
+ * filled. A bounded number of blocks may be in flight at once, so memory use does not depend on the size of the
+ * snapshot. Blocks are always written in order.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class BlockCompressedOutputStream extends OutputStream {
+    /**
+     * A block that has been deflated.
+     */
+    private record CompressedBlock(byte[] bytes, int rawLength) {
+    } //CompressedBlock
+
+    /**
+     * The output stream of this block compressed output stream.
+     */
+    private final OutputStream outputStream;
+
+    /**
+     * The block size of this block compressed output stream.
+     */
+    private final int blockSize;
+
+    /**
+     * The maximum number of blocks of this block compressed output stream that may be in flight at once.
+     */
+    private final int maxPending;
+
+    /**
+     * The pending blocks of this block compressed output stream.
+     */
+    private final Deque<CompletableFuture<CompressedBlock>> pendingBlocks;
+
+    /**
+     * The index of this block compressed output stream.
+     */
+    private final ByteArrayOutputStream index;
+
+    /**
+     * The index output stream of this block compressed output stream.
+     */
+    private final DataOutputStream indexOutputStream;
+
+    /**
+     * The current block of this block compressed output stream.
+     */
+    private byte[] block;
+
+    /**
+     * The number of bytes in the current block of this block compressed output stream.
+     */
+    private int blockCount;
+
+    /**
+     * The number of blocks written by this block compressed output stream.
+     */
+    private int writtenBlockCount;
+
+    /**
+     * The offset of this block compressed output stream.
+     */
+    private long offset;
+
+    /**
+     * The closed flag of this block compressed output stream.
+     */
+    private boolean closed;
+
+    /**
+     * Constructs a newly allocated {@code BlockCompressedOutputStream} object with the specified output stream and
+     * block size. The header of the snapshot is written immediately.
+     *
+     * @param outputStream the output stream to be used in construction
+     * @param blockSize the block size to be used in construction
+     * @throws NullPointerException if the specified output stream is {@code null}
+     * @throws IllegalArgumentException if the specified block size is not positive
+     * @throws IOException if an I/O error occurs
+     */
+    public BlockCompressedOutputStream(OutputStream outputStream, int blockSize) throws IOException {
+        DataOutputStream headerOutputStream;
+        int parallelism;
+
+        Objects.requireNonNull(outputStream, "the specified output stream is null");
+
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("the specified block size is not positive");
+        } //end if
+
+        parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+        this.outputStream = outputStream;
+        this.blockSize = blockSize;
+        this.maxPending = 2 * parallelism;
+        this.pendingBlocks = new ArrayDeque<>();
+        this.index = new ByteArrayOutputStream();
+        this.indexOutputStream = new DataOutputStream(this.index);
+        this.block = new byte[blockSize];
+        this.blockCount = 0;
+        this.writtenBlockCount = 0;
+        this.offset = BlockCompression.HEADER_SIZE;
+        this.closed = false;
+
+        headerOutputStream = new DataOutputStream(outputStream);
+
+        headerOutputStream.writeInt(BlockCompression.MAGIC);
+
+        headerOutputStream.writeShort(BlockCompression.VERSION);
+
+        headerOutputStream.writeInt(blockSize);
+    } //BlockCompressedOutputStream
+
+    /**
+     * Ensures that this block compressed output stream is open.
+     *
+     * @throws IOException if this block compressed output stream is closed
+     */
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("the stream is closed");
+        } //end if
+    } //ensureOpen
+
+    /**
+     * Submits the current block of this block compressed output stream for compression. If too many blocks are in
+     * flight, the oldest blocks are written first.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void submitBlock() throws IOException {
+        byte[] bytes = this.block;
+        int length = this.blockCount;
+        CompletableFuture<CompressedBlock> future;
+
+        future = CompletableFuture.supplyAsync(() -> {
+            byte[] compressedBytes = BlockCompression.deflate(bytes, length);
+
+            return new CompressedBlock(compressedBytes, length);
+        });
+
+        this.pendingBlocks.addLast(future);
+
+        this.block = new byte[this.blockSize];
+
+        this.blockCount = 0;
+
+        while (this.pendingBlocks.size() >= this.maxPending) {
+            this.writeOldestBlock();
+        } //end while
+    } //submitBlock
+
+    /**
+     * Waits for the oldest pending block of this block compressed output stream and writes it.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeOldestBlock() throws IOException {
+        CompletableFuture<CompressedBlock> future;
+        CompressedBlock compressedBlock;
+        byte[] bytes;
+
+        future = this.pendingBlocks.removeFirst();
+
+        try {
+            compressedBlock = future.join();
+        } catch (CompletionException e) {
+            throw BlockCompression.unwrap(e);
+        } //end try catch
+
+        bytes = compressedBlock.bytes();
+
+        this.outputStream.write(bytes);
+
+        this.indexOutputStream.writeLong(this.offset);
+
+        this.indexOutputStream.writeInt(bytes.length);
+
+        this.indexOutputStream.writeInt(compressedBlock.rawLength());
+
+        this.offset += bytes.length;
+
+        this.writtenBlockCount++;
+    } //writeOldestBlock
+
+    /**
+     * Writes the specified byte to this block compressed output stream.
+     *
+     * @param b the byte to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void write(int b) throws IOException {
+        this.ensureOpen();
+
+        this.block[this.blockCount] = (byte) b;
+
+        this.blockCount++;
+
+        if (this.blockCount == this.blockSize) {
+            this.submitBlock();
+        } //end if
+    } //write
+
+    /**
+     * Writes the specified number of bytes from the specified array, starting at the specified offset, to this block
+     * compressed output stream.
+     *
+     * @param bytes the bytes to be used in the operation
+     * @param offset the offset to be used in the operation
+     * @param length the length to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        int count;
+
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+
+        this.ensureOpen();
+
+        while (length > 0) {
+            count = Math.min(length, this.blockSize - this.blockCount);
+
+            System.arraycopy(bytes, offset, this.block, this.blockCount, count);
+
+            this.blockCount += count;
+
+            offset += count;
+
+            length -= count;
+
+            if (this.blockCount == this.blockSize) {
+                this.submitBlock();
+            } //end if
+        } //end while
+    } //write
+
+    /**
+     * Flushes the underlying output stream of this block compressed output stream. The current block is not
+     * submitted, so flushing does not change the block boundaries of the snapshot.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+
+        this.outputStream.flush();
+    } //flush
+
+    /**
+     * Closes this block compressed output stream. Any remaining bytes are written as a final block, followed by the
+     * index and the trailer of the snapshot.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        DataOutputStream trailerOutputStream;
+        long indexOffset;
+
+        if (this.closed) {
+            return;
+        } //end if
+
+        try {
+            if (this.blockCount > 0) {
+                this.submitBlock();
+            } //end if
+
+            while (!this.pendingBlocks.isEmpty()) {
+                this.writeOldestBlock();
+            } //end while
+
+            indexOffset = this.offset;
+
+            trailerOutputStream = new DataOutputStream(this.outputStream);
+
+            trailerOutputStream.writeInt(this.writtenBlockCount);
+
+            this.index.writeTo(trailerOutputStream);
+
+            trailerOutputStream.writeLong(indexOffset);
+
+            trailerOutputStream.writeInt(BlockCompression.MAGIC);
+
+            trailerOutputStream.flush();
+        } finally {
+            this.closed = true;
+
+            this.outputStream.close();
+        } //end try finally
+    } //close
+}
\ No newline at end of file
@@ -0,0 +1,255 @@
+package com.records.hs.persistence;
+
+import java.nio.file.Path;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.io.IOException;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.DataFormatException;
+import java.util.concurrent.CompletionException;
+import java.io.UncheckedIOException;
+
+/**
+ * A set of constants and utility methods for the block compressed snapshot format used in the HS Records application.
+ * A block compressed snapshot consists of a header, a sequence of independently deflated blocks, an index, and a
+ * trailer. The header holds a magic number, a format version, and the uncompressed block size. The index holds the
+ * block count, followed by the offset, compressed length, and uncompressed length of each block. The trailer holds the
+ * offset of the index and the magic number again. Because each block is independent, blocks can be compressed and
+ * decompressed in parallel.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class BlockCompression {
+    /**
+     * The magic number of the block compressed snapshot format.
+     */
+    static final int MAGIC;
+
+    /**
+     * The version of the block compressed snapshot format.
+     */
+    static final short VERSION;
+
+    /**
+     * The size of the header of the block compressed snapshot format, in bytes.
+     */
+    static final int HEADER_SIZE;
+
+    /**
+     * The size of an index entry of the block compressed snapshot format, in bytes.
+     */
+    static final int INDEX_ENTRY_SIZE;
+
+    /**
+     * The size of the trailer of the block compressed snapshot format, in bytes.
+     */
+    static final int TRAILER_SIZE;
+
+    /**
+     * The default block size of the block compressed snapshot format, in bytes.
+     */
+    public static final int DEFAULT_BLOCK_SIZE;
+
+    static {
+        MAGIC = 0x48534243;
+
+        VERSION = 1;
+
+        HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES;
+
+        INDEX_ENTRY_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+        TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+        DEFAULT_BLOCK_SIZE = 1_048_576;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code BlockCompression} object.
+     *
+     * @throws AssertionError if an object of type {@code BlockCompression} attempts to be instantiated
+     */
+    private BlockCompression() {
+        throw new AssertionError("an object of type BlockCompression cannot be instantiated");
+    } //BlockCompression
+
+    /**
+     * Determines whether or not the file at the specified path is a block compressed snapshot. Only the magic number
+     * at the start of the file is checked.
+     *
+     * @param path the path to be used in the operation
+     * @return {@code true}, if the file at the specified path is a block compressed snapshot and {@code false}
+     * otherwise
+     * @throws NullPointerException if the specified path is {@code null}
+     */
+    public static boolean isBlockCompressed(Path path) {
+        ByteBuffer buffer;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        if (Files.notExists(path)) {
+            return false;
+        } //end if
+
+        buffer = ByteBuffer.allocate(Integer.BYTES);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            BlockCompression.readFully(channel, buffer, 0);
+        } catch (IOException e) {
+            return false;
+        } //end try catch
+
+        buffer.flip();
+
+        return buffer.getInt() == MAGIC;
+    } //isBlockCompressed
+
+    /**
+     * Reads bytes from the specified channel into the specified buffer, starting at the specified position, until the
+     * buffer is full.
+     *
+     * @param channel the channel to be used in the operation
+     * @param buffer the buffer to be used in the operation
+     * @param position the position to be used in the operation
+     * @throws IOException if an I/O error occurs or the end of the channel is reached before the buffer is full
+     */
+    static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int count;
+
+        while (buffer.hasRemaining()) {
+            count = channel.read(buffer, position);
+
+            if (count < 0) {
+                throw new IOException("the end of the snapshot was reached unexpectedly");
+            } //end if
+
+            position += count;
+        } //end while
+    } //readFully
+
+    /**
+     * Deflates the specified number of bytes from the specified array.
+     *
+     * @param bytes the bytes to be used in the operation
+     * @param length the length to be used in the operation
+     * @return the deflated bytes
+     */
+    static byte[] deflate(byte[] bytes, int length) {
+        Deflater deflater;
+        ByteArrayOutputStream outputStream;
+        byte[] buffer;
+        int bufferSize = 65_536;
+        int count;
+
+        deflater = new Deflater();
+
+        outputStream = new ByteArrayOutputStream(length / 2 + Integer.BYTES);
+
+        buffer = new byte[bufferSize];
+
+        try {
+            deflater.setInput(bytes, 0, length);
+
+            deflater.finish();
+
+            while (!deflater.finished()) {
+                count = deflater.deflate(buffer);
+
+                outputStream.write(buffer, 0, count);
+            } //end while
+        } finally {
+            deflater.end();
+        } //end try finally
+
+        return outputStream.toByteArray();
+    } //deflate
+
+    /**
+     * Inflates the specified bytes into an array of the specified length.
+     *
+     * @param bytes the bytes to be used in the operation
+     * @param rawLength the uncompressed length to be used in the operation
+     * @param blockNumber the number of the block being inflated, which is used in error messages
+     * @param offset the offset of the block being inflated, which is used in error messages
+     * @return the inflated bytes
+     * @throws SnapshotCorruptException if the specified bytes are not a valid deflated block of the specified length
+     */
+    static byte[] inflate(byte[] bytes, int rawLength, int blockNumber, long offset)
+            throws SnapshotCorruptException {
+        Inflater inflater;
+        byte[] rawBytes;
+        int rawOffset = 0;
+
+        inflater = new Inflater();
+
+        rawBytes = new byte[rawLength];
+
+        try {
+            inflater.setInput(bytes);
+
+            while ((rawOffset < rawLength) && !inflater.finished()) {
+                int count = inflater.inflate(rawBytes, rawOffset, rawLength - rawOffset);
+
+                if ((count == 0) && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                } //end if
+
+                rawOffset += count;
+            } //end while
+
+            if ((rawOffset == rawLength) && !inflater.finished()) {
+                byte[] extraBytes = new byte[1];
+                int extraCount;
+
+                extraCount = inflater.inflate(extraBytes);
+
+                if ((extraCount != 0) || !inflater.finished()) {
+                    String reason = "the block is longer than its index entry states";
+
+                    throw new SnapshotCorruptException(blockNumber, offset, reason);
+                } //end if
+            } //end if
+        } catch (DataFormatException e) {
+            String reason = e.getMessage();
+
+            throw new SnapshotCorruptException(blockNumber, offset, reason, e);
+        } finally {
+            inflater.end();
+        } //end try catch finally
+
+        if (rawOffset != rawLength) {
+            String reason = "the block is shorter than its index entry states";
+
+            throw new SnapshotCorruptException(blockNumber, offset, reason);
+        } //end if
+
+        return rawBytes;
+    } //inflate
+
+    /**
+     * Returns the {@code IOException} that caused the specified {@code CompletionException}. If the cause is not an
+     * {@code IOException}, it is wrapped in one.
+     *
+     * @param exception the exception to be used in the operation
+     * @return the {@code IOException} that caused the specified {@code CompletionException}
+     */
+    static IOException unwrap(CompletionException exception) {
+        Throwable cause;
+
+        cause = exception.getCause();
+
+        if (cause instanceof UncheckedIOException) {
+            return ((UncheckedIOException) cause).getCause();
+        } else if (cause instanceof IOException) {
+            return (IOException) cause;
+        } else {
+            return new IOException(cause);
+        } //end if
+    } //unwrap
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.records.hs.persistence;
+
+import java.nio.file.Path;
+import com.records.hs.model.ChangeLog;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.util.zip.CheckedInputStream;
+import java.io.BufferedInputStream;
+import java.util.zip.CRC32C;
+import java.util.Map;
+import java.util.LinkedHashMap;
+import java.io.DataOutputStream;
+import java.util.zip.CheckedOutputStream;
+import java.io.BufferedOutputStream;
+import java.util.zip.Checksum;
+import com.records.hs.util.Utilities;
+
+/**
+ * A set of methods for reading and writing the change log file of the HS Records application. The change log of a
+ * model is kept in its own file, next to the model, so that it is saved the same way with every model store.
+ *
+ * <p>The file starts with a magic number and a version, followed by the latest modification sequence, the watermark,
+ * and the number of changes. Each change is the ID of an entry and its modification sequence, in ascending order of
+ * modification sequence. The file ends with a CRC32C checksum of everything before it.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class ChangeLogFile {
+    /**
+     * The name of the change log file.
+     */
+    static final String FILE_NAME;
+
+    /**
+     * The magic number of the change log file.
+     */
+    private static final int MAGIC;
+
+    /**
+     * The version of the change log file.
+     */
+    private static final short VERSION;
+
+    static {
+        FILE_NAME = "changes.bin";
+
+        MAGIC = 0x4853434C;
+
+        VERSION = 1;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ChangeLogFile} object.
+     *
+     * @throws AssertionError if an object of type {@code ChangeLogFile} attempts to be instantiated
+     */
+    private ChangeLogFile() {
+        throw new AssertionError("an object of type ChangeLogFile cannot be instantiated");
+    } //ChangeLogFile
+
+    /**
+     * Reads the change log saved in the file at the specified path. If the file does not exist, a new, empty change
+     * log is returned.
+     *
+     * @param path the path to be used in the operation
+     * @return the change log saved in the file at the specified path
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IOException if the file exists but could not be read, or is corrupt
+     */
+    static ChangeLog read(Path path) throws IOException {
+        Checksum checksum;
+        long sequence;
+        long exportedSequence;
+        int changeCount;
+        Map<String, Long> idsToSequences;
+        String id;
+        long changeSequence;
+        int expectedChecksum;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        if (Files.notExists(path)) {
+            return ChangeLog.newChangeLog();
+        } //end if
+
+        checksum = new CRC32C();
+
+        try (DataInputStream inputStream = new DataInputStream(new CheckedInputStream(new BufferedInputStream(
+                Files.newInputStream(path), FileModelStore.BUFFER_SIZE), checksum))) {
+            if ((inputStream.readInt() != MAGIC) || (inputStream.readShort() != VERSION)) {
+                throw new IOException("the change log file is not supported");
+            } //end if
+
+            sequence = inputStream.readLong();
+
+            exportedSequence = inputStream.readLong();
+
+            changeCount = inputStream.readInt();
+
+            idsToSequences = new LinkedHashMap<>();
+
+            for (int i = 0; i < changeCount; i++) {
+                id = inputStream.readUTF();
+
+                changeSequence = inputStream.readLong();
+
+                idsToSequences.put(id, changeSequence);
+            } //end for
+
+            expectedChecksum = (int) checksum.getValue();
+
+            if (inputStream.readInt() != expectedChecksum) {
+                throw new IOException("the checksum of the change log file does not match");
+            } //end if
+        } catch (EOFException e) {
+            throw new IOException("the change log file is truncated", e);
+        } //end try catch
+
+        try {
+            return ChangeLog.newChangeLog(sequence, exportedSequence, idsToSequences);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("the change log file is corrupt", e);
+        } //end try catch
+    } //read
+
+    /**
+     * Writes the specified change log to the file at the specified path, by way of a temporary file.
+     *
+     * @param changeLog the change log to be used in the operation
+     * @param path the path to be used in the operation
+     * @throws NullPointerException if the specified change log or path is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    static void write(ChangeLog changeLog, Path path) throws IOException {
+        Path temporaryPath;
+        Checksum checksum;
+        Map<String, Long> changes;
+
+        Objects.requireNonNull(changeLog, "the specified change log is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        checksum = new CRC32C();
+
+        changes = changeLog.getChanges();
+
+        try (DataOutputStream outputStream = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryPath), FileModelStore.BUFFER_SIZE), checksum))) {
+            outputStream.writeInt(MAGIC);
+
+            outputStream.writeShort(VERSION);
+
+            outputStream.writeLong(changeLog.getSequence());
+
+            outputStream.writeLong(changeLog.getExportedSequence());
+
+            outputStream.writeInt(changes.size());
+
+            for (Map.Entry<String, Long> change : changes.entrySet()) {
+                outputStream.writeUTF(change.getKey());
+
+                outputStream.writeLong(change.getValue());
+            } //end for
+
+            outputStream.writeInt((int) checksum.getValue());
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryPath);
+
+            throw e;
+        } //end try catch
+
+        Utilities.replaceFile(temporaryPath, path);
+    } //write
+}
\ No newline at end of file
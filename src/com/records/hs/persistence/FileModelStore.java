@@ -0,0 +1,142 @@
+package com.records.hs.persistence;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.nio.file.Files;
+import java.io.IOException;
+import com.records.hs.model.Model;
+import java.util.function.LongConsumer;
+import com.records.hs.util.Utilities;
+
+/**
+ * A model store that saves models to a single file in the working directory in the HS Records application. Models
+ * are first written to a temporary file, which then replaces the saved file, so an interrupted write never leaves a
+ * partially written model behind.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+abstract class FileModelStore implements ModelStore {
+    /**
+     * The buffer size used when reading or writing a model file.
+     */
+    static final int BUFFER_SIZE;
+
+    /**
+     * The path of this file model store.
+     */
+    private final Path path;
+
+    /**
+     * The temporary path of this file model store.
+     */
+    private final Path temporaryPath;
+
+    static {
+        BUFFER_SIZE = 65_536;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code FileModelStore} object with the specified file name.
+     *
+     * @param fileName the file name to be used in construction
+     * @throws NullPointerException if the specified file name is {@code null}
+     */
+    FileModelStore(String fileName) {
+        Objects.requireNonNull(fileName, "the specified file name is null");
+
+        this.path = Path.of(fileName);
+        this.temporaryPath = Path.of(fileName + ".tmp");
+    } //FileModelStore
+
+    /**
+     * Returns the path of this file model store.
+     *
+     * @return the path of this file model store
+     */
+    Path getPath() {
+        return this.path;
+    } //getPath
+
+    /**
+     * Returns the size of the file of this file model store, in bytes. If the file does not exist or its size could not
+     * be determined, {@code 0} is returned.
+     *
+     * @return the size of the file of this file model store
+     */
+    @Override
+    public long getSize() {
+        try {
+            return Files.size(this.path);
+        } catch (IOException e) {
+            return 0;
+        } //end try catch
+    } //getSize
+
+    /**
+     * Reads the model saved in the file of this file model store. If the file does not exist, {@code null} is
+     * returned.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model saved in the file of this file model store, or {@code null} if the file does not exist
+     * @throws NullPointerException if the specified progress consumer is {@code null}
+     * @throws SnapshotCorruptException if a block of the file is corrupt
+     * @throws IOException if the file exists but could not be read
+     */
+    @Override
+    public Model read(LongConsumer progressConsumer) throws IOException {
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        if (Files.notExists(this.path)) {
+            return null;
+        } //end if
+
+        return this.readFile(this.path, progressConsumer);
+    } //read
+
+    /**
+     * Writes the specified model to the file of this file model store, by way of a temporary file.
+     *
+     * @param model the model to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @throws NullPointerException if the specified model or progress consumer is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void write(Model model, LongConsumer progressConsumer) throws IOException {
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        try {
+            this.writeFile(model, this.temporaryPath, progressConsumer);
+        } catch (IOException e) {
+            Files.deleteIfExists(this.temporaryPath);
+
+            throw e;
+        } //end try catch
+
+        Utilities.replaceFile(this.temporaryPath, this.path);
+    } //write
+
+    /**
+     * Reads a model from the existing file at the specified path.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model that was read from the file
+     * @throws SnapshotCorruptException if a block of the file is corrupt
+     * @throws IOException if the file could not be read
+     */
+    abstract Model readFile(Path path, LongConsumer progressConsumer) throws IOException;
+
+    /**
+     * Writes the specified model to the file at the specified path, replacing it if it exists.
+     *
+     * @param model the model to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    abstract void writeFile(Model model, Path path, LongConsumer progressConsumer) throws IOException;
+}
\ No newline at end of file
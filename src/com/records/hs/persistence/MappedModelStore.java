@@ -0,0 +1,78 @@
+package com.records.hs.persistence;
+
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import java.io.IOException;
+import com.records.hs.model.Model;
+
+/**
+ * A model store that saves models to {@code model.bin} as binary snapshots, and reads them back by mapping the file
+ * into memory, in the HS Records application. It shares its file and format with {@link BinaryModelStore}, so a
+ * deployment can switch between the two without converting its saved model.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class MappedModelStore extends FileModelStore {
+    /**
+     * The name of this type of model store.
+     */
+    private static final String NAME;
+
+    static {
+        NAME = "mapped";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code MappedModelStore} object.
+     */
+    private MappedModelStore() {
+        super(BinaryModelStore.FILE_NAME);
+    } //MappedModelStore
+
+    /**
+     * Returns a new {@code MappedModelStore} object. This method is used by {@link java.util.ServiceLoader}.
+     *
+     * @return a new {@code MappedModelStore} object
+     */
+    public static ModelStore provider() {
+        return new MappedModelStore();
+    } //provider
+
+    /**
+     * Returns the name of this mapped model store.
+     *
+     * @return the name of this mapped model store
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    } //getName
+
+    /**
+     * Reads a binary snapshot from the existing file at the specified path by mapping it into memory.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model that was read from the file
+     * @throws SnapshotCorruptException if a block of the file is corrupt
+     * @throws IOException if the file could not be read
+     */
+    @Override
+    Model readFile(Path path, LongConsumer progressConsumer) throws IOException {
+        return BinarySnapshot.readMapped(path, progressConsumer);
+    } //readFile
+
+    /**
+     * Writes a binary snapshot of the specified model to the file at the specified path.
+     *
+     * @param model the model to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    void writeFile(Model model, Path path, LongConsumer progressConsumer) throws IOException {
+        BinaryModelStore.writeSnapshot(model, path, progressConsumer);
+    } //writeFile
+}
\ No newline at end of file
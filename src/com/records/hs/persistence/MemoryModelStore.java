@@ -0,0 +1,105 @@
+package com.records.hs.persistence;
+
+import com.records.hs.model.Model;
+import java.util.function.LongConsumer;
+import java.util.Objects;
+
+/**
+ * A model store that keeps models in memory in the HS Records application. Nothing is written to disk, so models are
+ * lost when the application exits. This model store is useful for trying the application out, and as a baseline when
+ * measuring the cost of the other model stores.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class MemoryModelStore implements ModelStore {
+    /**
+     * The name of this type of model store.
+     */
+    private static final String NAME;
+
+    /**
+     * The model of this memory model store.
+     */
+    private volatile Model model;
+
+    static {
+        NAME = "memory";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code MemoryModelStore} object.
+     */
+    private MemoryModelStore() {
+        this.model = null;
+    } //MemoryModelStore
+
+    /**
+     * Returns a new {@code MemoryModelStore} object. This method is used by {@link java.util.ServiceLoader}.
+     *
+     * @return a new {@code MemoryModelStore} object
+     */
+    public static ModelStore provider() {
+        return new MemoryModelStore();
+    } //provider
+
+    /**
+     * Returns the name of this memory model store.
+     *
+     * @return the name of this memory model store
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    } //getName
+
+    /**
+     * Returns the size of the model saved in this memory model store, in bytes. Because nothing is written to disk,
+     * {@code 0} is always returned.
+     *
+     * @return {@code 0}
+     */
+    @Override
+    public long getSize() {
+        return 0;
+    } //getSize
+
+    /**
+     * Returns a snapshot of the model saved in this memory model store. If no model has been saved, {@code null} is
+     * returned.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return a snapshot of the model saved in this memory model store, or {@code null} if no model has been saved
+     * @throws NullPointerException if the specified progress consumer is {@code null}
+     */
+    @Override
+    public Model read(LongConsumer progressConsumer) {
+        Model savedModel;
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        savedModel = this.model;
+
+        if (savedModel == null) {
+            return null;
+        } //end if
+
+        return savedModel.snapshot();
+    } //read
+
+    /**
+     * Saves a snapshot of the specified model in this memory model store.
+     *
+     * @param model the model to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @throws NullPointerException if the specified model or progress consumer is {@code null}
+     */
+    @Override
+    public void write(Model model, LongConsumer progressConsumer) {
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        this.model = model.snapshot();
+    } //write
+}
\ No newline at end of file
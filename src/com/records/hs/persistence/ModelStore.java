@@ -0,0 +1,57 @@
+package com.records.hs.persistence;
+
+import com.records.hs.model.Model;
+import java.util.function.LongConsumer;
+import java.io.IOException;
+
+/**
+ * A store of models in the HS Records application. Implementations are discovered with a
+ * {@link java.util.ServiceLoader}, and the one that is used is chosen by name with the {@code snapshot.format} setting.
+ * See {@link ModelStores}.
+ *
+ * <p>Implementations must be safe to use from a single worker thread at a time. They may use other threads internally,
+ * in which case progress may be reported from any thread.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public interface ModelStore {
+    /**
+     * Returns the name of this model store. The name is the value of the {@code snapshot.format} setting that selects
+     * this model store.
+     *
+     * @return the name of this model store
+     */
+    String getName();
+
+    /**
+     * Returns the size of the model saved in this model store, in bytes. If no model has been saved, or the size could
+     * not be determined, {@code 0} is returned.
+     *
+     * @return the size of the model saved in this model store
+     */
+    long getSize();
+
+    /**
+     * Reads the model saved in this model store, passing the number of bytes read so far to the specified progress
+     * consumer. If no model has been saved, {@code null} is returned.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model saved in this model store, or {@code null} if no model has been saved
+     * @throws NullPointerException if the specified progress consumer is {@code null}
+     * @throws SnapshotCorruptException if a block of the saved model is corrupt
+     * @throws IOException if a model has been saved but could not be read
+     */
+    Model read(LongConsumer progressConsumer) throws IOException;
+
+    /**
+     * Writes the specified model to this model store, passing the number of bytes written so far to the specified
+     * progress consumer. If the write fails, the previously saved model is left intact.
+     *
+     * @param model the model to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @throws NullPointerException if the specified model or progress consumer is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    void write(Model model, LongConsumer progressConsumer) throws IOException;
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.records.hs.persistence;
+
+import java.util.ServiceLoader;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+import com.records.hs.util.Settings;
+import java.nio.file.Path;
+
+/**
+ * A set of methods for finding the model stores available in the HS Records application. Model stores are provided
+ * as services of type {@link ModelStore}, so a backend can be picked for each deployment with the
+ * {@code snapshot.format} setting, without any code changes.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ModelStores {
+    /**
+     * The key of the setting that determines the model store that is used.
+     */
+    private static final String FORMAT_KEY;
+
+    /**
+     * The name of the model store that is used by default.
+     */
+    private static final String DEFAULT_NAME;
+
+    static {
+        FORMAT_KEY = "snapshot.format";
+
+        DEFAULT_NAME = "serialized";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ModelStores} object.
+     *
+     * @throws AssertionError if an object of type {@code ModelStores} attempts to be instantiated
+     */
+    private ModelStores() {
+        throw new AssertionError("an object of type ModelStores cannot be instantiated");
+    } //ModelStores
+
+    /**
+     * Returns a new instance of every available model store.
+     *
+     * @return a new instance of every available model store
+     */
+    public static List<ModelStore> getModelStores() {
+        ServiceLoader<ModelStore> loader;
+
+        loader = ServiceLoader.load(ModelStore.class);
+
+        return loader.stream()
+                     .map(ServiceLoader.Provider::get)
+                     .toList();
+    } //getModelStores
+
+    /**
+     * Returns a new instance of the model store with the specified name. Names are compared without regard to case.
+     *
+     * @param name the name to be used in the operation
+     * @return a new instance of the model store with the specified name, if one is available
+     * @throws NullPointerException if the specified name is {@code null}
+     */
+    public static Optional<ModelStore> getModelStore(String name) {
+        Objects.requireNonNull(name, "the specified name is null");
+
+        return ModelStores.getModelStores()
+                          .stream()
+                          .filter(store -> name.equalsIgnoreCase(store.getName()))
+                          .findFirst();
+    } //getModelStore
+
+    /**
+     * Returns a new instance of the model store named by the {@code snapshot.format} setting. If no such model store
+     * is available, the {@code serialized} model store is returned.
+     *
+     * @return a new instance of the model store named by the {@code snapshot.format} setting
+     */
+    public static ModelStore getModelStore() {
+        String name;
+        Optional<ModelStore> store;
+
+        name = Settings.getString(FORMAT_KEY, DEFAULT_NAME);
+
+        store = ModelStores.getModelStore(name);
+
+        if (store.isEmpty()) {
+            Logger logger = Logger.getGlobal();
+            String message = String.format("the model store %s is not available, so %s is used", name, DEFAULT_NAME);
+
+            logger.log(Level.WARNING, message);
+
+            store = ModelStores.getModelStore(DEFAULT_NAME);
+        } //end if
+
+        return store.orElseThrow(() -> new IllegalStateException("the default model store is not available"));
+    } //getModelStore
+
+    /**
+     * Returns the path of the file that exists once a model has been saved in the specified model store. Model stores
+     * that do not save models to the working directory have no such file.
+     *
+     * @param store the store to be used in the operation
+     * @return the path of the file that exists once a model has been saved in the specified model store, if it has
+     * one
+     * @throws NullPointerException if the specified store is {@code null}
+     */
+    static Optional<Path> getSavedPath(ModelStore store) {
+        Objects.requireNonNull(store, "the specified store is null");
+
+        if (store instanceof FileModelStore fileStore) {
+            return Optional.of(fileStore.getPath());
+        } else if (store instanceof ShardedModelStore shardedStore) {
+            return Optional.of(shardedStore.getIndexPath());
+        } //end if
+
+        return Optional.empty();
+    } //getSavedPath
+}
\ No newline at end of file
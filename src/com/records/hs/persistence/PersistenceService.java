@@ -0,0 +1,349 @@
+package com.records.hs.persistence;
+
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Logger;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import com.records.hs.model.Model;
+import java.util.function.LongConsumer;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import com.records.hs.model.ChangeLog;
+import java.util.Map;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A persistence service in the HS Records application. Models are read from and written to a {@link ModelStore} on a
+ * dedicated worker thread, so the event dispatch thread is never blocked by file I/O. Saves are performed in the order
+ * they are requested.
+ *
+ * <p>The change log of a model is saved to its own file alongside the store, before the model itself. If a save is
+ * interrupted in between, the change log can only be ahead of the model, so no change is ever missed by a later
+ * export of the changes. If the change log cannot be read, the load fails, as it does when the model cannot be read,
+ * rather than starting with an empty change log that would silently leave changes out of the next export.</p>
+ *
+ * <p>If the store has no saved model, but another store does, such as after the {@code snapshot.format} setting has
+ * been changed, the model of the other store is loaded, and the next save migrates it to the store. Once that save
+ * has succeeded, the file of the other store is renamed with a {@code .migrated} extension, so a later change of the
+ * setting cannot load the out of date model again. If more than one other store has a saved model, the one to migrate
+ * is ambiguous, so the load fails rather than starting with an empty model that the next save would write over the
+ * existing catalogue. The load also fails if the store does not save models to disk, such as the {@code memory} store,
+ * while another store has a saved model, as every change to it would be lost on exit.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class PersistenceService {
+    /**
+     * The store of this persistence service.
+     */
+    private final ModelStore store;
+
+    /**
+     * The change log path of this persistence service.
+     */
+    private final Path changeLogPath;
+
+    /**
+     * The path of the file of the model that was loaded from another store, which is renamed once the model has been
+     * saved in the store of this persistence service. It is only accessed on the worker thread.
+     */
+    private Path migratedPath;
+
+    /**
+     * The executor of this persistence service.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The logger of this persistence service.
+     */
+    private final Logger logger;
+
+    /**
+     * Constructs a newly allocated {@code PersistenceService} object with the specified store.
+     *
+     * @param store the store to be used in construction
+     */
+    private PersistenceService(ModelStore store) {
+        this.store = store;
+        this.changeLogPath = Path.of(ChangeLogFile.FILE_NAME);
+        this.migratedPath = null;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            String name = "hs-records-persistence";
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.logger = Logger.getGlobal();
+    } //PersistenceService
+
+    /**
+     * Returns a new {@code PersistenceService} object with the specified store.
+     *
+     * @param store the store to be used in the operation
+     * @return a new {@code PersistenceService} object with the specified store
+     * @throws NullPointerException if the specified store is {@code null}
+     */
+    public static PersistenceService newPersistenceService(ModelStore store) {
+        Objects.requireNonNull(store, "the specified store is null");
+
+        return new PersistenceService(store);
+    } //newPersistenceService
+
+    /**
+     * Returns a new {@code PersistenceService} object with the store named by the {@code snapshot.format} setting.
+     *
+     * @return a new {@code PersistenceService} object with the store named by the {@code snapshot.format} setting
+     */
+    public static PersistenceService newPersistenceService() {
+        ModelStore store;
+
+        store = ModelStores.getModelStore();
+
+        return new PersistenceService(store);
+    } //newPersistenceService
+
+    /**
+     * Returns the store of this persistence service.
+     *
+     * @return the store of this persistence service
+     */
+    public ModelStore getStore() {
+        return this.store;
+    } //getStore
+
+    /**
+     * Returns the expected size of a save, in bytes. The size of the previous save is used as the estimate. If no
+     * previous save exists, {@code 0} is returned.
+     *
+     * @return the expected size of a save
+     */
+    public long getExpectedSaveSize() {
+        return this.store.getSize();
+    } //getExpectedSaveSize
+
+    /**
+     * Asynchronously loads a model from the store of this persistence service, passing the number of bytes read so
+     * far to the specified progress consumer. The change log of the model is restored as well. If the store has no
+     * saved model, the model saved in another store is loaded, so it can be migrated. The returned future completes
+     * with {@code null} if no model has been saved in any store. If the saved model could not be read, more than one
+     * other store has a saved model, or the store does not save models to disk while another store has a saved model,
+     * the returned future completes exceptionally with an {@code UncheckedIOException} whose cause describes the
+     * failure.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return a future that completes with the loaded model
+     * @throws NullPointerException if the specified progress consumer is {@code null}
+     */
+    public CompletableFuture<Model> load(LongConsumer progressConsumer) {
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        return CompletableFuture.supplyAsync(() -> {
+            Model model;
+
+            try {
+                model = this.readModel(progressConsumer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+
+            if (model != null) {
+                try {
+                    model.setChangeLog(this.readChangeLog());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } //end try catch
+            } //end if
+
+            return model;
+        }, this.executor);
+    } //load
+
+    /**
+     * Reads the model saved in the store of this persistence service, passing the number of bytes read so far to the
+     * specified progress consumer. If the store has no saved model, the model saved in the one other store that has
+     * one is read instead, and the path of its file is remembered, so it can be renamed after the next save.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model saved in the store of this persistence service, or in another store, or {@code null} if no
+     * model has been saved in any store
+     * @throws IOException if a saved model could not be read, more than one other store has a saved model, or the
+     * store does not save models to disk while another store has a saved model
+     */
+    private Model readModel(LongConsumer progressConsumer) throws IOException {
+        Model model;
+        Optional<Path> savedPath;
+        Map<Path, ModelStore> otherStores;
+        Optional<Path> otherPath;
+        Map.Entry<Path, ModelStore> otherEntry;
+        ModelStore otherStore;
+        String message;
+
+        model = this.store.read(progressConsumer);
+
+        if (model != null) {
+            return model;
+        } //end if
+
+        savedPath = ModelStores.getSavedPath(this.store);
+
+        otherStores = new LinkedHashMap<>();
+
+        for (ModelStore modelStore : ModelStores.getModelStores()) {
+            otherPath = ModelStores.getSavedPath(modelStore);
+
+            if (otherPath.isPresent() && !otherPath.equals(savedPath) && Files.exists(otherPath.get())) {
+                otherStores.putIfAbsent(otherPath.get(), modelStore);
+            } //end if
+        } //end for
+
+        if (otherStores.isEmpty()) {
+            return null;
+        } else if (otherStores.size() > 1) {
+            message = String.format("no model is saved in the %s store, but models are saved in %s, so the one to"
+                                    + " migrate cannot be chosen; remove the ones that are out of date",
+                                    this.store.getName(), otherStores.keySet());
+
+            throw new IOException(message);
+        } else if (savedPath.isEmpty()) {
+            message = String.format("the %s store does not save models to disk, but a model is saved in %s, and every"
+                                    + " change to it would be lost on exit; set snapshot.format to the store that"
+                                    + " saved it, or move it away", this.store.getName(), otherStores.keySet());
+
+            throw new IOException(message);
+        } //end if
+
+        otherEntry = otherStores.entrySet()
+                                .iterator()
+                                .next();
+
+        otherStore = otherEntry.getValue();
+
+        model = otherStore.read(progressConsumer);
+
+        this.migratedPath = otherEntry.getKey();
+
+        message = String.format("the model saved in the %s store was loaded, and will be migrated to the %s store by"
+                                + " the next save", otherStore.getName(), this.store.getName());
+
+        this.logger.log(Level.INFO, message);
+
+        return model;
+    } //readModel
+
+    /**
+     * Reads the change log of this persistence service. If no change log has been saved, a new, empty change log is
+     * returned.
+     *
+     * @return the change log of this persistence service
+     * @throws IOException if the change log has been saved but could not be read, or is corrupt
+     */
+    private ChangeLog readChangeLog() throws IOException {
+        String message;
+
+        try {
+            return ChangeLogFile.read(this.changeLogPath);
+        } catch (IOException e) {
+            message = String.format("the change log %s could not be read, so the changes since the last export are"
+                                    + " unknown (%s)", this.changeLogPath, e.getMessage());
+
+            throw new IOException(message, e);
+        } //end try catch
+    } //readChangeLog
+
+    /**
+     * Asynchronously saves the specified model, passing the number of bytes written so far to the specified progress
+     * consumer. A snapshot of the specified model is taken on the calling thread before this method returns, so the
+     * specified model may be modified while the save is in progress. This method should therefore be called from the
+     * thread that modifies the specified model. If the model was loaded from another store, the file of that store is
+     * renamed with a {@code .migrated} extension once the model has been saved. The returned future completes with
+     * {@code true}, if the model was successfully saved and {@code false} otherwise.
+     *
+     * @param model the model to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return a future that completes with whether or not the specified model was saved
+     * @throws NullPointerException if the specified model or progress consumer is {@code null}
+     */
+    public CompletableFuture<Boolean> save(Model model, LongConsumer progressConsumer) {
+        Model snapshot;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        snapshot = model.snapshot();
+
+        return CompletableFuture.supplyAsync(() -> {
+                                    try {
+                                        ChangeLogFile.write(snapshot.getChangeLog(), this.changeLogPath);
+
+                                        this.store.write(snapshot, progressConsumer);
+                                    } catch (IOException e) {
+                                        throw new UncheckedIOException(e);
+                                    } //end try catch
+
+                                    this.retireMigratedModel();
+
+                                    return true;
+                                }, this.executor)
+                                .exceptionally(throwable -> {
+                                    String message = throwable.getMessage();
+
+                                    this.logger.log(Level.INFO, message, throwable);
+
+                                    return false;
+                                });
+    } //save
+
+    /**
+     * Renames the file of the model that was loaded from another store, if any, by adding the {@code .migrated}
+     * extension to its name. It is called once the model has been saved in the store of this persistence service, so
+     * the other store is out of date. The file is kept rather than deleted, so the records can still be recovered by
+     * hand. If it cannot be renamed, a warning is logged, and the save still succeeds.
+     */
+    private void retireMigratedModel() {
+        Path path;
+        Path fileName;
+        Path target;
+        String message;
+
+        path = this.migratedPath;
+
+        if (path == null) {
+            return;
+        } //end if
+
+        this.migratedPath = null;
+
+        fileName = path.getFileName();
+
+        target = path.resolveSibling(fileName + ".migrated");
+
+        try {
+            Files.move(path, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            message = String.format("the migrated model %s could not be renamed to %s, so it will be loaded again if"
+                                    + " snapshot.format is changed back; remove it by hand", path, target);
+
+            this.logger.log(Level.WARNING, message, e);
+
+            return;
+        } //end try catch
+
+        message = String.format("the model was migrated to the %s store, and %s was renamed to %s",
+                                this.store.getName(), path, target);
+
+        this.logger.log(Level.INFO, message);
+    } //retireMigratedModel
+}
\ No newline at end of file
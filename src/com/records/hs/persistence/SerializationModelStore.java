@@ -0,0 +1,186 @@
+package com.records.hs.persistence;
+
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import com.records.hs.util.CountingInputStream;
+import java.io.BufferedInputStream;
+import java.io.OutputStream;
+import com.records.hs.util.Settings;
+import com.records.hs.util.CountingOutputStream;
+import java.io.BufferedOutputStream;
+import com.records.hs.model.Model;
+import java.io.ObjectInputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectOutputStream;
+
+/**
+ * A model store that saves models to {@code model.ser} with Java serialization in the HS Records application. If the
+ * {@code snapshot.compression} setting is {@code true}, models are written as block compressed snapshots whose block
+ * size is taken from the {@code snapshot.blockSize} setting. Block compressed snapshots, binary snapshots, and
+ * serialized models are detected by their contents, so any of them can be read regardless of the current settings.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class SerializationModelStore extends FileModelStore {
+    /**
+     * The name of this type of model store.
+     */
+    private static final String NAME;
+
+    /**
+     * The file name where models are stored.
+     */
+    private static final String FILE_NAME;
+
+    /**
+     * The key of the setting that determines whether or not models are written as block compressed snapshots.
+     */
+    private static final String COMPRESSION_KEY;
+
+    /**
+     * The key of the setting that determines the uncompressed block size of block compressed snapshots.
+     */
+    private static final String BLOCK_SIZE_KEY;
+
+    static {
+        NAME = "serialized";
+
+        FILE_NAME = "model.ser";
+
+        COMPRESSION_KEY = "snapshot.compression";
+
+        BLOCK_SIZE_KEY = "snapshot.blockSize";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code SerializationModelStore} object.
+     */
+    private SerializationModelStore() {
+        super(FILE_NAME);
+    } //SerializationModelStore
+
+    /**
+     * Returns a new {@code SerializationModelStore} object. This method is used by {@link java.util.ServiceLoader}.
+     *
+     * @return a new {@code SerializationModelStore} object
+     */
+    public static ModelStore provider() {
+        return new SerializationModelStore();
+    } //provider
+
+    /**
+     * Returns the name of this serialization model store.
+     *
+     * @return the name of this serialization model store
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    } //getName
+
+    /**
+     * Returns a new input stream that reads the model file at the specified path.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return a new input stream that reads the model file at the specified path
+     * @throws IOException if an I/O error occurs
+     */
+    private static InputStream newModelInputStream(Path path, LongConsumer progressConsumer) throws IOException {
+        InputStream inputStream;
+
+        if (BlockCompression.isBlockCompressed(path)) {
+            return BlockCompressedInputStream.open(path, progressConsumer);
+        } //end if
+
+        inputStream = new CountingInputStream(Files.newInputStream(path), progressConsumer);
+
+        return new BufferedInputStream(inputStream, BUFFER_SIZE);
+    } //newModelInputStream
+
+    /**
+     * Returns a new output stream that writes a model file at the specified path, compressing it if the
+     * {@code snapshot.compression} setting is {@code true}.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return a new output stream that writes a model file at the specified path
+     * @throws IOException if an I/O error occurs
+     */
+    private static OutputStream newModelOutputStream(Path path, LongConsumer progressConsumer) throws IOException {
+        boolean compressed;
+        OutputStream outputStream;
+        int blockSize;
+
+        compressed = Settings.getBoolean(COMPRESSION_KEY, false);
+
+        outputStream = new CountingOutputStream(Files.newOutputStream(path), progressConsumer);
+
+        if (!compressed) {
+            return new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        } //end if
+
+        blockSize = Settings.getPositiveInt(BLOCK_SIZE_KEY, BlockCompression.DEFAULT_BLOCK_SIZE);
+
+        try {
+            return new BlockCompressedOutputStream(outputStream, blockSize);
+        } catch (IOException e) {
+            outputStream.close();
+
+            throw e;
+        } //end try catch
+    } //newModelOutputStream
+
+    /**
+     * Reads a model from the existing file at the specified path.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model that was read from the file
+     * @throws SnapshotCorruptException if a block of the file is corrupt
+     * @throws IOException if the file could not be read
+     */
+    @Override
+    Model readFile(Path path, LongConsumer progressConsumer) throws IOException {
+        Object object;
+
+        if (BinarySnapshot.isBinarySnapshot(path)) {
+            return BinarySnapshot.read(path, progressConsumer);
+        } //end if
+
+        try (InputStream modelInputStream = SerializationModelStore.newModelInputStream(path, progressConsumer);
+             ObjectInputStream inputStream = new ObjectInputStream(modelInputStream)) {
+            object = inputStream.readObject();
+        } catch (ClassNotFoundException e) {
+            String message = e.getMessage();
+
+            throw new IOException(message, e);
+        } //end try catch
+
+        if (!(object instanceof Model)) {
+            throw new InvalidObjectException("the file does not contain a model");
+        } //end if
+
+        return (Model) object;
+    } //readFile
+
+    /**
+     * Writes the specified model to the file at the specified path with Java serialization.
+     *
+     * @param model the model to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    void writeFile(Model model, Path path, LongConsumer progressConsumer) throws IOException {
+        try (OutputStream modelOutputStream = SerializationModelStore.newModelOutputStream(path, progressConsumer);
+             ObjectOutputStream outputStream = new ObjectOutputStream(modelOutputStream)) {
+            outputStream.writeObject(model);
+        } //end try
+    } //writeFile
+}
\ No newline at end of file
@@ -0,0 +1,729 @@
+package com.records.hs.persistence;
+
+import java.util.regex.Pattern;
+import java.nio.file.Path;
+import java.util.List;
+import com.records.hs.model.Entry;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.function.LongConsumer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.OptionalInt;
+import java.util.Objects;
+import java.nio.file.Files;
+import java.io.IOException;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import com.records.hs.model.Model;
+import java.util.Set;
+import java.util.zip.CRC32C;
+import java.util.ArrayList;
+import java.util.TreeMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.io.UncheckedIOException;
+import java.io.OutputStream;
+import com.records.hs.util.CountingOutputStream;
+import com.records.hs.util.Utilities;
+import java.util.HashSet;
+import java.util.stream.Stream;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+import java.nio.ByteBuffer;
+import java.io.EOFException;
+import java.io.DataInputStream;
+import java.io.ByteArrayInputStream;
+import java.util.Iterator;
+
+/**
+ * A model store that saves models to one binary snapshot per year in the {@code model.shards} directory in the HS
+ * Records application. The year of an entry is taken from its ID, which has the form {@code NNNN_YYYY}. Entries whose
+ * IDs do not have that form are kept in a shard of their own.
+ *
+ * <p>An index file holds the latest ID, the categories and subcategories, the file of each shard, and the order in
+ * which the entries of the shards are interleaved, as a list of runs. Entries are usually added in year order, so the
+ * list of runs is short, and the order of the model is preserved exactly.</p>
+ *
+ * <p>On save, a shard is only written if its entries differ from the ones that were last read or written, so saves
+ * usually only touch the current year. Shards are written to new files, and the index is replaced last, so an
+ * interrupted save leaves the previous save intact. Files that are no longer referenced are deleted afterwards. On
+ * load, every shard is read in parallel.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ShardedModelStore implements ModelStore {
+    /**
+     * The name of this type of model store.
+     */
+    private static final String NAME;
+
+    /**
+     * The name of the directory where shards are stored.
+     */
+    private static final String DIRECTORY_NAME;
+
+    /**
+     * The name of the index file.
+     */
+    private static final String INDEX_FILE_NAME;
+
+    /**
+     * The magic number of the index file.
+     */
+    private static final int MAGIC;
+
+    /**
+     * The version of the index file.
+     */
+    private static final short VERSION;
+
+    /**
+     * The key of the shard that holds entries whose IDs do not contain a year.
+     */
+    private static final String OTHER_KEY;
+
+    /**
+     * The pattern of the names of shard files.
+     */
+    private static final Pattern SHARD_FILE_PATTERN;
+
+    /**
+     * A shard that was last read or written.
+     */
+    private record Shard(String fileName, List<Entry> entries) {
+    } //Shard
+
+    /**
+     * The directory of this sharded model store.
+     */
+    private final Path directory;
+
+    /**
+     * The index path of this sharded model store.
+     */
+    private final Path indexPath;
+
+    /**
+     * The temporary index path of this sharded model store.
+     */
+    private final Path temporaryIndexPath;
+
+    /**
+     * The shards of this sharded model store that were last read or written, by key.
+     */
+    private Map<String, Shard> savedShards;
+
+    /**
+     * The generation of this sharded model store, which is incremented on every save.
+     */
+    private long generation;
+
+    static {
+        NAME = "sharded";
+
+        DIRECTORY_NAME = "model.shards";
+
+        INDEX_FILE_NAME = "index.bin";
+
+        MAGIC = 0x48535349;
+
+        VERSION = 1;
+
+        OTHER_KEY = "other";
+
+        SHARD_FILE_PATTERN = Pattern.compile("(\\d{4}|other)\\.\\d+\\.bin");
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ShardedModelStore} object.
+     */
+    private ShardedModelStore() {
+        this.directory = Path.of(DIRECTORY_NAME);
+        this.indexPath = this.directory.resolve(INDEX_FILE_NAME);
+        this.temporaryIndexPath = this.directory.resolve(INDEX_FILE_NAME + ".tmp");
+        this.savedShards = new HashMap<>();
+        this.generation = 0;
+    } //ShardedModelStore
+
+    /**
+     * Returns a new {@code ShardedModelStore} object. This method is used by {@link java.util.ServiceLoader}.
+     *
+     * @return a new {@code ShardedModelStore} object
+     */
+    public static ModelStore provider() {
+        return new ShardedModelStore();
+    } //provider
+
+    /**
+     * Returns the index path of this sharded model store. The index file exists once a model has been saved.
+     *
+     * @return the index path of this sharded model store
+     */
+    Path getIndexPath() {
+        return this.indexPath;
+    } //getIndexPath
+
+    /**
+     * Returns the name of this sharded model store.
+     *
+     * @return the name of this sharded model store
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    } //getName
+
+    /**
+     * Returns the total size of the files in the directory of this sharded model store, in bytes. If the directory
+     * does not exist, or its size could not be determined, {@code 0} is returned.
+     *
+     * @return the total size of the files in the directory of this sharded model store
+     */
+    @Override
+    public long getSize() {
+        long size = 0;
+
+        if (Files.notExists(this.directory)) {
+            return 0;
+        } //end if
+
+        try (Stream<Path> paths = Files.list(this.directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                size += Files.size(path);
+            } //end for
+        } catch (IOException | UncheckedIOException e) {
+            return 0;
+        } //end try catch
+
+        return size;
+    } //getSize
+
+    /**
+     * Returns the key of the shard that holds the entry with the specified ID.
+     *
+     * @param id the ID to be used in the operation
+     * @return the key of the shard that holds the entry with the specified ID
+     */
+    private static String getShardKey(String id) {
+        OptionalInt year;
+
+        year = Utilities.getYear(id);
+
+        if (year.isEmpty()) {
+            return OTHER_KEY;
+        } //end if
+
+        return String.format("%04d", year.getAsInt());
+    } //getShardKey
+
+    /**
+     * Returns a progress consumer that adds the progress of one of several concurrent reads or writes to the specified
+     * total, and passes the new total to the specified progress consumer.
+     *
+     * @param total the total to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return a progress consumer for one of several concurrent reads or writes
+     */
+    private static LongConsumer newPartConsumer(AtomicLong total, LongConsumer progressConsumer) {
+        AtomicLong partCount;
+
+        partCount = new AtomicLong();
+
+        return byteCount -> {
+            long previousCount = partCount.getAndSet(byteCount);
+            long totalCount = total.addAndGet(byteCount - previousCount);
+
+            progressConsumer.accept(totalCount);
+        };
+    } //newPartConsumer
+
+    /**
+     * Reads the model saved in this sharded model store, reading every shard in parallel. If no model has been saved,
+     * {@code null} is returned.
+     *
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @return the model saved in this sharded model store, or {@code null} if no model has been saved
+     * @throws NullPointerException if the specified progress consumer is {@code null}
+     * @throws SnapshotCorruptException if a block of a shard is corrupt
+     * @throws IOException if a model has been saved but could not be read
+     */
+    @Override
+    public Model read(LongConsumer progressConsumer) throws IOException {
+        byte[] indexBytes;
+        int checksumOffset;
+        CRC32C checksum;
+        DataInputStream inputStream;
+        long savedGeneration;
+        String latestId = null;
+        int categoryCount;
+        Map<String, Set<String>> catsToSubcats;
+        int shardCount;
+        String[] keys;
+        String[] fileNames;
+        int[] entryCounts;
+        int runCount;
+        int[] runShards;
+        int[] runLengths;
+        AtomicLong bytesRead;
+        List<CompletableFuture<List<Entry>>> futures;
+        List<List<Entry>> shardEntries;
+        IOException firstException = null;
+        List<Iterator<Entry>> iterators;
+        Map<String, Entry> idsToEntries;
+        Map<String, Shard> shards;
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        if (Files.notExists(this.indexPath)) {
+            return null;
+        } //end if
+
+        indexBytes = Files.readAllBytes(this.indexPath);
+
+        if (indexBytes.length < Integer.BYTES + Short.BYTES + Integer.BYTES) {
+            throw new IOException("the shard index is truncated");
+        } //end if
+
+        checksumOffset = indexBytes.length - Integer.BYTES;
+
+        checksum = new CRC32C();
+
+        checksum.update(indexBytes, 0, checksumOffset);
+
+        if (ByteBuffer.wrap(indexBytes)
+                      .getInt(checksumOffset) != (int) checksum.getValue()) {
+            throw new IOException("the shard index is corrupt: its checksum does not match");
+        } //end if
+
+        inputStream = new DataInputStream(new ByteArrayInputStream(indexBytes, 0, checksumOffset));
+
+        catsToSubcats = new HashMap<>();
+
+        try {
+            if ((inputStream.readInt() != MAGIC) || (inputStream.readShort() != VERSION)) {
+                throw new IOException("the shard index has an unsupported format");
+            } //end if
+
+            savedGeneration = inputStream.readLong();
+
+            if (inputStream.readBoolean()) {
+                latestId = inputStream.readUTF();
+            } //end if
+
+            categoryCount = inputStream.readInt();
+
+            for (int i = 0; i < categoryCount; i++) {
+                String category = inputStream.readUTF();
+                int subcategoryCount = inputStream.readInt();
+                Set<String> subcategories = new HashSet<>();
+
+                for (int j = 0; j < subcategoryCount; j++) {
+                    subcategories.add(inputStream.readUTF());
+                } //end for
+
+                catsToSubcats.put(category, subcategories);
+            } //end for
+
+            shardCount = inputStream.readInt();
+
+            keys = new String[shardCount];
+
+            fileNames = new String[shardCount];
+
+            entryCounts = new int[shardCount];
+
+            for (int i = 0; i < shardCount; i++) {
+                keys[i] = inputStream.readUTF();
+
+                fileNames[i] = inputStream.readUTF();
+
+                entryCounts[i] = inputStream.readInt();
+
+                if (!SHARD_FILE_PATTERN.matcher(fileNames[i]).matches()) {
+                    throw new IOException("the shard index names an invalid file " + fileNames[i]);
+                } //end if
+            } //end for
+
+            runCount = inputStream.readInt();
+
+            runShards = new int[runCount];
+
+            runLengths = new int[runCount];
+
+            for (int i = 0; i < runCount; i++) {
+                runShards[i] = inputStream.readInt();
+
+                runLengths[i] = inputStream.readInt();
+
+                if ((runShards[i] < 0) || (runShards[i] >= shardCount) || (runLengths[i] <= 0)) {
+                    throw new IOException("the shard index is corrupt: a run is out of range");
+                } //end if
+            } //end for
+        } catch (EOFException | NegativeArraySizeException e) {
+            throw new IOException("the shard index is corrupt: it ends unexpectedly", e);
+        } //end try catch
+
+        bytesRead = new AtomicLong();
+
+        futures = new ArrayList<>(shardCount);
+
+        for (int i = 0; i < shardCount; i++) {
+            Path path = this.directory.resolve(fileNames[i]);
+            LongConsumer partConsumer = ShardedModelStore.newPartConsumer(bytesRead, progressConsumer);
+            int expectedCount = entryCounts[i];
+            CompletableFuture<List<Entry>> future;
+
+            future = CompletableFuture.supplyAsync(() -> {
+                Model shardModel;
+                List<Entry> entries;
+
+                try {
+                    shardModel = BinarySnapshot.read(path, partConsumer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } //end try catch
+
+                entries = new ArrayList<>(shardModel.getEntries());
+
+                if (entries.size() != expectedCount) {
+                    String message = String.format("the shard %s holds %d entries, but the index expects %d", path,
+                                                   entries.size(), expectedCount);
+
+                    throw new UncheckedIOException(new IOException(message));
+                } //end if
+
+                return entries;
+            });
+
+            futures.add(future);
+        } //end for
+
+        shardEntries = new ArrayList<>(shardCount);
+
+        for (CompletableFuture<List<Entry>> future : futures) {
+            try {
+                shardEntries.add(future.join());
+            } catch (CompletionException e) {
+                IOException exception = BlockCompression.unwrap(e);
+
+                if (firstException == null) {
+                    firstException = exception;
+                } else {
+                    firstException.addSuppressed(exception);
+                } //end if
+            } //end try catch
+        } //end for
+
+        if (firstException != null) {
+            throw firstException;
+        } //end if
+
+        iterators = new ArrayList<>(shardCount);
+
+        for (List<Entry> entries : shardEntries) {
+            iterators.add(entries.iterator());
+        } //end for
+
+        idsToEntries = new LinkedHashMap<>();
+
+        for (int i = 0; i < runCount; i++) {
+            Iterator<Entry> iterator = iterators.get(runShards[i]);
+
+            for (int j = 0; j < runLengths[i]; j++) {
+                Entry entry;
+
+                if (!iterator.hasNext()) {
+                    throw new IOException("the shard index is corrupt: a run is longer than its shard");
+                } //end if
+
+                entry = iterator.next();
+
+                idsToEntries.put(entry.id(), entry);
+            } //end for
+        } //end for
+
+        for (Iterator<Entry> iterator : iterators) {
+            if (iterator.hasNext()) {
+                throw new IOException("the shard index is corrupt: a shard has entries that are not in any run");
+            } //end if
+        } //end for
+
+        shards = new HashMap<>();
+
+        for (int i = 0; i < shardCount; i++) {
+            shards.put(keys[i], new Shard(fileNames[i], shardEntries.get(i)));
+        } //end for
+
+        this.savedShards = shards;
+
+        this.generation = savedGeneration;
+
+        return Model.newModel(latestId, idsToEntries, catsToSubcats);
+    } //read
+
+    /**
+     * Writes the specified model to this sharded model store. Only the shards whose entries have changed since they
+     * were last read or written are written.
+     *
+     * @param model the model to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @throws NullPointerException if the specified model or progress consumer is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void write(Model model, LongConsumer progressConsumer) throws IOException {
+        Map<String, List<Entry>> keysToEntries;
+        List<String> runKeys;
+        List<Integer> runLengths;
+        String lastKey = null;
+        long nextGeneration;
+        Map<String, Shard> shards;
+        AtomicLong bytesWritten;
+        List<CompletableFuture<Void>> futures;
+        IOException firstException = null;
+        byte[] indexBytes;
+        LongConsumer indexConsumer;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        keysToEntries = new TreeMap<>();
+
+        runKeys = new ArrayList<>();
+
+        runLengths = new ArrayList<>();
+
+        for (Entry entry : model.getEntries()) {
+            String key = ShardedModelStore.getShardKey(entry.id());
+
+            keysToEntries.computeIfAbsent(key, k -> new ArrayList<>())
+                         .add(entry);
+
+            if (key.equals(lastKey)) {
+                int lastIndex = runLengths.size() - 1;
+
+                runLengths.set(lastIndex, runLengths.get(lastIndex) + 1);
+            } else {
+                runKeys.add(key);
+
+                runLengths.add(1);
+
+                lastKey = key;
+            } //end if
+        } //end for
+
+        Files.createDirectories(this.directory);
+
+        nextGeneration = this.generation + 1;
+
+        shards = new TreeMap<>();
+
+        bytesWritten = new AtomicLong();
+
+        futures = new ArrayList<>();
+
+        for (Map.Entry<String, List<Entry>> mapEntry : keysToEntries.entrySet()) {
+            String key = mapEntry.getKey();
+            List<Entry> entries = mapEntry.getValue();
+            Shard savedShard = this.savedShards.get(key);
+            String fileName;
+            Path path;
+            LongConsumer partConsumer;
+
+            if ((savedShard != null) && savedShard.entries()
+                                                  .equals(entries)) {
+                shards.put(key, savedShard);
+
+                continue;
+            } //end if
+
+            fileName = String.format("%s.%d.bin", key, nextGeneration);
+
+            shards.put(key, new Shard(fileName, entries));
+
+            path = this.directory.resolve(fileName);
+
+            partConsumer = ShardedModelStore.newPartConsumer(bytesWritten, progressConsumer);
+
+            futures.add(CompletableFuture.runAsync(() -> {
+                Map<String, Entry> idsToEntries = new LinkedHashMap<>();
+                Model shardModel;
+
+                for (Entry entry : entries) {
+                    idsToEntries.put(entry.id(), entry);
+                } //end for
+
+                shardModel = Model.newModel(null, idsToEntries, Map.of());
+
+                try {
+                    BinaryModelStore.writeSnapshot(shardModel, path, partConsumer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } //end try catch
+            }));
+        } //end for
+
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                IOException exception = BlockCompression.unwrap(e);
+
+                if (firstException == null) {
+                    firstException = exception;
+                } else {
+                    firstException.addSuppressed(exception);
+                } //end if
+            } //end try catch
+        } //end for
+
+        if (firstException != null) {
+            throw firstException;
+        } //end if
+
+        indexBytes = ShardedModelStore.encodeIndex(model, nextGeneration, shards, runKeys, runLengths);
+
+        indexConsumer = ShardedModelStore.newPartConsumer(bytesWritten, progressConsumer);
+
+        try (OutputStream outputStream = new CountingOutputStream(Files.newOutputStream(this.temporaryIndexPath),
+                                                                  indexConsumer)) {
+            outputStream.write(indexBytes);
+        } //end try
+
+        Utilities.replaceFile(this.temporaryIndexPath, this.indexPath);
+
+        this.savedShards = shards;
+
+        this.generation = nextGeneration;
+
+        this.deleteUnreferencedFiles();
+    } //write
+
+    /**
+     * Encodes the index of the specified model, followed by its CRC32C checksum.
+     *
+     * @param model the model to be used in the operation
+     * @param generation the generation to be used in the operation
+     * @param shards the shards to be used in the operation
+     * @param runKeys the keys of the runs to be used in the operation
+     * @param runLengths the lengths of the runs to be used in the operation
+     * @return the encoded index
+     * @throws IOException if an I/O error occurs
+     */
+    private static byte[] encodeIndex(Model model, long generation, Map<String, Shard> shards, List<String> runKeys,
+                                      List<Integer> runLengths) throws IOException {
+        ByteArrayOutputStream byteStream;
+        DataOutputStream outputStream;
+        String latestId;
+        Set<String> categories;
+        Map<String, Integer> keysToNumbers;
+        int shardNumber = 0;
+        CRC32C checksum;
+
+        byteStream = new ByteArrayOutputStream();
+
+        outputStream = new DataOutputStream(byteStream);
+
+        outputStream.writeInt(MAGIC);
+
+        outputStream.writeShort(VERSION);
+
+        outputStream.writeLong(generation);
+
+        latestId = model.getLatestId();
+
+        outputStream.writeBoolean(latestId != null);
+
+        if (latestId != null) {
+            outputStream.writeUTF(latestId);
+        } //end if
+
+        categories = model.getCategories();
+
+        outputStream.writeInt(categories.size());
+
+        for (String category : categories) {
+            Set<String> subcategories = model.getSubcategories(category);
+
+            outputStream.writeUTF(category);
+
+            outputStream.writeInt(subcategories.size());
+
+            for (String subcategory : subcategories) {
+                outputStream.writeUTF(subcategory);
+            } //end for
+        } //end for
+
+        keysToNumbers = new HashMap<>();
+
+        outputStream.writeInt(shards.size());
+
+        for (Map.Entry<String, Shard> mapEntry : shards.entrySet()) {
+            String key = mapEntry.getKey();
+            Shard shard = mapEntry.getValue();
+
+            outputStream.writeUTF(key);
+
+            outputStream.writeUTF(shard.fileName());
+
+            outputStream.writeInt(shard.entries()
+                                       .size());
+
+            keysToNumbers.put(key, shardNumber);
+
+            shardNumber++;
+        } //end for
+
+        outputStream.writeInt(runKeys.size());
+
+        for (int i = 0; i < runKeys.size(); i++) {
+            outputStream.writeInt(keysToNumbers.get(runKeys.get(i)));
+
+            outputStream.writeInt(runLengths.get(i));
+        } //end for
+
+        outputStream.flush();
+
+        checksum = new CRC32C();
+
+        checksum.update(byteStream.toByteArray());
+
+        outputStream.writeInt((int) checksum.getValue());
+
+        return byteStream.toByteArray();
+    } //encodeIndex
+
+    /**
+     * Deletes the shard files in the directory of this sharded model store that are not referenced by the shards that
+     * were last written. Files that cannot be deleted are logged and left in place.
+     */
+    private void deleteUnreferencedFiles() {
+        Set<String> referencedFileNames;
+        Logger logger;
+
+        referencedFileNames = new HashSet<>();
+
+        for (Shard shard : this.savedShards.values()) {
+            referencedFileNames.add(shard.fileName());
+        } //end for
+
+        logger = Logger.getGlobal();
+
+        try (Stream<Path> paths = Files.list(this.directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                String fileName = String.valueOf(path.getFileName());
+
+                if (SHARD_FILE_PATTERN.matcher(fileName).matches() && !referencedFileNames.contains(fileName)) {
+                    Files.deleteIfExists(path);
+                } //end if
+            } //end for
+        } catch (IOException | UncheckedIOException e) {
+            String exceptionMessage = e.getMessage();
+
+            logger.log(Level.INFO, exceptionMessage, e);
+        } //end try catch
+    } //deleteUnreferencedFiles
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.records.hs.persistence;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * An exception that is thrown when a block of a snapshot is corrupt in the HS Records application. The exception
+ * identifies the block, and its offset in the snapshot file, so that corruption can be reported precisely. If more
+ * than one block of a snapshot is corrupt, the exceptions for the other blocks are added as suppressed exceptions.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class SnapshotCorruptException extends IOException {
+    /**
+     * The serial version UID of the class.
+     */
+    @Serial
+    private static final long serialVersionUID = 0xCAFEBABEL;
+
+    /**
+     * The block number of this snapshot corrupt exception.
+     */
+    private final int blockNumber;
+
+    /**
+     * The offset of this snapshot corrupt exception.
+     */
+    private final long offset;
+
+    /**
+     * Constructs a newly allocated {@code SnapshotCorruptException} object with the specified block number, offset,
+     * reason, and cause.
+     *
+     * @param blockNumber the block number to be used in construction
+     * @param offset the offset to be used in construction
+     * @param reason the reason to be used in construction
+     * @param cause the cause to be used in construction
+     */
+    public SnapshotCorruptException(int blockNumber, long offset, String reason, Throwable cause) {
+        super(String.format("block %d of the snapshot, at offset %d, is corrupt: %s", blockNumber, offset, reason),
+              cause);
+
+        this.blockNumber = blockNumber;
+        this.offset = offset;
+    } //SnapshotCorruptException
+
+    /**
+     * Constructs a newly allocated {@code SnapshotCorruptException} object with the specified block number, offset,
+     * and reason.
+     *
+     * @param blockNumber the block number to be used in construction
+     * @param offset the offset to be used in construction
+     * @param reason the reason to be used in construction
+     */
+    public SnapshotCorruptException(int blockNumber, long offset, String reason) {
+        this(blockNumber, offset, reason, null);
+    } //SnapshotCorruptException
+
+    /**
+     * Returns the block number of this snapshot corrupt exception.
+     *
+     * @return the block number of this snapshot corrupt exception
+     */
+    public int getBlockNumber() {
+        return this.blockNumber;
+    } //getBlockNumber
+
+    /**
+     * Returns the offset of this snapshot corrupt exception.
+     *
+     * @return the offset of this snapshot corrupt exception
+     */
+    public long getOffset() {
+        return this.offset;
+    } //getOffset
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+package com.records.hs.transfer;
+
+import java.util.Collection;
+import com.records.hs.model.Entry;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.logging.Logger;
+import com.records.hs.attachment.AttachmentIndex;
+import java.nio.file.Files;
+import java.util.logging.Level;
+import com.records.hs.util.Utilities;
+import java.util.StringJoiner;
+
+/**
+ * An exporter of archives in the HS Records application, so a collection can be lent with its scans as a single file.
+ * An archive holds the records of a set of entries, as a CSV file named {@code records.csv}, followed by the attachment
+ * of each entry that has one, at its path in the category tree. Entries whose attachments do not exist are still
+ * written to the records, and are logged.
+ *
+ * <p>A ZIP archive deflates the records and any TIFF image that is not compressed, and stores the images that are
+ * already compressed. A TAR archive copies every body as it is. In both, the bodies of the attachments are copied with
+ * {@link java.nio.channels.FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, and the memory
+ * that is used does not depend on the size of the archive. The archive is first written next to the target with a
+ * {@code .part} suffix, which then replaces the target, so a failed or cancelled export never leaves a partial archive
+ * behind.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ArchiveExporter {
+    /**
+     * A format of the archives written by an archive exporter.
+     */
+    public enum Format {
+        /**
+         * The ZIP format, with ZIP64 records where they are needed.
+         */
+        ZIP,
+
+        /**
+         * The POSIX ustar TAR format, with PAX extended headers where they are needed.
+         */
+        TAR
+    } //Format
+
+    /**
+     * The name of the records in an archive.
+     */
+    private static final String RECORDS_NAME;
+
+    /**
+     * The suffix of the file that is written before it replaces the target.
+     */
+    private static final String PART_SUFFIX;
+
+    static {
+        RECORDS_NAME = "records.csv";
+
+        PART_SUFFIX = ".part";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ArchiveExporter} object.
+     *
+     * @throws AssertionError if an object of type {@code ArchiveExporter} attempts to be instantiated
+     */
+    private ArchiveExporter() {
+        throw new AssertionError("an object of type ArchiveExporter cannot be instantiated");
+    } //ArchiveExporter
+
+    /**
+     * Exports the specified entries and their attachments, which are resolved against the specified root directory,
+     * to the archive at the specified path in the specified format, in iteration order. The records are written as by
+     * {@link CsvFormat#writeEntry(java.io.Writer, Entry)}. The number of entries whose attachments have been written
+     * so far is passed to the specified progress consumer. The specified cancellation flag is checked before each
+     * entry is written.
+     *
+     * @param entries the entries to be used in the operation
+     * @param root the root directory to be used in the operation
+     * @param path the path to be used in the operation
+     * @param format the format to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the number of entries that were exported
+     * @throws NullPointerException if the specified collection of entries, root directory, path, format, progress
+     * consumer, or cancellation flag is {@code null}
+     * @throws CancellationException if the export was cancelled
+     * @throws IOException if an I/O error occurs
+     */
+    public static long export(Collection<Entry> entries, Path root, Path path, Format format,
+                              LongConsumer progressConsumer, BooleanSupplier cancelled) throws IOException {
+        Path partPath;
+        Logger logger;
+        long count = 0;
+        Path attachment;
+        Path file;
+        String name;
+
+        Objects.requireNonNull(entries, "the specified collection of entries is null");
+
+        Objects.requireNonNull(root, "the specified root directory is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(format, "the specified format is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        partPath = path.resolveSibling(path.getFileName() + PART_SUFFIX);
+
+        logger = Logger.getGlobal();
+
+        try (ArchiveWriter writer = ArchiveExporter.newArchiveWriter(partPath, format)) {
+            writer.writeText(RECORDS_NAME, recordWriter -> {
+                for (Entry entry : entries) {
+                    ArchiveExporter.checkCancelled(cancelled);
+
+                    CsvFormat.writeEntry(recordWriter, entry);
+                } //end for
+            });
+
+            for (Entry entry : entries) {
+                ArchiveExporter.checkCancelled(cancelled);
+
+                attachment = AttachmentIndex.getAttachmentPath(entry);
+
+                file = root.resolve(attachment);
+
+                if (Files.isRegularFile(file)) {
+                    name = ArchiveExporter.getEntryName(attachment);
+
+                    writer.writeFile(name, file);
+                } else {
+                    logger.log(Level.INFO, "the attachment {0} was not archived as it does not exist", file);
+                } //end if
+
+                count++;
+
+                progressConsumer.accept(count);
+            } //end for
+
+            writer.finish();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partPath);
+
+            throw e;
+        } //end try catch
+
+        Utilities.replaceFile(partPath, path);
+
+        return count;
+    } //export
+
+    /**
+     * Returns a new archive writer that writes the archive at the specified path in the specified format.
+     *
+     * @param path the path to be used in the operation
+     * @param format the format to be used in the operation
+     * @return a new archive writer that writes the archive at the specified path in the specified format
+     * @throws IOException if the archive cannot be opened
+     */
+    private static ArchiveWriter newArchiveWriter(Path path, Format format) throws IOException {
+        return switch (format) {
+            case ZIP -> ZipArchiveWriter.newZipArchiveWriter(path);
+            case TAR -> TarArchiveWriter.newTarArchiveWriter(path);
+        };
+    } //newArchiveWriter
+
+    /**
+     * Returns the name of the entry of an archive that holds the attachment at the specified path, which is the path
+     * with its names separated by slashes.
+     *
+     * @param attachment the path of the attachment to be used in the operation
+     * @return the name of the entry of an archive that holds the attachment at the specified path
+     */
+    private static String getEntryName(Path attachment) {
+        StringJoiner joiner;
+
+        joiner = new StringJoiner("/");
+
+        for (Path name : attachment) {
+            joiner.add(name.toString());
+        } //end for
+
+        return joiner.toString();
+    } //getEntryName
+
+    /**
+     * Checks the specified cancellation flag.
+     *
+     * @param cancelled the cancellation flag to be used in the operation
+     * @throws CancellationException if the specified cancellation flag is set
+     */
+    private static void checkCancelled(BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("the export was cancelled");
+        } //end if
+    } //checkCancelled
+}
\ No newline at end of file
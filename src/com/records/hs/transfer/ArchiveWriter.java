@@ -0,0 +1,96 @@
+package com.records.hs.transfer;
+
+import java.io.Closeable;
+import java.io.Writer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+
+/**
+ * A writer of the entries of an archive in the HS Records application. The bodies of files are copied into the archive
+ * with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, so the kernel can copy them
+ * without passing them through the heap, and text is spooled to a temporary file first, so its size is known before
+ * its header is written. Either way, the memory that is used does not depend on the size of the archive.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+interface ArchiveWriter extends Closeable {
+    /**
+     * The text content of an entry of an archive.
+     */
+    @FunctionalInterface
+    interface Content {
+        /**
+         * Writes this content to the specified writer.
+         *
+         * @param writer the writer to be used in the operation
+         * @throws IOException if an I/O error occurs
+         */
+        void write(Writer writer) throws IOException;
+    } //Content
+
+    /**
+     * Writes an entry with the specified name and text content, encoded in UTF-8, to the archive of this writer.
+     *
+     * @param name the name to be used in the operation
+     * @param content the content to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    void writeText(String name, Content content) throws IOException;
+
+    /**
+     * Writes an entry with the specified name and the contents of the specified file to the archive of this writer.
+     *
+     * @param name the name to be used in the operation
+     * @param file the file to be used in the operation
+     * @throws IOException if an I/O error occurs, or the file is truncated while it is written
+     */
+    void writeFile(String name, Path file) throws IOException;
+
+    /**
+     * Finishes the archive of this writer, writing whatever follows its last entry. No entry may be written after the
+     * archive has been finished.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    void finish() throws IOException;
+
+    /**
+     * Transfers the specified number of bytes, starting at the beginning of the specified source, to the current
+     * position of the specified target.
+     *
+     * @param source the source to be used in the operation
+     * @param size the number of bytes to be used in the operation
+     * @param target the target to be used in the operation
+     * @throws IOException if an I/O error occurs, or the source has fewer bytes than the specified number
+     */
+    static void transfer(FileChannel source, long size, FileChannel target) throws IOException {
+        long position = 0;
+        long count;
+
+        while (position < size) {
+            count = source.transferTo(position, size - position, target);
+
+            if (count <= 0) {
+                throw new IOException("the file was truncated while it was archived");
+            } //end if
+
+            position += count;
+        } //end while
+    } //transfer
+
+    /**
+     * Writes all of the remaining bytes of the specified buffer to the specified channel.
+     *
+     * @param channel the channel to be used in the operation
+     * @param buffer the buffer to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        } //end while
+    } //writeFully
+}
\ No newline at end of file
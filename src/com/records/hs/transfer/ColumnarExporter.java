@@ -0,0 +1,564 @@
+package com.records.hs.transfer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.HashMap;
+import com.records.hs.model.Model;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.io.IOException;
+import java.util.Objects;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.Files;
+import java.util.concurrent.CancellationException;
+import com.records.hs.util.Utilities;
+import com.records.hs.model.Type;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * An exporter of columnar files in the HS Records application. A columnar file holds each field of the entries of a
+ * model as its own column, so that analysts can aggregate by type, category, or year without reading every field of
+ * every entry. All integers are big-endian, and a varint is an unsigned LEB128 integer. A string is written as a
+ * varint byte count followed by its UTF-8 bytes. A columnar file consists of:
+ *
+ * <ul>
+ *     <li>a header, which holds the magic number {@code 0x48534346}, the format version, and the entry count, as an
+ *     {@code int}, a {@code short}, and an {@code int}</li>
+ *     <li>the ID column, which holds the ID of each entry as a string</li>
+ *     <li>the type column, which holds the varint count and names of the types, followed by the type ordinals of the
+ *     entries, run-length encoded as a varint run count and a varint ordinal and varint length per run</li>
+ *     <li>the category and subcategory columns, which each hold a dictionary, as a varint count and the strings in
+ *     order of first appearance, followed by the varint dictionary code of each entry</li>
+ *     <li>the tags column, which holds a dictionary, followed by the varint tag count and the varint dictionary codes
+ *     of the tags of each entry</li>
+ *     <li>the year column, which holds the year in the ID of each entry, or {@code 0} if there is none, run-length
+ *     encoded like the type column</li>
+ *     <li>a footer, which holds the column count, as an {@code int}, and the offset, length, and CRC32C checksum of
+ *     each column, as a {@code long}, a {@code long}, and an {@code int}</li>
+ *     <li>a trailer, which holds the offset of the footer and the magic number again, as a {@code long} and an
+ *     {@code int}</li>
+ * </ul>
+ *
+ * <p>The entries are encoded in a single pass over the model, and the columns are written with one gathering write
+ * each. The file is first written next to the target with a {@code .part} suffix, which then replaces the target.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ColumnarExporter {
+    /**
+     * A growable buffer that holds the bytes of a part of a column.
+     */
+    private static final class ColumnBuffer {
+        /**
+         * The buffer of this column buffer.
+         */
+        private ByteBuffer buffer;
+
+        /**
+         * Constructs a newly allocated {@code ColumnBuffer} object with the specified initial capacity.
+         *
+         * @param capacity the initial capacity to be used in construction
+         */
+        private ColumnBuffer(int capacity) {
+            this.buffer = ByteBuffer.allocate(capacity);
+        } //ColumnBuffer
+
+        /**
+         * Ensures that this column buffer has room for the specified number of additional bytes.
+         *
+         * @param count the number of additional bytes to be used in the operation
+         */
+        private void ensureRemaining(int count) {
+            int capacity;
+            ByteBuffer newBuffer;
+
+            if (this.buffer.remaining() >= count) {
+                return;
+            } //end if
+
+            capacity = Math.max(2 * this.buffer.capacity(), this.buffer.position() + count);
+
+            newBuffer = ByteBuffer.allocate(capacity);
+
+            this.buffer.flip();
+
+            newBuffer.put(this.buffer);
+
+            this.buffer = newBuffer;
+        } //ensureRemaining
+
+        /**
+         * Writes the specified value to this column buffer as a varint.
+         *
+         * @param value the value to be used in the operation
+         */
+        private void putVarint(long value) {
+            this.ensureRemaining(10);
+
+            while ((value & ~0x7FL) != 0) {
+                this.buffer.put((byte) ((value & 0x7F) | 0x80));
+
+                value >>>= 7;
+            } //end while
+
+            this.buffer.put((byte) value);
+        } //putVarint
+
+        /**
+         * Writes the specified {@code String} to this column buffer as a varint byte count followed by its UTF-8
+         * bytes.
+         *
+         * @param string the {@code String} to be used in the operation
+         */
+        private void putString(String string) {
+            byte[] bytes;
+
+            bytes = string.getBytes(StandardCharsets.UTF_8);
+
+            this.putVarint(bytes.length);
+
+            this.ensureRemaining(bytes.length);
+
+            this.buffer.put(bytes);
+        } //putString
+
+        /**
+         * Returns a read-only view of the bytes of this column buffer.
+         *
+         * @return a read-only view of the bytes of this column buffer
+         */
+        private ByteBuffer getBytes() {
+            return this.buffer.asReadOnlyBuffer()
+                              .flip();
+        } //getBytes
+    } //ColumnBuffer
+
+    /**
+     * A dictionary of the strings of a column, which assigns each distinct string a code in order of first appearance.
+     */
+    private static final class Dictionary {
+        /**
+         * The mapping from strings to codes of this dictionary.
+         */
+        private final Map<String, Integer> stringsToCodes;
+
+        /**
+         * The strings of this dictionary, in code order.
+         */
+        private final ColumnBuffer strings;
+
+        /**
+         * Constructs a newly allocated {@code Dictionary} object.
+         */
+        private Dictionary() {
+            this.stringsToCodes = new HashMap<>();
+            this.strings = new ColumnBuffer(4_096);
+        } //Dictionary
+
+        /**
+         * Returns the code of the specified {@code String}, adding it to this dictionary if necessary.
+         *
+         * @param string the {@code String} to be used in the operation
+         * @return the code of the specified {@code String}
+         */
+        private int encode(String string) {
+            Integer code;
+
+            code = this.stringsToCodes.get(string);
+
+            if (code == null) {
+                code = this.stringsToCodes.size();
+
+                this.stringsToCodes.put(string, code);
+
+                this.strings.putString(string);
+            } //end if
+
+            return code;
+        } //encode
+
+        /**
+         * Returns the header of this dictionary, which is its varint string count followed by its strings.
+         *
+         * @return the header of this dictionary
+         */
+        private ColumnBuffer getHeader() {
+            ColumnBuffer header;
+            ByteBuffer bytes;
+
+            bytes = this.strings.getBytes();
+
+            header = new ColumnBuffer(bytes.remaining() + 10);
+
+            header.putVarint(this.stringsToCodes.size());
+
+            header.ensureRemaining(bytes.remaining());
+
+            header.buffer.put(bytes);
+
+            return header;
+        } //getHeader
+    } //Dictionary
+
+    /**
+     * A run-length encoder of the integer values of a column.
+     */
+    private static final class RunLengthEncoder {
+        /**
+         * The runs of this run-length encoder.
+         */
+        private final ColumnBuffer runs;
+
+        /**
+         * The number of runs of this run-length encoder, including the current one.
+         */
+        private long runCount;
+
+        /**
+         * The value of the current run of this run-length encoder.
+         */
+        private long value;
+
+        /**
+         * The length of the current run of this run-length encoder.
+         */
+        private long length;
+
+        /**
+         * Constructs a newly allocated {@code RunLengthEncoder} object.
+         */
+        private RunLengthEncoder() {
+            this.runs = new ColumnBuffer(1_024);
+            this.runCount = 0;
+            this.value = 0;
+            this.length = 0;
+        } //RunLengthEncoder
+
+        /**
+         * Adds the specified value to this run-length encoder.
+         *
+         * @param newValue the value to be used in the operation
+         */
+        private void add(long newValue) {
+            if ((this.length > 0) && (newValue == this.value)) {
+                this.length++;
+
+                return;
+            } //end if
+
+            this.flush();
+
+            this.runCount++;
+
+            this.value = newValue;
+
+            this.length = 1;
+        } //add
+
+        /**
+         * Writes the current run of this run-length encoder, if there is one.
+         */
+        private void flush() {
+            if (this.length == 0) {
+                return;
+            } //end if
+
+            this.runs.putVarint(this.value);
+
+            this.runs.putVarint(this.length);
+
+            this.length = 0;
+        } //flush
+
+        /**
+         * Returns the header of this run-length encoder, which is its varint run count. The current run is written
+         * first, so no more values may be added afterwards.
+         *
+         * @return the header of this run-length encoder
+         */
+        private ColumnBuffer finish() {
+            ColumnBuffer header;
+
+            this.flush();
+
+            header = new ColumnBuffer(10);
+
+            header.putVarint(this.runCount);
+
+            return header;
+        } //finish
+    } //RunLengthEncoder
+
+    /**
+     * The magic number of the columnar format.
+     */
+    private static final int MAGIC;
+
+    /**
+     * The version of the columnar format.
+     */
+    private static final short VERSION;
+
+    /**
+     * The size of the header of the columnar format, in bytes.
+     */
+    private static final int HEADER_SIZE;
+
+    /**
+     * The size of a footer entry of the columnar format, in bytes.
+     */
+    private static final int FOOTER_ENTRY_SIZE;
+
+    /**
+     * The size of the trailer of the columnar format, in bytes.
+     */
+    private static final int TRAILER_SIZE;
+
+    /**
+     * The suffix of the file that is written before it replaces the target.
+     */
+    private static final String PART_SUFFIX;
+
+    static {
+        MAGIC = 0x48534346;
+
+        VERSION = 1;
+
+        HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES;
+
+        FOOTER_ENTRY_SIZE = Long.BYTES + Long.BYTES + Integer.BYTES;
+
+        TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+        PART_SUFFIX = ".part";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ColumnarExporter} object.
+     *
+     * @throws AssertionError if an object of type {@code ColumnarExporter} attempts to be instantiated
+     */
+    private ColumnarExporter() {
+        throw new AssertionError("an object of type ColumnarExporter cannot be instantiated");
+    } //ColumnarExporter
+
+    /**
+     * Exports the entries of the specified model to the columnar file at the specified path, in order. The number of
+     * entries encoded so far is passed to the specified progress consumer. The specified cancellation flag is checked
+     * before each entry is encoded. The specified model must not be modified while it is exported, so a snapshot
+     * should be passed if the export runs on another thread.
+     *
+     * @param model the model to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the number of entries that were exported
+     * @throws NullPointerException if the specified model, path, progress consumer, or cancellation flag is
+     * {@code null}
+     * @throws CancellationException if the export was cancelled
+     * @throws IOException if an I/O error occurs
+     */
+    public static long export(Model model, Path path, LongConsumer progressConsumer, BooleanSupplier cancelled)
+            throws IOException {
+        int entryCount;
+        ColumnBuffer ids;
+        ColumnBuffer typeNames;
+        RunLengthEncoder types;
+        Dictionary categories;
+        ColumnBuffer categoryCodes;
+        Dictionary subcategories;
+        ColumnBuffer subcategoryCodes;
+        Dictionary tags;
+        ColumnBuffer tagCodes;
+        RunLengthEncoder years;
+        long[] count = new long[1];
+        ColumnBuffer typeHeader;
+        ColumnBuffer categoryHeader;
+        ColumnBuffer subcategoryHeader;
+        ColumnBuffer tagHeader;
+        ColumnBuffer yearHeader;
+        ByteBuffer[][] columns;
+        Path partPath;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        entryCount = model.getEntryCount();
+
+        ids = new ColumnBuffer(Math.max(1_024, 12 * entryCount));
+
+        typeNames = new ColumnBuffer(64);
+
+        types = new RunLengthEncoder();
+
+        categories = new Dictionary();
+
+        categoryCodes = new ColumnBuffer(Math.max(1_024, entryCount));
+
+        subcategories = new Dictionary();
+
+        subcategoryCodes = new ColumnBuffer(Math.max(1_024, entryCount));
+
+        tags = new Dictionary();
+
+        tagCodes = new ColumnBuffer(Math.max(1_024, 2 * entryCount));
+
+        years = new RunLengthEncoder();
+
+        typeNames.putVarint(Type.values().length);
+
+        for (Type type : Type.values()) {
+            typeNames.putString(type.name());
+        } //end for
+
+        model.forEachEntry(entry -> {
+            Set<String> entryTags;
+
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException("the export was cancelled");
+            } //end if
+
+            ids.putString(entry.id());
+
+            types.add(entry.type()
+                           .ordinal());
+
+            categoryCodes.putVarint(categories.encode(entry.category()));
+
+            subcategoryCodes.putVarint(subcategories.encode(entry.subcategory()));
+
+            entryTags = entry.tags();
+
+            tagCodes.putVarint(entryTags.size());
+
+            for (String tag : entryTags) {
+                tagCodes.putVarint(tags.encode(tag));
+            } //end for
+
+            years.add(Utilities.getYear(entry.id())
+                               .orElse(0));
+
+            count[0]++;
+
+            progressConsumer.accept(count[0]);
+        });
+
+        typeHeader = types.finish();
+
+        categoryHeader = categories.getHeader();
+
+        subcategoryHeader = subcategories.getHeader();
+
+        tagHeader = tags.getHeader();
+
+        yearHeader = years.finish();
+
+        columns = new ByteBuffer[][] {
+            {ids.getBytes()},
+            {typeNames.getBytes(), typeHeader.getBytes(), types.runs.getBytes()},
+            {categoryHeader.getBytes(), categoryCodes.getBytes()},
+            {subcategoryHeader.getBytes(), subcategoryCodes.getBytes()},
+            {tagHeader.getBytes(), tagCodes.getBytes()},
+            {yearHeader.getBytes(), years.runs.getBytes()}
+        };
+
+        partPath = path.resolveSibling(path.getFileName() + PART_SUFFIX);
+
+        try {
+            ColumnarExporter.writeFile(partPath, entryCount, columns);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partPath);
+
+            throw e;
+        } //end try catch
+
+        Utilities.replaceFile(partPath, path);
+
+        return count[0];
+    } //export
+
+    /**
+     * Writes a columnar file with the specified entry count and columns to the specified path.
+     *
+     * @param path the path to be used in the operation
+     * @param entryCount the entry count to be used in the operation
+     * @param columns the columns, each of which is a sequence of buffers, to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeFile(Path path, int entryCount, ByteBuffer[][] columns) throws IOException {
+        ByteBuffer header;
+        ByteBuffer footer;
+        long offset;
+        long length;
+        CRC32C checksum;
+
+        header = ByteBuffer.allocate(HEADER_SIZE);
+
+        header.putInt(MAGIC)
+              .putShort(VERSION)
+              .putInt(entryCount)
+              .flip();
+
+        footer = ByteBuffer.allocate(Integer.BYTES + columns.length * FOOTER_ENTRY_SIZE + TRAILER_SIZE);
+
+        footer.putInt(columns.length);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            ColumnarExporter.writeFully(channel, header);
+
+            offset = HEADER_SIZE;
+
+            for (ByteBuffer[] column : columns) {
+                checksum = new CRC32C();
+
+                length = 0;
+
+                for (ByteBuffer buffer : column) {
+                    length += buffer.remaining();
+
+                    checksum.update(buffer.duplicate());
+                } //end for
+
+                ColumnarExporter.writeFully(channel, column);
+
+                footer.putLong(offset)
+                      .putLong(length)
+                      .putInt((int) checksum.getValue());
+
+                offset += length;
+            } //end for
+
+            footer.putLong(offset)
+                  .putInt(MAGIC)
+                  .flip();
+
+            ColumnarExporter.writeFully(channel, footer);
+        } //end try
+    } //writeFile
+
+    /**
+     * Writes all of the remaining bytes of the specified buffers to the specified channel.
+     *
+     * @param channel the channel to be used in the operation
+     * @param buffers the buffers to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer... buffers) throws IOException {
+        while (Arrays.stream(buffers)
+                     .anyMatch(ByteBuffer::hasRemaining)) {
+            channel.write(buffers);
+        } //end while
+    } //writeFully
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.records.hs.transfer;
+
+import com.records.hs.model.Entry;
+import java.util.Objects;
+import com.records.hs.model.Type;
+import java.util.Set;
+import java.util.List;
+import java.io.Writer;
+import java.io.IOException;
+import java.util.stream.Collectors;
+
+/**
+ * A set of methods for converting entries to and from the records of a CSV file in the HS Records application. Each
+ * record holds the ID, type, category, and subcategory of an entry, followed by its tags, if any, with one tag per
+ * field. Records follow RFC 4180; see {@link CsvTokenizer}.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class CsvFormat {
+    /**
+     * The minimum number of fields of a record.
+     */
+    private static final int MIN_FIELD_COUNT;
+
+    /**
+     * The separator written after each record.
+     */
+    private static final String LINE_SEPARATOR;
+
+    static {
+        MIN_FIELD_COUNT = 4;
+
+        LINE_SEPARATOR = "\r\n";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code CsvFormat} object.
+     *
+     * @throws AssertionError if an object of type {@code CsvFormat} attempts to be instantiated
+     */
+    private CsvFormat() {
+        throw new AssertionError("an object of type CsvFormat cannot be instantiated");
+    } //CsvFormat
+
+    /**
+     * Returns the entry in the specified fields of a record of a CSV file. The first four fields are the ID, type,
+     * category, and subcategory of the entry, and each remaining field is a tag. Tags are trimmed, and empty tags are
+     * ignored.
+     *
+     * @param fields the fields to be used in the operation
+     * @param lineNumber the line number of the record to be used in the operation
+     * @return the entry in the specified fields
+     * @throws NullPointerException if the specified list of fields is {@code null}
+     * @throws CsvFormatException if the specified fields do not hold a valid entry
+     */
+    public static Entry parseEntry(List<String> fields, long lineNumber) throws CsvFormatException {
+        String id;
+        String typeString;
+        Type type;
+        Set<String> tags;
+
+        Objects.requireNonNull(fields, "the specified list of fields is null");
+
+        if (fields.size() < MIN_FIELD_COUNT) {
+            String reason = String.format("has %d fields, but at least %d are required", fields.size(),
+                                          MIN_FIELD_COUNT);
+
+            throw new CsvFormatException(lineNumber, reason);
+        } //end if
+
+        id = fields.get(0);
+
+        if (id.isBlank()) {
+            throw new CsvFormatException(lineNumber, "has an ID that is empty");
+        } //end if
+
+        typeString = fields.get(1)
+                           .toUpperCase();
+
+        try {
+            type = Type.valueOf(typeString);
+        } catch (IllegalArgumentException e) {
+            String reason = String.format("has a type that is invalid (%s)", fields.get(1));
+
+            throw new CsvFormatException(lineNumber, reason);
+        } //end try catch
+
+        tags = fields.subList(MIN_FIELD_COUNT, fields.size())
+                     .stream()
+                     .map(String::trim)
+                     .filter(tag -> !tag.isEmpty())
+                     .collect(Collectors.toUnmodifiableSet());
+
+        return new Entry(id, type, fields.get(2), fields.get(3), tags);
+    } //parseEntry
+
+    /**
+     * Returns the specified field, quoted if necessary. A field is quoted if it contains a comma, a double quote, or a
+     * line break, and any double quotes in it are doubled.
+     *
+     * @param field the field to be used in the operation
+     * @return the specified field, quoted if necessary
+     * @throws NullPointerException if the specified field is {@code null}
+     */
+    public static String quote(String field) {
+        boolean quoted = false;
+        char c;
+
+        Objects.requireNonNull(field, "the specified field is null");
+
+        for (int i = 0; i < field.length(); i++) {
+            c = field.charAt(i);
+
+            if ((c == ',') || (c == '"') || (c == '\n') || (c == '\r')) {
+                quoted = true;
+
+                break;
+            } //end if
+        } //end for
+
+        if (!quoted) {
+            return field;
+        } //end if
+
+        return '"' + field.replace("\"", "\"\"") + '"';
+    } //quote
+
+    /**
+     * Writes the specified entry as a record of a CSV file to the specified writer. Fields are quoted if necessary,
+     * and the record ends with CRLF.
+     *
+     * @param writer the writer to be used in the operation
+     * @param entry the entry to be used in the operation
+     * @throws NullPointerException if the specified writer or entry is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeEntry(Writer writer, Entry entry) throws IOException {
+        Objects.requireNonNull(writer, "the specified writer is null");
+
+        Objects.requireNonNull(entry, "the specified entry is null");
+
+        writer.write(CsvFormat.quote(entry.id()));
+
+        writer.write(',');
+
+        writer.write(entry.type()
+                          .name());
+
+        writer.write(',');
+
+        writer.write(CsvFormat.quote(entry.category()));
+
+        writer.write(',');
+
+        writer.write(CsvFormat.quote(entry.subcategory()));
+
+        for (String tag : entry.tags()) {
+            writer.write(',');
+
+            writer.write(CsvFormat.quote(tag));
+        } //end for
+
+        writer.write(LINE_SEPARATOR);
+    } //writeEntry
+}
\ No newline at end of file
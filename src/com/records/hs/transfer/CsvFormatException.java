@@ -0,0 +1,27 @@
+package com.records.hs.transfer;
+
+import java.io.Serial;
+
+/**
+ * An exception that is thrown when a line of a CSV file cannot be imported in the HS Records application.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class CsvFormatException extends EntryFormatException {
+    /**
+     * The serial version UID of the class.
+     */
+    @Serial
+    private static final long serialVersionUID = 0xCAFEBABEL;
+
+    /**
+     * Constructs a newly allocated {@code CsvFormatException} object with the specified line number and reason.
+     *
+     * @param lineNumber the line number to be used in construction
+     * @param reason the reason to be used in construction
+     */
+    public CsvFormatException(long lineNumber, String reason) {
+        super(lineNumber, reason);
+    } //CsvFormatException
+}
\ No newline at end of file
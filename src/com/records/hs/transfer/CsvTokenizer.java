@@ -0,0 +1,302 @@
+package com.records.hs.transfer;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.List;
+import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A tokenizer of CSV records in the HS Records application. The tokenizer follows RFC 4180. Fields are separated by
+ * commas, and records by CRLF or LF. A field may be enclosed in double quotes, in which case it may contain commas,
+ * line breaks, and double quotes, which are escaped by doubling them. A double quote may not appear in a field that
+ * is not enclosed in double quotes.
+ *
+ * <p>The tokenizer scans the bytes of a buffer, which is usually a memory-mapped region of a file, directly. The only
+ * objects that are created are the {@code String}s of the fields themselves. The buffer is read with absolute
+ * indexes, so its position and limit are not changed.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class CsvTokenizer {
+    /**
+     * The buffer of this CSV tokenizer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The limit of this CSV tokenizer.
+     */
+    private final int limit;
+
+    /**
+     * The index of the next byte of this CSV tokenizer.
+     */
+    private int index;
+
+    /**
+     * The number of line breaks consumed by this CSV tokenizer.
+     */
+    private long lineCount;
+
+    /**
+     * The line number of the record last returned by this CSV tokenizer.
+     */
+    private long recordLineNumber;
+
+    /**
+     * The index of the first byte of the record last returned by this CSV tokenizer.
+     */
+    private int recordStart;
+
+    /**
+     * The scratch array of this CSV tokenizer, which holds the bytes of a field while it is decoded.
+     */
+    private byte[] scratch;
+
+    /**
+     * Constructs a newly allocated {@code CsvTokenizer} object with the specified buffer. Records are read from the
+     * position of the buffer to its limit.
+     *
+     * @param buffer the buffer to be used in construction
+     * @throws NullPointerException if the specified buffer is {@code null}
+     */
+    CsvTokenizer(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "the specified buffer is null");
+
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.index = buffer.position();
+        this.lineCount = 0;
+        this.recordLineNumber = 0;
+        this.recordStart = this.index;
+        this.scratch = new byte[256];
+    } //CsvTokenizer
+
+    /**
+     * Returns the number of line breaks consumed by this CSV tokenizer so far.
+     *
+     * @return the number of line breaks consumed by this CSV tokenizer so far
+     */
+    long getLineCount() {
+        return this.lineCount;
+    } //getLineCount
+
+    /**
+     * Returns the line number of the record last returned by this CSV tokenizer, counting from {@code 1} at the
+     * position of the buffer. A record that spans several lines has the number of its first line.
+     *
+     * @return the line number of the record last returned by this CSV tokenizer
+     */
+    long getRecordLineNumber() {
+        return this.recordLineNumber;
+    } //getRecordLineNumber
+
+    /**
+     * Returns the index of the first byte of the record last returned by this CSV tokenizer. If the last call to
+     * {@link #nextRecord()} threw an exception, or skipped blank lines before reaching the limit, the index of the
+     * first byte of the record or blank line it last read is returned instead.
+     *
+     * @return the index of the first byte of the record last returned by this CSV tokenizer
+     */
+    int getRecordStart() {
+        return this.recordStart;
+    } //getRecordStart
+
+    /**
+     * Returns whether or not this CSV tokenizer has bytes left before its limit. A tokenizer that has none left after
+     * an exception was thrown reached the limit inside a quoted field.
+     *
+     * @return {@code true}, if this CSV tokenizer has bytes left before its limit and {@code false} otherwise
+     */
+    boolean hasRemaining() {
+        return this.index < this.limit;
+    } //hasRemaining
+
+    /**
+     * Returns the fields of the next record of this CSV tokenizer. Blank lines are skipped. If there are no more
+     * records, {@code null} is returned.
+     *
+     * @return the fields of the next record of this CSV tokenizer, or {@code null} if there are no more records
+     * @throws CsvFormatException if the next record is malformed
+     */
+    List<String> nextRecord() throws CsvFormatException {
+        List<String> fields;
+        boolean ended;
+
+        while (this.index < this.limit) {
+            fields = new ArrayList<>(8);
+
+            this.recordLineNumber = this.lineCount + 1;
+
+            this.recordStart = this.index;
+
+            ended = false;
+
+            while (!ended) {
+                if ((this.index < this.limit) && (this.buffer.get(this.index) == '"')) {
+                    fields.add(this.readQuotedField());
+                } else {
+                    fields.add(this.readField());
+                } //end if
+
+                ended = this.readDelimiter();
+            } //end while
+
+            if ((fields.size() > 1) || !fields.get(0)
+                                              .isBlank()) {
+                return fields;
+            } //end if
+        } //end while
+
+        return null;
+    } //nextRecord
+
+    /**
+     * Reads the delimiter after a field. If the delimiter is a comma, another field follows. Otherwise, the delimiter
+     * is a line break or the end of the buffer, and the record has ended.
+     *
+     * @return {@code true}, if the record has ended and {@code false} otherwise
+     * @throws CsvFormatException if a field enclosed in double quotes is followed by anything else
+     */
+    private boolean readDelimiter() throws CsvFormatException {
+        byte b;
+
+        if (this.index >= this.limit) {
+            return true;
+        } //end if
+
+        b = this.buffer.get(this.index);
+
+        if (b == ',') {
+            this.index++;
+
+            return false;
+        } else if (b == '\n') {
+            this.index++;
+
+            this.lineCount++;
+
+            return true;
+        } else if ((b == '\r') && ((this.index + 1 == this.limit) || (this.buffer.get(this.index + 1) == '\n'))) {
+            this.index = Math.min(this.index + 2, this.limit);
+
+            this.lineCount++;
+
+            return true;
+        } //end if
+
+        throw new CsvFormatException(this.recordLineNumber, "has a character after the closing quote of a field");
+    } //readDelimiter
+
+    /**
+     * Reads a field that is not enclosed in double quotes.
+     *
+     * @return the field that was read
+     * @throws CsvFormatException if the field contains a double quote
+     */
+    private String readField() throws CsvFormatException {
+        int start = this.index;
+        byte b;
+
+        while (this.index < this.limit) {
+            b = this.buffer.get(this.index);
+
+            if ((b == ',') || (b == '\n')) {
+                break;
+            } else if ((b == '\r') && ((this.index + 1 == this.limit) || (this.buffer.get(this.index + 1) == '\n'))) {
+                break;
+            } else if (b == '"') {
+                throw new CsvFormatException(this.recordLineNumber, "has a double quote in a field that is not quoted");
+            } //end if
+
+            this.index++;
+        } //end while
+
+        return this.decode(start, this.index - start);
+    } //readField
+
+    /**
+     * Reads a field that is enclosed in double quotes. Doubled double quotes are unescaped.
+     *
+     * @return the field that was read
+     * @throws CsvFormatException if the field is not closed
+     */
+    private String readQuotedField() throws CsvFormatException {
+        int length = 0;
+        int runStart;
+        byte b;
+
+        this.index++;
+
+        while (true) {
+            runStart = this.index;
+
+            while ((this.index < this.limit) && ((b = this.buffer.get(this.index)) != '"')) {
+                if (b == '\n') {
+                    this.lineCount++;
+                } //end if
+
+                this.index++;
+            } //end while
+
+            length = this.append(length, runStart, this.index - runStart);
+
+            if (this.index >= this.limit) {
+                throw new CsvFormatException(this.recordLineNumber, "has a quoted field that is not closed");
+            } //end if
+
+            this.index++;
+
+            if ((this.index < this.limit) && (this.buffer.get(this.index) == '"')) {
+                length = this.append(length, this.index, 1);
+
+                this.index++;
+            } else {
+                return new String(this.scratch, 0, length, StandardCharsets.UTF_8);
+            } //end if
+        } //end while
+    } //readQuotedField
+
+    /**
+     * Copies the specified number of bytes of the buffer, starting at the specified index, into the scratch array of
+     * this CSV tokenizer, after the specified number of bytes that are already there.
+     *
+     * @param length the number of bytes already in the scratch array to be used in the operation
+     * @param start the start index to be used in the operation
+     * @param count the number of bytes to be used in the operation
+     * @return the number of bytes in the scratch array afterwards
+     */
+    private int append(int length, int start, int count) {
+        int newLength = length + count;
+
+        if (newLength > this.scratch.length) {
+            this.scratch = Arrays.copyOf(this.scratch, Math.max(newLength, 2 * this.scratch.length));
+        } //end if
+
+        this.buffer.get(start, this.scratch, length, count);
+
+        return newLength;
+    } //append
+
+    /**
+     * Decodes the specified number of bytes of the buffer, starting at the specified index, as UTF-8.
+     *
+     * @param start the start index to be used in the operation
+     * @param count the number of bytes to be used in the operation
+     * @return the decoded {@code String}
+     */
+    private String decode(int start, int count) {
+        int length;
+
+        if (count == 0) {
+            return "";
+        } //end if
+
+        length = this.append(0, start, count);
+
+        return new String(this.scratch, 0, length, StandardCharsets.UTF_8);
+    } //decode
+}
\ No newline at end of file
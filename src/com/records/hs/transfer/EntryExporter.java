@@ -0,0 +1,226 @@
+package com.records.hs.transfer;
+
+import java.util.Collection;
+import com.records.hs.model.Entry;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.io.IOException;
+import java.util.Objects;
+import java.io.Writer;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+import com.records.hs.util.Utilities;
+
+/**
+ * An exporter of entries to files in the HS Records application. Entries are written one at a time, in a given
+ * format, through a large buffered writer, so the file is never held in memory. The file is first written next to the
+ * target with a {@code .part} suffix, which then replaces the target, so a failed or cancelled export never leaves a
+ * partial file behind.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class EntryExporter {
+    /**
+     * A format of the files written by an entry exporter.
+     */
+    @FunctionalInterface
+    public interface Format {
+        /**
+         * Writes the specified entry to the specified writer, including its line separator.
+         *
+         * @param writer the writer to be used in the operation
+         * @param entry the entry to be used in the operation
+         * @throws IOException if an I/O error occurs
+         */
+        void writeEntry(Writer writer, Entry entry) throws IOException;
+    } //Format
+
+    /**
+     * The content of a file written by an entry exporter.
+     */
+    @FunctionalInterface
+    private interface Content {
+        /**
+         * Writes this content to the specified writer.
+         *
+         * @param writer the writer to be used in the operation
+         * @return the number of lines that were written
+         * @throws IOException if an I/O error occurs
+         */
+        long write(Writer writer) throws IOException;
+    } //Content
+
+    /**
+     * The buffer size used when writing a CSV file, in characters.
+     */
+    private static final int BUFFER_SIZE;
+
+    /**
+     * The suffix of the file that is written before it replaces the target.
+     */
+    private static final String PART_SUFFIX;
+
+    static {
+        BUFFER_SIZE = 1_048_576;
+
+        PART_SUFFIX = ".part";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code EntryExporter} object.
+     *
+     * @throws AssertionError if an object of type {@code EntryExporter} attempts to be instantiated
+     */
+    private EntryExporter() {
+        throw new AssertionError("an object of type EntryExporter cannot be instantiated");
+    } //EntryExporter
+
+    /**
+     * Exports the specified entries to the file at the specified path in the specified format, in iteration order.
+     * The number of entries written so far is passed to the specified progress consumer. The specified cancellation
+     * flag is checked before each entry is written.
+     *
+     * @param entries the entries to be used in the operation
+     * @param path the path to be used in the operation
+     * @param format the format to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the number of entries that were exported
+     * @throws NullPointerException if the specified collection of entries, path, format, progress consumer, or
+     * cancellation flag is {@code null}
+     * @throws CancellationException if the export was cancelled
+     * @throws IOException if an I/O error occurs
+     */
+    public static long export(Collection<Entry> entries, Path path, Format format, LongConsumer progressConsumer,
+                              BooleanSupplier cancelled) throws IOException {
+        Objects.requireNonNull(entries, "the specified collection of entries is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(format, "the specified format is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        return EntryExporter.writeFile(path, writer -> {
+            long count = 0;
+
+            for (Entry entry : entries) {
+                EntryExporter.checkCancelled(cancelled);
+
+                format.writeEntry(writer, entry);
+
+                count++;
+
+                progressConsumer.accept(count);
+            } //end for
+
+            return count;
+        });
+    } //export
+
+    /**
+     * Exports the specified changed entries and the specified IDs of deleted entries to the JSON Lines file at the
+     * specified path. The changed entries are written first, in iteration order, as by
+     * {@link JsonLinesFormat#writeEntry(Writer, Entry)}, followed by a tombstone for each deleted entry, as by
+     * {@link JsonLinesFormat#writeTombstone(Writer, String)}. The file is export-only, as an import rejects its
+     * tombstones. The number of lines written so far is passed to the specified progress consumer. The specified
+     * cancellation flag is checked before each line is written.
+     *
+     * @param entries the changed entries to be used in the operation
+     * @param deletedIds the IDs of deleted entries to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the number of lines that were exported
+     * @throws NullPointerException if the specified collection of entries, collection of IDs, path, progress
+     * consumer, or cancellation flag is {@code null}
+     * @throws CancellationException if the export was cancelled
+     * @throws IOException if an I/O error occurs
+     */
+    public static long exportChanges(Collection<Entry> entries, Collection<String> deletedIds, Path path,
+                                     LongConsumer progressConsumer, BooleanSupplier cancelled) throws IOException {
+        Objects.requireNonNull(entries, "the specified collection of entries is null");
+
+        Objects.requireNonNull(deletedIds, "the specified collection of IDs is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        return EntryExporter.writeFile(path, writer -> {
+            long count = 0;
+
+            for (Entry entry : entries) {
+                EntryExporter.checkCancelled(cancelled);
+
+                JsonLinesFormat.writeEntry(writer, entry);
+
+                count++;
+
+                progressConsumer.accept(count);
+            } //end for
+
+            for (String id : deletedIds) {
+                EntryExporter.checkCancelled(cancelled);
+
+                JsonLinesFormat.writeTombstone(writer, id);
+
+                count++;
+
+                progressConsumer.accept(count);
+            } //end for
+
+            return count;
+        });
+    } //exportChanges
+
+    /**
+     * Writes the specified content to the file at the specified path, by way of a {@code .part} file.
+     *
+     * @param path the path to be used in the operation
+     * @param content the content to be used in the operation
+     * @return the number of lines that were written
+     * @throws CancellationException if the export was cancelled
+     * @throws IOException if an I/O error occurs
+     */
+    private static long writeFile(Path path, Content content) throws IOException {
+        Path partPath;
+        long count;
+
+        partPath = path.resolveSibling(path.getFileName() + PART_SUFFIX);
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(partPath),
+                                                                       StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            count = content.write(writer);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partPath);
+
+            throw e;
+        } //end try catch
+
+        Utilities.replaceFile(partPath, path);
+
+        return count;
+    } //writeFile
+
+    /**
+     * Checks the specified cancellation flag.
+     *
+     * @param cancelled the cancellation flag to be used in the operation
+     * @throws CancellationException if the specified cancellation flag is set
+     */
+    private static void checkCancelled(BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("the export was cancelled");
+        } //end if
+    } //checkCancelled
+}
\ No newline at end of file
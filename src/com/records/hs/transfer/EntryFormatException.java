@@ -0,0 +1,61 @@
+package com.records.hs.transfer;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * An exception that is thrown when a line of a file cannot be imported in the HS Records application. The exception
+ * identifies the line, so that the problem can be reported precisely.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public class EntryFormatException extends IOException {
+    /**
+     * The serial version UID of the class.
+     */
+    @Serial
+    private static final long serialVersionUID = 0xCAFEBABEL;
+
+    /**
+     * The line number of this entry format exception.
+     */
+    private final long lineNumber;
+
+    /**
+     * The reason of this entry format exception.
+     */
+    private final String reason;
+
+    /**
+     * Constructs a newly allocated {@code EntryFormatException} object with the specified line number and reason.
+     *
+     * @param lineNumber the line number to be used in construction
+     * @param reason the reason to be used in construction
+     */
+    public EntryFormatException(long lineNumber, String reason) {
+        super(String.format("line %d %s", lineNumber, reason));
+
+        this.lineNumber = lineNumber;
+        this.reason = reason;
+    } //EntryFormatException
+
+    /**
+     * Returns the line number of this entry format exception.
+     *
+     * @return the line number of this entry format exception
+     */
+    public long getLineNumber() {
+        return this.lineNumber;
+    } //getLineNumber
+
+    /**
+     * Returns the reason of this entry format exception. The reason is the message of this entry format exception
+     * without the line number.
+     *
+     * @return the reason of this entry format exception
+     */
+    public String getReason() {
+        return this.reason;
+    } //getReason
+}
\ No newline at end of file
@@ -0,0 +1,663 @@
+package com.records.hs.transfer;
+
+import com.records.hs.model.Model;
+import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
+import java.util.HashSet;
+import java.util.HashMap;
+import java.nio.file.Path;
+import java.io.IOException;
+import java.util.List;
+import com.records.hs.model.Entry;
+import java.io.Reader;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CancellationException;
+import com.records.hs.attachment.ScanTreeReader;
+import java.util.concurrent.atomic.AtomicLong;
+import com.records.hs.util.Utilities;
+
+/**
+ * An importer of entries from files in the HS Records application. An import is a pipeline of three stages. A reader
+ * thread reads the file, the entries are parsed in batches, and the batches are committed to a model in file order on
+ * the calling thread. A CSV file is read in chunks that are parsed by the worker threads of a
+ * {@link ParallelCsvParser}, and a JSON Lines file is read and parsed by a {@link JsonLinesReader} on the reader
+ * thread. The stages are connected by bounded queues, so the file is read and parsed while earlier batches are being
+ * committed, and the memory used by an import does not depend on the size of the file, beyond the entries that are
+ * added to the model.
+ *
+ * <p>An importer inserts, merges, or keeps, depending on its {@link Mode mode}. When inserting, a line that repeats
+ * an entry that was already added by the same import is skipped, but a line whose ID belongs to a different entry is
+ * an error. When merging, a line whose ID belongs to an equal entry is skipped, without touching the model, and a
+ * line whose ID belongs to a different entry replaces that entry, so re-importing an updated file only changes the
+ * entries that actually differ. When keeping, a line whose ID already exists is skipped, whatever its entry is.</p>
+ *
+ * <p>Besides files, the entries of a scan tree may be imported from a {@link ScanTreeReader}, in which case each
+ * attachment counts as a line.</p>
+ *
+ * <p>An import may be cancelled with a cancellation flag, which is checked before each batch is committed. The number
+ * of lines committed so far is passed to a progress consumer after each batch.</p>
+ *
+ * <p>An import is all or nothing. If any line cannot be imported, every category, subcategory, and entry that was
+ * added by the import is removed again, every entry that was replaced is restored, and the latest ID of the model is
+ * restored. The same happens if the import is cancelled.</p>
+ *
+ * <p>An importer is not thread safe. While an import is running, its model is modified on the calling thread, so the
+ * model must not be used by any other thread until the import has finished.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class EntryImporter {
+    /**
+     * A mode of an entry importer.
+     */
+    public enum Mode {
+        /**
+         * The mode in which only new entries are added, and an existing ID is an error.
+         */
+        INSERT,
+
+        /**
+         * The mode in which new entries are added, and existing entries that differ are replaced.
+         */
+        MERGE,
+
+        /**
+         * The mode in which new entries are added, and existing entries are kept as they are.
+         */
+        KEEP
+    } //Mode
+
+    /**
+     * A source of the entries of an import.
+     */
+    @FunctionalInterface
+    private interface Source {
+        /**
+         * Reads the entries of this source, passing each batch to the specified consumer.
+         *
+         * @param consumer the consumer to be used in the operation
+         * @throws IOException if an I/O error occurs or an entry cannot be read
+         */
+        void read(ParallelCsvParser.ChunkConsumer consumer) throws IOException;
+    } //Source
+
+    /**
+     * A batch of the entries of an import, which were parsed from the lines with the specified numbers. The last batch
+     * of an import has no entries, and holds the failure of the reader stage, if any.
+     */
+    private record Batch(List<Entry> entries, long[] lineNumbers, Throwable failure) {
+    } //Batch
+
+    /**
+     * The number of entries read from a JSON Lines file before they are committed.
+     */
+    private static final int JSON_LINES_BATCH_SIZE;
+
+    /**
+     * The number of batches that may be waiting to be committed.
+     */
+    private static final int QUEUE_CAPACITY;
+
+    /**
+     * The name of the reader thread.
+     */
+    private static final String READER_NAME;
+
+    /**
+     * The model of this entry importer.
+     */
+    private final Model model;
+
+    /**
+     * The parser of this entry importer.
+     */
+    private final ParallelCsvParser parser;
+
+    /**
+     * The mode of this entry importer.
+     */
+    private final Mode mode;
+
+    /**
+     * The latest ID of the model of this entry importer before the import.
+     */
+    private final String previousLatestId;
+
+    /**
+     * The IDs of the entries added by this entry importer.
+     */
+    private final Set<String> addedIds;
+
+    /**
+     * The categories added by this entry importer.
+     */
+    private final Set<String> addedCategories;
+
+    /**
+     * The subcategories added by this entry importer, by category.
+     */
+    private final Map<String, Set<String>> addedSubcategories;
+
+    /**
+     * The mapping from IDs to original entries of the entries replaced by this entry importer.
+     */
+    private final Map<String, Entry> replacedEntries;
+
+    /**
+     * The number of lines skipped by this entry importer, because their entries were unchanged.
+     */
+    private long unchangedCount;
+
+    static {
+        JSON_LINES_BATCH_SIZE = 4_096;
+
+        QUEUE_CAPACITY = 2;
+
+        READER_NAME = "hs-records-import-reader";
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code EntryImporter} object with the specified model, parser, and mode.
+     *
+     * @param model the model to be used in construction
+     * @param parser the parser to be used in construction
+     * @param mode the mode to be used in construction
+     */
+    private EntryImporter(Model model, ParallelCsvParser parser, Mode mode) {
+        this.model = model;
+        this.parser = parser;
+        this.mode = mode;
+        this.previousLatestId = model.getLatestId();
+        this.addedIds = new HashSet<>();
+        this.addedCategories = new HashSet<>();
+        this.addedSubcategories = new HashMap<>();
+        this.replacedEntries = new HashMap<>();
+        this.unchangedCount = 0;
+    } //EntryImporter
+
+    /**
+     * Returns a new {@code EntryImporter} object with the specified model, the insert mode, and a parser whose
+     * parallelism and chunk size are taken from the settings.
+     *
+     * @param model the model to be used in the operation
+     * @return a new {@code EntryImporter} object with the specified model
+     * @throws NullPointerException if the specified model is {@code null}
+     */
+    public static EntryImporter newEntryImporter(Model model) {
+        return EntryImporter.newEntryImporter(model, Mode.INSERT);
+    } //newEntryImporter
+
+    /**
+     * Returns a new {@code EntryImporter} object with the specified model and mode, and a parser whose parallelism and
+     * chunk size are taken from the settings.
+     *
+     * @param model the model to be used in the operation
+     * @param mode the mode to be used in the operation
+     * @return a new {@code EntryImporter} object with the specified model and mode
+     * @throws NullPointerException if the specified model or mode is {@code null}
+     */
+    public static EntryImporter newEntryImporter(Model model, Mode mode) {
+        ParallelCsvParser parser;
+
+        parser = ParallelCsvParser.newParallelCsvParser();
+
+        return EntryImporter.newEntryImporter(model, parser, mode);
+    } //newEntryImporter
+
+    /**
+     * Returns a new {@code EntryImporter} object with the specified model, parser, and mode.
+     *
+     * @param model the model to be used in the operation
+     * @param parser the parser to be used in the operation
+     * @param mode the mode to be used in the operation
+     * @return a new {@code EntryImporter} object with the specified model, parser, and mode
+     * @throws NullPointerException if the specified model, parser, or mode is {@code null}
+     */
+    public static EntryImporter newEntryImporter(Model model, ParallelCsvParser parser, Mode mode) {
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(parser, "the specified parser is null");
+
+        Objects.requireNonNull(mode, "the specified mode is null");
+
+        return new EntryImporter(model, parser, mode);
+    } //newEntryImporter
+
+    /**
+     * Returns the number of entries added by this entry importer.
+     *
+     * @return the number of entries added by this entry importer
+     */
+    public int getAddedCount() {
+        return this.addedIds.size();
+    } //getAddedCount
+
+    /**
+     * Returns the number of existing entries replaced by this entry importer. Only an entry importer in the merge mode
+     * replaces entries.
+     *
+     * @return the number of existing entries replaced by this entry importer
+     */
+    public int getUpdatedCount() {
+        return this.replacedEntries.size();
+    } //getUpdatedCount
+
+    /**
+     * Returns the number of lines skipped by this entry importer, because their entries were unchanged. Only an entry
+     * importer in the merge mode skips unchanged entries, and only an entry importer in the keep mode skips every
+     * entry whose ID already exists.
+     *
+     * @return the number of lines skipped by this entry importer, because their entries were unchanged
+     */
+    public long getUnchangedCount() {
+        return this.unchangedCount;
+    } //getUnchangedCount
+
+    /**
+     * Imports the CSV file at the specified path. If the file cannot be fully imported, or the import is cancelled, the
+     * import is rolled back before the exception is thrown. The load listeners of the model of this entry importer are
+     * notified once, whether or not the import was successful.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the number of entries added by this entry importer
+     * @throws NullPointerException if the specified path, progress consumer, or cancellation flag is {@code null}
+     * @throws CancellationException if the import was cancelled
+     * @throws EntryFormatException if a line of the file cannot be imported
+     * @throws IOException if an I/O error occurs
+     */
+    public int importCsv(Path path, LongConsumer progressConsumer, BooleanSupplier cancelled) throws IOException {
+        Objects.requireNonNull(path, "the specified path is null");
+
+        return this.importEntries(consumer -> this.parser.parse(path, consumer), progressConsumer, cancelled);
+    } //importCsv
+
+    /**
+     * Imports the JSON Lines file at the specified path. If the file cannot be fully imported, or the import is
+     * cancelled, the import is rolled back before the exception is thrown. The load listeners of the model of this
+     * entry importer are notified once, whether or not the import was successful.
+     *
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the number of entries added by this entry importer
+     * @throws NullPointerException if the specified path, progress consumer, or cancellation flag is {@code null}
+     * @throws CancellationException if the import was cancelled
+     * @throws EntryFormatException if a line of the file cannot be imported
+     * @throws IOException if an I/O error occurs
+     */
+    public int importJsonLines(Path path, LongConsumer progressConsumer, BooleanSupplier cancelled)
+            throws IOException {
+        Objects.requireNonNull(path, "the specified path is null");
+
+        return this.importEntries(consumer -> EntryImporter.readJsonLines(path, consumer), progressConsumer,
+                                  cancelled);
+    } //importJsonLines
+
+    /**
+     * Imports the entries of the scan tree of the specified reader. Each attachment of the scan tree counts as a line,
+     * in the order the attachments were read. If the scan tree cannot be fully imported, or the import is cancelled,
+     * the import is rolled back before the exception is thrown. Otherwise, the latest ID of the model of this entry
+     * importer becomes the greatest of its previous latest ID and the IDs that were added, as the attachments are not
+     * read in the order their IDs were assigned. The load listeners of the model are notified once, whether or not the
+     * import was successful.
+     *
+     * @param reader the reader to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the number of entries added by this entry importer
+     * @throws NullPointerException if the specified reader, progress consumer, or cancellation flag is {@code null}
+     * @throws CancellationException if the import was cancelled
+     * @throws EntryFormatException if an attachment of the scan tree cannot be imported
+     * @throws IOException if an I/O error occurs
+     */
+    public int importTree(ScanTreeReader reader, LongConsumer progressConsumer, BooleanSupplier cancelled)
+            throws IOException {
+        AtomicLong lineCount;
+        int addedCount;
+        String latestId;
+
+        Objects.requireNonNull(reader, "the specified reader is null");
+
+        lineCount = new AtomicLong();
+
+        addedCount = this.importEntries(consumer -> reader.read(entries -> {
+            long[] lineNumbers = new long[entries.size()];
+
+            for (int i = 0; i < lineNumbers.length; i++) {
+                lineNumbers[i] = lineCount.incrementAndGet();
+            } //end for
+
+            consumer.accept(entries, lineNumbers);
+        }), progressConsumer, cancelled);
+
+        latestId = this.previousLatestId;
+
+        for (String id : this.addedIds) {
+            if ((latestId == null) || (Utilities.compareIds(id, latestId) > 0)) {
+                latestId = id;
+            } //end if
+        } //end for
+
+        this.model.setLatestId(latestId);
+
+        return addedCount;
+    } //importTree
+
+    /**
+     * Reads the entries of the JSON Lines file at the specified path, passing each batch to the specified consumer.
+     *
+     * @param path the path to be used in the operation
+     * @param consumer the consumer to be used in the operation
+     * @throws JsonLinesFormatException if a line of the file does not hold a valid entry
+     * @throws IOException if an I/O error occurs
+     */
+    private static void readJsonLines(Path path, ParallelCsvParser.ChunkConsumer consumer) throws IOException {
+        Reader reader;
+        List<Entry> entries;
+        long[] lineNumbers;
+        Entry entry;
+
+        reader = new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8);
+
+        entries = new ArrayList<>(JSON_LINES_BATCH_SIZE);
+
+        lineNumbers = new long[JSON_LINES_BATCH_SIZE];
+
+        try (JsonLinesReader jsonLinesReader = JsonLinesReader.newJsonLinesReader(reader)) {
+            while ((entry = jsonLinesReader.nextEntry()) != null) {
+                lineNumbers[entries.size()] = jsonLinesReader.getEntryLineNumber();
+
+                entries.add(entry);
+
+                if (entries.size() == JSON_LINES_BATCH_SIZE) {
+                    consumer.accept(entries, lineNumbers);
+
+                    entries = new ArrayList<>(JSON_LINES_BATCH_SIZE);
+
+                    lineNumbers = new long[JSON_LINES_BATCH_SIZE];
+                } //end if
+            } //end while
+        } //end try
+
+        if (!entries.isEmpty()) {
+            consumer.accept(entries, lineNumbers);
+        } //end if
+    } //readJsonLines
+
+    /**
+     * Imports the entries of the specified source. The source is read on a reader thread, and its batches are
+     * committed on the calling thread. If they cannot all be imported, or the import is cancelled, the import is
+     * rolled back before the exception is thrown. The import runs in a bulk load of the model of this entry importer,
+     * so the load listeners of the model are notified once, whether or not the import was successful.
+     *
+     * @param source the source to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return the number of entries added by this entry importer
+     * @throws NullPointerException if the specified progress consumer or cancellation flag is {@code null}
+     * @throws CancellationException if the import was cancelled
+     * @throws IOException if an I/O error occurs or an entry cannot be imported
+     */
+    private int importEntries(Source source, LongConsumer progressConsumer, BooleanSupplier cancelled)
+            throws IOException {
+        BlockingQueue<Batch> queue;
+        Thread reader;
+        Model.BulkLoad bulkLoad;
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        reader = new Thread(() -> EntryImporter.readBatches(source, queue), READER_NAME);
+
+        reader.setDaemon(true);
+
+        bulkLoad = this.model.beginBulkLoad();
+
+        reader.start();
+
+        try {
+            this.commitBatches(queue, progressConsumer, cancelled);
+        } catch (IOException | RuntimeException e) {
+            this.rollback();
+
+            throw e;
+        } finally {
+            reader.interrupt();
+
+            bulkLoad.close();
+        } //end try catch finally
+
+        return this.addedIds.size();
+    } //importEntries
+
+    /**
+     * Reads the batches of the specified source into the specified queue. This is the reader stage of an import. Once
+     * the source has been read, or has failed, a last batch without entries is put into the queue. If the thread is
+     * interrupted, because the commit stage has stopped, reading stops without a last batch.
+     *
+     * @param source the source to be used in the operation
+     * @param queue the queue to be used in the operation
+     */
+    private static void readBatches(Source source, BlockingQueue<Batch> queue) {
+        Batch lastBatch;
+
+        try {
+            source.read((entries, lineNumbers) -> {
+                try {
+                    queue.put(new Batch(entries, lineNumbers, null));
+                } catch (InterruptedException e) {
+                    Thread.currentThread()
+                          .interrupt();
+
+                    throw new InterruptedIOException("the import was stopped");
+                } //end try catch
+            });
+
+            lastBatch = new Batch(null, null, null);
+        } catch (IOException | RuntimeException | Error e) {
+            lastBatch = new Batch(null, null, e);
+        } //end try catch
+
+        try {
+            queue.put(lastBatch);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } //end try catch
+    } //readBatches
+
+    /**
+     * Commits the batches in the specified queue until the last batch is reached. This is the commit stage of an
+     * import. The specified cancellation flag is checked before each batch is committed, and the number of lines
+     * committed so far is passed to the specified progress consumer after each batch.
+     *
+     * @param queue the queue to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @throws CancellationException if the import was cancelled
+     * @throws IOException if the reader stage failed, a batch cannot be committed, or the thread is interrupted
+     */
+    private void commitBatches(BlockingQueue<Batch> queue, LongConsumer progressConsumer, BooleanSupplier cancelled)
+            throws IOException {
+        Batch batch;
+        long count = 0;
+        Throwable failure;
+
+        while (true) {
+            try {
+                batch = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+
+                throw new InterruptedIOException("the import was interrupted");
+            } //end try catch
+
+            if (batch.entries() == null) {
+                break;
+            } //end if
+
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException("the import was cancelled");
+            } //end if
+
+            this.commit(batch.entries(), batch.lineNumbers());
+
+            count += batch.entries()
+                          .size();
+
+            progressConsumer.accept(count);
+        } //end while
+
+        failure = batch.failure();
+
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } //end if
+    } //commitBatches
+
+    /**
+     * Commits the specified entries, which were parsed from the lines with the specified numbers, to the model of
+     * this entry importer. Categories and subcategories that the model does not contain yet are added first.
+     *
+     * @param entries the entries to be used in the operation
+     * @param lineNumbers the line numbers of the entries to be used in the operation
+     * @throws EntryFormatException if an entry has an ID that the model already contains, and this entry importer is
+     * in the insert mode
+     */
+    void commit(List<Entry> entries, long[] lineNumbers) throws EntryFormatException {
+        Entry entry;
+        String id;
+        Optional<Entry> currentEntry;
+
+        for (int i = 0; i < entries.size(); i++) {
+            entry = entries.get(i);
+
+            id = entry.id();
+
+            currentEntry = this.model.findEntryWithId(id);
+
+            if (currentEntry.isEmpty()) {
+                this.addCategories(entry);
+
+                this.model.addEntry(entry);
+
+                this.addedIds.add(id);
+            } else if (this.mode == Mode.MERGE) {
+                this.mergeEntry(currentEntry.get(), entry);
+            } else if (this.mode == Mode.KEEP) {
+                this.unchangedCount++;
+            } else if (!this.addedIds.contains(id) || !currentEntry.get()
+                                                                   .equals(entry)) {
+                String reason = String.format("has an ID that already exists (%s)", id);
+
+                throw new EntryFormatException(lineNumbers[i], reason);
+            } //end if
+        } //end for
+    } //commit
+
+    /**
+     * Merges the specified entry into the model of this entry importer, in place of the specified current entry with
+     * the same ID. If they are equal, the model is not touched.
+     *
+     * @param currentEntry the current entry to be used in the operation
+     * @param entry the entry to be used in the operation
+     */
+    private void mergeEntry(Entry currentEntry, Entry entry) {
+        String id;
+
+        if (currentEntry.equals(entry)) {
+            this.unchangedCount++;
+
+            return;
+        } //end if
+
+        id = entry.id();
+
+        this.addCategories(entry);
+
+        this.model.editEntry(id, entry);
+
+        if (!this.addedIds.contains(id)) {
+            this.replacedEntries.putIfAbsent(id, currentEntry);
+        } //end if
+    } //mergeEntry
+
+    /**
+     * Adds the category and subcategory of the specified entry to the model of this entry importer, if it does not
+     * contain them yet, and remembers them for a rollback.
+     *
+     * @param entry the entry to be used in the operation
+     */
+    private void addCategories(Entry entry) {
+        String category;
+        String subcategory;
+
+        category = entry.category();
+
+        subcategory = entry.subcategory();
+
+        if (this.model.addCategory(category)) {
+            this.addedCategories.add(category);
+        } //end if
+
+        if (this.model.addSubcategory(category, subcategory) && !this.addedCategories.contains(category)) {
+            this.addedSubcategories.computeIfAbsent(category, key -> new HashSet<>())
+                                   .add(subcategory);
+        } //end if
+    } //addCategories
+
+    /**
+     * Removes every category, subcategory, and entry added by this entry importer from its model, restores every
+     * entry replaced by this entry importer, and restores the latest ID of the model.
+     */
+    void rollback() {
+        for (String id : this.addedIds) {
+            this.model.deleteEntry(id);
+        } //end for
+
+        this.replacedEntries.forEach(this.model::editEntry);
+
+        this.addedSubcategories.forEach((category, subcategories) -> {
+            for (String subcategory : subcategories) {
+                this.model.deleteSubcategory(category, subcategory);
+            } //end for
+        });
+
+        for (String category : this.addedCategories) {
+            this.model.deleteCategory(category);
+        } //end for
+
+        this.model.setLatestId(this.previousLatestId);
+
+        this.addedIds.clear();
+
+        this.replacedEntries.clear();
+
+        this.unchangedCount = 0;
+
+        this.addedCategories.clear();
+
+        this.addedSubcategories.clear();
+    } //rollback
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+package com.records.hs.transfer;
+
+import java.io.Writer;
+import com.records.hs.model.Entry;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A set of methods for writing entries as the lines of a JSON Lines file in the HS Records application. Each line
+ * holds one JSON object with the members {@code id}, {@code type}, {@code category}, {@code subcategory}, and
+ * {@code tags}, the last of which is an array of strings. For example:
+ *
+ * <pre>{"id":"1","type":"PHOTO","category":"SPORTS","subcategory":"FOOTBALL","tags":["2019","HOMECOMING"]}</pre>
+ *
+ * <p>A deleted entry may be written as a tombstone, which holds only its ID and the member {@code deleted}. For
+ * example:</p>
+ *
+ * <pre>{"id":"1","deleted":true}</pre>
+ *
+ * <p>Tombstones are only written to files of changes, which are export-only. {@link JsonLinesReader} rejects them.</p>
+ *
+ * <p>Strings are written straight to the writer in runs of characters that need no escaping, so writing an entry
+ * does not allocate.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class JsonLinesFormat {
+    /**
+     * The hexadecimal digits used in unicode escapes.
+     */
+    private static final char[] HEX_DIGITS;
+
+    static {
+        HEX_DIGITS = "0123456789abcdef".toCharArray();
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code JsonLinesFormat} object.
+     *
+     * @throws AssertionError if an object of type {@code JsonLinesFormat} attempts to be instantiated
+     */
+    private JsonLinesFormat() {
+        throw new AssertionError("an object of type JsonLinesFormat cannot be instantiated");
+    } //JsonLinesFormat
+
+    /**
+     * Writes the specified entry as a line of a JSON Lines file to the specified writer. The line ends with LF.
+     *
+     * @param writer the writer to be used in the operation
+     * @param entry the entry to be used in the operation
+     * @throws NullPointerException if the specified writer or entry is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeEntry(Writer writer, Entry entry) throws IOException {
+        boolean first = true;
+
+        Objects.requireNonNull(writer, "the specified writer is null");
+
+        Objects.requireNonNull(entry, "the specified entry is null");
+
+        writer.write("{\"id\":");
+
+        JsonLinesFormat.writeString(writer, entry.id());
+
+        writer.write(",\"type\":\"");
+
+        writer.write(entry.type()
+                          .name());
+
+        writer.write("\",\"category\":");
+
+        JsonLinesFormat.writeString(writer, entry.category());
+
+        writer.write(",\"subcategory\":");
+
+        JsonLinesFormat.writeString(writer, entry.subcategory());
+
+        writer.write(",\"tags\":[");
+
+        for (String tag : entry.tags()) {
+            if (first) {
+                first = false;
+            } else {
+                writer.write(',');
+            } //end if
+
+            JsonLinesFormat.writeString(writer, tag);
+        } //end for
+
+        writer.write("]}\n");
+    } //writeEntry
+
+    /**
+     * Writes a tombstone for the deleted entry with the specified ID as a line of a JSON Lines file to the specified
+     * writer. The line ends with LF.
+     *
+     * @param writer the writer to be used in the operation
+     * @param id the ID to be used in the operation
+     * @throws NullPointerException if the specified writer or ID is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeTombstone(Writer writer, String id) throws IOException {
+        Objects.requireNonNull(writer, "the specified writer is null");
+
+        Objects.requireNonNull(id, "the specified ID is null");
+
+        writer.write("{\"id\":");
+
+        JsonLinesFormat.writeString(writer, id);
+
+        writer.write(",\"deleted\":true}\n");
+    } //writeTombstone
+
+    /**
+     * Writes the specified {@code String} as a JSON string to the specified writer. Double quotes, backslashes, and
+     * control characters are escaped.
+     *
+     * @param writer the writer to be used in the operation
+     * @param string the {@code String} to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeString(Writer writer, String string) throws IOException {
+        int length;
+        int start = 0;
+        char c;
+
+        length = string.length();
+
+        writer.write('"');
+
+        for (int i = 0; i < length; i++) {
+            c = string.charAt(i);
+
+            if ((c >= 0x20) && (c != '"') && (c != '\\')) {
+                continue;
+            } //end if
+
+            if (i > start) {
+                writer.write(string, start, i - start);
+            } //end if
+
+            JsonLinesFormat.writeEscape(writer, c);
+
+            start = i + 1;
+        } //end for
+
+        if (start < length) {
+            writer.write(string, start, length - start);
+        } //end if
+
+        writer.write('"');
+    } //writeString
+
+    /**
+     * Writes the escape sequence of the specified character to the specified writer.
+     *
+     * @param writer the writer to be used in the operation
+     * @param c the character to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeEscape(Writer writer, char c) throws IOException {
+        writer.write('\\');
+
+        switch (c) {
+            case '"', '\\' -> writer.write(c);
+            case '\n' -> writer.write('n');
+            case '\r' -> writer.write('r');
+            case '\t' -> writer.write('t');
+            case '\b' -> writer.write('b');
+            case '\f' -> writer.write('f');
+            default -> {
+                writer.write("u00");
+
+                writer.write(HEX_DIGITS[c >> 4]);
+
+                writer.write(HEX_DIGITS[c & 0xF]);
+            }
+        } //end switch
+    } //writeEscape
+}
\ No newline at end of file
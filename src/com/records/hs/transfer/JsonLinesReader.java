@@ -0,0 +1,627 @@
+package com.records.hs.transfer;
+
+import java.io.Closeable;
+import java.io.Reader;
+import java.util.Objects;
+import com.records.hs.model.Entry;
+import java.io.IOException;
+import com.records.hs.model.Type;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.Arrays;
+
+/**
+ * A reader of the lines of a JSON Lines file in the HS Records application. Each line that is not blank must hold one
+ * JSON object in the form written by {@link JsonLinesFormat}. The members may appear in any order, members with other
+ * names are skipped, and the {@code tags} member may be omitted.
+ *
+ * <p>A tombstone, whose {@code deleted} member is {@code true}, is reported as an error that names its line. Files of
+ * changes, which hold tombstones, are export-only, as an import only adds and replaces entries.</p>
+ *
+ * <p>The reader is a hand-written tokenizer. Characters are read into a buffer that is reused, and strings are
+ * decoded into a scratch array that is also reused, so the only objects created per line are those of the entry
+ * itself.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class JsonLinesReader implements Closeable {
+    /**
+     * The size of the buffer of a JSON Lines reader, in characters.
+     */
+    private static final int BUFFER_SIZE;
+
+    /**
+     * The value of a character that marks the end of the input.
+     */
+    private static final int END;
+
+    static {
+        BUFFER_SIZE = 65_536;
+
+        END = -1;
+    } //static
+
+    /**
+     * The reader of this JSON Lines reader.
+     */
+    private final Reader reader;
+
+    /**
+     * The buffer of this JSON Lines reader.
+     */
+    private final char[] buffer;
+
+    /**
+     * The index of the next character in the buffer of this JSON Lines reader.
+     */
+    private int index;
+
+    /**
+     * The number of characters in the buffer of this JSON Lines reader.
+     */
+    private int limit;
+
+    /**
+     * The number of the line that this JSON Lines reader is on.
+     */
+    private long lineNumber;
+
+    /**
+     * The line number of the entry last returned by this JSON Lines reader.
+     */
+    private long entryLineNumber;
+
+    /**
+     * The scratch array of this JSON Lines reader, which holds the characters of a string while it is decoded.
+     */
+    private char[] scratch;
+
+    /**
+     * The number of characters in the scratch array of this JSON Lines reader.
+     */
+    private int scratchLength;
+
+    /**
+     * Constructs a newly allocated {@code JsonLinesReader} object with the specified reader.
+     *
+     * @param reader the reader to be used in construction
+     */
+    private JsonLinesReader(Reader reader) {
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.index = 0;
+        this.limit = 0;
+        this.lineNumber = 1;
+        this.entryLineNumber = 0;
+        this.scratch = new char[256];
+        this.scratchLength = 0;
+    } //JsonLinesReader
+
+    /**
+     * Returns a new {@code JsonLinesReader} object with the specified reader. The specified reader does not need to
+     * be buffered. It is closed when the returned JSON Lines reader is closed.
+     *
+     * @param reader the reader to be used in the operation
+     * @return a new {@code JsonLinesReader} object with the specified reader
+     * @throws NullPointerException if the specified reader is {@code null}
+     */
+    public static JsonLinesReader newJsonLinesReader(Reader reader) {
+        Objects.requireNonNull(reader, "the specified reader is null");
+
+        return new JsonLinesReader(reader);
+    } //newJsonLinesReader
+
+    /**
+     * Returns the line number of the entry last returned by this JSON Lines reader.
+     *
+     * @return the line number of the entry last returned by this JSON Lines reader
+     */
+    public long getEntryLineNumber() {
+        return this.entryLineNumber;
+    } //getEntryLineNumber
+
+    /**
+     * Returns the next entry of this JSON Lines reader. Blank lines are skipped. If there are no more entries,
+     * {@code null} is returned.
+     *
+     * @return the next entry of this JSON Lines reader, or {@code null} if there are no more entries
+     * @throws JsonLinesFormatException if the next line does not hold a valid entry, or is a tombstone
+     * @throws IOException if an I/O error occurs
+     */
+    public Entry nextEntry() throws IOException {
+        int c;
+
+        while (true) {
+            c = this.peekSpace();
+
+            if (c == END) {
+                return null;
+            } else if (c == '\n') {
+                this.index++;
+
+                this.lineNumber++;
+            } else if (c == '\r') {
+                this.index++;
+            } else {
+                break;
+            } //end if
+        } //end while
+
+        this.entryLineNumber = this.lineNumber;
+
+        return this.readEntry();
+    } //nextEntry
+
+    /**
+     * Reads an entry from the current line of this JSON Lines reader, including the line break after it. A tombstone
+     * is rejected, as it cannot be turned into an entry.
+     *
+     * @return the entry that was read
+     * @throws JsonLinesFormatException if the current line does not hold a valid entry
+     * @throws IOException if an I/O error occurs
+     */
+    private Entry readEntry() throws IOException {
+        String id = null;
+        String typeString = null;
+        String category = null;
+        String subcategory = null;
+        Set<String> tags = Set.of();
+        boolean deleted = false;
+        Type type;
+        int c;
+
+        this.expect('{', "does not start with a JSON object");
+
+        if (this.peekSpace() == '}') {
+            this.index++;
+        } else {
+            do {
+                this.expect('"', "has a member name that is not a string");
+
+                this.readString();
+
+                this.expect(':', "has a member name that is not followed by a colon");
+
+                if (this.scratchEquals("id")) {
+                    id = this.readStringValue("id");
+                } else if (this.scratchEquals("type")) {
+                    typeString = this.readStringValue("type");
+                } else if (this.scratchEquals("category")) {
+                    category = this.readStringValue("category");
+                } else if (this.scratchEquals("subcategory")) {
+                    subcategory = this.readStringValue("subcategory");
+                } else if (this.scratchEquals("tags")) {
+                    tags = this.readTags();
+                } else if (this.scratchEquals("deleted")) {
+                    deleted = (this.peekSpace() == 't');
+
+                    this.skipValue();
+                } else {
+                    this.skipValue();
+                } //end if
+
+                c = this.nextSpace();
+            } while (c == ',');
+
+            if (c != '}') {
+                throw this.error("has a member that is not followed by a comma or a closing brace");
+            } //end if
+        } //end if
+
+        c = this.nextSpace();
+
+        if (c == '\r') {
+            c = this.next();
+        } //end if
+
+        if (c == '\n') {
+            this.lineNumber++;
+        } else if (c != END) {
+            throw this.error("has characters after its JSON object");
+        } //end if
+
+        if (deleted) {
+            throw this.error("is a tombstone of a deleted entry, which cannot be imported, as files of changes are"
+                             + " export-only");
+        } else if (id == null) {
+            throw this.error("is missing the id member");
+        } else if (typeString == null) {
+            throw this.error("is missing the type member");
+        } else if (category == null) {
+            throw this.error("is missing the category member");
+        } else if (subcategory == null) {
+            throw this.error("is missing the subcategory member");
+        } else if (id.isBlank()) {
+            throw this.error("has an ID that is empty");
+        } //end if
+
+        try {
+            type = Type.valueOf(typeString.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw this.error(String.format("has a type that is invalid (%s)", typeString));
+        } //end try catch
+
+        return new Entry(id, type, category, subcategory, tags);
+    } //readEntry
+
+    /**
+     * Reads the value of the member with the specified name, which must be a string.
+     *
+     * @param name the name of the member to be used in the operation
+     * @return the value that was read
+     * @throws JsonLinesFormatException if the value is not a valid string
+     * @throws IOException if an I/O error occurs
+     */
+    private String readStringValue(String name) throws IOException {
+        this.expect('"', String.format("has a %s member that is not a string", name));
+
+        this.readString();
+
+        return new String(this.scratch, 0, this.scratchLength);
+    } //readStringValue
+
+    /**
+     * Reads the value of the tags member, which must be an array of strings. Tags are trimmed, and empty tags are
+     * ignored.
+     *
+     * @return the tags that were read
+     * @throws JsonLinesFormatException if the value is not a valid array of strings
+     * @throws IOException if an I/O error occurs
+     */
+    private Set<String> readTags() throws IOException {
+        Set<String> tags;
+        String tag;
+        int c;
+
+        this.expect('[', "has a tags member that is not an array");
+
+        if (this.peekSpace() == ']') {
+            this.index++;
+
+            return Set.of();
+        } //end if
+
+        tags = new HashSet<>();
+
+        do {
+            this.expect('"', "has a tag that is not a string");
+
+            this.readString();
+
+            tag = new String(this.scratch, 0, this.scratchLength).trim();
+
+            if (!tag.isEmpty()) {
+                tags.add(tag);
+            } //end if
+
+            c = this.nextSpace();
+        } while (c == ',');
+
+        if (c != ']') {
+            throw this.error("has a tag that is not followed by a comma or a closing bracket");
+        } //end if
+
+        return tags;
+    } //readTags
+
+    /**
+     * Reads the rest of a string whose opening double quote has already been read into the scratch array of this JSON
+     * Lines reader, unescaping it. Runs of characters that need no unescaping are copied in bulk.
+     *
+     * @throws JsonLinesFormatException if the string is not valid
+     * @throws IOException if an I/O error occurs
+     */
+    private void readString() throws IOException {
+        int start;
+        char b;
+        int c;
+
+        this.scratchLength = 0;
+
+        while (true) {
+            if (this.peek() == END) {
+                throw this.error("has a string that is not closed");
+            } //end if
+
+            start = this.index;
+
+            while ((this.index < this.limit) && ((b = this.buffer[this.index]) != '"') && (b != '\\')
+                   && (b >= 0x20)) {
+                this.index++;
+            } //end while
+
+            this.appendScratch(this.buffer, start, this.index - start);
+
+            if (this.index == this.limit) {
+                continue;
+            } //end if
+
+            c = this.next();
+
+            if (c == '"') {
+                return;
+            } else if (c == '\\') {
+                c = this.readEscape();
+            } else if (c == '\n') {
+                throw this.error("has a string that is not closed");
+            } else {
+                throw this.error("has a control character in a string");
+            } //end if
+
+            if (this.scratchLength == this.scratch.length) {
+                this.scratch = Arrays.copyOf(this.scratch, 2 * this.scratch.length);
+            } //end if
+
+            this.scratch[this.scratchLength] = (char) c;
+
+            this.scratchLength++;
+        } //end while
+    } //readString
+
+    /**
+     * Appends the specified number of characters of the specified array, starting at the specified index, to the
+     * scratch array of this JSON Lines reader.
+     *
+     * @param source the source array to be used in the operation
+     * @param start the start index to be used in the operation
+     * @param count the number of characters to be used in the operation
+     */
+    private void appendScratch(char[] source, int start, int count) {
+        int newLength = this.scratchLength + count;
+
+        if (newLength > this.scratch.length) {
+            this.scratch = Arrays.copyOf(this.scratch, Math.max(newLength, 2 * this.scratch.length));
+        } //end if
+
+        System.arraycopy(source, start, this.scratch, this.scratchLength, count);
+
+        this.scratchLength = newLength;
+    } //appendScratch
+
+    /**
+     * Reads the rest of an escape sequence whose backslash has already been read.
+     *
+     * @return the character that the escape sequence stands for
+     * @throws JsonLinesFormatException if the escape sequence is not valid
+     * @throws IOException if an I/O error occurs
+     */
+    private int readEscape() throws IOException {
+        int c;
+        int value = 0;
+        int digit;
+
+        c = this.next();
+
+        switch (c) {
+            case '"', '\\', '/' -> {
+                return c;
+            }
+            case 'n' -> {
+                return '\n';
+            }
+            case 'r' -> {
+                return '\r';
+            }
+            case 't' -> {
+                return '\t';
+            }
+            case 'b' -> {
+                return '\b';
+            }
+            case 'f' -> {
+                return '\f';
+            }
+            case 'u' -> {
+                for (int i = 0; i < 4; i++) {
+                    c = this.next();
+
+                    digit = (c == END) ? -1 : Character.digit(c, 16);
+
+                    if (digit < 0) {
+                        throw this.error("has a unicode escape that is not valid");
+                    } //end if
+
+                    value = (value << 4) | digit;
+                } //end for
+
+                return value;
+            }
+            default -> throw this.error("has an escape sequence that is not valid");
+        } //end switch
+    } //readEscape
+
+    /**
+     * Skips a value of any type.
+     *
+     * @throws JsonLinesFormatException if the value is not valid
+     * @throws IOException if an I/O error occurs
+     */
+    private void skipValue() throws IOException {
+        int c;
+        char close;
+
+        c = this.nextSpace();
+
+        if (c == '"') {
+            this.readString();
+        } else if ((c == '{') || (c == '[')) {
+            close = (c == '{') ? '}' : ']';
+
+            if (this.peekSpace() == close) {
+                this.index++;
+
+                return;
+            } //end if
+
+            do {
+                if (close == '}') {
+                    this.expect('"', "has a member name that is not a string");
+
+                    this.readString();
+
+                    this.expect(':', "has a member name that is not followed by a colon");
+                } //end if
+
+                this.skipValue();
+
+                c = this.nextSpace();
+            } while (c == ',');
+
+            if (c != close) {
+                throw this.error("has a value that is not closed");
+            } //end if
+        } else if ((c == '-') || Character.isLetterOrDigit(c)) {
+            while (true) {
+                c = this.peek();
+
+                if ((c == END) || !(Character.isLetterOrDigit(c) || (c == '.') || (c == '+') || (c == '-'))) {
+                    break;
+                } //end if
+
+                this.index++;
+            } //end while
+        } else {
+            throw this.error("has a value that is not valid");
+        } //end if
+    } //skipValue
+
+    /**
+     * Determines whether or not the scratch array of this JSON Lines reader holds the specified name.
+     *
+     * @param name the name to be used in the operation
+     * @return {@code true}, if the scratch array of this JSON Lines reader holds the specified name and {@code false}
+     * otherwise
+     */
+    private boolean scratchEquals(String name) {
+        if (this.scratchLength != name.length()) {
+            return false;
+        } //end if
+
+        for (int i = 0; i < this.scratchLength; i++) {
+            if (this.scratch[i] != name.charAt(i)) {
+                return false;
+            } //end if
+        } //end for
+
+        return true;
+    } //scratchEquals
+
+    /**
+     * Reads the next character that is not a space or a tab, and checks that it is the specified character.
+     *
+     * @param expected the expected character to be used in the operation
+     * @param reason the reason to be used if the character is not the expected one
+     * @throws JsonLinesFormatException if the character is not the specified character
+     * @throws IOException if an I/O error occurs
+     */
+    private void expect(char expected, String reason) throws IOException {
+        if (this.nextSpace() != expected) {
+            throw this.error(reason);
+        } //end if
+    } //expect
+
+    /**
+     * Returns a new {@code JsonLinesFormatException} for the entry that is being read, with the specified reason.
+     *
+     * @param reason the reason to be used in the operation
+     * @return a new {@code JsonLinesFormatException} with the specified reason
+     */
+    private JsonLinesFormatException error(String reason) {
+        return new JsonLinesFormatException(this.entryLineNumber, reason);
+    } //error
+
+    /**
+     * Reads the next character that is not a space or a tab.
+     *
+     * @return the character that was read, or {@link #END} at the end of the input
+     * @throws IOException if an I/O error occurs
+     */
+    private int nextSpace() throws IOException {
+        int c;
+
+        c = this.peekSpace();
+
+        if (c != END) {
+            this.index++;
+        } //end if
+
+        return c;
+    } //nextSpace
+
+    /**
+     * Returns the next character that is not a space or a tab, without reading it.
+     *
+     * @return the next character that is not a space or a tab, or {@link #END} at the end of the input
+     * @throws IOException if an I/O error occurs
+     */
+    private int peekSpace() throws IOException {
+        int c;
+
+        while (true) {
+            c = this.peek();
+
+            if ((c != ' ') && (c != '\t')) {
+                return c;
+            } //end if
+
+            this.index++;
+        } //end while
+    } //peekSpace
+
+    /**
+     * Reads the next character.
+     *
+     * @return the character that was read, or {@link #END} at the end of the input
+     * @throws IOException if an I/O error occurs
+     */
+    private int next() throws IOException {
+        int c;
+
+        c = this.peek();
+
+        if (c != END) {
+            this.index++;
+        } //end if
+
+        return c;
+    } //next
+
+    /**
+     * Returns the next character, without reading it. The buffer of this JSON Lines reader is refilled if necessary.
+     *
+     * @return the next character, or {@link #END} at the end of the input
+     * @throws IOException if an I/O error occurs
+     */
+    private int peek() throws IOException {
+        int count;
+
+        if (this.index < this.limit) {
+            return this.buffer[this.index];
+        } //end if
+
+        do {
+            count = this.reader.read(this.buffer, 0, this.buffer.length);
+        } while (count == 0);
+
+        if (count < 0) {
+            return END;
+        } //end if
+
+        this.index = 0;
+
+        this.limit = count;
+
+        return this.buffer[0];
+    } //peek
+
+    /**
+     * Closes this JSON Lines reader and its underlying reader.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    } //close
+}
\ No newline at end of file
@@ -0,0 +1,532 @@
+package com.records.hs.transfer;
+
+import java.util.List;
+import com.records.hs.model.Entry;
+import java.io.IOException;
+import com.records.hs.util.Settings;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Deque;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.io.UncheckedIOException;
+
+/**
+ * A parser of CSV files that uses several cores in the HS Records application. A file is split into chunks of the
+ * same size, and each chunk is memory mapped and tokenized on a worker thread by a {@link CsvTokenizer}. The worker
+ * moves each end of its chunk to just after the first line break at or after it, and speculatively assumes that the
+ * chunk starts at the start of a record, so no thread but the workers reads the bytes of the file. Chunks are passed to
+ * a consumer one at a time, in file order, so entries are committed in the order of the file. Only a bounded number of
+ * chunks are parsed ahead of the consumer, so memory use does not depend on the size of the file.
+ *
+ * <p>A line break that ends a chunk may be inside a quoted field, in which case the tokenizer reaches the end of the
+ * chunk inside the last record. The rest of that chunk is still valid, so its entries are kept, and the record that
+ * was cut is parsed again, from its start through the end of the next chunk, while the chunks are merged. The
+ * speculative parse of the next chunk, which did not start at a record, is discarded. A record that is still not
+ * complete after more than 16 MiB, such as one with a quoted field that is never closed, is
+ * reported by its line number.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ParallelCsvParser {
+    /**
+     * A consumer of the chunks parsed by a parallel CSV parser.
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        /**
+         * Accepts the specified entries, which were parsed from the lines with the specified numbers.
+         *
+         * @param entries the entries to be used in the operation
+         * @param lineNumbers the line numbers of the entries to be used in the operation
+         * @throws IOException if the entries cannot be accepted
+         */
+        void accept(List<Entry> entries, long[] lineNumbers) throws IOException;
+    } //ChunkConsumer
+
+    /**
+     * A chunk that has been parsed, which ends at the specified offset of its file. If a line of the chunk could not be
+     * parsed, the chunk holds the entries before that line, and the exception for that line, whose line number is
+     * relative to the start of the chunk. If the last record of the chunk was cut by its end, the chunk holds the
+     * entries before that record, along with its offset, which is otherwise {@code -1}, and its relative line number.
+     */
+    private record Chunk(List<Entry> entries, long[] lineNumbers, long lineCount, CsvFormatException exception,
+                         long end, long tailStart, long tailLineNumber) {
+    } //Chunk
+
+    /**
+     * The largest size of a record, in bytes.
+     */
+    private static final int MAX_RECORD_SIZE;
+
+    /**
+     * The number of bytes after the end of a chunk that are first mapped to find the end of its last line.
+     */
+    private static final int SLACK_SIZE;
+
+    /**
+     * The key of the setting that determines the number of threads that parse a file.
+     */
+    private static final String PARALLELISM_KEY;
+
+    /**
+     * The key of the setting that determines the size of a chunk, in bytes.
+     */
+    private static final String CHUNK_SIZE_KEY;
+
+    /**
+     * The default size of a chunk, in bytes.
+     */
+    private static final int DEFAULT_CHUNK_SIZE;
+
+    /**
+     * The parallelism of this parallel CSV parser.
+     */
+    private final int parallelism;
+
+    /**
+     * The chunk size of this parallel CSV parser.
+     */
+    private final int chunkSize;
+
+    static {
+        PARALLELISM_KEY = "import.parallelism";
+
+        CHUNK_SIZE_KEY = "import.chunkSize";
+
+        DEFAULT_CHUNK_SIZE = 4_194_304;
+
+        MAX_RECORD_SIZE = 16_777_216;
+
+        SLACK_SIZE = 65_536;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ParallelCsvParser} object with the specified parallelism and chunk size.
+     *
+     * @param parallelism the parallelism to be used in construction
+     * @param chunkSize the chunk size to be used in construction
+     */
+    private ParallelCsvParser(int parallelism, int chunkSize) {
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    } //ParallelCsvParser
+
+    /**
+     * Returns a new {@code ParallelCsvParser} object with the specified parallelism and chunk size.
+     *
+     * @param parallelism the parallelism to be used in the operation
+     * @param chunkSize the chunk size to be used in the operation
+     * @return a new {@code ParallelCsvParser} object with the specified parallelism and chunk size
+     * @throws IllegalArgumentException if the specified parallelism or chunk size is not positive
+     */
+    public static ParallelCsvParser newParallelCsvParser(int parallelism, int chunkSize) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("the specified parallelism is not positive");
+        } //end if
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("the specified chunk size is not positive");
+        } //end if
+
+        return new ParallelCsvParser(parallelism, chunkSize);
+    } //newParallelCsvParser
+
+    /**
+     * Returns a new {@code ParallelCsvParser} object whose parallelism and chunk size are taken from the
+     * {@code import.parallelism} and {@code import.chunkSize} settings. By default, one thread is used per available
+     * processor.
+     *
+     * @return a new {@code ParallelCsvParser} object whose parallelism and chunk size are taken from the settings
+     */
+    public static ParallelCsvParser newParallelCsvParser() {
+        Runtime runtime;
+        int processorCount;
+        int parallelism;
+        int chunkSize;
+
+        runtime = Runtime.getRuntime();
+
+        processorCount = runtime.availableProcessors();
+
+        parallelism = Settings.getPositiveInt(PARALLELISM_KEY, processorCount);
+
+        chunkSize = Settings.getPositiveInt(CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+
+        return new ParallelCsvParser(parallelism, chunkSize);
+    } //newParallelCsvParser
+
+    /**
+     * Returns the parallelism of this parallel CSV parser.
+     *
+     * @return the parallelism of this parallel CSV parser
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    } //getParallelism
+
+    /**
+     * Returns the offset of the specified channel just after the first line break at or after the byte before the
+     * specified offset. The specified buffer holds the bytes of the channel from the specified base offset, and at
+     * most {@link #MAX_RECORD_SIZE} bytes are searched. If no line break is found, the specified offset is returned, so
+     * the chunks on both sides of it still agree on where one ends and the other starts.
+     *
+     * @param buffer the buffer to be used in the operation
+     * @param base the offset of the first byte of the buffer to be used in the operation
+     * @param offset the offset to be used in the operation
+     * @param size the size of the channel to be used in the operation
+     * @return the offset just after the first line break at or after the byte before the specified offset, or the
+     * specified offset if there is none
+     */
+    private static long findBoundary(ByteBuffer buffer, long base, long offset, long size) {
+        int start;
+        int end;
+
+        if ((offset == 0) || (offset >= size)) {
+            return Math.min(offset, size);
+        } //end if
+
+        start = (int) (offset - 1 - base);
+
+        end = (int) Math.min(buffer.limit(), start + (long) MAX_RECORD_SIZE);
+
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == '\n') {
+                return base + i + 1;
+            } //end if
+        } //end for
+
+        return offset;
+    } //findBoundary
+
+    /**
+     * Maps and parses the chunk of the specified channel whose nominal bounds are the specified offsets. Each bound is
+     * moved to just after the first line break at or after it, and the chunk is assumed to start at the start of a
+     * record. Only a few bytes past the end of the chunk are mapped at first, and more are only mapped if no line break
+     * is found in them.
+     *
+     * @param channel the channel to be used in the operation
+     * @param nominalStart the nominal start of the chunk to be used in the operation
+     * @param nominalEnd the nominal end of the chunk to be used in the operation
+     * @param size the size of the channel to be used in the operation
+     * @return the chunk that was parsed
+     * @throws UncheckedIOException if an I/O error occurs, or the chunk is too large to be mapped
+     */
+    private static Chunk parseChunk(FileChannel channel, long nominalStart, long nominalEnd, long size) {
+        long base;
+        long maxEnd;
+        ByteBuffer buffer;
+        long start;
+        long end;
+        ByteBuffer region;
+
+        base = Math.max(0, nominalStart - 1);
+
+        maxEnd = Math.min(size, nominalEnd - 1 + MAX_RECORD_SIZE);
+
+        buffer = ParallelCsvParser.map(channel, base, Math.min(maxEnd, nominalEnd + SLACK_SIZE));
+
+        start = ParallelCsvParser.findBoundary(buffer, base, nominalStart, size);
+
+        end = ParallelCsvParser.findBoundary(buffer, base, nominalEnd, size);
+
+        if (((start == nominalStart) || (end == nominalEnd)) && (base + buffer.limit() < maxEnd)) {
+            buffer = ParallelCsvParser.map(channel, base, maxEnd);
+
+            start = ParallelCsvParser.findBoundary(buffer, base, nominalStart, size);
+
+            end = ParallelCsvParser.findBoundary(buffer, base, nominalEnd, size);
+        } //end if
+
+        end = Math.max(start, end);
+
+        region = buffer.slice((int) (start - base), (int) (end - start));
+
+        return ParallelCsvParser.parseRegion(region, start, size);
+    } //parseChunk
+
+    /**
+     * Tokenizes and parses the records in the specified buffer, which holds the bytes of a file of the specified size
+     * from the specified offset, into a chunk. Unless the buffer reaches the end of the file, its last record is cut if
+     * the buffer does not end with a line break, or if the tokenizer reaches its end inside a quoted field.
+     *
+     * @param buffer the buffer to be used in the operation
+     * @param start the offset of the first byte of the buffer to be used in the operation
+     * @param size the size of the file to be used in the operation
+     * @return the chunk that was parsed from the specified buffer
+     */
+    private static Chunk parseRegion(ByteBuffer buffer, long start, long size) {
+        long end;
+        boolean lineEnded;
+        CsvTokenizer tokenizer;
+        List<Entry> entries;
+        long[] lineNumbers;
+        List<String> fields;
+        long lineNumber;
+        int lastStart = -1;
+        CsvFormatException exception = null;
+        long tailStart = -1;
+        long tailLineNumber = 0;
+
+        end = start + buffer.limit();
+
+        lineEnded = (buffer.limit() > 0) && (buffer.get(buffer.limit() - 1) == '\n');
+
+        tokenizer = new CsvTokenizer(buffer);
+
+        entries = new ArrayList<>();
+
+        lineNumbers = new long[16];
+
+        try {
+            while ((fields = tokenizer.nextRecord()) != null) {
+                lineNumber = tokenizer.getRecordLineNumber();
+
+                lastStart = tokenizer.getRecordStart();
+
+                entries.add(CsvFormat.parseEntry(fields, lineNumber));
+
+                if (entries.size() > lineNumbers.length) {
+                    lineNumbers = Arrays.copyOf(lineNumbers, 2 * lineNumbers.length);
+                } //end if
+
+                lineNumbers[entries.size() - 1] = lineNumber;
+            } //end while
+        } catch (CsvFormatException e) {
+            exception = e;
+        } //end try catch
+
+        if (end == size) {
+            return new Chunk(entries, lineNumbers, tokenizer.getLineCount(), exception, end, tailStart,
+                             tailLineNumber);
+        } //end if
+
+        if ((exception != null) && !tokenizer.hasRemaining()) {
+            exception = null;
+
+            tailStart = start + tokenizer.getRecordStart();
+
+            tailLineNumber = tokenizer.getRecordLineNumber();
+        } else if ((exception == null) && !lineEnded) {
+            tailStart = start + tokenizer.getRecordStart();
+
+            tailLineNumber = Math.max(tokenizer.getRecordLineNumber(), 1);
+
+            if (tokenizer.getRecordStart() == lastStart) {
+                entries.remove(entries.size() - 1);
+            } //end if
+        } //end if
+
+        return new Chunk(entries, lineNumbers, tokenizer.getLineCount(), exception, end, tailStart, tailLineNumber);
+    } //parseRegion
+
+    /**
+     * Parses the CSV file at the specified path, passing the entries of each chunk to the specified consumer in file
+     * order. The consumer is called on the calling thread. If a line cannot be parsed, the entries before it are passed
+     * to the consumer, and then an exception that identifies the line is thrown.
+     *
+     * @param path the path to be used in the operation
+     * @param consumer the consumer to be used in the operation
+     * @throws NullPointerException if the specified path or consumer is {@code null}
+     * @throws CsvFormatException if a line of the file cannot be parsed, or a record is too large to be imported
+     * @throws IOException if an I/O error occurs, or the consumer throws one
+     */
+    public void parse(Path path, ChunkConsumer consumer) throws IOException {
+        ExecutorService executor;
+        AtomicInteger threadCount;
+        Deque<CompletableFuture<Chunk>> pendingChunks;
+        int maxPending;
+        long size;
+        long start = 0;
+        long lineOffset = 0;
+        long tailStart = -1;
+        long tailLineNumber = 0;
+        Chunk chunk;
+        long chunkLineOffset;
+        String reason;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(consumer, "the specified consumer is null");
+
+        threadCount = new AtomicInteger();
+
+        executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            String name = "hs-records-csv-parser-" + threadCount.incrementAndGet();
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        pendingChunks = new ArrayDeque<>();
+
+        maxPending = 2 * this.parallelism;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            size = channel.size();
+
+            while ((start < size) || !pendingChunks.isEmpty()) {
+                while ((start < size) && (pendingChunks.size() < maxPending)) {
+                    long chunkStart = start;
+                    long chunkEnd = Math.min(size, start + this.chunkSize);
+
+                    pendingChunks.addLast(CompletableFuture.supplyAsync(() -> {
+                        return ParallelCsvParser.parseChunk(channel, chunkStart, chunkEnd, size);
+                    }, executor));
+
+                    start = chunkEnd;
+                } //end while
+
+                chunk = ParallelCsvParser.joinChunk(pendingChunks.removeFirst());
+
+                chunkLineOffset = lineOffset;
+
+                if (tailStart >= 0) {
+                    chunk = ParallelCsvParser.parseTail(channel, tailStart, chunk.end(), size);
+
+                    chunkLineOffset = tailLineNumber - 1;
+                } //end if
+
+                ParallelCsvParser.consumeChunk(chunk, chunkLineOffset, consumer);
+
+                tailStart = chunk.tailStart();
+
+                if (tailStart < 0) {
+                    lineOffset = chunkLineOffset + chunk.lineCount();
+                } else {
+                    tailLineNumber = chunkLineOffset + chunk.tailLineNumber();
+
+                    if (chunk.end() - tailStart > MAX_RECORD_SIZE) {
+                        reason = String.format("is longer than %,d bytes, or has a quoted field that is not closed",
+                                               MAX_RECORD_SIZE);
+
+                        throw new CsvFormatException(tailLineNumber, reason);
+                    } //end if
+                } //end if
+            } //end while
+        } finally {
+            for (CompletableFuture<Chunk> future : pendingChunks) {
+                future.cancel(false);
+            } //end for
+
+            executor.shutdownNow();
+        } //end try finally
+    } //parse
+
+    /**
+     * Maps the part of the specified channel between the specified offsets into memory.
+     *
+     * @param channel the channel to be used in the operation
+     * @param start the start offset to be used in the operation
+     * @param end the end offset to be used in the operation
+     * @return the mapped part of the specified channel
+     * @throws UncheckedIOException if an I/O error occurs, or the part is too large to be mapped
+     */
+    private static ByteBuffer map(FileChannel channel, long start, long end) {
+        long length;
+
+        length = end - start;
+
+        try {
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("the chunk size is too large for a chunk of the file to be mapped");
+            } //end if
+
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+    } //map
+
+    /**
+     * Maps and parses the part of the specified channel from the specified offset, which is the start of a record that
+     * was cut by the end of a chunk, to the specified end, which is the end of the next chunk.
+     *
+     * @param channel the channel to be used in the operation
+     * @param tailStart the offset of the record that was cut to be used in the operation
+     * @param end the end to be used in the operation
+     * @param size the size of the channel to be used in the operation
+     * @return the chunk that was parsed
+     * @throws IOException if an I/O error occurs, or the part is too large to be mapped
+     */
+    private static Chunk parseTail(FileChannel channel, long tailStart, long end, long size) throws IOException {
+        ByteBuffer buffer;
+
+        try {
+            buffer = ParallelCsvParser.map(channel, tailStart, end);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } //end try catch
+
+        return ParallelCsvParser.parseRegion(buffer, tailStart, size);
+    } //parseTail
+
+    /**
+     * Waits for the specified chunk to be parsed.
+     *
+     * @param future the future of the chunk to be used in the operation
+     * @return the chunk that was parsed
+     * @throws IOException if the chunk could not be mapped
+     */
+    private static Chunk joinChunk(CompletableFuture<Chunk> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } //end if
+
+            throw e;
+        } //end try catch
+    } //joinChunk
+
+    /**
+     * Converts the line numbers of the specified chunk from chunk relative to file relative, and passes its entries to
+     * the specified consumer.
+     *
+     * @param chunk the chunk to be used in the operation
+     * @param lineOffset the number of lines before the chunk to be used in the operation
+     * @param consumer the consumer to be used in the operation
+     * @throws CsvFormatException if a line of the chunk could not be parsed
+     * @throws IOException if an I/O error occurs, or the consumer throws one
+     */
+    private static void consumeChunk(Chunk chunk, long lineOffset, ChunkConsumer consumer) throws IOException {
+        long[] lineNumbers;
+        CsvFormatException exception;
+
+        lineNumbers = chunk.lineNumbers();
+
+        for (int i = 0; i < chunk.entries()
+                                 .size(); i++) {
+            lineNumbers[i] += lineOffset;
+        } //end for
+
+        consumer.accept(chunk.entries(), lineNumbers);
+
+        exception = chunk.exception();
+
+        if (exception != null) {
+            long lineNumber = lineOffset + exception.getLineNumber();
+
+            throw new CsvFormatException(lineNumber, exception.getReason());
+        } //end if
+    } //consumeChunk
+}
@@ -0,0 +1,399 @@
+package com.records.hs.transfer;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.io.IOException;
+import java.util.Objects;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.Files;
+import java.io.Writer;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A writer of TAR archives in the HS Records application. Each entry is a 512-byte POSIX ustar header followed by its
+ * body, padded to a multiple of 512 bytes, and the archive ends with two blocks of zeros. A name that does not fit the
+ * name and prefix fields of the header, or is not ASCII, is written in a preceding PAX extended header, and a size that
+ * does not fit in octal is written in base-256, as GNU tar does.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class TarArchiveWriter implements ArchiveWriter {
+    /**
+     * The size of a block of an archive, in bytes.
+     */
+    private static final int BLOCK_SIZE;
+
+    /**
+     * The buffer size used when spooling text, in characters.
+     */
+    private static final int BUFFER_SIZE;
+
+    /**
+     * The length of the name field of a header, in bytes.
+     */
+    private static final int NAME_LENGTH;
+
+    /**
+     * The length of the prefix field of a header, in bytes.
+     */
+    private static final int PREFIX_LENGTH;
+
+    /**
+     * The name of a PAX extended header.
+     */
+    private static final String PAX_NAME;
+
+    /**
+     * The type flag of a regular file.
+     */
+    private static final byte FILE_TYPE;
+
+    /**
+     * The type flag of a PAX extended header.
+     */
+    private static final byte PAX_TYPE;
+
+    /**
+     * The channel of the archive of this TAR archive writer.
+     */
+    private final FileChannel channel;
+
+    static {
+        BLOCK_SIZE = 512;
+
+        BUFFER_SIZE = 65_536;
+
+        NAME_LENGTH = 100;
+
+        PREFIX_LENGTH = 155;
+
+        PAX_NAME = "././@PaxHeader";
+
+        FILE_TYPE = '0';
+
+        PAX_TYPE = 'x';
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code TarArchiveWriter} object with the specified channel.
+     *
+     * @param channel the channel to be used in construction
+     */
+    private TarArchiveWriter(FileChannel channel) {
+        this.channel = channel;
+    } //TarArchiveWriter
+
+    /**
+     * Returns a new {@code TarArchiveWriter} object that writes the archive at the specified path, replacing any file
+     * that is already there.
+     *
+     * @param path the path to be used in the operation
+     * @return a new {@code TarArchiveWriter} object that writes the archive at the specified path
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IOException if the archive cannot be opened
+     */
+    static TarArchiveWriter newTarArchiveWriter(Path path) throws IOException {
+        FileChannel channel;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                   StandardOpenOption.TRUNCATE_EXISTING);
+
+        return new TarArchiveWriter(channel);
+    } //newTarArchiveWriter
+
+    /**
+     * Writes an entry with the specified name and text content, encoded in UTF-8, to the archive of this TAR archive
+     * writer.
+     *
+     * @param name the name to be used in the operation
+     * @param content the content to be used in the operation
+     * @throws NullPointerException if the specified name or content is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void writeText(String name, Content content) throws IOException {
+        Path spoolPath;
+        long modified;
+
+        Objects.requireNonNull(name, "the specified name is null");
+
+        Objects.requireNonNull(content, "the specified content is null");
+
+        spoolPath = Files.createTempFile("hs-records-", ".tmp");
+
+        try {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(spoolPath),
+                                                                           StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                content.write(writer);
+            } //end try
+
+            modified = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+
+            try (FileChannel source = FileChannel.open(spoolPath, StandardOpenOption.READ)) {
+                this.writeEntry(name, source.size(), modified, source);
+            } //end try
+        } finally {
+            Files.deleteIfExists(spoolPath);
+        } //end try finally
+    } //writeText
+
+    /**
+     * Writes an entry with the specified name and the contents of the specified file to the archive of this TAR
+     * archive writer.
+     *
+     * @param name the name to be used in the operation
+     * @param file the file to be used in the operation
+     * @throws NullPointerException if the specified name or file is {@code null}
+     * @throws IOException if an I/O error occurs, or the file is truncated while it is written
+     */
+    @Override
+    public void writeFile(String name, Path file) throws IOException {
+        long modified;
+
+        Objects.requireNonNull(name, "the specified name is null");
+
+        Objects.requireNonNull(file, "the specified file is null");
+
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            modified = Files.getLastModifiedTime(file)
+                            .to(TimeUnit.SECONDS);
+
+            this.writeEntry(name, source.size(), modified, source);
+        } //end try
+    } //writeFile
+
+    /**
+     * Writes an entry with the specified name, size, and time of last modification, in seconds since the epoch, whose
+     * body is transferred from the specified source.
+     *
+     * @param name the name to be used in the operation
+     * @param size the size to be used in the operation
+     * @param modified the time of last modification to be used in the operation
+     * @param source the source to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeEntry(String name, long size, long modified, FileChannel source) throws IOException {
+        byte[] nameBytes;
+        int split;
+        ByteBuffer header;
+
+        nameBytes = name.getBytes(StandardCharsets.UTF_8);
+
+        split = TarArchiveWriter.findSplit(nameBytes);
+
+        if ((split < 0) || (nameBytes.length != name.length())) {
+            this.writePaxHeader(name);
+
+            nameBytes = Arrays.copyOf(nameBytes, Math.min(nameBytes.length, NAME_LENGTH));
+
+            split = 0;
+        } //end if
+
+        header = TarArchiveWriter.newHeader(nameBytes, split, size, modified, FILE_TYPE);
+
+        ArchiveWriter.writeFully(this.channel, header);
+
+        ArchiveWriter.transfer(source, size, this.channel);
+
+        this.writePadding(size);
+    } //writeEntry
+
+    /**
+     * Writes a PAX extended header that holds the specified name.
+     *
+     * @param name the name to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void writePaxHeader(String name) throws IOException {
+        String keyword = " path=";
+        int recordLength;
+        int length;
+        byte[] record;
+        byte[] paxNameBytes;
+        ByteBuffer header;
+        ByteBuffer body;
+
+        recordLength = (keyword + name + "\n").getBytes(StandardCharsets.UTF_8).length;
+
+        length = recordLength + String.valueOf(recordLength)
+                                      .length();
+
+        while (length != recordLength + String.valueOf(length)
+                                              .length()) {
+            length = recordLength + String.valueOf(length)
+                                          .length();
+        } //end while
+
+        record = (length + keyword + name + "\n").getBytes(StandardCharsets.UTF_8);
+
+        paxNameBytes = PAX_NAME.getBytes(StandardCharsets.US_ASCII);
+
+        header = TarArchiveWriter.newHeader(paxNameBytes, 0, record.length, 0, PAX_TYPE);
+
+        body = ByteBuffer.wrap(record);
+
+        ArchiveWriter.writeFully(this.channel, header);
+
+        ArchiveWriter.writeFully(this.channel, body);
+
+        this.writePadding(record.length);
+    } //writePaxHeader
+
+    /**
+     * Writes the zeros that pad a body of the specified size to a multiple of the block size.
+     *
+     * @param size the size to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void writePadding(long size) throws IOException {
+        int paddingLength;
+        ByteBuffer padding;
+
+        paddingLength = (int) ((BLOCK_SIZE - (size % BLOCK_SIZE)) % BLOCK_SIZE);
+
+        padding = ByteBuffer.allocate(paddingLength);
+
+        ArchiveWriter.writeFully(this.channel, padding);
+    } //writePadding
+
+    /**
+     * Finishes the archive of this TAR archive writer, writing the two blocks of zeros that end it.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void finish() throws IOException {
+        ByteBuffer trailer;
+
+        trailer = ByteBuffer.allocate(2 * BLOCK_SIZE);
+
+        ArchiveWriter.writeFully(this.channel, trailer);
+    } //finish
+
+    /**
+     * Closes the archive of this TAR archive writer.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    } //close
+
+    /**
+     * Returns the index of the slash at which the specified name is split between the prefix and name fields of a
+     * header, {@code 0} if the name fits in the name field by itself, or {@code -1} if it cannot be split to fit.
+     *
+     * @param nameBytes the bytes of the name to be used in the operation
+     * @return the index of the slash at which the specified name is split, {@code 0} if it is not split, or
+     * {@code -1} if it cannot be split to fit
+     */
+    private static int findSplit(byte[] nameBytes) {
+        if (nameBytes.length <= NAME_LENGTH) {
+            return 0;
+        } //end if
+
+        for (int i = Math.min(nameBytes.length - 1, PREFIX_LENGTH); i > 0; i--) {
+            if ((nameBytes[i] == '/') && ((nameBytes.length - i - 1) <= NAME_LENGTH)) {
+                return i;
+            } //end if
+        } //end for
+
+        return -1;
+    } //findSplit
+
+    /**
+     * Returns a new ustar header with the specified name, split at the specified index, size, time of last
+     * modification, and type flag.
+     *
+     * @param nameBytes the bytes of the name to be used in the operation
+     * @param split the index at which the name is split, or {@code 0} if it is not, to be used in the operation
+     * @param size the size to be used in the operation
+     * @param modified the time of last modification to be used in the operation
+     * @param type the type flag to be used in the operation
+     * @return a new ustar header, ready to be written
+     */
+    private static ByteBuffer newHeader(byte[] nameBytes, int split, long size, long modified, byte type) {
+        byte[] header;
+        byte[] magic;
+        int checksum = 0;
+
+        header = new byte[BLOCK_SIZE];
+
+        if (split == 0) {
+            System.arraycopy(nameBytes, 0, header, 0, nameBytes.length);
+        } else {
+            System.arraycopy(nameBytes, split + 1, header, 0, nameBytes.length - split - 1);
+
+            System.arraycopy(nameBytes, 0, header, 345, split);
+        } //end if
+
+        TarArchiveWriter.putOctal(header, 100, 8, 0644);
+
+        TarArchiveWriter.putOctal(header, 108, 8, 0);
+
+        TarArchiveWriter.putOctal(header, 116, 8, 0);
+
+        TarArchiveWriter.putOctal(header, 124, 12, size);
+
+        TarArchiveWriter.putOctal(header, 136, 12, modified);
+
+        header[156] = type;
+
+        magic = "ustar\u000000".getBytes(StandardCharsets.US_ASCII);
+
+        System.arraycopy(magic, 0, header, 257, magic.length);
+
+        Arrays.fill(header, 148, 156, (byte) ' ');
+
+        for (byte b : header) {
+            checksum += b & 0xFF;
+        } //end for
+
+        TarArchiveWriter.putOctal(header, 148, 7, checksum);
+
+        return ByteBuffer.wrap(header);
+    } //newHeader
+
+    /**
+     * Puts the specified value into the field of the specified header at the specified offset and of the specified
+     * length, as zero-padded octal digits followed by a NUL. If the value does not fit, it is put in base-256, as a
+     * big-endian number whose first byte is marked by its high bit.
+     *
+     * @param header the header to be used in the operation
+     * @param offset the offset to be used in the operation
+     * @param length the length to be used in the operation
+     * @param value the value to be used in the operation
+     */
+    private static void putOctal(byte[] header, int offset, int length, long value) {
+        String digits;
+
+        digits = Long.toOctalString(value);
+
+        if (digits.length() < length) {
+            digits = "0".repeat(length - 1 - digits.length()) + digits;
+
+            System.arraycopy(digits.getBytes(StandardCharsets.US_ASCII), 0, header, offset, length - 1);
+
+            header[offset + length - 1] = 0;
+
+            return;
+        } //end if
+
+        for (int i = offset + length - 1; i > offset; i--) {
+            header[i] = (byte) value;
+
+            value >>>= 8;
+        } //end for
+
+        header[offset] = (byte) 0x80;
+    } //putOctal
+}
\ No newline at end of file
@@ -0,0 +1,406 @@
+package com.records.hs.transfer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import com.records.hs.model.Model;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.Objects;
+import com.records.hs.model.Entry;
+import java.util.Set;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Optional;
+import com.records.hs.attachment.ScanTreeReader;
+import com.records.hs.attachment.AttachmentIndex;
+import java.util.concurrent.CancellationException;
+
+/**
+ * A transfer service in the HS Records application. Imports and exports are run on a dedicated worker thread, so the
+ * event dispatch thread is never blocked by them. Transfers are performed in the order they are requested.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class TransferService {
+    /**
+     * The executor of this transfer service.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a newly allocated {@code TransferService} object.
+     */
+    private TransferService() {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            String name = "hs-records-transfer";
+            Thread thread;
+
+            thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    } //TransferService
+
+    /**
+     * Returns a new {@code TransferService} object.
+     *
+     * @return a new {@code TransferService} object
+     */
+    public static TransferService newTransferService() {
+        return new TransferService();
+    } //newTransferService
+
+    /**
+     * Asynchronously imports the CSV file at the specified path with the specified importer, as by
+     * {@link EntryImporter#importCsv(Path, LongConsumer, BooleanSupplier)}. The model of the specified importer is
+     * modified on the worker thread of this transfer service, so it must not be used by any other thread until the
+     * returned future has completed. The returned future completes with the number of entries that were added. If the
+     * import was cancelled, it completes exceptionally with a {@code CancellationException}, and if the import failed,
+     * with an {@link UncheckedIOException}. In both cases, the import has been rolled back.
+     *
+     * @param importer the importer to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the number of entries that were added
+     * @throws NullPointerException if the specified importer, path, progress consumer, or cancellation flag is
+     * {@code null}
+     */
+    public CompletableFuture<Integer> importCsv(EntryImporter importer, Path path, LongConsumer progressConsumer,
+                                                BooleanSupplier cancelled) {
+        Objects.requireNonNull(importer, "the specified importer is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return importer.importCsv(path, progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //importCsv
+
+    /**
+     * Asynchronously imports the JSON Lines file at the specified path with the specified importer, as by
+     * {@link EntryImporter#importJsonLines(Path, LongConsumer, BooleanSupplier)}. The returned future completes like
+     * the one returned by {@link #importCsv(EntryImporter, Path, LongConsumer, BooleanSupplier)}.
+     *
+     * @param importer the importer to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the number of entries that were added
+     * @throws NullPointerException if the specified importer, path, progress consumer, or cancellation flag is
+     * {@code null}
+     */
+    public CompletableFuture<Integer> importJsonLines(EntryImporter importer, Path path, LongConsumer progressConsumer,
+                                                      BooleanSupplier cancelled) {
+        Objects.requireNonNull(importer, "the specified importer is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return importer.importJsonLines(path, progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //importJsonLines
+
+    /**
+     * Asynchronously imports the entries of the scan tree of the specified reader with the specified importer, as by
+     * {@link EntryImporter#importTree(ScanTreeReader, LongConsumer, BooleanSupplier)}. The returned future completes
+     * like the one returned by {@link #importCsv(EntryImporter, Path, LongConsumer, BooleanSupplier)}.
+     *
+     * @param importer the importer to be used in the operation
+     * @param reader the reader to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the number of entries that were added
+     * @throws NullPointerException if the specified importer, reader, progress consumer, or cancellation flag is
+     * {@code null}
+     */
+    public CompletableFuture<Integer> importTree(EntryImporter importer, ScanTreeReader reader,
+                                                 LongConsumer progressConsumer, BooleanSupplier cancelled) {
+        Objects.requireNonNull(importer, "the specified importer is null");
+
+        Objects.requireNonNull(reader, "the specified reader is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return importer.importTree(reader, progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //importTree
+
+    /**
+     * Asynchronously exports the entries of the specified model to the file at the specified path in the specified
+     * format. The entries are copied on the calling thread before this method returns, so the specified model may be
+     * modified while the export is in progress. This method should therefore be called from the thread that modifies
+     * the specified model. The returned future completes with the number of entries that were exported. If the export
+     * was cancelled, it completes exceptionally with a {@link java.util.concurrent.CancellationException}, and if it
+     * failed, with an {@link UncheckedIOException}.
+     *
+     * @param model the model to be used in the operation
+     * @param path the path to be used in the operation
+     * @param format the format to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the number of entries that were exported
+     * @throws NullPointerException if the specified model, path, format, progress consumer, or cancellation flag is
+     * {@code null}
+     */
+    public CompletableFuture<Long> export(Model model, Path path, EntryExporter.Format format,
+                                          LongConsumer progressConsumer, BooleanSupplier cancelled) {
+        Set<Entry> entries;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(format, "the specified format is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        entries = model.getEntries();
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return EntryExporter.export(entries, path, format, progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //export
+
+    /**
+     * Asynchronously exports the entries of the specified model to the columnar file at the specified path. A
+     * snapshot of the specified model is taken on the calling thread before this method returns, so the specified
+     * model may be modified while the export is in progress. This method should therefore be called from the thread
+     * that modifies the specified model. The returned future completes like the one returned by
+     * {@link #export(Model, Path, EntryExporter.Format, LongConsumer, BooleanSupplier)}.
+     *
+     * @param model the model to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the number of entries that were exported
+     * @throws NullPointerException if the specified model, path, progress consumer, or cancellation flag is
+     * {@code null}
+     */
+    public CompletableFuture<Long> exportColumnar(Model model, Path path, LongConsumer progressConsumer,
+                                                  BooleanSupplier cancelled) {
+        Model snapshot;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        snapshot = model.snapshot();
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ColumnarExporter.export(snapshot, path, progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //exportColumnar
+
+    /**
+     * Asynchronously exports the changes of the specified model since its last export to the JSON Lines file at the
+     * specified path, as by {@link EntryExporter#exportChanges(java.util.Collection, java.util.Collection, Path,
+     * LongConsumer, BooleanSupplier)}. Every entry that has been added or edited since the watermark of the change
+     * log of the specified model is written, followed by a tombstone for every entry that has been deleted since then.
+     * The changes are collected on the calling thread before this method returns, in time proportional to their number,
+     * so the specified model may be modified while the export is in progress. This method should therefore be called
+     * from the thread that modifies the specified model. The watermark is not advanced by this method. The returned
+     * future completes like the one returned by
+     * {@link #export(Model, Path, EntryExporter.Format, LongConsumer, BooleanSupplier)}.
+     *
+     * @param model the model to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the number of changes that were exported
+     * @throws NullPointerException if the specified model, path, progress consumer, or cancellation flag is
+     * {@code null}
+     */
+    public CompletableFuture<Long> exportChanges(Model model, Path path, LongConsumer progressConsumer,
+                                                 BooleanSupplier cancelled) {
+        Set<String> ids;
+        List<Entry> entries;
+        List<String> deletedIds;
+        Optional<Entry> entry;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        ids = model.getChangeLog()
+                   .getChanges()
+                   .keySet();
+
+        entries = new ArrayList<>();
+
+        deletedIds = new ArrayList<>();
+
+        for (String id : ids) {
+            entry = model.findEntryWithId(id);
+
+            if (entry.isPresent()) {
+                entries.add(entry.get());
+            } else {
+                deletedIds.add(id);
+            } //end if
+        } //end for
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return EntryExporter.exportChanges(entries, deletedIds, path, progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //exportChanges
+
+    /**
+     * Asynchronously exports the entries of the specified model with the specified category, and their attachments in
+     * the working directory, to the archive at the specified path in the specified format, as by
+     * {@link ArchiveExporter#export(java.util.Collection, Path, Path, ArchiveExporter.Format, LongConsumer,
+     * BooleanSupplier)}. The entries are collected on the calling thread before this method returns, so the specified
+     * model may be modified while the export is in progress. This method should therefore be called from the thread
+     * that modifies the specified model. The returned future completes like the one returned by
+     * {@link #export(Model, Path, EntryExporter.Format, LongConsumer, BooleanSupplier)}.
+     *
+     * @param model the model to be used in the operation
+     * @param category the category to be used in the operation
+     * @param path the path to be used in the operation
+     * @param format the format to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the number of entries that were exported
+     * @throws NullPointerException if the specified model, category, path, format, progress consumer, or cancellation
+     * flag is {@code null}
+     */
+    public CompletableFuture<Long> exportArchive(Model model, String category, Path path,
+                                                 ArchiveExporter.Format format, LongConsumer progressConsumer,
+                                                 BooleanSupplier cancelled) {
+        Set<Entry> entries;
+        Path root;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(category, "the specified category is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(format, "the specified format is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        entries = model.findEntriesWithCategory(category);
+
+        root = Path.of("");
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ArchiveExporter.export(entries, root, path, format, progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //exportArchive
+
+    /**
+     * Asynchronously exports the entries of the specified model that do not have an attachment to the CSV file at the
+     * specified path, as by {@link EntryExporter#export(java.util.Collection, Path, EntryExporter.Format, LongConsumer,
+     * BooleanSupplier)}. The entries without an attachment in the specified index are found on the calling thread before
+     * this method returns, so the specified model may be modified while the export is in progress. This method should
+     * therefore be called from the thread that modifies the specified model. Each of those entries is then confirmed
+     * with {@link AttachmentIndex#checkAttachment(Entry)} off of the calling thread, so an attachment that the index has
+     * missed is not reported. The returned future completes like the one returned by
+     * {@link #export(Model, Path, EntryExporter.Format, LongConsumer, BooleanSupplier)}.
+     *
+     * @param model the model to be used in the operation
+     * @param index the attachment index to be used in the operation
+     * @param path the path to be used in the operation
+     * @param progressConsumer the progress consumer to be used in the operation
+     * @param cancelled the cancellation flag to be used in the operation
+     * @return a future that completes with the number of entries that were exported
+     * @throws NullPointerException if the specified model, attachment index, path, progress consumer, or cancellation
+     * flag is {@code null}
+     */
+    public CompletableFuture<Long> exportWithoutAttachments(Model model, AttachmentIndex index, Path path,
+                                                            LongConsumer progressConsumer, BooleanSupplier cancelled) {
+        List<Entry> candidates;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(index, "the specified attachment index is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        Objects.requireNonNull(cancelled, "the specified cancellation flag is null");
+
+        candidates = index.findEntriesWithoutAttachments(model);
+
+        return CompletableFuture.supplyAsync(() -> {
+            List<Entry> entries;
+            EntryExporter.Format format = CsvFormat::writeEntry;
+
+            entries = new ArrayList<>(candidates.size());
+
+            for (Entry entry : candidates) {
+                if (cancelled.getAsBoolean()) {
+                    throw new CancellationException("the export was cancelled");
+                } else if (!index.checkAttachment(entry)) {
+                    entries.add(entry);
+                } //end if
+            } //end for
+
+            try {
+                return EntryExporter.export(entries, path, format, progressConsumer, cancelled);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        }, this.executor);
+    } //exportWithoutAttachments
+}
\ No newline at end of file
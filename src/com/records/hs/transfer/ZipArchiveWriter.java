@@ -0,0 +1,637 @@
+package com.records.hs.transfer;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.io.IOException;
+import java.util.Objects;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.Files;
+import java.util.zip.CRC32;
+import java.io.OutputStream;
+import java.util.zip.CheckedOutputStream;
+import com.records.hs.util.CountingOutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Deflater;
+import java.io.BufferedOutputStream;
+import java.io.Writer;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.Instant;
+import java.nio.ByteOrder;
+
+/**
+ * A writer of ZIP archives in the HS Records application. Text, and TIFF images that are not compressed, are deflated
+ * into a temporary file, and TIFF images that are already compressed, along with any other file, are stored as they
+ * are, so no time is spent deflating what will not shrink. The CRC-32 of a stored file is computed by reading it once
+ * before its header is written, after which its body is transferred into the archive. The central directory is
+ * spooled to a temporary file as the entries are written, and transferred to the end of the archive when it is
+ * finished. ZIP64 records are written for the entries and archives that need them.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+final class ZipArchiveWriter implements ArchiveWriter {
+    /**
+     * A writer of the uncompressed body of a deflated entry.
+     */
+    @FunctionalInterface
+    private interface Spooler {
+        /**
+         * Writes the uncompressed body to the specified output stream.
+         *
+         * @param outputStream the output stream to be used in the operation
+         * @throws IOException if an I/O error occurs
+         */
+        void spool(OutputStream outputStream) throws IOException;
+    } //Spooler
+
+    /**
+     * The buffer size used when spooling and reading files, in bytes.
+     */
+    private static final int BUFFER_SIZE;
+
+    /**
+     * The signature of a local file header.
+     */
+    private static final int LOCAL_HEADER_SIGNATURE;
+
+    /**
+     * The signature of a central directory header.
+     */
+    private static final int CENTRAL_HEADER_SIGNATURE;
+
+    /**
+     * The signature of a ZIP64 end of central directory record.
+     */
+    private static final int ZIP64_END_SIGNATURE;
+
+    /**
+     * The signature of a ZIP64 end of central directory locator.
+     */
+    private static final int ZIP64_LOCATOR_SIGNATURE;
+
+    /**
+     * The signature of an end of central directory record.
+     */
+    private static final int END_SIGNATURE;
+
+    /**
+     * The version that is needed to extract an entry that does not need ZIP64.
+     */
+    private static final short VERSION;
+
+    /**
+     * The version that is needed to extract an entry that needs ZIP64.
+     */
+    private static final short ZIP64_VERSION;
+
+    /**
+     * The general purpose flag that marks a name as UTF-8.
+     */
+    private static final short UTF8_FLAG;
+
+    /**
+     * The method of an entry that is stored.
+     */
+    private static final short STORED;
+
+    /**
+     * The method of an entry that is deflated.
+     */
+    private static final short DEFLATED;
+
+    /**
+     * The largest value of a 32-bit field, which marks the field as held in the ZIP64 extra field.
+     */
+    private static final long MAX_INT_FIELD;
+
+    /**
+     * The largest value of a 16-bit field.
+     */
+    private static final int MAX_SHORT_FIELD;
+
+    /**
+     * The TIFF tag of the compression of an image.
+     */
+    private static final int COMPRESSION_TAG;
+
+    /**
+     * The largest number of TIFF directory entries that are searched for the compression of an image.
+     */
+    private static final int MAX_TIFF_ENTRIES;
+
+    /**
+     * The channel of the archive of this ZIP archive writer.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The path of the spooled central directory of this ZIP archive writer.
+     */
+    private final Path centralPath;
+
+    /**
+     * The channel of the spooled central directory of this ZIP archive writer.
+     */
+    private final FileChannel centralChannel;
+
+    /**
+     * The number of entries written by this ZIP archive writer.
+     */
+    private long entryCount;
+
+    static {
+        BUFFER_SIZE = 65_536;
+
+        LOCAL_HEADER_SIGNATURE = 0x04034B50;
+
+        CENTRAL_HEADER_SIGNATURE = 0x02014B50;
+
+        ZIP64_END_SIGNATURE = 0x06064B50;
+
+        ZIP64_LOCATOR_SIGNATURE = 0x07064B50;
+
+        END_SIGNATURE = 0x06054B50;
+
+        VERSION = 20;
+
+        ZIP64_VERSION = 45;
+
+        UTF8_FLAG = 0x0800;
+
+        STORED = 0;
+
+        DEFLATED = 8;
+
+        MAX_INT_FIELD = 0xFFFF_FFFFL;
+
+        MAX_SHORT_FIELD = 0xFFFF;
+
+        COMPRESSION_TAG = 259;
+
+        MAX_TIFF_ENTRIES = 4096;
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ZipArchiveWriter} object with the specified channel, central directory path,
+     * and central directory channel.
+     *
+     * @param channel the channel to be used in construction
+     * @param centralPath the central directory path to be used in construction
+     * @param centralChannel the central directory channel to be used in construction
+     */
+    private ZipArchiveWriter(FileChannel channel, Path centralPath, FileChannel centralChannel) {
+        this.channel = channel;
+        this.centralPath = centralPath;
+        this.centralChannel = centralChannel;
+        this.entryCount = 0;
+    } //ZipArchiveWriter
+
+    /**
+     * Returns a new {@code ZipArchiveWriter} object that writes the archive at the specified path, replacing any file
+     * that is already there.
+     *
+     * @param path the path to be used in the operation
+     * @return a new {@code ZipArchiveWriter} object that writes the archive at the specified path
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IOException if the archive or the spooled central directory cannot be opened
+     */
+    static ZipArchiveWriter newZipArchiveWriter(Path path) throws IOException {
+        Path centralPath;
+        FileChannel centralChannel;
+        FileChannel channel;
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        centralPath = Files.createTempFile("hs-records-", ".tmp");
+
+        try {
+            centralChannel = FileChannel.open(centralPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            Files.deleteIfExists(centralPath);
+
+            throw e;
+        } //end try catch
+
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                       StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            centralChannel.close();
+
+            Files.deleteIfExists(centralPath);
+
+            throw e;
+        } //end try catch
+
+        return new ZipArchiveWriter(channel, centralPath, centralChannel);
+    } //newZipArchiveWriter
+
+    /**
+     * Writes an entry with the specified name and text content, encoded in UTF-8, to the archive of this ZIP archive
+     * writer.
+     *
+     * @param name the name to be used in the operation
+     * @param content the content to be used in the operation
+     * @throws NullPointerException if the specified name or content is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void writeText(String name, Content content) throws IOException {
+        long modified;
+
+        Objects.requireNonNull(name, "the specified name is null");
+
+        Objects.requireNonNull(content, "the specified content is null");
+
+        modified = System.currentTimeMillis();
+
+        this.writeDeflated(name, modified, outputStream -> {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                                                    BUFFER_SIZE)) {
+                content.write(writer);
+            } //end try
+        });
+    } //writeText
+
+    /**
+     * Writes an entry with the specified name and the contents of the specified file to the archive of this ZIP
+     * archive writer.
+     *
+     * @param name the name to be used in the operation
+     * @param file the file to be used in the operation
+     * @throws NullPointerException if the specified name or file is {@code null}
+     * @throws IOException if an I/O error occurs, or the file is truncated while it is written
+     */
+    @Override
+    public void writeFile(String name, Path file) throws IOException {
+        FileTime lastModifiedTime;
+        long modified;
+        long size;
+        long crc;
+
+        Objects.requireNonNull(name, "the specified name is null");
+
+        Objects.requireNonNull(file, "the specified file is null");
+
+        lastModifiedTime = Files.getLastModifiedTime(file);
+
+        modified = lastModifiedTime.toMillis();
+
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ZipArchiveWriter.isUncompressedTiff(source)) {
+                this.writeDeflated(name, modified, outputStream -> Files.copy(file, outputStream));
+
+                return;
+            } //end if
+
+            size = source.size();
+
+            crc = ZipArchiveWriter.computeCrc(source, size);
+
+            this.writeEntry(name, STORED, crc, size, size, modified, source);
+        } //end try
+    } //writeFile
+
+    /**
+     * Writes a deflated entry with the specified name and time of last modification, in milliseconds since the epoch,
+     * whose uncompressed body is written by the specified spooler. The body is deflated into a temporary file, from
+     * which it is transferred once its sizes and CRC-32 are known.
+     *
+     * @param name the name to be used in the operation
+     * @param modified the time of last modification to be used in the operation
+     * @param spooler the spooler to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeDeflated(String name, long modified, Spooler spooler) throws IOException {
+        Path spoolPath;
+        CRC32 crc;
+        Deflater deflater;
+        CountingOutputStream countingStream;
+
+        spoolPath = Files.createTempFile("hs-records-", ".tmp");
+
+        crc = new CRC32();
+
+        deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+        try {
+            countingStream = new CountingOutputStream(new DeflaterOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(spoolPath), BUFFER_SIZE), deflater, BUFFER_SIZE), byteCount -> {});
+
+            try (OutputStream outputStream = new CheckedOutputStream(countingStream, crc)) {
+                spooler.spool(outputStream);
+            } //end try
+
+            try (FileChannel source = FileChannel.open(spoolPath, StandardOpenOption.READ)) {
+                this.writeEntry(name, DEFLATED, crc.getValue(), source.size(), countingStream.getByteCount(), modified,
+                                source);
+            } //end try
+        } finally {
+            deflater.end();
+
+            Files.deleteIfExists(spoolPath);
+        } //end try finally
+    } //writeDeflated
+
+    /**
+     * Writes an entry with the specified name, method, CRC-32, compressed and uncompressed sizes, and time of last
+     * modification, whose body is transferred from the specified source, and spools its central directory header.
+     *
+     * @param name the name to be used in the operation
+     * @param method the method to be used in the operation
+     * @param crc the CRC-32 to be used in the operation
+     * @param compressedSize the compressed size to be used in the operation
+     * @param size the uncompressed size to be used in the operation
+     * @param modified the time of last modification to be used in the operation
+     * @param source the source to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeEntry(String name, short method, long crc, long compressedSize, long size, long modified,
+                            FileChannel source) throws IOException {
+        byte[] nameBytes;
+        long offset;
+        boolean zip64;
+        boolean centralZip64;
+        int dosTime;
+        ByteBuffer header;
+
+        nameBytes = name.getBytes(StandardCharsets.UTF_8);
+
+        offset = this.channel.position();
+
+        zip64 = (compressedSize >= MAX_INT_FIELD) || (size >= MAX_INT_FIELD);
+
+        centralZip64 = zip64 || (offset >= MAX_INT_FIELD);
+
+        dosTime = ZipArchiveWriter.toDosTime(modified);
+
+        header = ByteBuffer.allocate(30 + nameBytes.length + 20)
+                           .order(ByteOrder.LITTLE_ENDIAN);
+
+        header.putInt(LOCAL_HEADER_SIGNATURE)
+              .putShort(zip64 ? ZIP64_VERSION : VERSION)
+              .putShort(UTF8_FLAG)
+              .putShort(method)
+              .putInt(dosTime)
+              .putInt((int) crc)
+              .putInt((int) (zip64 ? MAX_INT_FIELD : compressedSize))
+              .putInt((int) (zip64 ? MAX_INT_FIELD : size))
+              .putShort((short) nameBytes.length)
+              .putShort((short) (zip64 ? 20 : 0))
+              .put(nameBytes);
+
+        if (zip64) {
+            header.putShort((short) 1)
+                  .putShort((short) 16)
+                  .putLong(size)
+                  .putLong(compressedSize);
+        } //end if
+
+        header.flip();
+
+        ArchiveWriter.writeFully(this.channel, header);
+
+        ArchiveWriter.transfer(source, compressedSize, this.channel);
+
+        header = ByteBuffer.allocate(46 + nameBytes.length + 28)
+                           .order(ByteOrder.LITTLE_ENDIAN);
+
+        header.putInt(CENTRAL_HEADER_SIGNATURE)
+              .putShort(ZIP64_VERSION)
+              .putShort(centralZip64 ? ZIP64_VERSION : VERSION)
+              .putShort(UTF8_FLAG)
+              .putShort(method)
+              .putInt(dosTime)
+              .putInt((int) crc)
+              .putInt((int) (centralZip64 ? MAX_INT_FIELD : compressedSize))
+              .putInt((int) (centralZip64 ? MAX_INT_FIELD : size))
+              .putShort((short) nameBytes.length)
+              .putShort((short) (centralZip64 ? 28 : 0))
+              .putShort((short) 0)
+              .putShort((short) 0)
+              .putShort((short) 0)
+              .putInt(0)
+              .putInt((int) (centralZip64 ? MAX_INT_FIELD : offset))
+              .put(nameBytes);
+
+        if (centralZip64) {
+            header.putShort((short) 1)
+                  .putShort((short) 24)
+                  .putLong(size)
+                  .putLong(compressedSize)
+                  .putLong(offset);
+        } //end if
+
+        header.flip();
+
+        ArchiveWriter.writeFully(this.centralChannel, header);
+
+        this.entryCount++;
+    } //writeEntry
+
+    /**
+     * Finishes the archive of this ZIP archive writer, writing the central directory and the records that end it.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void finish() throws IOException {
+        long centralOffset;
+        long centralSize;
+        long zip64EndOffset;
+        ByteBuffer end;
+
+        centralOffset = this.channel.position();
+
+        centralSize = this.centralChannel.size();
+
+        ArchiveWriter.transfer(this.centralChannel, centralSize, this.channel);
+
+        zip64EndOffset = this.channel.position();
+
+        end = ByteBuffer.allocate(56 + 20 + 22)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+
+        if ((this.entryCount >= MAX_SHORT_FIELD) || (centralOffset >= MAX_INT_FIELD)
+            || (centralSize >= MAX_INT_FIELD)) {
+            end.putInt(ZIP64_END_SIGNATURE)
+               .putLong(44)
+               .putShort(ZIP64_VERSION)
+               .putShort(ZIP64_VERSION)
+               .putInt(0)
+               .putInt(0)
+               .putLong(this.entryCount)
+               .putLong(this.entryCount)
+               .putLong(centralSize)
+               .putLong(centralOffset);
+
+            end.putInt(ZIP64_LOCATOR_SIGNATURE)
+               .putInt(0)
+               .putLong(zip64EndOffset)
+               .putInt(1);
+        } //end if
+
+        end.putInt(END_SIGNATURE)
+           .putShort((short) 0)
+           .putShort((short) 0)
+           .putShort((short) Math.min(this.entryCount, MAX_SHORT_FIELD))
+           .putShort((short) Math.min(this.entryCount, MAX_SHORT_FIELD))
+           .putInt((int) Math.min(centralSize, MAX_INT_FIELD))
+           .putInt((int) Math.min(centralOffset, MAX_INT_FIELD))
+           .putShort((short) 0)
+           .flip();
+
+        ArchiveWriter.writeFully(this.channel, end);
+    } //finish
+
+    /**
+     * Closes the archive of this ZIP archive writer, and deletes its spooled central directory.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            this.channel.close();
+        } finally {
+            this.centralChannel.close();
+
+            Files.deleteIfExists(this.centralPath);
+        } //end try finally
+    } //close
+
+    /**
+     * Returns the CRC-32 of the specified number of bytes at the beginning of the specified source. The source is read
+     * into a large direct buffer.
+     *
+     * @param source the source to be used in the operation
+     * @param size the number of bytes to be used in the operation
+     * @return the CRC-32 of the specified number of bytes at the beginning of the specified source
+     * @throws IOException if an I/O error occurs
+     */
+    private static long computeCrc(FileChannel source, long size) throws IOException {
+        CRC32 crc;
+        ByteBuffer buffer;
+        long position = 0;
+        int count;
+
+        crc = new CRC32();
+
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        while (position < size) {
+            buffer.clear();
+
+            if ((size - position) < buffer.capacity()) {
+                buffer.limit((int) (size - position));
+            } //end if
+
+            count = source.read(buffer, position);
+
+            if (count < 0) {
+                throw new IOException("the file was truncated while it was archived");
+            } //end if
+
+            buffer.flip();
+
+            crc.update(buffer);
+
+            position += count;
+        } //end while
+
+        return crc.getValue();
+    } //computeCrc
+
+    /**
+     * Returns whether or not the specified source is a TIFF image whose first image is not compressed. A source that
+     * cannot be read as a TIFF image is treated as compressed, so it is stored as it is.
+     *
+     * @param source the source to be used in the operation
+     * @return {@code true}, if the specified source is a TIFF image whose first image is not compressed, and
+     * {@code false} otherwise
+     * @throws IOException if an I/O error occurs
+     */
+    private static boolean isUncompressedTiff(FileChannel source) throws IOException {
+        ByteBuffer buffer;
+        long directoryOffset;
+        int entryCount;
+        int tag;
+
+        buffer = ByteBuffer.allocate(8);
+
+        if ((source.read(buffer, 0) != 8) || (buffer.get(0) != buffer.get(1))) {
+            return false;
+        } else if (buffer.get(0) == 'I') {
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (buffer.get(0) != 'M') {
+            return false;
+        } //end if
+
+        if (buffer.getShort(2) != 42) {
+            return false;
+        } //end if
+
+        directoryOffset = Integer.toUnsignedLong(buffer.getInt(4));
+
+        buffer = ByteBuffer.allocate(2)
+                           .order(buffer.order());
+
+        if (source.read(buffer, directoryOffset) != 2) {
+            return false;
+        } //end if
+
+        entryCount = Math.min(Short.toUnsignedInt(buffer.getShort(0)), MAX_TIFF_ENTRIES);
+
+        buffer = ByteBuffer.allocate(12 * entryCount)
+                           .order(buffer.order());
+
+        while (buffer.hasRemaining()) {
+            if (source.read(buffer, directoryOffset + 2 + buffer.position()) < 0) {
+                return false;
+            } //end if
+        } //end while
+
+        for (int i = 0; i < entryCount; i++) {
+            tag = Short.toUnsignedInt(buffer.getShort(12 * i));
+
+            if (tag == COMPRESSION_TAG) {
+                return buffer.getShort(12 * i + 8) == 1;
+            } else if (tag > COMPRESSION_TAG) {
+                break;
+            } //end if
+        } //end for
+
+        return true;
+    } //isUncompressedTiff
+
+    /**
+     * Returns the specified time, in milliseconds since the epoch, as an MS-DOS date and time in the default time
+     * zone, with the date in the high 16 bits. Times before 1980 are clamped to the start of 1980.
+     *
+     * @param modified the time to be used in the operation
+     * @return the specified time as an MS-DOS date and time
+     */
+    private static int toDosTime(long modified) {
+        LocalDateTime dateTime;
+        int date;
+        int time;
+
+        dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(modified), ZoneId.systemDefault());
+
+        if (dateTime.getYear() < 1980) {
+            return ((1 << 5) | 1) << 16;
+        } //end if
+
+        date = ((dateTime.getYear() - 1980) << 9) | (dateTime.getMonthValue() << 5) | dateTime.getDayOfMonth();
+
+        time = (dateTime.getHour() << 11) | (dateTime.getMinute() << 5) | (dateTime.getSecond() / 2);
+
+        return (date << 16) | time;
+    } //toDosTime
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.records.hs.util;
+
+import java.io.FilterInputStream;
+import java.util.function.LongConsumer;
+import java.io.InputStream;
+import java.util.Objects;
+import java.io.IOException;
+
+/**
+ * An input stream that counts the bytes read through it in the HS Records application. After each read, the total
+ * number of bytes read so far is passed to a progress consumer.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class CountingInputStream extends FilterInputStream {
+    /**
+     * The progress consumer of this counting input stream.
+     */
+    private final LongConsumer progressConsumer;
+
+    /**
+     * The byte count of this counting input stream.
+     */
+    private long byteCount;
+
+    /**
+     * Constructs a newly allocated {@code CountingInputStream} object with the specified input stream and progress
+     * consumer.
+     *
+     * @param inputStream the input stream to be used in construction
+     * @param progressConsumer the progress consumer to be used in construction
+     * @throws NullPointerException if the specified input stream or progress consumer is {@code null}
+     */
+    public CountingInputStream(InputStream inputStream, LongConsumer progressConsumer) {
+        super(Objects.requireNonNull(inputStream, "the specified input stream is null"));
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        this.progressConsumer = progressConsumer;
+        this.byteCount = 0;
+    } //CountingInputStream
+
+    /**
+     * Returns the byte count of this counting input stream.
+     *
+     * @return the byte count of this counting input stream
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    } //getByteCount
+
+    /**
+     * Reads the next byte from this counting input stream.
+     *
+     * @return the next byte, or {@code -1} if the end of the stream has been reached
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public int read() throws IOException {
+        int b = this.in.read();
+
+        if (b != -1) {
+            this.byteCount++;
+
+            this.progressConsumer.accept(this.byteCount);
+        } //end if
+
+        return b;
+    } //read
+
+    /**
+     * Reads up to the specified number of bytes from this counting input stream into the specified array, starting at
+     * the specified offset.
+     *
+     * @param bytes the bytes to be used in the operation
+     * @param offset the offset to be used in the operation
+     * @param length the length to be used in the operation
+     * @return the number of bytes read, or {@code -1} if the end of the stream has been reached
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        int count = this.in.read(bytes, offset, length);
+
+        if (count > 0) {
+            this.byteCount += count;
+
+            this.progressConsumer.accept(this.byteCount);
+        } //end if
+
+        return count;
+    } //read
+
+    /**
+     * Skips over and discards up to the specified number of bytes from this counting input stream.
+     *
+     * @param n the number of bytes to be used in the operation
+     * @return the number of bytes skipped
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        long count = this.in.skip(n);
+
+        if (count > 0) {
+            this.byteCount += count;
+
+            this.progressConsumer.accept(this.byteCount);
+        } //end if
+
+        return count;
+    } //skip
+
+    /**
+     * Returns {@code false}, as counting input streams do not support marking.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    } //markSupported
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.records.hs.util;
+
+import java.io.FilterOutputStream;
+import java.util.function.LongConsumer;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.io.IOException;
+
+/**
+ * An output stream that counts the bytes written through it in the HS Records application. After each write, the
+ * total number of bytes written so far is passed to a progress consumer.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class CountingOutputStream extends FilterOutputStream {
+    /**
+     * The progress consumer of this counting output stream.
+     */
+    private final LongConsumer progressConsumer;
+
+    /**
+     * The byte count of this counting output stream.
+     */
+    private long byteCount;
+
+    /**
+     * Constructs a newly allocated {@code CountingOutputStream} object with the specified output stream and progress
+     * consumer.
+     *
+     * @param outputStream the output stream to be used in construction
+     * @param progressConsumer the progress consumer to be used in construction
+     * @throws NullPointerException if the specified output stream or progress consumer is {@code null}
+     */
+    public CountingOutputStream(OutputStream outputStream, LongConsumer progressConsumer) {
+        super(Objects.requireNonNull(outputStream, "the specified output stream is null"));
+
+        Objects.requireNonNull(progressConsumer, "the specified progress consumer is null");
+
+        this.progressConsumer = progressConsumer;
+        this.byteCount = 0;
+    } //CountingOutputStream
+
+    /**
+     * Returns the byte count of this counting output stream.
+     *
+     * @return the byte count of this counting output stream
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    } //getByteCount
+
+    /**
+     * Writes the specified byte to this counting output stream.
+     *
+     * @param b the byte to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void write(int b) throws IOException {
+        this.out.write(b);
+
+        this.byteCount++;
+
+        this.progressConsumer.accept(this.byteCount);
+    } //write
+
+    /**
+     * Writes the specified number of bytes from the specified array, starting at the specified offset, to this
+     * counting output stream.
+     *
+     * @param bytes the bytes to be used in the operation
+     * @param offset the offset to be used in the operation
+     * @param length the length to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        this.out.write(bytes, offset, length);
+
+        this.byteCount += length;
+
+        this.progressConsumer.accept(this.byteCount);
+    } //write
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.records.hs.util;
+
+import java.util.Properties;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+import java.util.Objects;
+
+/**
+ * A set of settings used in the HS Records application. Settings are read once from the {@code settings.properties}
+ * file in the working directory. If the file does not exist, or a setting is missing or malformed, the default value
+ * of that setting is used.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class Settings {
+    /**
+     * The file name where the settings are stored.
+     */
+    private static final String FILE_NAME;
+
+    /**
+     * The properties of the class.
+     */
+    private static final Properties PROPERTIES;
+
+    static {
+        FILE_NAME = "settings.properties";
+
+        PROPERTIES = Settings.readProperties();
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code Settings} object.
+     *
+     * @throws AssertionError if an object of type {@code Settings} attempts to be instantiated
+     */
+    private Settings() {
+        throw new AssertionError("an object of type Settings cannot be instantiated");
+    } //Settings
+
+    /**
+     * Reads the properties from the file where the settings are stored. If the file could not be read, an empty set
+     * of properties is returned.
+     *
+     * @return the properties that were read from the file
+     */
+    private static Properties readProperties() {
+        Path path;
+        Properties properties;
+
+        path = Path.of(FILE_NAME);
+
+        properties = new Properties();
+
+        if (Files.notExists(path)) {
+            return properties;
+        } //end if
+
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            Logger logger = Logger.getGlobal();
+            String exceptionMessage = e.getMessage();
+
+            logger.log(Level.INFO, exceptionMessage, e);
+        } //end try catch
+
+        return properties;
+    } //readProperties
+
+    /**
+     * Returns the {@code String} value of the setting with the specified key. If the setting does not exist, the
+     * specified default value is returned.
+     *
+     * @param key the key to be used in the operation
+     * @param defaultValue the default value to be used in the operation
+     * @return the {@code String} value of the setting with the specified key
+     * @throws NullPointerException if the specified key is {@code null}
+     */
+    public static String getString(String key, String defaultValue) {
+        String value;
+
+        Objects.requireNonNull(key, "the specified key is null");
+
+        value = PROPERTIES.getProperty(key);
+
+        if (value == null) {
+            return defaultValue;
+        } //end if
+
+        return value.strip();
+    } //getString
+
+    /**
+     * Returns the {@code boolean} value of the setting with the specified key. If the setting does not exist, the
+     * specified default value is returned.
+     *
+     * @param key the key to be used in the operation
+     * @param defaultValue the default value to be used in the operation
+     * @return the {@code boolean} value of the setting with the specified key
+     * @throws NullPointerException if the specified key is {@code null}
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value;
+
+        value = Settings.getString(key, null);
+
+        if (value == null) {
+            return defaultValue;
+        } //end if
+
+        return Boolean.parseBoolean(value);
+    } //getBoolean
+
+    /**
+     * Returns the {@code int} value of the setting with the specified key. If the setting does not exist or is not a
+     * positive integer, the specified default value is returned.
+     *
+     * @param key the key to be used in the operation
+     * @param defaultValue the default value to be used in the operation
+     * @return the {@code int} value of the setting with the specified key
+     * @throws NullPointerException if the specified key is {@code null}
+     */
+    public static int getPositiveInt(String key, int defaultValue) {
+        String value;
+        int intValue;
+
+        value = Settings.getString(key, null);
+
+        if (value == null) {
+            return defaultValue;
+        } //end if
+
+        try {
+            intValue = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            Logger logger = Logger.getGlobal();
+            String exceptionMessage = e.getMessage();
+
+            logger.log(Level.INFO, exceptionMessage, e);
+
+            return defaultValue;
+        } //end try catch
+
+        if (intValue <= 0) {
+            return defaultValue;
+        } //end if
+
+        return intValue;
+    } //getPositiveInt
+}
\ No newline at end of file
@@ -1,29 +1,29 @@
 package com.records.hs.util;
 
-import com.records.hs.model.Model;
-import java.util.logging.Logger;
 import java.nio.file.Path;
-import java.io.ObjectInputStream;
-import java.nio.file.Files;
-import java.io.IOException;
-import java.util.logging.Level;
 import java.util.Objects;
-import java.io.ObjectOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.util.regex.Pattern;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
 
 /**
  * A set of utility methods used in the HS Records application.
  *
  * @author Logan Kulinski, lbkulinski@icloud.com
- * @version June 9, 2020
+ * @version October 19, 2026
  */
 public final class Utilities {
     /**
-     * The file name where the {@code Model} object is stored.
+     * The pattern of IDs that contain a year.
      */
-    private static final String FILE_NAME;
+    private static final Pattern ID_PATTERN;
 
     static {
-        FILE_NAME = "model.ser";
+        ID_PATTERN = Pattern.compile("\\d+_(\\d{4})");
     } //static
 
     /**
@@ -36,58 +36,119 @@ public final class Utilities {
     } //ControllerUtilities
 
     /**
-     * Reads a model from the file where it was saved. If the object could not be read, {@code null} is returned.
+     * Replaces the specified target file with the specified source file. An atomic move is attempted first. If the
+     * file system does not support atomic moves, a regular move is used.
      *
-     * @return the model that was read from the file
+     * @param source the source file to be used in the operation
+     * @param target the target file to be used in the operation
+     * @throws NullPointerException if the specified source or target is {@code null}
+     * @throws IOException if an I/O error occurs
      */
-    public static Model readModelFromFile() {
-        Logger logger;
-        Path path;
-        Model model;
+    public static void replaceFile(Path source, Path target) throws IOException {
+        Objects.requireNonNull(source, "the specified source is null");
+
+        Objects.requireNonNull(target, "the specified target is null");
+
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        } //end try catch
+    } //replaceFile
 
-        logger = Logger.getGlobal();
+    /**
+     * Returns the year in the specified ID. An ID contains a year if it has the form {@code NNNN_YYYY}.
+     *
+     * @param id the ID to be used in the operation
+     * @return an {@code OptionalInt} containing the year in the specified ID, or an empty {@code OptionalInt} if the
+     * specified ID does not contain a year
+     * @throws NullPointerException if the specified ID is {@code null}
+     */
+    public static OptionalInt getYear(String id) {
+        Matcher matcher;
+        String year;
 
-        path = Path.of(FILE_NAME);
+        Objects.requireNonNull(id, "the specified ID is null");
 
-        try (ObjectInputStream inputStream = new ObjectInputStream(Files.newInputStream(path))) {
-            model = (Model) inputStream.readObject();
-        } catch (ClassNotFoundException | IOException e) {
-            String exceptionMessage = e.getMessage();
+        matcher = ID_PATTERN.matcher(id);
 
-            logger.log(Level.INFO, exceptionMessage, e);
+        if (!matcher.matches()) {
+            return OptionalInt.empty();
+        } //end if
 
-            return null;
-        } //end try catch
+        year = matcher.group(1);
 
-        return model;
-    } //readModelFromFile
+        return OptionalInt.of(Integer.parseInt(year));
+    } //getYear
 
     /**
-     * Writes the specified model to a file.
+     * Compares the specified IDs in the order they were assigned. IDs of the form {@code NNNN_YYYY} are ordered by
+     * year, and then by number, and come after every other ID. Other IDs are ordered lexicographically.
      *
-     * @param model the model to be used in the operation
-     * @return {@code true}, if the specified model was successfully written to the file and {@code false} otherwise
+     * @param id the ID to be used in the operation
+     * @param otherId the other ID to be used in the operation
+     * @return a negative integer, zero, or a positive integer as the specified ID was assigned before, at the same
+     * time as, or after the specified other ID
+     * @throws NullPointerException if the specified ID or other ID is {@code null}
      */
-    public static boolean writeModelToFile(Model model) {
-        Logger logger;
-        Path path;
+    public static int compareIds(String id, String otherId) {
+        Matcher matcher;
+        Matcher otherMatcher;
+        int comparison;
+        String number;
+        String otherNumber;
 
-        Objects.requireNonNull(model, "the specified model is null");
+        Objects.requireNonNull(id, "the specified ID is null");
 
-        logger = Logger.getGlobal();
+        Objects.requireNonNull(otherId, "the specified other ID is null");
 
-        path = Path.of(FILE_NAME);
+        matcher = ID_PATTERN.matcher(id);
 
-        try (ObjectOutputStream outputStream = new ObjectOutputStream(Files.newOutputStream(path))) {
-            outputStream.writeObject(model);
-        } catch (IOException e) {
-            String exceptionMessage = e.getMessage();
+        otherMatcher = ID_PATTERN.matcher(otherId);
 
-            logger.log(Level.INFO, exceptionMessage, e);
+        if (!matcher.matches() || !otherMatcher.matches()) {
+            if (matcher.matches()) {
+                return 1;
+            } else if (otherMatcher.matches()) {
+                return -1;
+            } //end if
 
-            return false;
-        } //end try catch
+            return id.compareTo(otherId);
+        } //end if
+
+        comparison = matcher.group(1)
+                            .compareTo(otherMatcher.group(1));
+
+        if (comparison != 0) {
+            return comparison;
+        } //end if
+
+        number = Utilities.stripLeadingZeros(id.substring(0, matcher.start(1) - 1));
+
+        otherNumber = Utilities.stripLeadingZeros(otherId.substring(0, otherMatcher.start(1) - 1));
+
+        comparison = Integer.compare(number.length(), otherNumber.length());
+
+        if (comparison != 0) {
+            return comparison;
+        } //end if
+
+        return number.compareTo(otherNumber);
+    } //compareIds
+
+    /**
+     * Returns the specified string of digits without its leading zeros.
+     *
+     * @param digits the string of digits to be used in the operation
+     * @return the specified string of digits without its leading zeros
+     */
+    private static String stripLeadingZeros(String digits) {
+        int start = 0;
+
+        while ((start < (digits.length() - 1)) && (digits.charAt(start) == '0')) {
+            start++;
+        } //end while
 
-        return true;
-    } //writeModelToFile
+        return digits.substring(start);
+    } //stripLeadingZeros
 }
\ No newline at end of file
@@ -32,11 +32,46 @@ public final class MenuView {
      */
     private final JMenuItem importMenuItem;
 
+    /**
+     * The JSON Lines import menu item of this menu view.
+     */
+    private final JMenuItem importJsonLinesMenuItem;
+
+    /**
+     * The merge menu item of this menu view.
+     */
+    private final JMenuItem mergeMenuItem;
+
     /**
      * The export menu item of this menu view.
      */
     private final JMenuItem exportMenuItem;
 
+    /**
+     * The JSON Lines export menu item of this menu view.
+     */
+    private final JMenuItem exportJsonLinesMenuItem;
+
+    /**
+     * The columnar export menu item of this menu view.
+     */
+    private final JMenuItem exportColumnarMenuItem;
+
+    /**
+     * The changes export menu item of this menu view.
+     */
+    private final JMenuItem exportChangesMenuItem;
+
+    /**
+     * The ZIP archive export menu item of this menu view.
+     */
+    private final JMenuItem exportZipMenuItem;
+
+    /**
+     * The TAR archive export menu item of this menu view.
+     */
+    private final JMenuItem exportTarMenuItem;
+
     /**
      * The save menu item of this menu view.
      */
@@ -87,6 +122,41 @@ public final class MenuView {
      */
     private final JMenuItem deleteSubcategoryMenuItem;
 
+    /**
+     * The reconcile menu item of this menu view.
+     */
+    private final JMenuItem reconcileMenuItem;
+
+    /**
+     * The export missing menu item of this menu view.
+     */
+    private final JMenuItem exportMissingMenuItem;
+
+    /**
+     * The provision menu item of this menu view.
+     */
+    private final JMenuItem provisionMenuItem;
+
+    /**
+     * The ingest menu item of this menu view.
+     */
+    private final JMenuItem ingestMenuItem;
+
+    /**
+     * The deduplicate menu item of this menu view.
+     */
+    private final JMenuItem deduplicateMenuItem;
+
+    /**
+     * The verify menu item of this menu view.
+     */
+    private final JMenuItem verifyMenuItem;
+
+    /**
+     * The verification report menu item of this menu view.
+     */
+    private final JMenuItem verificationReportMenuItem;
+
     /**
      * The file menu of this menu view.
      */
@@ -112,6 +182,11 @@ public final class MenuView {
      */
     private final JMenu subcategoriesMenu;
 
+    /**
+     * The attachments menu of this menu view.
+     */
+    private final JMenu attachmentsMenu;
+
     /**
      * The menu bar of this menu view.
      */
@@ -125,7 +200,14 @@ public final class MenuView {
         String openRecordName = "Record";
         String openDirectoryName = "Directory";
         String importName = "Import from CSV";
+        String importJsonLinesName = "Import from JSON Lines";
+        String mergeName = "Merge from CSV";
         String exportName = "Export to CSV";
+        String exportJsonLinesName = "Export to JSON Lines";
+        String exportColumnarName = "Export to Columnar";
+        String exportChangesName = "Export Changes Since Last Export...";
+        String exportZipName = "Export Category to ZIP Archive...";
+        String exportTarName = "Export Category to TAR Archive...";
         String saveName = "Save";
         String exitName = "Exit";
         String latestName = "Latest ID";
@@ -133,17 +215,32 @@ public final class MenuView {
         String addName = "Add";
         String editName = "Edit";
         String deleteName = "Delete";
+        String reconcileName = "Write Reconciliation Report...";
+        String exportMissingName = "Export Records Without Files...";
+        String provisionName = "Provision All Directories";
+        String ingestName = "Ingest Scan Tree";
+        String deduplicateName = "Deduplicate Attachments";
+        String verifyName = "Verify Attachments";
+        String verificationReportName = "Last Verification Report...";
         String fileName = "File";
         String openName = "Open";
         String displayName = "Display";
         String categoriesName = "Categories";
         String subcategoriesName = "Subcategories";
+        String attachmentsName = "Attachments";
 
         this.createDirectoryMenuItem = new JMenuItem(createDirectoryName);
         this.openRecordMenuItem = new JMenuItem(openRecordName);
         this.openDirectoryMenuItem = new JMenuItem(openDirectoryName);
         this.importMenuItem = new JMenuItem(importName);
+        this.importJsonLinesMenuItem = new JMenuItem(importJsonLinesName);
+        this.mergeMenuItem = new JMenuItem(mergeName);
         this.exportMenuItem = new JMenuItem(exportName);
+        this.exportJsonLinesMenuItem = new JMenuItem(exportJsonLinesName);
+        this.exportColumnarMenuItem = new JMenuItem(exportColumnarName);
+        this.exportChangesMenuItem = new JMenuItem(exportChangesName);
+        this.exportZipMenuItem = new JMenuItem(exportZipName);
+        this.exportTarMenuItem = new JMenuItem(exportTarName);
         this.saveMenuItem = new JMenuItem(saveName);
         this.exitMenuItem = new JMenuItem(exitName);
         this.latestMenuItem = new JMenuItem(latestName);
@@ -154,11 +251,19 @@ public final class MenuView {
         this.addSubcategoryMenuItem = new JMenuItem(addName);
         this.editSubcategoryMenuItem = new JMenuItem(editName);
         this.deleteSubcategoryMenuItem = new JMenuItem(deleteName);
+        this.reconcileMenuItem = new JMenuItem(reconcileName);
+        this.exportMissingMenuItem = new JMenuItem(exportMissingName);
+        this.provisionMenuItem = new JMenuItem(provisionName);
+        this.ingestMenuItem = new JMenuItem(ingestName);
+        this.deduplicateMenuItem = new JMenuItem(deduplicateName);
+        this.verifyMenuItem = new JMenuItem(verifyName);
+        this.verificationReportMenuItem = new JMenuItem(verificationReportName);
         this.fileMenu = new JMenu(fileName);
         this.openMenu = new JMenu(openName);
         this.displayMenu = new JMenu(displayName);
         this.categoriesMenu = new JMenu(categoriesName);
         this.subcategoriesMenu = new JMenu(subcategoriesName);
+        this.attachmentsMenu = new JMenu(attachmentsName);
         this.menuBar = new JMenuBar();
     } //MenuView
 
@@ -182,10 +287,24 @@ public final class MenuView {
 
         this.fileMenu.add(this.importMenuItem);
 
+        this.fileMenu.add(this.importJsonLinesMenuItem);
+
+        this.fileMenu.add(this.mergeMenuItem);
+
         this.fileMenu.add(new JSeparator());
 
         this.fileMenu.add(this.exportMenuItem);
 
+        this.fileMenu.add(this.exportJsonLinesMenuItem);
+
+        this.fileMenu.add(this.exportColumnarMenuItem);
+
+        this.fileMenu.add(this.exportChangesMenuItem);
+
+        this.fileMenu.add(this.exportZipMenuItem);
+
+        this.fileMenu.add(this.exportTarMenuItem);
+
         this.fileMenu.add(new JSeparator());
 
         this.fileMenu.add(this.saveMenuItem);
@@ -220,6 +339,26 @@ public final class MenuView {
 
         this.subcategoriesMenu.add(this.deleteSubcategoryMenuItem);
 
+        this.attachmentsMenu.add(this.reconcileMenuItem);
+
+        this.attachmentsMenu.add(this.exportMissingMenuItem);
+
+        this.attachmentsMenu.add(new JSeparator());
+
+        this.attachmentsMenu.add(this.provisionMenuItem);
+
+        this.attachmentsMenu.add(new JSeparator());
+
+        this.attachmentsMenu.add(this.ingestMenuItem);
+
+        this.attachmentsMenu.add(new JSeparator());
+
+        this.attachmentsMenu.add(this.deduplicateMenuItem);
+
+        this.attachmentsMenu.add(this.verifyMenuItem);
+
+        this.attachmentsMenu.add(this.verificationReportMenuItem);
+
         this.menuBar.add(this.fileMenu);
 
         this.menuBar.add(this.displayMenu);
@@ -227,6 +366,8 @@ public final class MenuView {
         this.menuBar.add(this.categoriesMenu);
 
         this.menuBar.add(this.subcategoriesMenu);
+
+        this.menuBar.add(this.attachmentsMenu);
     } //addComponentsToMenuBar
 
     /**
@@ -278,6 +419,24 @@ public final class MenuView {
         return this.importMenuItem;
     } //getImportMenuItem
 
+    /**
+     * Returns the JSON Lines import menu item of this menu view.
+     *
+     * @return the JSON Lines import menu item of this menu view
+     */
+    public JMenuItem getImportJsonLinesMenuItem() {
+        return this.importJsonLinesMenuItem;
+    } //getImportJsonLinesMenuItem
+
+    /**
+     * Returns the merge menu item of this menu view.
+     *
+     * @return the merge menu item of this menu view
+     */
+    public JMenuItem getMergeMenuItem() {
+        return this.mergeMenuItem;
+    } //getMergeMenuItem
+
     /**
      * Returns the export menu item of this menu view.
      *
@@ -287,6 +446,51 @@ public final class MenuView {
         return this.exportMenuItem;
     } //getExportMenuItem
 
+    /**
+     * Returns the JSON Lines export menu item of this menu view.
+     *
+     * @return the JSON Lines export menu item of this menu view
+     */
+    public JMenuItem getExportJsonLinesMenuItem() {
+        return this.exportJsonLinesMenuItem;
+    } //getExportJsonLinesMenuItem
+
+    /**
+     * Returns the columnar export menu item of this menu view.
+     *
+     * @return the columnar export menu item of this menu view
+     */
+    public JMenuItem getExportColumnarMenuItem() {
+        return this.exportColumnarMenuItem;
+    } //getExportColumnarMenuItem
+
+    /**
+     * Returns the changes export menu item of this menu view.
+     *
+     * @return the changes export menu item of this menu view
+     */
+    public JMenuItem getExportChangesMenuItem() {
+        return this.exportChangesMenuItem;
+    } //getExportChangesMenuItem
+
+    /**
+     * Returns the ZIP archive export menu item of this menu view.
+     *
+     * @return the ZIP archive export menu item of this menu view
+     */
+    public JMenuItem getExportZipMenuItem() {
+        return this.exportZipMenuItem;
+    } //getExportZipMenuItem
+
+    /**
+     * Returns the TAR archive export menu item of this menu view.
+     *
+     * @return the TAR archive export menu item of this menu view
+     */
+    public JMenuItem getExportTarMenuItem() {
+        return this.exportTarMenuItem;
+    } //getExportTarMenuItem
+
     /**
      * Returns the save menu item of this menu view.
      *
@@ -377,6 +581,69 @@ public final class MenuView {
         return this.deleteSubcategoryMenuItem;
     } //getDeleteSubcategoryMenuItem
 
+    /**
+     * Returns the reconcile menu item of this menu view.
+     *
+     * @return the reconcile menu item of this menu view
+     */
+    public JMenuItem getReconcileMenuItem() {
+        return this.reconcileMenuItem;
+    } //getReconcileMenuItem
+
+    /**
+     * Returns the export missing menu item of this menu view.
+     *
+     * @return the export missing menu item of this menu view
+     */
+    public JMenuItem getExportMissingMenuItem() {
+        return this.exportMissingMenuItem;
+    } //getExportMissingMenuItem
+
+    /**
+     * Returns the provision menu item of this menu view.
+     *
+     * @return the provision menu item of this menu view
+     */
+    public JMenuItem getProvisionMenuItem() {
+        return this.provisionMenuItem;
+    } //getProvisionMenuItem
+
+    /**
+     * Returns the ingest menu item of this menu view.
+     *
+     * @return the ingest menu item of this menu view
+     */
+    public JMenuItem getIngestMenuItem() {
+        return this.ingestMenuItem;
+    } //getIngestMenuItem
+
+    /**
+     * Returns the deduplicate menu item of this menu view.
+     *
+     * @return the deduplicate menu item of this menu view
+     */
+    public JMenuItem getDeduplicateMenuItem() {
+        return this.deduplicateMenuItem;
+    } //getDeduplicateMenuItem
+
+    /**
+     * Returns the verify menu item of this menu view.
+     *
+     * @return the verify menu item of this menu view
+     */
+    public JMenuItem getVerifyMenuItem() {
+        return this.verifyMenuItem;
+    } //getVerifyMenuItem
+
+    /**
+     * Returns the verification report menu item of this menu view.
+     *
+     * @return the verification report menu item of this menu view
+     */
+    public JMenuItem getVerificationReportMenuItem() {
+        return this.verificationReportMenuItem;
+    } //getVerificationReportMenuItem
+
     /**
      * Returns the file menu of this menu view.
      *
@@ -422,6 +689,15 @@ public final class MenuView {
         return this.subcategoriesMenu;
     } //getSubcategoriesMenu
 
+    /**
+     * Returns the attachments menu of this menu view.
+     *
+     * @return the attachments menu of this menu view
+     */
+    public JMenu getAttachmentsMenu() {
+        return this.attachmentsMenu;
+    } //getAttachmentsMenu
+
     /**
      * Returns the menu bar of this menu view.
      *
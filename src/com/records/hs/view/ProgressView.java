@@ -0,0 +1,184 @@
+package com.records.hs.view;
+
+import javax.swing.JLabel;
+import javax.swing.JProgressBar;
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JDialog;
+import java.awt.Window;
+import java.util.Objects;
+import java.awt.GridBagLayout;
+import java.awt.Dialog;
+import javax.swing.BorderFactory;
+import javax.swing.border.Border;
+
+/**
+ * A progress view in the HS Records application. Progress views display the progress of long running operations that
+ * are performed off of the event dispatch thread.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ProgressView {
+    /**
+     * The message label of this progress view.
+     */
+    private final JLabel messageLabel;
+
+    /**
+     * The progress bar of this progress view.
+     */
+    private final JProgressBar progressBar;
+
+    /**
+     * The cancel button of this progress view.
+     */
+    private final JButton cancelButton;
+
+    /**
+     * The panel of this progress view.
+     */
+    private final JPanel panel;
+
+    /**
+     * The dialog of this progress view.
+     */
+    private final JDialog dialog;
+
+    /**
+     * Constructs a newly allocated {@code ProgressView} object with the specified owner and message.
+     *
+     * @param owner the owner to be used in construction
+     * @param message the message to be used in construction
+     * @throws NullPointerException if the specified message is {@code null}
+     */
+    private ProgressView(Window owner, String message) {
+        String cancelName = "Cancel";
+        String title = "HS Records";
+        GridBagLayout layout = new GridBagLayout();
+
+        Objects.requireNonNull(message, "the specified message is null");
+
+        this.messageLabel = new JLabel(message);
+        this.progressBar = new JProgressBar();
+        this.cancelButton = new JButton(cancelName);
+        this.panel = new JPanel(layout);
+        this.dialog = new JDialog(owner, title, Dialog.ModalityType.MODELESS);
+    } //ProgressView
+
+    /**
+     * Adds the components of this progress view to the dialog of this progress view.
+     */
+    private void addComponentsToDialog() {
+        int messageRow = 0;
+        int column = 0;
+        int progressRow = 1;
+        int cancelRow = 2;
+        int padding = 10;
+        Border border;
+
+        border = BorderFactory.createEmptyBorder(padding, padding, padding, padding);
+
+        this.panel.setBorder(border);
+
+        ViewUtilities.addComponentToPanel(this.panel, this.messageLabel, messageRow, column);
+
+        ViewUtilities.addComponentToPanel(this.panel, this.progressBar, progressRow, column);
+
+        ViewUtilities.addComponentToPanel(this.panel, this.cancelButton, cancelRow, column);
+
+        this.dialog.setContentPane(this.panel);
+
+        this.dialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+    } //addComponentsToDialog
+
+    /**
+     * Returns a new {@code ProgressView} object with the specified owner and message. The cancel button of the
+     * returned progress view is hidden until it is explicitly made visible.
+     *
+     * @param owner the owner to be used in the operation
+     * @param message the message to be used in the operation
+     * @return a new {@code ProgressView} object with the specified owner and message
+     * @throws NullPointerException if the specified message is {@code null}
+     */
+    public static ProgressView newProgressView(Window owner, String message) {
+        ProgressView progressView = new ProgressView(owner, message);
+
+        progressView.progressBar.setStringPainted(true);
+
+        progressView.progressBar.setIndeterminate(true);
+
+        progressView.cancelButton.setVisible(false);
+
+        progressView.addComponentsToDialog();
+
+        return progressView;
+    } //newProgressView
+
+    /**
+     * Shows the dialog of this progress view.
+     */
+    public void show() {
+        Window owner;
+
+        this.dialog.pack();
+
+        owner = this.dialog.getOwner();
+
+        this.dialog.setLocationRelativeTo(owner);
+
+        this.dialog.setVisible(true);
+    } //show
+
+    /**
+     * Disposes the dialog of this progress view.
+     */
+    public void dispose() {
+        this.dialog.dispose();
+    } //dispose
+
+    /**
+     * Returns the message label of this progress view.
+     *
+     * @return the message label of this progress view
+     */
+    public JLabel getMessageLabel() {
+        return this.messageLabel;
+    } //getMessageLabel
+
+    /**
+     * Returns the progress bar of this progress view.
+     *
+     * @return the progress bar of this progress view
+     */
+    public JProgressBar getProgressBar() {
+        return this.progressBar;
+    } //getProgressBar
+
+    /**
+     * Returns the cancel button of this progress view.
+     *
+     * @return the cancel button of this progress view
+     */
+    public JButton getCancelButton() {
+        return this.cancelButton;
+    } //getCancelButton
+
+    /**
+     * Returns the panel of this progress view.
+     *
+     * @return the panel of this progress view
+     */
+    public JPanel getPanel() {
+        return this.panel;
+    } //getPanel
+
+    /**
+     * Returns the dialog of this progress view.
+     *
+     * @return the dialog of this progress view
+     */
+    public JDialog getDialog() {
+        return this.dialog;
+    } //getDialog
+}
\ No newline at end of file
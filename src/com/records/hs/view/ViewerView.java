@@ -0,0 +1,191 @@
+package com.records.hs.view;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JScrollPane;
+import javax.swing.JPanel;
+import javax.swing.JDialog;
+import java.awt.Window;
+import java.util.Objects;
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.awt.Dialog;
+import java.awt.Dimension;
+
+/**
+ * A viewer view in the HS Records application. Viewer views display the attachment of a record in a dialog that can
+ * be scrolled and zoomed. The component that draws the attachment is set as the view of the scroll pane by the
+ * controller of the viewer view.
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ViewerView {
+    /**
+     * The zoom out button of this viewer view.
+     */
+    private final JButton zoomOutButton;
+
+    /**
+     * The zoom label of this viewer view.
+     */
+    private final JLabel zoomLabel;
+
+    /**
+     * The zoom in button of this viewer view.
+     */
+    private final JButton zoomInButton;
+
+    /**
+     * The scroll pane of this viewer view.
+     */
+    private final JScrollPane scrollPane;
+
+    /**
+     * The toolbar panel of this viewer view.
+     */
+    private final JPanel toolbarPanel;
+
+    /**
+     * The panel of this viewer view.
+     */
+    private final JPanel panel;
+
+    /**
+     * The dialog of this viewer view.
+     */
+    private final JDialog dialog;
+
+    /**
+     * Constructs a newly allocated {@code ViewerView} object with the specified owner and title.
+     *
+     * @param owner the owner to be used in construction
+     * @param title the title to be used in construction
+     * @throws NullPointerException if the specified title is {@code null}
+     */
+    private ViewerView(Window owner, String title) {
+        String zoomOutName = "Zoom Out";
+        String zoomInName = "Zoom In";
+        FlowLayout toolbarLayout = new FlowLayout();
+        BorderLayout layout = new BorderLayout();
+
+        Objects.requireNonNull(title, "the specified title is null");
+
+        this.zoomOutButton = new JButton(zoomOutName);
+        this.zoomLabel = new JLabel();
+        this.zoomInButton = new JButton(zoomInName);
+        this.scrollPane = new JScrollPane();
+        this.toolbarPanel = new JPanel(toolbarLayout);
+        this.panel = new JPanel(layout);
+        this.dialog = new JDialog(owner, title, Dialog.ModalityType.MODELESS);
+    } //ViewerView
+
+    /**
+     * Adds the components of this viewer view to the dialog of this viewer view.
+     */
+    private void addComponentsToDialog() {
+        this.toolbarPanel.add(this.zoomOutButton);
+
+        this.toolbarPanel.add(this.zoomLabel);
+
+        this.toolbarPanel.add(this.zoomInButton);
+
+        this.panel.add(this.toolbarPanel, BorderLayout.NORTH);
+
+        this.panel.add(this.scrollPane, BorderLayout.CENTER);
+
+        this.dialog.setContentPane(this.panel);
+
+        this.dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+    } //addComponentsToDialog
+
+    /**
+     * Returns a new {@code ViewerView} object with the specified owner and title.
+     *
+     * @param owner the owner to be used in the operation
+     * @param title the title to be used in the operation
+     * @return a new {@code ViewerView} object with the specified owner and title
+     * @throws NullPointerException if the specified title is {@code null}
+     */
+    public static ViewerView newViewerView(Window owner, String title) {
+        ViewerView viewerView = new ViewerView(owner, title);
+        int width = 800;
+        int height = 600;
+        Dimension size = new Dimension(width, height);
+
+        viewerView.scrollPane.setPreferredSize(size);
+
+        viewerView.addComponentsToDialog();
+
+        return viewerView;
+    } //newViewerView
+
+    /**
+     * Shows the dialog of this viewer view.
+     */
+    public void show() {
+        Window owner;
+
+        this.dialog.pack();
+
+        owner = this.dialog.getOwner();
+
+        this.dialog.setLocationRelativeTo(owner);
+
+        this.dialog.setVisible(true);
+    } //show
+
+    /**
+     * Returns the zoom out button of this viewer view.
+     *
+     * @return the zoom out button of this viewer view
+     */
+    public JButton getZoomOutButton() {
+        return this.zoomOutButton;
+    } //getZoomOutButton
+
+    /**
+     * Returns the zoom label of this viewer view.
+     *
+     * @return the zoom label of this viewer view
+     */
+    public JLabel getZoomLabel() {
+        return this.zoomLabel;
+    } //getZoomLabel
+
+    /**
+     * Returns the zoom in button of this viewer view.
+     *
+     * @return the zoom in button of this viewer view
+     */
+    public JButton getZoomInButton() {
+        return this.zoomInButton;
+    } //getZoomInButton
+
+    /**
+     * Returns the scroll pane of this viewer view.
+     *
+     * @return the scroll pane of this viewer view
+     */
+    public JScrollPane getScrollPane() {
+        return this.scrollPane;
+    } //getScrollPane
+
+    /**
+     * Returns the panel of this viewer view.
+     *
+     * @return the panel of this viewer view
+     */
+    public JPanel getPanel() {
+        return this.panel;
+    } //getPanel
+
+    /**
+     * Returns the dialog of this viewer view.
+     *
+     * @return the dialog of this viewer view
+     */
+    public JDialog getDialog() {
+        return this.dialog;
+    } //getDialog
+}
\ No newline at end of file
@@ -6,4 +6,12 @@
 module com.records.hs {
     requires java.desktop;
     requires java.logging;
+
+    uses com.records.hs.persistence.ModelStore;
+
+    provides com.records.hs.persistence.ModelStore with com.records.hs.persistence.SerializationModelStore,
+                                                        com.records.hs.persistence.BinaryModelStore,
+                                                        com.records.hs.persistence.MappedModelStore,
+                                                        com.records.hs.persistence.ShardedModelStore,
+                                                        com.records.hs.persistence.MemoryModelStore;
 }
\ No newline at end of file
@@ -0,0 +1,458 @@
+package com.records.hs.persistence;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.Optional;
+import java.util.Objects;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.nio.ByteBuffer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import com.records.hs.model.Model;
+import com.records.hs.model.Entry;
+import com.records.hs.model.Type;
+
+/**
+ * A contract test of the model stores in the HS Records application. Every model store returned by
+ * {@link ModelStores#getModelStores()} must read back what it wrote: an empty model, the entries in the order they
+ * were added, the latest ID, and categories and subcategories that have no entries. A store that saves to a file must
+ * fail with an {@link IOException}, rather than return {@code null}, when that file is truncated or corrupt.
+ *
+ * <p>Model stores save to the working directory, so the test must be run from an empty directory, which it empties
+ * again after each check. The README shows how to compile and run it.</p>
+ *
+ * <p>The exit status is {@code 0} if every check passed, and {@code 1} otherwise.</p>
+ *
+ * @author Logan Kulinski, lbkulinski@icloud.com
+ * @version October 19, 2026
+ */
+public final class ModelStoreContractTest {
+    /**
+     * A check of a model store.
+     */
+    @FunctionalInterface
+    private interface Check {
+        /**
+         * Runs this check against the specified model store.
+         *
+         * @param store the store to be used in the operation
+         * @throws Exception if the check fails
+         */
+        void run(ModelStore store) throws Exception;
+    } //Check
+
+    /**
+     * The working directory of the test.
+     */
+    private static final Path WORKING_DIRECTORY;
+
+    static {
+        WORKING_DIRECTORY = Path.of("");
+    } //static
+
+    /**
+     * Constructs a newly allocated {@code ModelStoreContractTest} object.
+     *
+     * @throws AssertionError if an object of type {@code ModelStoreContractTest} attempts to be instantiated
+     */
+    private ModelStoreContractTest() {
+        throw new AssertionError("an object of type ModelStoreContractTest cannot be instantiated");
+    } //ModelStoreContractTest
+
+    /**
+     * Fails the current check with the specified message if the specified condition is {@code false}.
+     *
+     * @param condition the condition to be used in the operation
+     * @param message the message to be used in the operation
+     */
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        } //end if
+    } //check
+
+    /**
+     * Fails the current check if the specified values are not equal.
+     *
+     * @param expected the expected value to be used in the operation
+     * @param actual the actual value to be used in the operation
+     * @param what the name of the value, which is used in the message, to be used in the operation
+     */
+    private static void checkEquals(Object expected, Object actual, String what) {
+        String message;
+
+        if (!Objects.equals(expected, actual)) {
+            message = String.format("%s: expected %s, but was %s", what, expected, actual);
+
+            throw new AssertionError(message);
+        } //end if
+    } //checkEquals
+
+    /**
+     * Returns the IDs of the entries of the specified model, in iteration order.
+     *
+     * @param model the model to be used in the operation
+     * @return the IDs of the entries of the specified model, in iteration order
+     */
+    private static List<String> getIds(Model model) {
+        List<String> ids;
+
+        ids = new ArrayList<>();
+
+        model.forEachEntry(entry -> ids.add(entry.id()));
+
+        return ids;
+    } //getIds
+
+    /**
+     * Writes the specified model to the specified store, and reads it back.
+     *
+     * @param store the store to be used in the operation
+     * @param model the model to be used in the operation
+     * @return the model that was read back
+     * @throws IOException if an I/O error occurs
+     */
+    private static Model roundTrip(ModelStore store, Model model) throws IOException {
+        Model readModel;
+
+        store.write(model, byteCount -> {});
+
+        readModel = store.read(byteCount -> {});
+
+        ModelStoreContractTest.check(readModel != null, "a written model was read back as null");
+
+        return readModel;
+    } //roundTrip
+
+    /**
+     * Returns a model whose entries span several years, and were not added in ID order. Besides the categories and
+     * subcategories of its entries, the model has a category without subcategories, and a subcategory without entries.
+     *
+     * @return a model to be written in the checks
+     */
+    private static Model newSampleModel() {
+        Model model;
+        String[] ids = {"0003_2021", "0001_2019", "0002_2023", "0002_2019", "0001_2021", "0007", "0001_2023"};
+        String subcategory;
+
+        model = new Model();
+
+        model.addCategory("Photographs");
+
+        model.addSubcategory("Photographs", "Portraits");
+
+        model.addSubcategory("Photographs", "Landscapes");
+
+        model.addCategory("Documents");
+
+        model.addSubcategory("Documents", "Letters");
+
+        model.addSubcategory("Documents", "Unused");
+
+        model.addCategory("Empty");
+
+        for (int i = 0; i < ids.length; i++) {
+            subcategory = (i % 2 == 0) ? "Portraits" : "Landscapes";
+
+            model.addEntry(new Entry(ids[i], Type.PHOTO, "Photographs", subcategory, Set.of("tag" + i)));
+        } //end for
+
+        model.addEntry(new Entry("0004_2022", Type.ARTICLE, "Documents", "Letters", Set.of()));
+
+        model.setLatestId("0003_2021");
+
+        return model;
+    } //newSampleModel
+
+    /**
+     * Checks that the specified store reads {@code null} before a model has been written to it.
+     *
+     * @param store the store to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void checkUnsaved(ModelStore store) throws IOException {
+        Model model;
+
+        model = store.read(byteCount -> {});
+
+        ModelStoreContractTest.checkEquals(null, model, "the model of a store that was never written");
+    } //checkUnsaved
+
+    /**
+     * Checks that the specified store round-trips an empty model.
+     *
+     * @param store the store to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void checkEmptyModel(ModelStore store) throws IOException {
+        Model model;
+
+        model = ModelStoreContractTest.roundTrip(store, new Model());
+
+        ModelStoreContractTest.checkEquals(0, model.getEntryCount(), "the entry count");
+
+        ModelStoreContractTest.checkEquals(Set.of(), model.getCategories(), "the categories");
+
+        ModelStoreContractTest.checkEquals(null, model.getLatestId(), "the latest ID");
+    } //checkEmptyModel
+
+    /**
+     * Checks that the specified store round-trips the entries of a model in the order they were added, and every entry
+     * unchanged.
+     *
+     * @param store the store to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void checkInsertionOrder(ModelStore store) throws IOException {
+        Model model;
+        Model readModel;
+        Optional<Entry> readEntry;
+
+        model = ModelStoreContractTest.newSampleModel();
+
+        readModel = ModelStoreContractTest.roundTrip(store, model);
+
+        ModelStoreContractTest.checkEquals(ModelStoreContractTest.getIds(model), ModelStoreContractTest.getIds(readModel),
+                                           "the IDs in iteration order");
+
+        for (Entry entry : model.getEntries()) {
+            readEntry = readModel.findEntryWithId(entry.id());
+
+            ModelStoreContractTest.checkEquals(Optional.of(entry), readEntry, "the entry " + entry.id());
+        } //end for
+    } //checkInsertionOrder
+
+    /**
+     * Checks that the specified store round-trips the latest ID of a model, including one that is not the greatest ID
+     * of its entries.
+     *
+     * @param store the store to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void checkLatestId(ModelStore store) throws IOException {
+        Model model;
+
+        model = ModelStoreContractTest.roundTrip(store, ModelStoreContractTest.newSampleModel());
+
+        ModelStoreContractTest.checkEquals("0003_2021", model.getLatestId(), "the latest ID");
+    } //checkLatestId
+
+    /**
+     * Checks that the specified store round-trips categories without subcategories, and subcategories without entries.
+     *
+     * @param store the store to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void checkEmptyCategories(ModelStore store) throws IOException {
+        Model model;
+        Model readModel;
+        Set<String> subcategories;
+
+        model = ModelStoreContractTest.newSampleModel();
+
+        readModel = ModelStoreContractTest.roundTrip(store, model);
+
+        ModelStoreContractTest.checkEquals(model.getCategories(), readModel.getCategories(), "the categories");
+
+        for (String category : model.getCategories()) {
+            subcategories = model.getSubcategories(category);
+
+            ModelStoreContractTest.checkEquals(subcategories, readModel.getSubcategories(category),
+                                               "the subcategories of " + category);
+        } //end for
+
+        ModelStoreContractTest.check(model.getSubcategories("Empty")
+                                          .isEmpty(), "the sample model has no category without subcategories");
+    } //checkEmptyCategories
+
+    /**
+     * Checks that the specified store fails with an {@code IOException} when the file it saved is truncated to the
+     * specified fraction of its size. Stores that do not save to a file pass trivially.
+     *
+     * @param store the store to be used in the operation
+     * @param fraction the fraction of the file to be kept to be used in the operation
+     * @throws IOException if an I/O error occurs while the file is truncated
+     */
+    private static void checkTruncated(ModelStore store, double fraction) throws IOException {
+        Optional<Path> savedPath;
+        long size;
+
+        store.write(ModelStoreContractTest.newSampleModel(), byteCount -> {});
+
+        savedPath = ModelStores.getSavedPath(store);
+
+        if (savedPath.isEmpty()) {
+            return;
+        } //end if
+
+        size = Files.size(savedPath.get());
+
+        try (FileChannel channel = FileChannel.open(savedPath.get(), StandardOpenOption.WRITE)) {
+            channel.truncate((long) (size * fraction));
+        } //end try
+
+        ModelStoreContractTest.checkReadFails(store);
+    } //checkTruncated
+
+    /**
+     * Checks that the specified store fails with an {@code IOException} when the start of the file it saved has been
+     * overwritten. Stores that do not save to a file pass trivially.
+     *
+     * @param store the store to be used in the operation
+     * @throws IOException if an I/O error occurs while the file is overwritten
+     */
+    private static void checkCorrupt(ModelStore store) throws IOException {
+        Optional<Path> savedPath;
+        ByteBuffer garbage;
+
+        store.write(ModelStoreContractTest.newSampleModel(), byteCount -> {});
+
+        savedPath = ModelStores.getSavedPath(store);
+
+        if (savedPath.isEmpty()) {
+            return;
+        } //end if
+
+        garbage = ByteBuffer.wrap(new byte[] {0x13, 0x37, 0x13, 0x37, 0x13, 0x37, 0x13, 0x37});
+
+        try (FileChannel channel = FileChannel.open(savedPath.get(), StandardOpenOption.WRITE)) {
+            channel.write(garbage, 0);
+        } //end try
+
+        ModelStoreContractTest.checkReadFails(store);
+    } //checkCorrupt
+
+    /**
+     * Checks that reading the specified store fails with an {@code IOException}.
+     *
+     * @param store the store to be used in the operation
+     */
+    private static void checkReadFails(ModelStore store) {
+        Model model;
+        String message;
+
+        try {
+            model = store.read(byteCount -> {});
+        } catch (IOException e) {
+            return;
+        } //end try catch
+
+        message = String.format("reading a damaged file returned %s instead of throwing an IOException",
+                                (model == null) ? "null" : "a model");
+
+        throw new AssertionError(message);
+    } //checkReadFails
+
+    /**
+     * Deletes everything in the working directory.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private static void clean() throws IOException {
+        List<Path> paths;
+
+        try (Stream<Path> stream = Files.walk(WORKING_DIRECTORY.toAbsolutePath())) {
+            paths = stream.sorted(Comparator.reverseOrder())
+                          .toList();
+        } //end try
+
+        for (Path path : paths) {
+            if (!path.equals(WORKING_DIRECTORY.toAbsolutePath())) {
+                Files.delete(path);
+            } //end if
+        } //end for
+    } //clean
+
+    /**
+     * Runs the specified check against a new instance of the model store with the specified name, and prints whether
+     * it passed.
+     *
+     * @param name the name of the store to be used in the operation
+     * @param checkName the name of the check to be used in the operation
+     * @param check the check to be used in the operation
+     * @return {@code true}, if the check passed and {@code false} otherwise
+     */
+    private static boolean run(String name, String checkName, Check check) {
+        ModelStore store;
+        boolean passed;
+
+        store = ModelStores.getModelStore(name)
+                           .orElseThrow();
+
+        try {
+            check.run(store);
+
+            passed = true;
+
+            System.out.printf("PASS %s %s%n", name, checkName);
+        } catch (Exception | AssertionError e) {
+            passed = false;
+
+            System.out.printf("FAIL %s %s: %s%n", name, checkName, e);
+        } //end try catch
+
+        try {
+            ModelStoreContractTest.clean();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+
+        return passed;
+    } //run
+
+    /**
+     * Runs every check against every available model store.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the working directory is not empty or cannot be listed
+     */
+    public static void main(String[] args) throws IOException {
+        boolean empty;
+        String name;
+        boolean passed = true;
+        int failure = 1;
+
+        try (Stream<Path> stream = Files.list(WORKING_DIRECTORY.toAbsolutePath())) {
+            empty = stream.findAny()
+                          .isEmpty();
+        } //end try
+
+        if (!empty) {
+            throw new IOException("the test must be run from an empty working directory, which it empties after"
+                                  + " each check");
+        } //end if
+
+        for (ModelStore store : ModelStores.getModelStores()) {
+            name = store.getName();
+
+            passed &= ModelStoreContractTest.run(name, "unsaved", ModelStoreContractTest::checkUnsaved);
+
+            passed &= ModelStoreContractTest.run(name, "empty model", ModelStoreContractTest::checkEmptyModel);
+
+            passed &= ModelStoreContractTest.run(name, "insertion order", ModelStoreContractTest::checkInsertionOrder);
+
+            passed &= ModelStoreContractTest.run(name, "latest ID", ModelStoreContractTest::checkLatestId);
+
+            passed &= ModelStoreContractTest.run(name, "empty categories",
+                                                 ModelStoreContractTest::checkEmptyCategories);
+
+            passed &= ModelStoreContractTest.run(name, "truncated to half",
+                                                 modelStore -> ModelStoreContractTest.checkTruncated(modelStore, 0.5));
+
+            passed &= ModelStoreContractTest.run(name, "truncated to nothing",
+                                                 modelStore -> ModelStoreContractTest.checkTruncated(modelStore, 0.0));
+
+            passed &= ModelStoreContractTest.run(name, "corrupt header", ModelStoreContractTest::checkCorrupt);
+        } //end for
+
+        if (!passed) {
+            System.exit(failure);
+        } //end if
+    } //main
+}